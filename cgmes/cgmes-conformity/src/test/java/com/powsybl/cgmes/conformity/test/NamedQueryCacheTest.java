@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.cgmes.conformity.test;
+
+import com.powsybl.cgmes.conformity.CgmesConformity1Catalog;
+import com.powsybl.cgmes.model.CgmesModelFactory;
+import com.powsybl.cgmes.model.CgmesSubset;
+import com.powsybl.cgmes.model.triplestore.CgmesModelTripleStore;
+import com.powsybl.cgmes.model.triplestore.NamedQueryStatistics;
+import com.powsybl.triplestore.api.PropertyBags;
+import com.powsybl.triplestore.api.TripleStoreFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class NamedQueryCacheTest {
+
+    @Test
+    void cachedQueries() {
+        CgmesModelTripleStore cgmes = (CgmesModelTripleStore) CgmesModelFactory.create(
+            CgmesConformity1Catalog.microGridBaseCaseBE().dataSource(), TripleStoreFactory.defaultImplementation());
+
+        PropertyBags terminals = cgmes.namedQuery("terminals");
+        PropertyBags terminals1 = cgmes.namedQuery("terminals");
+        // Cached results are shared, not copied, and can not be modified
+        assertSame(terminals, terminals1);
+        assertThrows(UnsupportedOperationException.class, () -> terminals1.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> terminals1.subList(0, 1).clear());
+        NamedQueryStatistics stats = statistics(cgmes, "terminals");
+        assertEquals(1, stats.getExecutions());
+        assertEquals(1, stats.getCacheHits());
+        assertEquals(terminals.size(), stats.getTotalRows());
+
+        // Queries not declared as cached are always executed
+        cgmes.namedQuery("substations");
+        cgmes.namedQuery("substations");
+        assertEquals(2, statistics(cgmes, "substations").getExecutions());
+        assertEquals(0, statistics(cgmes, "substations").getCacheHits());
+
+        // Changing the contents of the triple store invalidates the cached results
+        cgmes.clear(CgmesSubset.STATE_VARIABLES);
+        cgmes.namedQuery("terminals");
+        assertEquals(2, stats.getExecutions());
+
+        // Also when the triple store is modified directly, as post-processors do
+        cgmes.tripleStore().update("DELETE { ?t cim:ACDCTerminal.connected ?c } WHERE { ?t cim:ACDCTerminal.connected ?c }");
+        cgmes.namedQuery("terminals");
+        assertEquals(3, stats.getExecutions());
+        cgmes.namedQuery("terminals");
+        assertEquals(3, stats.getExecutions());
+
+        // Cached results can be released
+        cgmes.clearCachedQueryResults();
+        cgmes.namedQuery("terminals");
+        assertEquals(4, stats.getExecutions());
+
+        cgmes.setCachedQueries(Set.of("substations"));
+        cgmes.namedQuery("substations");
+        cgmes.namedQuery("substations");
+        assertEquals(3, statistics(cgmes, "substations").getExecutions());
+        assertEquals(1, statistics(cgmes, "substations").getCacheHits());
+    }
+
+    private static NamedQueryStatistics statistics(CgmesModelTripleStore cgmes, String name) {
+        return cgmes.getQueryStatistics().stream().filter(s -> s.getName().equals(name)).findFirst().orElseThrow();
+    }
+}
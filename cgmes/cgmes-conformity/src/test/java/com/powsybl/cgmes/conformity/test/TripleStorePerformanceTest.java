@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.cgmes.conformity.test;
+
+import com.powsybl.cgmes.conformity.CgmesConformity1Catalog;
+import com.powsybl.cgmes.model.CgmesModel;
+import com.powsybl.cgmes.model.CgmesModelFactory;
+import com.powsybl.cgmes.model.GridModelReference;
+import com.powsybl.triplestore.api.TripleStoreFactory;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compare heap use and query times of the triple store implementations, including the on-disk one.
+ * Results are only logged, the benchmark checks that all implementations give the same number of objects.
+ *
+ * <p>This benchmark is not part of the default test run, it is enabled with {@code -Dpowsybl.benchmarks=true}.</p>
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Tag("benchmarks")
+@EnabledIfSystemProperty(named = "powsybl.benchmarks", matches = "true")
+class TripleStorePerformanceTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TripleStorePerformanceTest.class);
+
+    private static final String ON_DISK_IMPLEMENTATION = "rdf4j-native";
+
+    private static final int ITERATIONS = 3;
+
+    @Test
+    void microGridBaseCaseAssembled() {
+        compare(CgmesConformity1Catalog.microGridBaseCaseAssembled());
+    }
+
+    @Test
+    void smallNodeBreaker() {
+        compare(CgmesConformity1Catalog.smallNodeBreaker());
+    }
+
+    @Test
+    void miniNodeBreaker() {
+        compare(CgmesConformity1Catalog.miniNodeBreaker());
+    }
+
+    private static void compare(GridModelReference gm) {
+        List<String> implementations = new ArrayList<>(TripleStoreFactory.allImplementations());
+        implementations.add(ON_DISK_IMPLEMENTATION);
+        int expectedTerminals = -1;
+        for (String impl : implementations) {
+            // the first iterations warm the JIT up, only the last one is representative
+            for (int i = 0; i < ITERATIONS; i++) {
+                int terminals = measure(gm, impl);
+                if (expectedTerminals < 0) {
+                    expectedTerminals = terminals;
+                } else {
+                    assertEquals(expectedTerminals, terminals);
+                }
+            }
+        }
+    }
+
+    private static int measure(GridModelReference gm, String impl) {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long heapBefore = memory.getHeapMemoryUsage().getUsed();
+        long t0 = System.nanoTime();
+        CgmesModel cgmes = CgmesModelFactory.create(gm.dataSource(), impl);
+        try {
+            long t1 = System.nanoTime();
+            int terminals = cgmes.terminals().size();
+            int nodes = cgmes.connectivityNodes().size() + cgmes.topologicalNodes().size();
+            int limits = cgmes.operationalLimits().size();
+            long t2 = System.nanoTime();
+            System.gc();
+            long heapAfter = memory.getHeapMemoryUsage().getUsed();
+            LOG.info("{} {}: load {} ms, queries {} ms ({} terminals, {} nodes, {} limits), heap {} KB",
+                gm.name(), impl, (t1 - t0) / 1_000_000, (t2 - t1) / 1_000_000, terminals, nodes, limits,
+                (heapAfter - heapBefore) / 1024);
+            return terminals;
+        } finally {
+            cgmes.tripleStore().dispose();
+        }
+    }
+}
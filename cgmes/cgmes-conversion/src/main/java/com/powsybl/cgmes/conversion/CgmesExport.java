@@ -25,7 +25,6 @@ import com.powsybl.commons.parameters.Parameter;
 import com.powsybl.commons.parameters.ParameterDefaultValueConfig;
 import com.powsybl.commons.parameters.ParameterType;
 import com.powsybl.commons.report.ReportNode;
-import com.powsybl.commons.xml.XmlUtil;
 import com.powsybl.iidm.network.*;
 import com.powsybl.triplestore.api.PropertyBag;
 import org.slf4j.Logger;
@@ -33,7 +32,6 @@ import org.slf4j.LoggerFactory;
 
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
-import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
@@ -76,6 +74,18 @@ public class CgmesExport implements Exporter {
      */
     @Override
     public void export(Network network, Properties parameters, DataSource dataSource, ReportNode reportNode) {
+        export(network, parameters, dataSource, createContext(network, parameters, reportNode));
+    }
+
+    /**
+     * Create the context (the object that stores relevant data for the export) for the given network and parameters.
+     * The context can be reused for consecutive exports of the network, using the same parameters,
+     * if it tracks the changes of the network (see {@link CgmesExportContext#trackNetworkChanges(Network)}).
+     * @param network The network to export.
+     * @param parameters Optional parameters that influence the export.
+     * @param reportNode The reportNode used for functional logs.
+     */
+    public CgmesExportContext createContext(Network network, Properties parameters, ReportNode reportNode) {
         Objects.requireNonNull(network);
 
         // Determine reference data (boundaries, base voltages and other sourcing references) for the export
@@ -83,12 +93,27 @@ public class CgmesExport implements Exporter {
         String countryName = getCountry(network);
         ReferenceDataProvider referenceDataProvider = new ReferenceDataProvider(sourcingActorName, countryName, importer, parameters);
 
-        // Create the context (the object that stores relevant data for the export)
         String namingStrategyImpl = Parameter.readString(getFormat(), parameters, NAMING_STRATEGY_PARAMETER, defaultValueConfig);
         UUID uuidNamespace = UUID.fromString(Parameter.readString(getFormat(), parameters, UUID_NAMESPACE_PARAMETER, defaultValueConfig));
         NamingStrategy namingStrategy = NamingStrategyFactory.create(namingStrategyImpl, uuidNamespace);
         CgmesExportContext context = new CgmesExportContext(network, referenceDataProvider, namingStrategy);
         addParametersToContext(context, parameters, reportNode, referenceDataProvider);
+        return context;
+    }
+
+    /**
+     * Export the requested network to the CGMES format, using a context created for this network and parameters.
+     * If the context tracks the changes of the network, only the IIDM mappings of the identifiables
+     * created or modified since the previous export are recomputed.
+     * @param network The network to export.
+     * @param parameters Optional parameters that influence the export.
+     * @param dataSource The dataSource used by the export.
+     * @param context The context that stores relevant data for the export.
+     */
+    public void export(Network network, Properties parameters, DataSource dataSource, CgmesExportContext context) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(context);
+        context.updateIidmMappings(network);
 
         // Export the network
         if (Parameter.readBoolean(getFormat(), parameters, CGM_EXPORT_PARAMETER, defaultValueConfig)) {
@@ -131,7 +156,7 @@ public class CgmesExport implements Exporter {
         // Export the SSH for the IGMs and the SV for the CGM
         String baseName = getBaseName(context, dataSource, network);
         for (Network subnetwork : network.getSubnetworks()) {
-            context.addIidmMappings(subnetwork);
+            context.addSubnetworkIidmMappings(subnetwork);
 
             String country = getCountry(subnetwork);
             String igmName = country != null ? country : subnetwork.getNameOrId();
@@ -350,8 +375,9 @@ public class CgmesExport implements Exporter {
      * @param model The model (= metadata information) to use.
      */
     private void subsetExport(Network network, CgmesSubset subset, String fileName, DataSource dataSource, CgmesExportContext context, CgmesMetadataModel model) {
-        try (OutputStream out = new BufferedOutputStream(dataSource.newOutputStream(fileName, false))) {
-            XMLStreamWriter writer = XmlUtil.initializeWriter(true, "    ", out);
+        try (OutputStream out = dataSource.newOutputStream(fileName, false)) {
+            // The CIM/XML writer buffers its output
+            XMLStreamWriter writer = CimXmlStreamWriter.create(out);
             switch (subset) {
                 case EQUIPMENT:
                     EquipmentExport.write(network, writer, context, model);
@@ -368,6 +394,7 @@ public class CgmesExport implements Exporter {
                 default:
                     throw new IllegalArgumentException("Invalid subset, one of the following value is expected: EQ/TP/SSH/SV.");
             }
+            writer.close();
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         } catch (XMLStreamException e) {
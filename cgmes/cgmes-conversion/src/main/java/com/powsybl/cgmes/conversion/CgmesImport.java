@@ -173,7 +173,18 @@ public class CgmesImport implements Importer {
     private Network importData1(ReadOnlyDataSource ds, NetworkFactory networkFactory, Properties p, ReportNode reportNode) {
         CgmesModel cgmes = readCgmes(ds, p, reportNode);
         ReportNode conversionReportNode = reportNode.newReportNode().withMessageTemplate("CGMESConversion", "Importing CGMES file(s)").add();
-        return new Conversion(cgmes, config(p), activatedPreProcessors(p), activatedPostProcessors(p), networkFactory).convert(conversionReportNode);
+        Conversion.Config config = config(p);
+        boolean keepCgmesModel = false;
+        try {
+            Network network = new Conversion(cgmes, config, activatedPreProcessors(p), activatedPostProcessors(p), networkFactory).convert(conversionReportNode);
+            keepCgmesModel = config.storeCgmesModelAsNetworkExtension() || config.storeCgmesConversionContextAsNetworkExtension();
+            return network;
+        } finally {
+            // The CGMES model is not referenced anymore by the network, release the resources of its triple store
+            if (!keepCgmesModel) {
+                cgmes.tripleStore().dispose();
+            }
+        }
     }
 
     static class FilteredReadOnlyDataSource implements ReadOnlyDataSource {
@@ -0,0 +1,673 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.cgmes.conversion;
+
+import com.powsybl.cgmes.conversion.elements.AbstractObjectConversion;
+import com.powsybl.cgmes.extensions.CgmesTapChanger;
+import com.powsybl.cgmes.extensions.CgmesTapChangers;
+import com.powsybl.cgmes.model.CgmesModelException;
+import com.powsybl.cgmes.model.CgmesNames;
+import com.powsybl.cgmes.model.CgmesNamespace;
+import com.powsybl.cgmes.model.CgmesOnDataSource;
+import com.powsybl.cgmes.model.CgmesSubset;
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
+import com.powsybl.commons.exceptions.UncheckedXmlStreamException;
+import com.powsybl.commons.xml.XmlUtil;
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.extensions.RemoteReactivePowerControl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.*;
+
+import static com.powsybl.cgmes.conversion.Conversion.Config.StateProfile.SSH;
+import static com.powsybl.cgmes.conversion.Conversion.Config.StateProfile.SV;
+
+/**
+ * Update the state of a network previously imported from CGMES using only new SSH and SV instance files.
+ * <p>
+ * The instance files are streamed directly, without building a triple store and without running any query:
+ * each CGMES object is resolved in the network by its identifier or alias and its values are written
+ * on a dedicated variant. Equipment and topology are left untouched, so the new SSH and SV files must
+ * depend on the same EQ (and TP) files that were used to create the network.
+ * <p>
+ * The values updated are: load and generation setpoints, switch states, terminal connection status,
+ * tap changer positions, shunt compensator sections, the regulation status and voltage targets of generators,
+ * shunt compensators and tap changers, flows at terminals and bus voltages. When the network has a
+ * {@link CgmesConversionContextExtension} its terminal mapping is used to resolve terminals and
+ * topological nodes, and its configuration gives the profile used for tap positions and shunt sections.
+ * <p>
+ * Objects of the other classes of the SSH and SV profiles are not considered, they are reported with a warning.
+ * Note that the {@link CgmesModelExtension} of the network, if any, is not updated.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class CgmesStateUpdate {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CgmesStateUpdate.class);
+
+    private static final String STEADY_STATE_HYPOTHESIS = CgmesSubset.STEADY_STATE_HYPOTHESIS.getIdentifier();
+    private static final String STATE_VARIABLES = CgmesSubset.STATE_VARIABLES.getIdentifier();
+    private static final String REGULATING_CONTROL_PROPERTY = Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + "RegulatingControl";
+    private static final String FICTITIOUS_SWITCH_SUFFIX = "_SW_fict";
+
+    private final Network network;
+    private final TerminalMapping terminalMapping;
+    private Conversion.Config.StateProfile profileForShuntSectionsTapPositions;
+
+    private XMLInputFactory xmlInputFactory;
+
+    // Tap changers and shunt compensators that received a value from the preferred profile
+    private final Set<String> updatedFromPreferredProfile = new HashSet<>();
+    // Tap positions and shunt sections from the other profile, applied at the end to the objects
+    // that did not receive a value from the preferred profile
+    private final Map<String, String> otherProfileTapSteps = new LinkedHashMap<>();
+    private final Map<String, String> otherProfileShuntSections = new LinkedHashMap<>();
+
+    // Regulation values, applied once all the SSH files have been read because a regulating control
+    // and the equipment participating in it are distinct objects
+    private final Map<String, Boolean> equipmentControlEnabled = new HashMap<>();
+    private final Map<String, Boolean> tapChangerControlEnabled = new HashMap<>();
+    private final Map<String, RegulatingControlValues> regulatingControls = new HashMap<>();
+
+    private final Map<String, Integer> notConsideredClasses = new TreeMap<>();
+    private int updated;
+    private int ignored;
+
+    private record RegulatingControlValues(Boolean enabled, double targetValue) {
+    }
+
+    public CgmesStateUpdate(Network network) {
+        this.network = Objects.requireNonNull(network);
+        CgmesConversionContextExtension ext = network.getExtension(CgmesConversionContextExtension.class);
+        if (ext != null) {
+            terminalMapping = ext.getContext().terminalMapping();
+            profileForShuntSectionsTapPositions = ext.getContext().config().getProfileForInitialValuesShuntSectionsTapPositions();
+        } else {
+            terminalMapping = null;
+            profileForShuntSectionsTapPositions = SSH;
+        }
+    }
+
+    public Conversion.Config.StateProfile getProfileForShuntSectionsTapPositions() {
+        return profileForShuntSectionsTapPositions;
+    }
+
+    public CgmesStateUpdate setProfileForShuntSectionsTapPositions(Conversion.Config.StateProfile profileForShuntSectionsTapPositions) {
+        this.profileForShuntSectionsTapPositions = Objects.requireNonNull(profileForShuntSectionsTapPositions);
+        return this;
+    }
+
+    /**
+     * Apply the SSH and SV instance files found in the data source on the given variant.
+     * If the variant does not exist it is created as a copy of the current working variant.
+     * After the update the given variant is the working variant of the network.
+     */
+    public void update(ReadOnlyDataSource ds, String variantId) {
+        Objects.requireNonNull(ds);
+        Objects.requireNonNull(variantId);
+
+        VariantManager variantManager = network.getVariantManager();
+        if (!variantManager.getVariantIds().contains(variantId)) {
+            variantManager.cloneVariant(variantManager.getWorkingVariantId(), variantId);
+        }
+        variantManager.setWorkingVariant(variantId);
+
+        Set<String> names = new CgmesOnDataSource(ds).names();
+        List<String> sshNames = names.stream().filter(CgmesSubset.STEADY_STATE_HYPOTHESIS::isValidName).sorted().toList();
+        List<String> svNames = names.stream().filter(CgmesSubset.STATE_VARIABLES::isValidName).sorted().toList();
+        if (sshNames.isEmpty() && svNames.isEmpty()) {
+            throw new CgmesModelException("No SSH or SV instance file found in data source " + ds.getBaseName());
+        }
+
+        xmlInputFactory = XMLInputFactory.newInstance();
+        xmlInputFactory.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+        xmlInputFactory.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
+        clear();
+        try {
+            // SSH values must be read first, SV flows and voltages are written on top of them
+            for (String name : sshNames) {
+                read(ds, name, STEADY_STATE_HYPOTHESIS);
+            }
+            for (String name : svNames) {
+                read(ds, name, STATE_VARIABLES);
+            }
+        } finally {
+            XmlUtil.gcXmlInputFactory(xmlInputFactory);
+        }
+        applyOtherProfileValues();
+        applyRegulatingControls();
+        if (!notConsideredClasses.isEmpty()) {
+            LOG.warn("CGMES state update of network {}: objects of classes not considered have been ignored: {}",
+                    network.getId(), notConsideredClasses);
+        }
+        LOG.info("CGMES state update of network {} on variant {}: {} objects updated, {} ignored",
+                network.getId(), variantId, updated, ignored);
+    }
+
+    private void clear() {
+        updatedFromPreferredProfile.clear();
+        otherProfileTapSteps.clear();
+        otherProfileShuntSections.clear();
+        equipmentControlEnabled.clear();
+        tapChangerControlEnabled.clear();
+        regulatingControls.clear();
+        notConsideredClasses.clear();
+        updated = 0;
+        ignored = 0;
+    }
+
+    private void read(ReadOnlyDataSource ds, String name, String subset) {
+        LOG.debug("Reading {} instance file {}", subset, name);
+        try (InputStream is = ds.newInputStream(name)) {
+            XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(is);
+            try {
+                read(reader, subset);
+            } finally {
+                reader.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (XMLStreamException e) {
+            throw new UncheckedXmlStreamException(e);
+        }
+    }
+
+    private void read(XMLStreamReader reader, String subset) throws XMLStreamException {
+        // CGMES instance files are flat: the root rdf:RDF element contains the objects,
+        // and each object contains only simple properties (values or references)
+        Map<String, String> properties = new HashMap<>();
+        String className = null;
+        String id = null;
+        int depth = 0;
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+                if (depth == 2) {
+                    className = reader.getLocalName();
+                    id = objectId(reader);
+                    properties.clear();
+                } else if (depth == 3) {
+                    String property = reader.getLocalName();
+                    String resource = reader.getAttributeValue(CgmesNamespace.RDF_NAMESPACE, CgmesNames.RESOURCE);
+                    if (resource != null) {
+                        properties.put(property, normalizeId(resource));
+                    } else {
+                        // Reading the text moves the reader to the end of the property element
+                        properties.put(property, reader.getElementText());
+                        depth--;
+                    }
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                if (depth == 2 && id != null) {
+                    apply(className, id, properties, subset);
+                }
+                depth--;
+            }
+        }
+    }
+
+    private static String objectId(XMLStreamReader reader) {
+        String about = reader.getAttributeValue(CgmesNamespace.RDF_NAMESPACE, CgmesNames.ABOUT);
+        if (about != null) {
+            return normalizeId(about);
+        }
+        String id = reader.getAttributeValue(CgmesNamespace.RDF_NAMESPACE, "ID");
+        return id != null ? normalizeId(id) : null;
+    }
+
+    private static String normalizeId(String s) {
+        String id = s;
+        int iHash = id.indexOf('#');
+        if (iHash >= 0) {
+            id = id.substring(iHash + 1);
+        }
+        if (id.startsWith("urn:uuid:")) {
+            id = id.substring("urn:uuid:".length());
+        }
+        if (!id.isEmpty() && id.charAt(0) == '_') {
+            id = id.substring(1);
+        }
+        return id;
+    }
+
+    private void apply(String className, String id, Map<String, String> properties, String subset) {
+        boolean done = switch (className) {
+            case "EnergyConsumer", "ConformLoad", "NonConformLoad", "StationSupply" ->
+                updateInjection(id, properties.get("EnergyConsumer.p"), properties.get("EnergyConsumer.q"));
+            case "SynchronousMachine", "AsynchronousMachine" ->
+                updateInjection(id, properties.get("RotatingMachine.p"), properties.get("RotatingMachine.q"))
+                    | recordControlEnabled(equipmentControlEnabled, id, properties.get("RegulatingCondEq.controlEnabled"));
+            case "ExternalNetworkInjection" ->
+                updateInjection(id, properties.get("ExternalNetworkInjection.p"), properties.get("ExternalNetworkInjection.q"))
+                    | recordControlEnabled(equipmentControlEnabled, id, properties.get("RegulatingCondEq.controlEnabled"));
+            case "EquivalentInjection" ->
+                updateInjection(id, properties.get("EquivalentInjection.p"), properties.get("EquivalentInjection.q"));
+            case "Switch", "Breaker", "Disconnector", "LoadBreakSwitch", "GroundDisconnector", "Fuse", "Jumper" ->
+                updateSwitch(id, properties.get("Switch.open"));
+            case "Terminal", "ACDCTerminal" ->
+                updateTerminalConnection(id, Optional.ofNullable(properties.get("ACDCTerminal.connected")).orElse(properties.get("Terminal.connected")));
+            case "RatioTapChanger", "PhaseTapChanger", "PhaseTapChangerLinear", "PhaseTapChangerSymmetrical",
+                 "PhaseTapChangerAsymmetrical", "PhaseTapChangerTabular" ->
+                updateTapChanger(id, properties.get("TapChanger.step"), SSH)
+                    | recordControlEnabled(tapChangerControlEnabled, id, properties.get("TapChanger.controlEnabled"));
+            case "LinearShuntCompensator", "NonlinearShuntCompensator", "ShuntCompensator" ->
+                updateShuntCompensator(id, properties.get("ShuntCompensator.sections"), SSH)
+                    | recordControlEnabled(equipmentControlEnabled, id, properties.get("RegulatingCondEq.controlEnabled"));
+            case "RegulatingControl", "TapChangerControl" ->
+                recordRegulatingControl(id, properties.get("RegulatingControl.enabled"), properties.get("RegulatingControl.targetValue"));
+            case "SvTapStep" ->
+                updateTapChanger(properties.get("SvTapStep.TapChanger"), properties.get("SvTapStep.position"), SV);
+            case "SvShuntCompensatorSections" ->
+                updateShuntCompensator(properties.get("SvShuntCompensatorSections.ShuntCompensator"), properties.get("SvShuntCompensatorSections.sections"), SV);
+            case "SvPowerFlow" ->
+                updateFlow(properties.get("SvPowerFlow.Terminal"), properties.get("SvPowerFlow.p"), properties.get("SvPowerFlow.q"));
+            case "SvVoltage" ->
+                updateVoltage(properties.get("SvVoltage.TopologicalNode"), properties.get("SvVoltage.v"), properties.get("SvVoltage.angle"));
+            case "FullModel" -> true; // header of the instance file
+            default -> {
+                LOG.trace("Ignored {} object {} of class {}", subset, id, className);
+                notConsideredClasses.merge(className, 1, Integer::sum);
+                yield true;
+            }
+        };
+        if (!done) {
+            ignored++;
+        }
+    }
+
+    private Identifiable<?> identifiable(String id) {
+        if (id == null) {
+            return null;
+        }
+        Identifiable<?> identifiable = network.getIdentifiable(id);
+        if (identifiable == null) {
+            // Identifiers may have been imported keeping the initial underscore
+            identifiable = network.getIdentifiable("_" + id);
+        }
+        return identifiable;
+    }
+
+    private boolean updateInjection(String id, String p, String q) {
+        if (p == null && q == null) {
+            return false;
+        }
+        Identifiable<?> identifiable = identifiable(id);
+        if (identifiable instanceof Load load) {
+            if (p != null) {
+                load.setP0(Double.parseDouble(p));
+            }
+            if (q != null) {
+                load.setQ0(Double.parseDouble(q));
+            }
+        } else if (identifiable instanceof Generator generator) {
+            // CGMES follows the load sign convention
+            if (p != null) {
+                generator.setTargetP(-Double.parseDouble(p));
+            }
+            if (q != null) {
+                generator.setTargetQ(-Double.parseDouble(q));
+            }
+        } else {
+            return false;
+        }
+        updated++;
+        return true;
+    }
+
+    private boolean updateSwitch(String id, String open) {
+        if (open == null || !(identifiable(id) instanceof Switch sw)) {
+            return false;
+        }
+        sw.setOpen(Boolean.parseBoolean(open));
+        updated++;
+        return true;
+    }
+
+    private boolean updateTerminalConnection(String terminalId, String connected) {
+        if (connected == null || terminalId == null) {
+            return false;
+        }
+        boolean connect = Boolean.parseBoolean(connected);
+        // In node-breaker topology, a disconnected terminal is imported as an open fictitious switch
+        Switch sw = Optional.ofNullable(network.getSwitch(terminalId + FICTITIOUS_SWITCH_SUFFIX))
+            .orElseGet(() -> network.getSwitch("_" + terminalId + FICTITIOUS_SWITCH_SUFFIX));
+        if (sw != null) {
+            sw.setOpen(!connect);
+            updated++;
+            return true;
+        }
+        Terminal terminal = terminal(terminalId);
+        if (terminal == null) {
+            return false;
+        }
+        if (terminal.isConnected() == connect) {
+            return true;
+        }
+        if (terminal.getVoltageLevel().getTopologyKind() == TopologyKind.NODE_BREAKER) {
+            // Disconnecting would require to open switches or to create a fictitious one
+            LOG.debug("Connection status of node-breaker terminal {} can not be updated without modifying the topology", terminalId);
+            return false;
+        }
+        boolean done = connect ? terminal.connect() : terminal.disconnect();
+        if (done) {
+            updated++;
+        }
+        return done;
+    }
+
+    private boolean updateTapChanger(String id, String step, Conversion.Config.StateProfile profile) {
+        if (step == null) {
+            return false;
+        }
+        if (!acceptsValue(id, profile)) {
+            otherProfileTapSteps.put(id, step);
+            return true;
+        }
+        return setTapPosition(id, step);
+    }
+
+    private boolean setTapPosition(String id, String step) {
+        com.powsybl.iidm.network.TapChanger<?, ?, ?, ?> tapChanger = tapChanger(id);
+        if (tapChanger == null) {
+            return false;
+        }
+        tapChanger.setTapPosition(AbstractObjectConversion.fromContinuous(Double.parseDouble(step)));
+        updated++;
+        return true;
+    }
+
+    private com.powsybl.iidm.network.TapChanger<?, ?, ?, ?> tapChanger(String id) {
+        Identifiable<?> identifiable = identifiable(id);
+        if (identifiable == null) {
+            return null;
+        }
+        return identifiable.getAliasType(id)
+            .or(() -> identifiable.getAliasType("_" + id))
+            .map(aliasType -> tapChanger(identifiable, aliasType))
+            .orElse(null);
+    }
+
+    private static com.powsybl.iidm.network.TapChanger<?, ?, ?, ?> tapChanger(Identifiable<?> identifiable, String aliasType) {
+        String ratioPrefix = Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + CgmesNames.RATIO_TAP_CHANGER;
+        String phasePrefix = Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + CgmesNames.PHASE_TAP_CHANGER;
+        boolean ratio = aliasType.startsWith(ratioPrefix);
+        if (!ratio && !aliasType.startsWith(phasePrefix)) {
+            return null;
+        }
+        if (identifiable instanceof TwoWindingsTransformer twt) {
+            return ratio ? twt.getRatioTapChanger() : twt.getPhaseTapChanger();
+        } else if (identifiable instanceof ThreeWindingsTransformer twt) {
+            int end = Integer.parseInt(aliasType.substring((ratio ? ratioPrefix : phasePrefix).length()));
+            ThreeWindingsTransformer.Leg leg = twt.getLeg(ThreeSides.valueOf(end));
+            return ratio ? leg.getRatioTapChanger() : leg.getPhaseTapChanger();
+        }
+        return null;
+    }
+
+    private boolean updateShuntCompensator(String id, String sections, Conversion.Config.StateProfile profile) {
+        if (sections == null) {
+            return false;
+        }
+        if (!acceptsValue(id, profile)) {
+            otherProfileShuntSections.put(id, sections);
+            return true;
+        }
+        return setSectionCount(id, sections);
+    }
+
+    private boolean setSectionCount(String id, String sections) {
+        if (!(identifiable(id) instanceof ShuntCompensator shunt)) {
+            return false;
+        }
+        shunt.setSectionCount(AbstractObjectConversion.fromContinuous(Double.parseDouble(sections)));
+        updated++;
+        return true;
+    }
+
+    private boolean acceptsValue(String id, Conversion.Config.StateProfile profile) {
+        // Values from the preferred profile are applied when read,
+        // values from the other profile are kept until all the files have been read
+        if (profile == profileForShuntSectionsTapPositions) {
+            updatedFromPreferredProfile.add(id);
+            return true;
+        }
+        return false;
+    }
+
+    private void applyOtherProfileValues() {
+        // The other profile is only used when the preferred profile does not give a value
+        otherProfileTapSteps.forEach((id, step) -> {
+            if (!updatedFromPreferredProfile.contains(id) && !setTapPosition(id, step)) {
+                ignored++;
+            }
+        });
+        otherProfileShuntSections.forEach((id, sections) -> {
+            if (!updatedFromPreferredProfile.contains(id) && !setSectionCount(id, sections)) {
+                ignored++;
+            }
+        });
+    }
+
+    private static boolean recordControlEnabled(Map<String, Boolean> controlEnabled, String id, String enabled) {
+        if (enabled == null) {
+            return false;
+        }
+        controlEnabled.put(id, Boolean.parseBoolean(enabled));
+        return true;
+    }
+
+    private boolean recordRegulatingControl(String id, String enabled, String targetValue) {
+        if (enabled == null && targetValue == null) {
+            return false;
+        }
+        regulatingControls.put(id, new RegulatingControlValues(enabled != null ? Boolean.parseBoolean(enabled) : null,
+            targetValue != null ? Double.parseDouble(targetValue) : Double.NaN));
+        return true;
+    }
+
+    private void applyRegulatingControls() {
+        if (equipmentControlEnabled.isEmpty() && tapChangerControlEnabled.isEmpty() && regulatingControls.isEmpty()) {
+            return;
+        }
+        network.getGenerators().forEach(this::updateRegulation);
+        network.getShuntCompensators().forEach(this::updateRegulation);
+        network.getTwoWindingsTransformers().forEach(this::updateTapChangersRegulation);
+        network.getThreeWindingsTransformers().forEach(this::updateTapChangersRegulation);
+    }
+
+    private RegulatingControlValues regulatingControl(Identifiable<?> identifiable) {
+        String controlId = identifiable.getProperty(REGULATING_CONTROL_PROPERTY);
+        return controlId != null ? regulatingControls.get(normalizeId(controlId)) : null;
+    }
+
+    /**
+     * IIDM only keeps whether both the regulating control and the participation of the equipment are enabled.
+     * A status not given by the SSH files is considered unchanged, so it is known to be enabled only when the
+     * regulation is currently on.
+     */
+    private static boolean isRegulating(boolean regulating, Boolean equipmentEnabled, RegulatingControlValues control) {
+        boolean equipment = equipmentEnabled != null ? equipmentEnabled : regulating;
+        boolean enabled = control != null && control.enabled() != null ? control.enabled() : regulating;
+        return equipment && enabled;
+    }
+
+    private void updateRegulation(Generator generator) {
+        Boolean equipmentEnabled = equipmentControlEnabled.get(normalizeId(generator.getId()));
+        RegulatingControlValues control = regulatingControl(generator);
+        if (equipmentEnabled == null && control == null) {
+            return;
+        }
+        RemoteReactivePowerControl remoteReactivePowerControl = generator.getExtension(RemoteReactivePowerControl.class);
+        try {
+            if (remoteReactivePowerControl != null) {
+                // The sign of the target reactive power depends on the regulating terminal, only the status is updated
+                remoteReactivePowerControl.setEnabled(isRegulating(remoteReactivePowerControl.isEnabled(), equipmentEnabled, control));
+            } else {
+                if (control != null && control.targetValue() > 0) {
+                    generator.setTargetV(control.targetValue());
+                }
+                generator.setVoltageRegulatorOn(isRegulating(generator.isVoltageRegulatorOn(), equipmentEnabled, control));
+            }
+            updated++;
+        } catch (ValidationException e) {
+            LOG.debug("Regulation of generator {} can not be updated: {}", generator.getId(), e.getMessage());
+            ignored++;
+        }
+    }
+
+    private void updateRegulation(ShuntCompensator shunt) {
+        Boolean equipmentEnabled = equipmentControlEnabled.get(normalizeId(shunt.getId()));
+        RegulatingControlValues control = regulatingControl(shunt);
+        if (equipmentEnabled == null && control == null) {
+            return;
+        }
+        try {
+            if (control != null && control.targetValue() > 0) {
+                shunt.setTargetV(control.targetValue());
+            }
+            shunt.setVoltageRegulatorOn(isRegulating(shunt.isVoltageRegulatorOn(), equipmentEnabled, control));
+            updated++;
+        } catch (ValidationException e) {
+            LOG.debug("Regulation of shunt compensator {} can not be updated: {}", shunt.getId(), e.getMessage());
+            ignored++;
+        }
+    }
+
+    private <C extends Connectable<C>> void updateTapChangersRegulation(C transformer) {
+        CgmesTapChangers<C> cgmesTapChangers = transformer.getExtension(CgmesTapChangers.class);
+        for (String alias : transformer.getAliases()) {
+            String id = normalizeId(alias);
+            Boolean equipmentEnabled = tapChangerControlEnabled.get(id);
+            if (equipmentEnabled == null) {
+                continue;
+            }
+            com.powsybl.iidm.network.TapChanger<?, ?, ?, ?> tapChanger = transformer.getAliasType(alias)
+                .map(aliasType -> tapChanger(transformer, aliasType))
+                .orElse(null);
+            if (tapChanger == null) {
+                continue;
+            }
+            CgmesTapChanger cgmesTapChanger = cgmesTapChangers != null ? cgmesTapChangers.getTapChanger(alias) : null;
+            RegulatingControlValues control = cgmesTapChanger != null && cgmesTapChanger.getControlId() != null
+                ? regulatingControls.get(normalizeId(cgmesTapChanger.getControlId()))
+                : null;
+            updateRegulation(id, tapChanger, equipmentEnabled, control);
+        }
+    }
+
+    private void updateRegulation(String id, com.powsybl.iidm.network.TapChanger<?, ?, ?, ?> tapChanger, Boolean equipmentEnabled, RegulatingControlValues control) {
+        // The sign of active power, current and reactive power targets depends on the regulating terminal,
+        // only voltage targets are updated
+        try {
+            if (control != null && control.targetValue() > 0 && tapChanger instanceof RatioTapChanger rtc
+                    && rtc.getRegulationMode() == RatioTapChanger.RegulationMode.VOLTAGE) {
+                rtc.setTargetV(control.targetValue());
+            }
+            tapChanger.setRegulating(isRegulating(tapChanger.isRegulating(), equipmentEnabled, control));
+            updated++;
+        } catch (ValidationException e) {
+            // For instance when another tap changer of the transformer is already regulating
+            LOG.debug("Regulation of tap changer {} can not be updated: {}", id, e.getMessage());
+            ignored++;
+        }
+    }
+
+    private boolean updateFlow(String terminalId, String p, String q) {
+        Terminal terminal = terminal(terminalId);
+        if (terminal == null || terminal.getConnectable().getType() == IdentifiableType.BUSBAR_SECTION) {
+            return false;
+        }
+        if (p != null) {
+            terminal.setP(Double.parseDouble(p));
+        }
+        if (q != null) {
+            terminal.setQ(Double.parseDouble(q));
+        }
+        updated++;
+        return true;
+    }
+
+    private Terminal terminal(String terminalId) {
+        if (terminalId == null) {
+            return null;
+        }
+        if (terminalMapping != null) {
+            Terminal t = terminalMapping.get(terminalId);
+            if (t != null) {
+                return t;
+            }
+        }
+        Identifiable<?> identifiable = identifiable(terminalId);
+        if (identifiable == null) {
+            return null;
+        }
+        String aliasType = identifiable.getAliasType(terminalId)
+            .or(() -> identifiable.getAliasType("_" + terminalId))
+            .orElse("");
+        String terminalPrefix = Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + CgmesNames.TERMINAL;
+        if (!aliasType.startsWith(terminalPrefix)) {
+            return null;
+        }
+        String suffix = aliasType.substring(terminalPrefix.length());
+        if (identifiable instanceof DanglingLine && !suffix.equals("1")) {
+            // The boundary side of a dangling line has no IIDM terminal
+            return null;
+        }
+        if (identifiable instanceof Injection<?> injection) {
+            return injection.getTerminal();
+        } else if (identifiable instanceof Branch<?> branch) {
+            return suffix.equals("2") ? branch.getTerminal(TwoSides.TWO) : branch.getTerminal(TwoSides.ONE);
+        } else if (identifiable instanceof ThreeWindingsTransformer twt) {
+            return twt.getLeg(ThreeSides.valueOf(Integer.parseInt(suffix))).getTerminal();
+        }
+        return null;
+    }
+
+    private boolean updateVoltage(String topologicalNode, String v, String angle) {
+        if (topologicalNode == null || v == null || angle == null) {
+            return false;
+        }
+        double vv = Double.parseDouble(v);
+        // Same validity rule as the one used when importing (see NodeConversion)
+        if (!(vv > 0)) {
+            return false;
+        }
+        Bus bus = bus(topologicalNode);
+        if (bus == null) {
+            return false;
+        }
+        bus.setV(vv);
+        bus.setAngle(Double.parseDouble(angle));
+        updated++;
+        return true;
+    }
+
+    private Bus bus(String topologicalNode) {
+        Bus bus = network.getBusBreakerView().getBus(topologicalNode);
+        if (bus == null) {
+            bus = network.getBusBreakerView().getBus("_" + topologicalNode);
+        }
+        if (bus == null && terminalMapping != null) {
+            Terminal t = terminalMapping.findFromTopologicalNode(topologicalNode);
+            if (t != null) {
+                bus = t.getBusView().getBus();
+            }
+        }
+        return bus;
+    }
+}
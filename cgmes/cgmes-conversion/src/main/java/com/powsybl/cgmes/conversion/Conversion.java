@@ -275,6 +275,14 @@ public class Conversion {
             postProcessor.process(network, cgmes.tripleStore());
         }
 
+        if (cgmes instanceof CgmesModelTripleStore cgmesTripleStore) {
+            if (LOG.isDebugEnabled()) {
+                cgmesTripleStore.printQueryStatistics(LOG::debug);
+            }
+            // Cached query results are not needed anymore, release them even if the model is kept with the network
+            cgmesTripleStore.clearCachedQueryResults();
+        }
+
         CgmesReports.importedCgmesNetworkReport(reportNode, network.getId());
         return network;
     }
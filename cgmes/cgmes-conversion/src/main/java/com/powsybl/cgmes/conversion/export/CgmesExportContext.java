@@ -103,6 +103,11 @@ public class CgmesExportContext {
     private final Map<String, Bus> topologicalNodes = new HashMap<>();
     private final ReferenceDataProvider referenceDataProvider;
 
+    // Changes of the network recorded since the last update of the IIDM mappings, when tracking is enabled
+    private NetworkChangesListener networkChangesListener = null;
+    private String mappedVariantId = null;
+    private final Set<String> mappedSubnetworkIds = new HashSet<>();
+
     public String getFictitiousContainerFor(Identifiable<?> id) {
         return fictitiousContainers.get(id.getId());
     }
@@ -181,6 +186,187 @@ public class CgmesExportContext {
         addIidmMappingsControlArea(network);
     }
 
+    /**
+     * Record the changes of the network, so that this context can be reused for consecutive exports.
+     * At each {@link #updateIidmMappings(Network)} only the mappings of created or modified identifiables are recomputed.
+     */
+    public CgmesExportContext trackNetworkChanges(Network network) {
+        if (networkChangesListener == null) {
+            networkChangesListener = new NetworkChangesListener();
+            network.addListener(networkChangesListener);
+            mappedVariantId = network.getVariantManager().getWorkingVariantId();
+        }
+        return this;
+    }
+
+    public CgmesExportContext stopTrackingNetworkChanges(Network network) {
+        if (networkChangesListener != null) {
+            network.removeListener(networkChangesListener);
+            networkChangesListener = null;
+            mappedVariantId = null;
+            mappedSubnetworkIds.clear();
+        }
+        return this;
+    }
+
+    /**
+     * Add the mappings of a subnetwork exported as an IGM of a common grid model.
+     * When the changes of the network are tracked, the mappings of a subnetwork are only added at its first export:
+     * they are then kept up to date by {@link #updateIidmMappings(Network)}.
+     */
+    public void addSubnetworkIidmMappings(Network subnetwork) {
+        if (networkChangesListener == null || mappedSubnetworkIds.add(subnetwork.getId())) {
+            addIidmMappings(subnetwork);
+        }
+    }
+
+    public boolean isTrackingNetworkChanges() {
+        return networkChangesListener != null;
+    }
+
+    /**
+     * Bring the IIDM mappings up to date with the changes of the network recorded since the previous call.
+     * Nothing is done if network changes are not tracked.
+     */
+    public void updateIidmMappings(Network network) {
+        if (networkChangesListener == null) {
+            return;
+        }
+        NetworkChangesListener changes = networkChangesListener;
+        String workingVariantId = network.getVariantManager().getWorkingVariantId();
+        if (changes.topologyChanged || changes.fullUpdate || !workingVariantId.equals(mappedVariantId)) {
+            // Buses of the bus/breaker view may have been invalidated
+            topologicalNodes.clear();
+        }
+        // Forget the data of the removed identifiables, their identifiers may be reused by new ones
+        fictitiousContainers.keySet().removeAll(changes.removedIds);
+        changes.updating = true;
+        try {
+            if (changes.fullUpdate) {
+                addIidmMappings(network);
+                // Subnetworks share the regions and base voltages of the network, map them again at their next export
+                mappedSubnetworkIds.clear();
+            } else {
+                for (String id : changes.modifiedIds) {
+                    Identifiable<?> identifiable = network.getIdentifiable(id);
+                    if (identifiable != null) {
+                        addIidmMappings(identifiable);
+                    }
+                }
+            }
+        } finally {
+            changes.updating = false;
+        }
+        changes.clear();
+        mappedVariantId = workingVariantId;
+    }
+
+    private void addIidmMappings(Identifiable<?> identifiable) {
+        if (identifiable instanceof Connectable<?> connectable) {
+            addIidmMappingsTerminals(connectable);
+        }
+        if (identifiable instanceof Switch sw) {
+            addIidmMappingsSwitchTerminals(sw);
+        } else if (identifiable instanceof HvdcLine line) {
+            addIidmMappingsHvdcTerminals(line);
+        } else if (identifiable instanceof Generator generator) {
+            addIidmMappingsGenerator(generator);
+        } else if (identifiable instanceof Battery battery) {
+            addIidmMappingsBattery(battery);
+        } else if (identifiable instanceof ShuntCompensator shuntCompensator) {
+            addIidmMappingsShuntCompensator(shuntCompensator);
+        } else if (identifiable instanceof StaticVarCompensator svc) {
+            addIidmMappingsStaticVarCompensator(svc);
+        } else if (identifiable instanceof TwoWindingsTransformer twt) {
+            addIidmMappingsEndsAndTapChangers(twt);
+        } else if (identifiable instanceof ThreeWindingsTransformer twt) {
+            addIidmMappingsEndsAndTapChangers(twt);
+        } else if (identifiable instanceof DanglingLine danglingLine) {
+            addIidmMappingsEquivalentInjection(danglingLine);
+        }
+    }
+
+    private static final class NetworkChangesListener extends DefaultNetworkListener {
+
+        // Attributes that change the buses of the bus/breaker view
+        private static final Set<String> TOPOLOGY_ATTRIBUTES = Set.of("open", "retained", "connectableBusId",
+            "beginConnect", "endConnect", "beginDisconnect", "endDisconnect");
+
+        // Attributes of the state that are not used in the mappings
+        private static final Set<String> STATE_ATTRIBUTES = Set.of("p", "q", "p1", "q1", "p2", "q2", "p3", "q3",
+            "v", "angle", "connectedComponentNumber", "synchronousComponentNumber");
+
+        private final Set<String> modifiedIds = new LinkedHashSet<>();
+        private final Set<String> removedIds = new HashSet<>();
+        private boolean fullUpdate = false;
+        private boolean topologyChanged = false;
+        private boolean updating = false;
+
+        private void modified(Identifiable<?> identifiable, String attribute) {
+            if (updating || STATE_ATTRIBUTES.contains(attribute)) {
+                return;
+            }
+            if (TOPOLOGY_ATTRIBUTES.contains(attribute) || attribute.startsWith("connected")) {
+                topologyChanged = true;
+            }
+            if (identifiable instanceof Substation || identifiable instanceof VoltageLevel || identifiable instanceof Network) {
+                // Regions and base voltages are shared by many identifiables
+                fullUpdate = true;
+            } else {
+                modifiedIds.add(identifiable.getId());
+            }
+        }
+
+        private void clear() {
+            modifiedIds.clear();
+            removedIds.clear();
+            fullUpdate = false;
+            topologyChanged = false;
+        }
+
+        @Override
+        public void onCreation(Identifiable<?> identifiable) {
+            topologyChanged = true;
+            if (identifiable instanceof Substation || identifiable instanceof VoltageLevel) {
+                fullUpdate = true;
+            } else {
+                modifiedIds.add(identifiable.getId());
+            }
+        }
+
+        @Override
+        public void afterRemoval(String id) {
+            topologyChanged = true;
+            modifiedIds.remove(id);
+            removedIds.add(id);
+        }
+
+        @Override
+        public void onUpdate(Identifiable<?> identifiable, String attribute, Object oldValue, Object newValue) {
+            modified(identifiable, attribute);
+        }
+
+        @Override
+        public void onUpdate(Identifiable<?> identifiable, String attribute, String variantId, Object oldValue, Object newValue) {
+            modified(identifiable, attribute);
+        }
+
+        @Override
+        public void onElementAdded(Identifiable<?> identifiable, String attribute, Object newValue) {
+            modified(identifiable, attribute);
+        }
+
+        @Override
+        public void onElementReplaced(Identifiable<?> identifiable, String attribute, Object oldValue, Object newValue) {
+            modified(identifiable, attribute);
+        }
+
+        @Override
+        public void onElementRemoved(Identifiable<?> identifiable, String attribute, Object oldValue) {
+            modified(identifiable, attribute);
+        }
+    }
+
     private void addIidmMappingsSubstations(Network network) {
         for (Substation substation : network.getSubstations()) {
             String regionName;
@@ -260,16 +446,20 @@ public class CgmesExportContext {
 
     private void addIidmMappingsTerminals(Network network) {
         for (Connectable<?> c : network.getConnectables()) {
-            if (isExportedEquipment(c)) {
-                for (Terminal t : c.getTerminals()) {
-                    addIidmMappingsTerminal(t, c);
-                }
-            }
+            addIidmMappingsTerminals(c);
         }
         addIidmMappingsSwitchTerminals(network);
         addIidmMappingsHvdcTerminals(network);
     }
 
+    private void addIidmMappingsTerminals(Connectable<?> c) {
+        if (isExportedEquipment(c)) {
+            for (Terminal t : c.getTerminals()) {
+                addIidmMappingsTerminal(t, c);
+            }
+        }
+    }
+
     public boolean isExportEquipment() {
         return exportEquipment;
     }
@@ -290,51 +480,59 @@ public class CgmesExportContext {
 
     private void addIidmMappingsSwitchTerminals(Network network) {
         for (Switch sw : network.getSwitches()) {
-            String terminal1Id = sw.getAliasFromType(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + CgmesNames.TERMINAL + "1").orElse(null);
-            if (terminal1Id == null) {
-                terminal1Id = namingStrategy.getCgmesId(refTyped(sw), TERMINAL, ref(1));
-                sw.addAlias(terminal1Id, Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + CgmesNames.TERMINAL + "1");
-            }
-            String terminal2Id = sw.getAliasFromType(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + CgmesNames.TERMINAL + "2").orElse(null);
-            if (terminal2Id == null) {
-                terminal2Id = namingStrategy.getCgmesId(refTyped(sw), TERMINAL, ref(2));
-                sw.addAlias(terminal2Id, Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + CgmesNames.TERMINAL + "2");
-            }
+            addIidmMappingsSwitchTerminals(sw);
+        }
+    }
+
+    private void addIidmMappingsSwitchTerminals(Switch sw) {
+        String terminal1Id = sw.getAliasFromType(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + CgmesNames.TERMINAL + "1").orElse(null);
+        if (terminal1Id == null) {
+            terminal1Id = namingStrategy.getCgmesId(refTyped(sw), TERMINAL, ref(1));
+            sw.addAlias(terminal1Id, Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + CgmesNames.TERMINAL + "1");
+        }
+        String terminal2Id = sw.getAliasFromType(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + CgmesNames.TERMINAL + "2").orElse(null);
+        if (terminal2Id == null) {
+            terminal2Id = namingStrategy.getCgmesId(refTyped(sw), TERMINAL, ref(2));
+            sw.addAlias(terminal2Id, Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + CgmesNames.TERMINAL + "2");
         }
     }
 
     private void addIidmMappingsHvdcTerminals(Network network) {
         for (HvdcLine line : network.getHvdcLines()) {
-            String dcNode1 = line.getAliasFromType(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + DCNODE + "1").orElse(null);
-            if (dcNode1 == null) {
-                dcNode1 = namingStrategy.getCgmesId(refTyped(line), Part.DCNODE, ref(1));
-                line.addAlias(dcNode1, Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + DCNODE + "1");
-            }
-            String dcNode2 = line.getAliasFromType(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + DCNODE + "2").orElse(null);
-            if (dcNode2 == null) {
-                dcNode2 = namingStrategy.getCgmesId(refTyped(line), Part.DCNODE, ref(2));
-                line.addAlias(dcNode2, Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + DCNODE + "2");
-            }
-            String dcTerminal1 = line.getAliasFromType(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + DCTERMINAL + "1").orElse(null);
-            if (dcTerminal1 == null) {
-                dcTerminal1 = namingStrategy.getCgmesId(refTyped(line), TERMINAL, ref(1));
-                line.addAlias(dcTerminal1, Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + DCTERMINAL + "1");
-            }
-            String dcTerminal2 = line.getAliasFromType(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + DCTERMINAL + "2").orElse(null);
-            if (dcTerminal2 == null) {
-                dcTerminal2 = namingStrategy.getCgmesId(refTyped(line), TERMINAL, ref(2));
-                line.addAlias(dcTerminal2, Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + DCTERMINAL + "2");
-            }
-            String acdcConverterDcTerminal1 = line.getConverterStation1().getAliasFromType(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + ACDCCONVERTERDCTERMINAL).orElse(null);
-            if (acdcConverterDcTerminal1 == null) {
-                acdcConverterDcTerminal1 = namingStrategy.getCgmesId(refTyped(line), ACDC_CONVERTER_DC_TERMINAL, ref(1));
-                line.getConverterStation1().addAlias(acdcConverterDcTerminal1, Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + ACDCCONVERTERDCTERMINAL);
-            }
-            String acdcConverterDcTerminal2 = line.getConverterStation2().getAliasFromType(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + ACDCCONVERTERDCTERMINAL).orElse(null);
-            if (acdcConverterDcTerminal2 == null) {
-                acdcConverterDcTerminal2 = namingStrategy.getCgmesId(refTyped(line), ACDC_CONVERTER_DC_TERMINAL, ref(2));
-                line.getConverterStation2().addAlias(acdcConverterDcTerminal2, Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + ACDCCONVERTERDCTERMINAL);
-            }
+            addIidmMappingsHvdcTerminals(line);
+        }
+    }
+
+    private void addIidmMappingsHvdcTerminals(HvdcLine line) {
+        String dcNode1 = line.getAliasFromType(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + DCNODE + "1").orElse(null);
+        if (dcNode1 == null) {
+            dcNode1 = namingStrategy.getCgmesId(refTyped(line), Part.DCNODE, ref(1));
+            line.addAlias(dcNode1, Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + DCNODE + "1");
+        }
+        String dcNode2 = line.getAliasFromType(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + DCNODE + "2").orElse(null);
+        if (dcNode2 == null) {
+            dcNode2 = namingStrategy.getCgmesId(refTyped(line), Part.DCNODE, ref(2));
+            line.addAlias(dcNode2, Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + DCNODE + "2");
+        }
+        String dcTerminal1 = line.getAliasFromType(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + DCTERMINAL + "1").orElse(null);
+        if (dcTerminal1 == null) {
+            dcTerminal1 = namingStrategy.getCgmesId(refTyped(line), TERMINAL, ref(1));
+            line.addAlias(dcTerminal1, Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + DCTERMINAL + "1");
+        }
+        String dcTerminal2 = line.getAliasFromType(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + DCTERMINAL + "2").orElse(null);
+        if (dcTerminal2 == null) {
+            dcTerminal2 = namingStrategy.getCgmesId(refTyped(line), TERMINAL, ref(2));
+            line.addAlias(dcTerminal2, Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + DCTERMINAL + "2");
+        }
+        String acdcConverterDcTerminal1 = line.getConverterStation1().getAliasFromType(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + ACDCCONVERTERDCTERMINAL).orElse(null);
+        if (acdcConverterDcTerminal1 == null) {
+            acdcConverterDcTerminal1 = namingStrategy.getCgmesId(refTyped(line), ACDC_CONVERTER_DC_TERMINAL, ref(1));
+            line.getConverterStation1().addAlias(acdcConverterDcTerminal1, Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + ACDCCONVERTERDCTERMINAL);
+        }
+        String acdcConverterDcTerminal2 = line.getConverterStation2().getAliasFromType(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + ACDCCONVERTERDCTERMINAL).orElse(null);
+        if (acdcConverterDcTerminal2 == null) {
+            acdcConverterDcTerminal2 = namingStrategy.getCgmesId(refTyped(line), ACDC_CONVERTER_DC_TERMINAL, ref(2));
+            line.getConverterStation2().addAlias(acdcConverterDcTerminal2, Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + ACDCCONVERTERDCTERMINAL);
         }
     }
 
@@ -373,20 +571,24 @@ public class CgmesExportContext {
 
     private void addIidmMappingsGenerators(Network network) {
         for (Generator generator : network.getGenerators()) {
-            // Condensers should not have generating units
-            if (!isCondenser(generator)) {
-                String generatingUnit = generator.getProperty(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + GENERATING_UNIT);
-                if (generatingUnit == null) {
-                    generatingUnit = namingStrategy.getCgmesId(ref(generator), refGeneratingUnit(generator));
-                    generator.setProperty(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + GENERATING_UNIT, generatingUnit);
-                }
-            }
-            String regulatingControlId = generator.getProperty(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + REGULATING_CONTROL);
-            if (regulatingControlId == null && hasVoltageControlCapability(generator)) {
-                regulatingControlId = namingStrategy.getCgmesId(ref(generator), Part.REGULATING_CONTROL);
-                generator.setProperty(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + REGULATING_CONTROL, regulatingControlId);
+            addIidmMappingsGenerator(generator);
+        }
+    }
+
+    private void addIidmMappingsGenerator(Generator generator) {
+        // Condensers should not have generating units
+        if (!isCondenser(generator)) {
+            String generatingUnit = generator.getProperty(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + GENERATING_UNIT);
+            if (generatingUnit == null) {
+                generatingUnit = namingStrategy.getCgmesId(ref(generator), refGeneratingUnit(generator));
+                generator.setProperty(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + GENERATING_UNIT, generatingUnit);
             }
         }
+        String regulatingControlId = generator.getProperty(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + REGULATING_CONTROL);
+        if (regulatingControlId == null && hasVoltageControlCapability(generator)) {
+            regulatingControlId = namingStrategy.getCgmesId(ref(generator), Part.REGULATING_CONTROL);
+            generator.setProperty(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + REGULATING_CONTROL, regulatingControlId);
+        }
     }
 
     private static boolean hasVoltageControlCapability(Generator generator) {
@@ -419,66 +621,86 @@ public class CgmesExportContext {
 
     private void addIidmMappingsBatteries(Network network) {
         for (Battery battery : network.getBatteries()) {
-            String generatingUnit = battery.getProperty(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + GENERATING_UNIT);
-            if (generatingUnit == null) {
-                generatingUnit = namingStrategy.getCgmesId(refTyped(battery), Part.GENERATING_UNIT);
-                battery.setProperty(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + GENERATING_UNIT, generatingUnit);
-            }
-            // TODO regulation
+            addIidmMappingsBattery(battery);
         }
     }
 
+    private void addIidmMappingsBattery(Battery battery) {
+        String generatingUnit = battery.getProperty(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + GENERATING_UNIT);
+        if (generatingUnit == null) {
+            generatingUnit = namingStrategy.getCgmesId(refTyped(battery), Part.GENERATING_UNIT);
+            battery.setProperty(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + GENERATING_UNIT, generatingUnit);
+        }
+        // TODO regulation
+    }
+
     private void addIidmMappingsShuntCompensators(Network network) {
         for (ShuntCompensator shuntCompensator : network.getShuntCompensators()) {
-            if ("true".equals(shuntCompensator.getProperty(Conversion.PROPERTY_IS_EQUIVALENT_SHUNT))) {
-                continue;
-            }
-            String regulatingControlId = shuntCompensator.getProperty(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + REGULATING_CONTROL);
-            if (regulatingControlId == null && (CgmesExportUtil.isValidVoltageSetpoint(shuntCompensator.getTargetV())
-                                            || !Objects.equals(shuntCompensator, shuntCompensator.getRegulatingTerminal().getConnectable()))) {
-                regulatingControlId = namingStrategy.getCgmesId(ref(shuntCompensator), Part.REGULATING_CONTROL);
-                shuntCompensator.setProperty(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + REGULATING_CONTROL, regulatingControlId);
-            }
+            addIidmMappingsShuntCompensator(shuntCompensator);
+        }
+    }
+
+    private void addIidmMappingsShuntCompensator(ShuntCompensator shuntCompensator) {
+        if ("true".equals(shuntCompensator.getProperty(Conversion.PROPERTY_IS_EQUIVALENT_SHUNT))) {
+            return;
+        }
+        String regulatingControlId = shuntCompensator.getProperty(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + REGULATING_CONTROL);
+        if (regulatingControlId == null && (CgmesExportUtil.isValidVoltageSetpoint(shuntCompensator.getTargetV())
+                                        || !Objects.equals(shuntCompensator, shuntCompensator.getRegulatingTerminal().getConnectable()))) {
+            regulatingControlId = namingStrategy.getCgmesId(ref(shuntCompensator), Part.REGULATING_CONTROL);
+            shuntCompensator.setProperty(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + REGULATING_CONTROL, regulatingControlId);
         }
     }
 
     private void addIidmMappingsStaticVarCompensators(Network network) {
         for (StaticVarCompensator svc : network.getStaticVarCompensators()) {
-            String regulatingControlId = svc.getProperty(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + REGULATING_CONTROL);
-            boolean validVoltageSetpoint = CgmesExportUtil.isValidVoltageSetpoint(svc.getVoltageSetpoint());
-            boolean validReactiveSetpoint = CgmesExportUtil.isValidReactivePowerSetpoint(svc.getReactivePowerSetpoint());
-            if (regulatingControlId == null && (validReactiveSetpoint
-                                                || validVoltageSetpoint
-                                                || !Objects.equals(svc, svc.getRegulatingTerminal().getConnectable()))) {
-                regulatingControlId = namingStrategy.getCgmesId(ref(svc), Part.REGULATING_CONTROL);
-                svc.setProperty(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + REGULATING_CONTROL, regulatingControlId);
-            }
+            addIidmMappingsStaticVarCompensator(svc);
+        }
+    }
+
+    private void addIidmMappingsStaticVarCompensator(StaticVarCompensator svc) {
+        String regulatingControlId = svc.getProperty(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + REGULATING_CONTROL);
+        boolean validVoltageSetpoint = CgmesExportUtil.isValidVoltageSetpoint(svc.getVoltageSetpoint());
+        boolean validReactiveSetpoint = CgmesExportUtil.isValidReactivePowerSetpoint(svc.getReactivePowerSetpoint());
+        if (regulatingControlId == null && (validReactiveSetpoint
+                                            || validVoltageSetpoint
+                                            || !Objects.equals(svc, svc.getRegulatingTerminal().getConnectable()))) {
+            regulatingControlId = namingStrategy.getCgmesId(ref(svc), Part.REGULATING_CONTROL);
+            svc.setProperty(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + REGULATING_CONTROL, regulatingControlId);
         }
     }
 
     private void addIidmMappingsEndsAndTapChangers(Network network) {
         for (TwoWindingsTransformer twt : network.getTwoWindingsTransformers()) {
-            addIidmTransformerEnd(twt, 1);
-            addIidmTransformerEnd(twt, 2);
-            //  For two winding transformers we can not check-and-add based on endNumber
-            //  The resulting IIDM tap changer is always at end1
-            //  But the original position of tap changer could be 1 or 2
-            addIidmTapChanger2wt(twt, twt.getPhaseTapChanger(), CgmesNames.PHASE_TAP_CHANGER);
-            addIidmTapChanger2wt(twt, twt.getRatioTapChanger(), CgmesNames.RATIO_TAP_CHANGER);
+            addIidmMappingsEndsAndTapChangers(twt);
         }
         for (ThreeWindingsTransformer twt : network.getThreeWindingsTransformers()) {
-            addIidmTransformerEnd(twt, 1);
-            addIidmTransformerEnd(twt, 2);
-            addIidmTransformerEnd(twt, 3);
-            addIidmTapChanger(twt, twt.getLeg1().getPhaseTapChanger(), CgmesNames.PHASE_TAP_CHANGER, 1);
-            addIidmTapChanger(twt, twt.getLeg1().getRatioTapChanger(), CgmesNames.RATIO_TAP_CHANGER, 1);
-            addIidmTapChanger(twt, twt.getLeg2().getPhaseTapChanger(), CgmesNames.PHASE_TAP_CHANGER, 2);
-            addIidmTapChanger(twt, twt.getLeg2().getRatioTapChanger(), CgmesNames.RATIO_TAP_CHANGER, 2);
-            addIidmTapChanger(twt, twt.getLeg3().getPhaseTapChanger(), CgmesNames.PHASE_TAP_CHANGER, 3);
-            addIidmTapChanger(twt, twt.getLeg3().getRatioTapChanger(), CgmesNames.RATIO_TAP_CHANGER, 3);
+            addIidmMappingsEndsAndTapChangers(twt);
         }
     }
 
+    private void addIidmMappingsEndsAndTapChangers(TwoWindingsTransformer twt) {
+        addIidmTransformerEnd(twt, 1);
+        addIidmTransformerEnd(twt, 2);
+        //  For two winding transformers we can not check-and-add based on endNumber
+        //  The resulting IIDM tap changer is always at end1
+        //  But the original position of tap changer could be 1 or 2
+        addIidmTapChanger2wt(twt, twt.getPhaseTapChanger(), CgmesNames.PHASE_TAP_CHANGER);
+        addIidmTapChanger2wt(twt, twt.getRatioTapChanger(), CgmesNames.RATIO_TAP_CHANGER);
+    }
+
+    private void addIidmMappingsEndsAndTapChangers(ThreeWindingsTransformer twt) {
+        addIidmTransformerEnd(twt, 1);
+        addIidmTransformerEnd(twt, 2);
+        addIidmTransformerEnd(twt, 3);
+        addIidmTapChanger(twt, twt.getLeg1().getPhaseTapChanger(), CgmesNames.PHASE_TAP_CHANGER, 1);
+        addIidmTapChanger(twt, twt.getLeg1().getRatioTapChanger(), CgmesNames.RATIO_TAP_CHANGER, 1);
+        addIidmTapChanger(twt, twt.getLeg2().getPhaseTapChanger(), CgmesNames.PHASE_TAP_CHANGER, 2);
+        addIidmTapChanger(twt, twt.getLeg2().getRatioTapChanger(), CgmesNames.RATIO_TAP_CHANGER, 2);
+        addIidmTapChanger(twt, twt.getLeg3().getPhaseTapChanger(), CgmesNames.PHASE_TAP_CHANGER, 3);
+        addIidmTapChanger(twt, twt.getLeg3().getRatioTapChanger(), CgmesNames.RATIO_TAP_CHANGER, 3);
+    }
+
     private void addIidmTransformerEnd(Identifiable<?> eq, int end) {
         String endId = eq.getAliasFromType(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + CgmesNames.TRANSFORMER_END + end).orElse(null);
         if (endId == null) {
@@ -515,17 +737,21 @@ public class CgmesExportContext {
 
     private void addIidmMappingsEquivalentInjection(Network network) {
         for (DanglingLine danglingLine : network.getDanglingLines(DanglingLineFilter.ALL)) {
-            String alias;
-            alias = danglingLine.getProperty(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + CgmesNames.EQUIVALENT_INJECTION);
-            if (alias == null) {
-                String equivalentInjectionId = namingStrategy.getCgmesId(refTyped(danglingLine), EQUIVALENT_INJECTION);
-                danglingLine.setProperty(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + CgmesNames.EQUIVALENT_INJECTION, equivalentInjectionId);
-            }
-            alias = danglingLine.getProperty(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + "EquivalentInjectionTerminal");
-            if (alias == null) {
-                String equivalentInjectionTerminalId = namingStrategy.getCgmesId(refTyped(danglingLine), EQUIVALENT_INJECTION, TERMINAL);
-                danglingLine.setProperty(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + "EquivalentInjectionTerminal", equivalentInjectionTerminalId);
-            }
+            addIidmMappingsEquivalentInjection(danglingLine);
+        }
+    }
+
+    private void addIidmMappingsEquivalentInjection(DanglingLine danglingLine) {
+        String alias;
+        alias = danglingLine.getProperty(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + CgmesNames.EQUIVALENT_INJECTION);
+        if (alias == null) {
+            String equivalentInjectionId = namingStrategy.getCgmesId(refTyped(danglingLine), EQUIVALENT_INJECTION);
+            danglingLine.setProperty(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + CgmesNames.EQUIVALENT_INJECTION, equivalentInjectionId);
+        }
+        alias = danglingLine.getProperty(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + "EquivalentInjectionTerminal");
+        if (alias == null) {
+            String equivalentInjectionTerminalId = namingStrategy.getCgmesId(refTyped(danglingLine), EQUIVALENT_INJECTION, TERMINAL);
+            danglingLine.setProperty(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + "EquivalentInjectionTerminal", equivalentInjectionTerminalId);
         }
     }
 
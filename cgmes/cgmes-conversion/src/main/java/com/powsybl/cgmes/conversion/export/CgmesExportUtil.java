@@ -59,6 +59,9 @@ public final class CgmesExportUtil {
 
     private static final DecimalFormatSymbols DOUBLE_FORMAT_SYMBOLS = new DecimalFormatSymbols(Locale.US);
     private static final DecimalFormat DOUBLE_FORMAT = new DecimalFormat("0.##############", DOUBLE_FORMAT_SYMBOLS);
+    private static final int MAX_FRACTION_DIGITS = 14;
+    private static final double MAX_EXACT_LONG_DOUBLE = 1e15;
+    private static final long NEGATIVE_ZERO_BITS = Double.doubleToRawLongBits(-0.0);
     private static final DecimalFormat SCIENTIFIC_FORMAT = new DecimalFormat("0.######E0", DOUBLE_FORMAT_SYMBOLS);
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyy-MM-dd'T'HH:mm:ssXXX").withZone(ZoneOffset.UTC);
 
@@ -82,7 +85,24 @@ public final class CgmesExportUtil {
             float value1 = value >= Float.MAX_VALUE ? Float.MAX_VALUE : -Float.MAX_VALUE;
             return scientificFormat(value1, defaultValue);
         }
-        return DOUBLE_FORMAT.format(fixValue(value, defaultValue));
+        double value1 = fixValue(value, defaultValue);
+        // Fast paths giving the same text as DOUBLE_FORMAT, that is slow and shared by all threads
+        if (value1 == Math.rint(value1) && Math.abs(value1) < MAX_EXACT_LONG_DOUBLE) {
+            // Negative zero is written as "-0"
+            return Double.doubleToRawLongBits(value1) == NEGATIVE_ZERO_BITS ? "-0" : Long.toString((long) value1);
+        }
+        String text = Double.toString(value1);
+        int dot = text.indexOf('.');
+        if (dot >= 0 && text.indexOf('E') < 0 && text.length() - dot - 1 <= MAX_FRACTION_DIGITS) {
+            return text;
+        }
+        return formatWithDecimalFormat(value1);
+    }
+
+    private static String formatWithDecimalFormat(double value) {
+        synchronized (DOUBLE_FORMAT) {
+            return DOUBLE_FORMAT.format(value);
+        }
     }
 
     public static String scientificFormat(double value) {
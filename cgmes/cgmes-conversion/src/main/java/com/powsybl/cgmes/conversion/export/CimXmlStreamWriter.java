@@ -0,0 +1,532 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.cgmes.conversion.export;
+
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * A lightweight {@link XMLStreamWriter} for CIM/XML (RDF) exports, writing UTF-8 encoded bytes
+ * directly to an {@link OutputStream}.
+ *
+ * <p>Output is the same as the one obtained with an indenting writer created by
+ * {@link com.powsybl.commons.xml.XmlUtil#initializeWriter(boolean, String, OutputStream)},
+ * but qualified names are encoded only once and reused, and text is encoded and escaped
+ * in a single pass over an internal byte buffer.</p>
+ *
+ * <p>Namespace bindings are global to the document: CIM/XML declares all namespaces in the root element.</p>
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class CimXmlStreamWriter implements XMLStreamWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int WROTE_MARKUP = 1;
+    private static final int WROTE_DATA = 2;
+    private static final byte[] NEW_LINE = {'\n'};
+
+    private final OutputStream os;
+    private final byte[] indent;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position = 0;
+
+    private final Map<String, String> prefixByNamespace = new HashMap<>();
+    private final Map<String, String> namespaceByPrefix = new HashMap<>();
+    private final Map<String, Map<String, byte[]>> qualifiedNames = new HashMap<>();
+
+    // Qualified names of open elements
+    private final Deque<byte[]> openElements = new ArrayDeque<>();
+    private boolean startTagOpen = false;
+    private boolean emptyElement = false;
+
+    // Indentation state, for each depth: whether markup or data has been written in the element
+    private int depth = 0;
+    private int[] stack = new int[16];
+
+    public CimXmlStreamWriter(OutputStream os, String indent) {
+        this.os = Objects.requireNonNull(os);
+        this.indent = Objects.requireNonNull(indent).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Create a writer and write the XML declaration.
+     */
+    public static CimXmlStreamWriter create(OutputStream os) throws XMLStreamException {
+        CimXmlStreamWriter writer = new CimXmlStreamWriter(os, "    ");
+        writer.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+        return writer;
+    }
+
+    // Documents
+
+    @Override
+    public void writeStartDocument() throws XMLStreamException {
+        writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+    }
+
+    @Override
+    public void writeStartDocument(String version) throws XMLStreamException {
+        writeStartDocument(StandardCharsets.UTF_8.name(), version);
+    }
+
+    @Override
+    public void writeStartDocument(String encoding, String version) throws XMLStreamException {
+        if (!StandardCharsets.UTF_8.name().equalsIgnoreCase(encoding)) {
+            throw new XMLStreamException("Unsupported encoding " + encoding);
+        }
+        beforeMarkup();
+        writeAscii("<?xml version=\"");
+        writeAscii(version);
+        writeAscii("\" encoding=\"");
+        writeAscii(encoding);
+        writeAscii("\"?>");
+        afterMarkup();
+    }
+
+    @Override
+    public void writeEndDocument() throws XMLStreamException {
+        while (depth > 0) {
+            writeEndElement();
+        }
+        closeStartTag();
+        if (stack[0] == WROTE_MARKUP) {
+            write(NEW_LINE);
+        }
+        stack[0] = 0;
+        flush();
+    }
+
+    // Elements
+
+    @Override
+    public void writeStartElement(String localName) throws XMLStreamException {
+        startElement(encodedName(null, localName), false);
+    }
+
+    @Override
+    public void writeStartElement(String namespaceURI, String localName) throws XMLStreamException {
+        startElement(encodedName(namespaceURI, localName), false);
+    }
+
+    @Override
+    public void writeStartElement(String prefix, String localName, String namespaceURI) throws XMLStreamException {
+        bind(prefix, namespaceURI);
+        startElement(encodedName(namespaceURI, localName), false);
+    }
+
+    @Override
+    public void writeEmptyElement(String localName) throws XMLStreamException {
+        startElement(encodedName(null, localName), true);
+    }
+
+    @Override
+    public void writeEmptyElement(String namespaceURI, String localName) throws XMLStreamException {
+        startElement(encodedName(namespaceURI, localName), true);
+    }
+
+    @Override
+    public void writeEmptyElement(String prefix, String localName, String namespaceURI) throws XMLStreamException {
+        bind(prefix, namespaceURI);
+        startElement(encodedName(namespaceURI, localName), true);
+    }
+
+    private void startElement(byte[] qualifiedName, boolean empty) throws XMLStreamException {
+        closeStartTag();
+        beforeMarkup();
+        if (!empty) {
+            if (stack.length <= depth + 1) {
+                stack = Arrays.copyOf(stack, stack.length * 2);
+            }
+            stack[depth + 1] = 0;
+        }
+        write('<');
+        write(qualifiedName);
+        startTagOpen = true;
+        emptyElement = empty;
+        afterMarkup();
+        if (!empty) {
+            openElements.push(qualifiedName);
+            depth++;
+        }
+    }
+
+    @Override
+    public void writeEndElement() throws XMLStreamException {
+        if (openElements.isEmpty()) {
+            throw new XMLStreamException("No element to close");
+        }
+        byte[] qualifiedName = openElements.pop();
+        if (startTagOpen) {
+            // An element without content is not written as an empty element tag
+            closeStartTag();
+        } else if (depth > 0 && stack[depth] == WROTE_MARKUP) {
+            newLine(depth - 1);
+        }
+        write('<');
+        write('/');
+        write(qualifiedName);
+        write('>');
+        if (depth > 0) {
+            depth--;
+        }
+    }
+
+    private void closeStartTag() throws XMLStreamException {
+        if (startTagOpen) {
+            if (emptyElement) {
+                write('/');
+            }
+            write('>');
+            startTagOpen = false;
+            emptyElement = false;
+        }
+    }
+
+    // Attributes and namespaces
+
+    @Override
+    public void writeAttribute(String localName, String value) throws XMLStreamException {
+        attribute(encodedName(null, localName), value);
+    }
+
+    @Override
+    public void writeAttribute(String namespaceURI, String localName, String value) throws XMLStreamException {
+        attribute(encodedName(namespaceURI, localName), value);
+    }
+
+    @Override
+    public void writeAttribute(String prefix, String namespaceURI, String localName, String value) throws XMLStreamException {
+        bind(prefix, namespaceURI);
+        attribute(encodedName(namespaceURI, localName), value);
+    }
+
+    private void attribute(byte[] qualifiedName, String value) throws XMLStreamException {
+        if (!startTagOpen) {
+            throw new XMLStreamException("Attribute written outside of a start tag");
+        }
+        write(' ');
+        write(qualifiedName);
+        write('=');
+        write('"');
+        writeEscaped(value, true);
+        write('"');
+    }
+
+    @Override
+    public void writeNamespace(String prefix, String namespaceURI) throws XMLStreamException {
+        if (prefix == null || prefix.isEmpty() || "xmlns".equals(prefix)) {
+            writeDefaultNamespace(namespaceURI);
+            return;
+        }
+        bind(prefix, namespaceURI);
+        attribute(encodedName(null, "xmlns:" + prefix), namespaceURI);
+    }
+
+    @Override
+    public void writeDefaultNamespace(String namespaceURI) throws XMLStreamException {
+        bind("", namespaceURI);
+        attribute(encodedName(null, "xmlns"), namespaceURI);
+    }
+
+    @Override
+    public String getPrefix(String uri) {
+        return prefixByNamespace.get(uri);
+    }
+
+    @Override
+    public void setPrefix(String prefix, String uri) {
+        bind(prefix, uri);
+    }
+
+    @Override
+    public void setDefaultNamespace(String uri) {
+        bind("", uri);
+    }
+
+    @Override
+    public void setNamespaceContext(NamespaceContext context) throws XMLStreamException {
+        throw new XMLStreamException("Setting the namespace context is not supported");
+    }
+
+    @Override
+    public NamespaceContext getNamespaceContext() {
+        return new NamespaceContext() {
+            @Override
+            public String getNamespaceURI(String prefix) {
+                return namespaceByPrefix.get(prefix);
+            }
+
+            @Override
+            public String getPrefix(String namespaceURI) {
+                return prefixByNamespace.get(namespaceURI);
+            }
+
+            @Override
+            public Iterator<String> getPrefixes(String namespaceURI) {
+                String prefix = prefixByNamespace.get(namespaceURI);
+                return prefix == null ? Collections.emptyIterator() : List.of(prefix).iterator();
+            }
+        };
+    }
+
+    private void bind(String prefix, String namespaceURI) {
+        String prefix1 = prefix == null ? "" : prefix;
+        String previous = prefixByNamespace.put(namespaceURI, prefix1);
+        namespaceByPrefix.put(prefix1, namespaceURI);
+        if (previous != null && !previous.equals(prefix1)) {
+            qualifiedNames.remove(namespaceURI);
+        }
+    }
+
+    private byte[] encodedName(String namespaceURI, String localName) throws XMLStreamException {
+        String namespaceURI1 = namespaceURI == null ? "" : namespaceURI;
+        Map<String, byte[]> names = qualifiedNames.get(namespaceURI1);
+        if (names == null) {
+            names = new HashMap<>();
+            qualifiedNames.put(namespaceURI1, names);
+        }
+        byte[] name = names.get(localName);
+        if (name == null) {
+            String prefix = namespaceURI1.isEmpty() ? "" : prefixByNamespace.get(namespaceURI1);
+            if (prefix == null) {
+                throw new XMLStreamException("No prefix bound to namespace " + namespaceURI1);
+            }
+            name = (prefix.isEmpty() ? localName : prefix + ":" + localName).getBytes(StandardCharsets.UTF_8);
+            names.put(localName, name);
+        }
+        return name;
+    }
+
+    // Content
+
+    @Override
+    public void writeCharacters(String text) throws XMLStreamException {
+        closeStartTag();
+        writeEscaped(text, false);
+        afterData();
+    }
+
+    @Override
+    public void writeCharacters(char[] text, int start, int len) throws XMLStreamException {
+        writeCharacters(new String(text, start, len));
+    }
+
+    @Override
+    public void writeCData(String data) throws XMLStreamException {
+        closeStartTag();
+        writeAscii("<![CDATA[");
+        writeUtf8(data);
+        writeAscii("]]>");
+        afterData();
+    }
+
+    @Override
+    public void writeComment(String data) throws XMLStreamException {
+        closeStartTag();
+        beforeMarkup();
+        writeAscii("<!--");
+        writeUtf8(data);
+        writeAscii("-->");
+        afterMarkup();
+    }
+
+    @Override
+    public void writeProcessingInstruction(String target) throws XMLStreamException {
+        writeProcessingInstruction(target, null);
+    }
+
+    @Override
+    public void writeProcessingInstruction(String target, String data) throws XMLStreamException {
+        closeStartTag();
+        beforeMarkup();
+        writeAscii("<?");
+        writeUtf8(target);
+        if (data != null) {
+            write(' ');
+            writeUtf8(data);
+        }
+        writeAscii("?>");
+        afterMarkup();
+    }
+
+    @Override
+    public void writeDTD(String dtd) throws XMLStreamException {
+        closeStartTag();
+        beforeMarkup();
+        writeUtf8(dtd);
+        afterMarkup();
+    }
+
+    @Override
+    public void writeEntityRef(String name) throws XMLStreamException {
+        closeStartTag();
+        write('&');
+        writeUtf8(name);
+        write(';');
+        afterData();
+    }
+
+    @Override
+    public Object getProperty(String name) {
+        throw new IllegalArgumentException("Property " + name + " is not supported");
+    }
+
+    @Override
+    public void flush() throws XMLStreamException {
+        try {
+            os.write(buffer, 0, position);
+            position = 0;
+            os.flush();
+        } catch (IOException e) {
+            throw new XMLStreamException(e);
+        }
+    }
+
+    @Override
+    public void close() throws XMLStreamException {
+        // As other stream writers, do not close the underlying output stream
+        flush();
+    }
+
+    // Indentation, new lines are written before markup unless data has been written in the current element
+
+    private void beforeMarkup() throws XMLStreamException {
+        int soFar = stack[depth];
+        if ((soFar & WROTE_DATA) == 0 && (depth > 0 || soFar != 0)) {
+            newLine(depth);
+            if (depth > 0 && indent.length > 0) {
+                afterMarkup();
+            }
+        }
+    }
+
+    private void afterMarkup() {
+        stack[depth] |= WROTE_MARKUP;
+    }
+
+    private void afterData() {
+        stack[depth] |= WROTE_DATA;
+    }
+
+    private void newLine(int indentation) throws XMLStreamException {
+        closeStartTag();
+        write(NEW_LINE);
+        for (int i = 0; i < indentation; i++) {
+            write(indent);
+        }
+    }
+
+    // Encoding
+
+    private void writeEscaped(String text, boolean attribute) throws XMLStreamException {
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                switch (c) {
+                    case '<' -> writeAscii("&lt;");
+                    case '>' -> writeAscii("&gt;");
+                    case '&' -> writeAscii("&amp;");
+                    case '"' -> {
+                        if (attribute) {
+                            writeAscii("&quot;");
+                        } else {
+                            write('"');
+                        }
+                    }
+                    default -> write(c);
+                }
+            } else {
+                i = writeNonAscii(text, i);
+            }
+        }
+    }
+
+    private void writeUtf8(String text) throws XMLStreamException {
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                write(c);
+            } else {
+                i = writeNonAscii(text, i);
+            }
+        }
+    }
+
+    /**
+     * Write the UTF-8 encoding of the non ASCII character at the given index, return the index of its last char.
+     */
+    private int writeNonAscii(String text, int i) throws XMLStreamException {
+        char c = text.charAt(i);
+        if (c < 0x800) {
+            write(0xC0 | (c >> 6));
+            write(0x80 | (c & 0x3F));
+            return i;
+        }
+        if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+            int codePoint = Character.toCodePoint(c, text.charAt(i + 1));
+            write(0xF0 | (codePoint >> 18));
+            write(0x80 | ((codePoint >> 12) & 0x3F));
+            write(0x80 | ((codePoint >> 6) & 0x3F));
+            write(0x80 | (codePoint & 0x3F));
+            return i + 1;
+        }
+        if (Character.isSurrogate(c)) {
+            throw new XMLStreamException("Invalid surrogate character in " + text);
+        }
+        write(0xE0 | (c >> 12));
+        write(0x80 | ((c >> 6) & 0x3F));
+        write(0x80 | (c & 0x3F));
+        return i;
+    }
+
+    private void writeAscii(String text) throws XMLStreamException {
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            write(text.charAt(i));
+        }
+    }
+
+    private void write(int b) throws XMLStreamException {
+        if (position == buffer.length) {
+            drain();
+        }
+        buffer[position++] = (byte) b;
+    }
+
+    private void write(byte[] bytes) throws XMLStreamException {
+        if (position + bytes.length > buffer.length) {
+            drain();
+            if (bytes.length > buffer.length) {
+                try {
+                    os.write(bytes);
+                } catch (IOException e) {
+                    throw new XMLStreamException(e);
+                }
+                return;
+            }
+        }
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void drain() throws XMLStreamException {
+        try {
+            os.write(buffer, 0, position);
+            position = 0;
+        } catch (IOException e) {
+            throw new XMLStreamException(e);
+        }
+    }
+}
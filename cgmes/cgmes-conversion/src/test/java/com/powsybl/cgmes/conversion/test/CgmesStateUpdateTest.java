@@ -0,0 +1,203 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.cgmes.conversion.test;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.powsybl.cgmes.conformity.CgmesConformity1Catalog;
+import com.powsybl.cgmes.conversion.CgmesStateUpdate;
+import com.powsybl.cgmes.conversion.Conversion;
+import com.powsybl.cgmes.extensions.CgmesTapChangers;
+import com.powsybl.cgmes.extensions.CgmesTapChangersAdder;
+import com.powsybl.cgmes.model.CgmesModelException;
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
+import com.powsybl.commons.datasource.ReadOnlyMemDataSource;
+import com.powsybl.commons.datasource.ResourceDataSource;
+import com.powsybl.commons.datasource.ResourceSet;
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+
+import static com.powsybl.cgmes.conversion.test.ConversionUtil.networkModel;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class CgmesStateUpdateTest {
+
+    private static final String UPDATED = "updated";
+
+    private static final String HEADER = """
+        <?xml version="1.0" encoding="UTF-8"?>
+        <rdf:RDF xmlns:cim="http://iec.ch/TC57/2013/CIM-schema-cim16#" xmlns:md="http://iec.ch/TC57/61970-552/ModelDescription/1#" xmlns:rdf="http://www.w3.org/1999/02/22-rdf-syntax-ns#">
+          <md:FullModel rdf:about="urn:uuid:model">
+            <md:Model.scenarioTime>2024-01-01T00:00:00Z</md:Model.scenarioTime>
+          </md:FullModel>
+        """;
+
+    private static final String SSH = HEADER + """
+          <cim:RatioTapChanger rdf:about="#_RTC1">
+            <cim:TapChanger.step>2</cim:TapChanger.step>
+            <cim:TapChanger.controlEnabled>false</cim:TapChanger.controlEnabled>
+          </cim:RatioTapChanger>
+          <cim:RatioTapChanger rdf:about="#_RTC2">
+            <cim:TapChanger.step>0</cim:TapChanger.step>
+          </cim:RatioTapChanger>
+          <cim:TapChangerControl rdf:about="#_RTC1_CONTROL">
+            <cim:RegulatingControl.enabled>true</cim:RegulatingControl.enabled>
+            <cim:RegulatingControl.targetValue>160</cim:RegulatingControl.targetValue>
+          </cim:TapChangerControl>
+          <cim:SynchronousMachine rdf:about="#_GEN">
+            <cim:RegulatingCondEq.controlEnabled>false</cim:RegulatingCondEq.controlEnabled>
+          </cim:SynchronousMachine>
+          <cim:RegulatingControl rdf:about="#_GEN_CONTROL">
+            <cim:RegulatingControl.enabled>true</cim:RegulatingControl.enabled>
+            <cim:RegulatingControl.targetValue>25</cim:RegulatingControl.targetValue>
+          </cim:RegulatingControl>
+          <cim:Terminal rdf:about="#_LOAD_T">
+            <cim:ACDCTerminal.connected>false</cim:ACDCTerminal.connected>
+          </cim:Terminal>
+          <cim:EnergySource rdf:about="#_ES">
+            <cim:EnergySource.activePower>0</cim:EnergySource.activePower>
+          </cim:EnergySource>
+        </rdf:RDF>
+        """;
+
+    private static final String SV = HEADER + """
+          <cim:SvTapStep rdf:ID="_SV_RTC2">
+            <cim:SvTapStep.position>1</cim:SvTapStep.position>
+            <cim:SvTapStep.TapChanger rdf:resource="#_RTC2"/>
+          </cim:SvTapStep>
+        </rdf:RDF>
+        """;
+
+    @Test
+    void microGridBaseCaseBE() {
+        Conversion.Config config = new Conversion.Config();
+        Network expected = networkModel(CgmesConformity1Catalog.microGridBaseCaseBE(), config);
+        Network network = networkModel(CgmesConformity1Catalog.microGridBaseCaseBE(), config);
+
+        // Alter the state of the initial variant
+        network.getLoads().forEach(l -> l.setP0(0.0).setQ0(0.0));
+        network.getGenerators().forEach(g -> g.setTargetP(0.0));
+        network.getBusView().getBuses().forEach(b -> b.setV(Double.NaN).setAngle(Double.NaN));
+        network.getTwoWindingsTransformers().forEach(t -> t.getOptionalRatioTapChanger()
+            .ifPresent(rtc -> rtc.setTapPosition(rtc.getLowTapPosition())));
+
+        ReadOnlyDataSource ds = CgmesConformity1Catalog.microGridBaseCaseBE().dataSource();
+        new CgmesStateUpdate(network).update(ds, UPDATED);
+
+        assertEquals(UPDATED, network.getVariantManager().getWorkingVariantId());
+        for (Load load : expected.getLoads()) {
+            assertEquals(load.getP0(), network.getLoad(load.getId()).getP0(), 1e-10);
+            assertEquals(load.getQ0(), network.getLoad(load.getId()).getQ0(), 1e-10);
+        }
+        for (Generator generator : expected.getGenerators()) {
+            assertEquals(generator.getTargetP(), network.getGenerator(generator.getId()).getTargetP(), 1e-10);
+            assertEquals(generator.getTargetQ(), network.getGenerator(generator.getId()).getTargetQ(), 1e-10);
+            assertEquals(generator.getTerminal().getP(), network.getGenerator(generator.getId()).getTerminal().getP(), 1e-10);
+        }
+        for (TwoWindingsTransformer twt : expected.getTwoWindingsTransformers()) {
+            twt.getOptionalRatioTapChanger().ifPresent(rtc -> assertEquals(rtc.getTapPosition(),
+                network.getTwoWindingsTransformer(twt.getId()).getRatioTapChanger().getTapPosition()));
+            assertEquals(twt.getTerminal1().getP(), network.getTwoWindingsTransformer(twt.getId()).getTerminal1().getP(), 1e-10);
+        }
+        for (Bus bus : expected.getBusBreakerView().getBuses()) {
+            assertEquals(bus.getV(), network.getBusBreakerView().getBus(bus.getId()).getV(), 1e-10);
+            assertEquals(bus.getAngle(), network.getBusBreakerView().getBus(bus.getId()).getAngle(), 1e-10);
+        }
+
+        // The initial variant is left untouched
+        network.getVariantManager().setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        network.getLoads().forEach(l -> assertEquals(0.0, l.getP0()));
+    }
+
+    @Test
+    void noStateProfiles() {
+        Network network = networkModel(CgmesConformity1Catalog.microGridBaseCaseBE(), new Conversion.Config());
+        ReadOnlyDataSource ds = new ResourceDataSource("MicroGridTestConfiguration_BC_BE_v2",
+            new ResourceSet("/conformity/cas-1.1.3-data-4.0.3/MicroGrid/BaseCase/CGMES_v2.4.15_MicroGridTestConfiguration_BC_BE_v2/",
+                "MicroGridTestConfiguration_BC_BE_EQ_V2.xml"));
+        CgmesStateUpdate update = new CgmesStateUpdate(network);
+        assertThrows(CgmesModelException.class, () -> update.update(ds, UPDATED));
+    }
+
+    @Test
+    void handBuiltNetwork() {
+        Network network = createNetwork();
+        ReadOnlyMemDataSource ds = new ReadOnlyMemDataSource("case");
+        ds.putData("case_SSH.xml", SSH.strip().getBytes(StandardCharsets.UTF_8));
+        ds.putData("case_SV.xml", SV.strip().getBytes(StandardCharsets.UTF_8));
+
+        ListAppender<ILoggingEvent> logWatcher = new ListAppender<>();
+        logWatcher.start();
+        ((Logger) LoggerFactory.getLogger(CgmesStateUpdate.class)).addAppender(logWatcher);
+        try {
+            new CgmesStateUpdate(network)
+                .setProfileForShuntSectionsTapPositions(Conversion.Config.StateProfile.SV)
+                .update(ds, UPDATED);
+        } finally {
+            ((Logger) LoggerFactory.getLogger(CgmesStateUpdate.class)).detachAppender(logWatcher);
+        }
+
+        // SV is preferred: it gives the position of RTC2, SSH is used for RTC1 that is missing in SV
+        RatioTapChanger rtc1 = network.getTwoWindingsTransformer(EurostagTutorialExample1Factory.NHV2_NLOAD).getRatioTapChanger();
+        RatioTapChanger rtc2 = network.getTwoWindingsTransformer(EurostagTutorialExample1Factory.NGEN_NHV1).getRatioTapChanger();
+        assertEquals(2, rtc1.getTapPosition());
+        assertEquals(1, rtc2.getTapPosition());
+
+        // Regulation
+        assertFalse(rtc1.isRegulating());
+        assertEquals(160.0, rtc1.getTargetV(), 0.0);
+        Generator generator = network.getGenerator("GEN");
+        assertFalse(generator.isVoltageRegulatorOn());
+        assertEquals(25.0, generator.getTargetV(), 0.0);
+
+        // Connection status
+        assertFalse(network.getLoad("LOAD").getTerminal().isConnected());
+
+        // Classes not considered are reported
+        assertTrue(logWatcher.list.stream().anyMatch(e -> e.getLevel() == Level.WARN
+            && e.getFormattedMessage().contains("{EnergySource=1}")));
+
+        // The initial variant is left untouched
+        network.getVariantManager().setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        assertEquals(1, rtc1.getTapPosition());
+        assertTrue(rtc1.isRegulating());
+        assertTrue(generator.isVoltageRegulatorOn());
+        assertTrue(network.getLoad("LOAD").getTerminal().isConnected());
+    }
+
+    private static Network createNetwork() {
+        Network network = EurostagTutorialExample1Factory.create();
+        TwoWindingsTransformer nhv2Nload = network.getTwoWindingsTransformer(EurostagTutorialExample1Factory.NHV2_NLOAD);
+        nhv2Nload.addAlias("RTC1", Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + "RatioTapChanger1");
+        nhv2Nload.newExtension(CgmesTapChangersAdder.class).add();
+        nhv2Nload.getExtension(CgmesTapChangers.class).newTapChanger()
+            .setId("RTC1")
+            .setControlId("RTC1_CONTROL")
+            .add();
+        TwoWindingsTransformer ngenNhv1 = network.getTwoWindingsTransformer(EurostagTutorialExample1Factory.NGEN_NHV1);
+        ngenNhv1.newRatioTapChanger()
+            .beginStep().setRho(0.9).setR(0.0).setX(0.0).setG(0.0).setB(0.0).endStep()
+            .beginStep().setRho(1.0).setR(0.0).setX(0.0).setG(0.0).setB(0.0).endStep()
+            .setTapPosition(0)
+            .setLoadTapChangingCapabilities(false)
+            .add();
+        ngenNhv1.addAlias("RTC2", Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + "RatioTapChanger1");
+        network.getGenerator("GEN").setProperty(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + "RegulatingControl", "GEN_CONTROL");
+        network.getLoad("LOAD").addAlias("LOAD_T", Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + "Terminal1");
+        return network;
+    }
+}
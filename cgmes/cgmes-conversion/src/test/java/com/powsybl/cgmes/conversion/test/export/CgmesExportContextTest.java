@@ -12,10 +12,14 @@ import com.powsybl.cgmes.conversion.export.CgmesExportContext;
 import com.powsybl.cgmes.extensions.CgmesTopologyKind;
 import com.powsybl.cgmes.extensions.CimCharacteristicsAdder;
 import com.powsybl.cgmes.model.CgmesNamespace;
+import com.powsybl.commons.datasource.MemDataSource;
+import com.powsybl.commons.report.ReportNode;
 import com.powsybl.iidm.network.*;
 import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import java.nio.charset.StandardCharsets;
 import java.time.ZonedDateTime;
 import java.time.Duration;
+import java.util.Properties;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -85,4 +89,134 @@ class CgmesExportContextTest {
         assertTrue(context.exportBoundaryPowerFlows());
         assertEquals("2D", context.getBusinessProcess());
     }
+
+    @Test
+    void trackNetworkChanges() {
+        Network network = EurostagTutorialExample1Factory.create();
+        CgmesExportContext context = new CgmesExportContext(network).trackNetworkChanges(network);
+        assertTrue(context.isTrackingNetworkChanges());
+
+        network.getVoltageLevel("VLGEN").newGenerator()
+            .setId("GEN3")
+            .setBus("NGEN")
+            .setMinP(0.0)
+            .setMaxP(100.0)
+            .setTargetP(10.0)
+            .setTargetV(24.5)
+            .setVoltageRegulatorOn(true)
+            .add();
+        Generator gen3 = network.getGenerator("GEN3");
+        assertTrue(gen3.getAliasFromType("CGMES.Terminal1").isEmpty());
+        assertNull(gen3.getProperty("CGMES.GeneratingUnit"));
+
+        // Only the new generator is mapped
+        context.updateIidmMappings(network);
+        assertTrue(gen3.getAliasFromType("CGMES.Terminal1").isPresent());
+        assertNotNull(gen3.getProperty("CGMES.GeneratingUnit"));
+        assertNotNull(gen3.getProperty("CGMES.RegulatingControl"));
+
+        context.stopTrackingNetworkChanges(network);
+        assertFalse(context.isTrackingNetworkChanges());
+        network.getVoltageLevel("VLGEN").newLoad()
+            .setId("LOAD2")
+            .setBus("NGEN")
+            .setP0(1.0)
+            .setQ0(0.0)
+            .add();
+        context.updateIidmMappings(network);
+        assertTrue(network.getLoad("LOAD2").getAliasFromType("CGMES.Terminal1").isEmpty());
+    }
+
+    @Test
+    void trackRemovedIdentifiables() {
+        Network network = EurostagTutorialExample1Factory.create();
+        CgmesExportContext context = new CgmesExportContext(network).trackNetworkChanges(network);
+        context.setFictitiousContainerFor(network.getLoad("LOAD"), "container");
+        assertEquals("container", context.getFictitiousContainerFor(network.getLoad("LOAD")));
+
+        // A new load with the identifier of a removed one does not get its data
+        network.getLoad("LOAD").remove();
+        network.getVoltageLevel("VLLOAD").newLoad()
+            .setId("LOAD")
+            .setBus("NLOAD")
+            .setP0(1.0)
+            .setQ0(0.0)
+            .add();
+        context.updateIidmMappings(network);
+        assertNull(context.getFictitiousContainerFor(network.getLoad("LOAD")));
+        assertTrue(network.getLoad("LOAD").getAliasFromType("CGMES.Terminal1").isPresent());
+        context.stopTrackingNetworkChanges(network);
+    }
+
+    @Test
+    void trackSubnetworkChanges() {
+        Network network = Network.create("cgm", "test");
+        Network subnetwork = network.createSubnetwork("igm", "igm", "test");
+        VoltageLevel vl = subnetwork.newSubstation().setId("S").add()
+            .newVoltageLevel().setId("VL").setNominalV(400.0).setTopologyKind(TopologyKind.BUS_BREAKER).add();
+        vl.getBusBreakerView().newBus().setId("B").add();
+        Load load = vl.newLoad().setId("L").setBus("B").setP0(1.0).setQ0(0.0).add();
+        CgmesExportContext context = new CgmesExportContext(network).trackNetworkChanges(network);
+        String terminal = load.getAliasFromType("CGMES.Terminal1").orElseThrow();
+
+        // The mappings of a subnetwork are only added at its first export
+        load.removeAlias(terminal);
+        context.addSubnetworkIidmMappings(subnetwork);
+        assertEquals(terminal, load.getAliasFromType("CGMES.Terminal1").orElse(null));
+        load.removeAlias(terminal);
+        context.addSubnetworkIidmMappings(subnetwork);
+        assertTrue(load.getAliasFromType("CGMES.Terminal1").isEmpty());
+
+        // They are then updated from the changes of the network
+        load.setP0(2.0);
+        context.updateIidmMappings(network);
+        assertEquals(terminal, load.getAliasFromType("CGMES.Terminal1").orElse(null));
+
+        // Without tracking, they are always added
+        context.stopTrackingNetworkChanges(network);
+        load.removeAlias(terminal);
+        context.addSubnetworkIidmMappings(subnetwork);
+        assertEquals(terminal, load.getAliasFromType("CGMES.Terminal1").orElse(null));
+    }
+
+    @Test
+    void reuseContextForConsecutiveExports() {
+        Network network = EurostagTutorialExample1Factory.create();
+        Properties parameters = new Properties();
+        parameters.put(CgmesExport.PROFILES, "SSH,SV");
+        CgmesExport exporter = new CgmesExport();
+        CgmesExportContext context = exporter.createContext(network, parameters, ReportNode.NO_OP).trackNetworkChanges(network);
+
+        MemDataSource dataSource1 = new MemDataSource();
+        exporter.export(network, parameters, dataSource1, context);
+
+        // Removing aliases is not notified: it allows checking which identifiables are mapped again
+        Load load = network.getLoad("LOAD");
+        String loadTerminal = load.getAliasFromType("CGMES.Terminal1").orElseThrow();
+        load.removeAlias(loadTerminal);
+        TwoWindingsTransformer twt = network.getTwoWindingsTransformer(EurostagTutorialExample1Factory.NGEN_NHV1);
+        String twtTerminal = twt.getAliasFromType("CGMES.Terminal1").orElseThrow();
+        twt.removeAlias(twtTerminal);
+
+        // Changes of state attributes (flows) are not tracked, only the load is marked as modified
+        load.setP0(123.4);
+        twt.getTerminal1().setP(10.0).setQ(1.0);
+        context.updateIidmMappings(network);
+        assertEquals(loadTerminal, load.getAliasFromType("CGMES.Terminal1").orElse(null));
+        assertTrue(twt.getAliasFromType("CGMES.Terminal1").isEmpty());
+
+        // Modified identifiables are only mapped again once
+        load.removeAlias(loadTerminal);
+        context.updateIidmMappings(network);
+        assertTrue(load.getAliasFromType("CGMES.Terminal1").isEmpty());
+        load.addAlias(loadTerminal, "CGMES.Terminal1");
+        twt.addAlias(twtTerminal, "CGMES.Terminal1");
+
+        MemDataSource dataSource2 = new MemDataSource();
+        exporter.export(network, parameters, dataSource2, context);
+
+        String ssh = new String(dataSource2.getData(network.getNameOrId() + "_SSH.xml"), StandardCharsets.UTF_8);
+        assertTrue(ssh.contains("<cim:EnergyConsumer.p>123.4</cim:EnergyConsumer.p>"));
+        context.stopTrackingNetworkChanges(network);
+    }
 }
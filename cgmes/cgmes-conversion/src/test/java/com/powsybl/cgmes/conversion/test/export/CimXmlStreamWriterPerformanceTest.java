@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.cgmes.conversion.test.export;
+
+import com.powsybl.cgmes.conformity.CgmesConformity1Catalog;
+import com.powsybl.cgmes.conversion.export.*;
+import com.powsybl.cgmes.model.GridModelReference;
+import com.powsybl.commons.xml.XmlUtil;
+import com.powsybl.iidm.network.Network;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compare the time and the heap allocated to export the EQ, SSH and SV profiles of conformity cases with an indenting
+ * writer and with a {@link CimXmlStreamWriter}. Results are only logged.
+ *
+ * <p>This benchmark is not part of the default test run, it is enabled with {@code -Dpowsybl.benchmarks=true}.</p>
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Tag("benchmarks")
+@EnabledIfSystemProperty(named = "powsybl.benchmarks", matches = "true")
+class CimXmlStreamWriterPerformanceTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CimXmlStreamWriterPerformanceTest.class);
+
+    private static final int WARM_UP_ITERATIONS = 5;
+
+    private static final int ITERATIONS = 10;
+
+    @Test
+    void microGridBaseCaseBE() throws XMLStreamException {
+        compare(CgmesConformity1Catalog.microGridBaseCaseBE());
+    }
+
+    @Test
+    void smallNodeBreaker() throws XMLStreamException {
+        compare(CgmesConformity1Catalog.smallNodeBreaker());
+    }
+
+    private static void compare(GridModelReference gm) throws XMLStreamException {
+        Network network = Network.read(gm.dataSource());
+        compare(gm, "EQ", network, (w, c) -> EquipmentExport.write(network, w, c));
+        compare(gm, "SSH", network, (w, c) -> SteadyStateHypothesisExport.write(network, w, c));
+        compare(gm, "SV", network, (w, c) -> StateVariablesExport.write(network, w, c));
+    }
+
+    private static void compare(GridModelReference gm, String profile, Network network,
+                                BiConsumer<XMLStreamWriter, CgmesExportContext> export) throws XMLStreamException {
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            measure(network, export, false);
+            measure(network, export, true);
+        }
+        long[] indenting = new long[2];
+        long[] cimXml = new long[2];
+        for (int i = 0; i < ITERATIONS; i++) {
+            add(indenting, measure(network, export, false));
+            add(cimXml, measure(network, export, true));
+        }
+        LOG.info("{} {} export: indenting writer {} ms, {} KB allocated, CIM/XML writer {} ms, {} KB allocated",
+            gm.name(), profile,
+            indenting[0] / ITERATIONS / 1_000_000, indenting[1] / ITERATIONS / 1024,
+            cimXml[0] / ITERATIONS / 1_000_000, cimXml[1] / ITERATIONS / 1024);
+    }
+
+    private static void add(long[] total, long[] measure) {
+        total[0] += measure[0];
+        total[1] += measure[1];
+    }
+
+    /**
+     * @return the time in nanoseconds and the number of bytes allocated by the export.
+     */
+    private static long[] measure(Network network, BiConsumer<XMLStreamWriter, CgmesExportContext> export, boolean cimXmlWriter) throws XMLStreamException {
+        CountingOutputStream os = new CountingOutputStream();
+        // Export contexts are created outside of the measure, only the writing of the profile is compared
+        CgmesExportContext context = new CgmesExportContext(network);
+        long allocated0 = allocatedBytes();
+        long t0 = System.nanoTime();
+        XMLStreamWriter writer = cimXmlWriter ? CimXmlStreamWriter.create(os) : XmlUtil.initializeWriter(true, "    ", os);
+        export.accept(writer, context);
+        writer.close();
+        long t1 = System.nanoTime();
+        long allocated1 = allocatedBytes();
+        assertTrue(os.count > 0);
+        return new long[] {t1 - t0, allocated1 - allocated0};
+    }
+
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean) {
+            return threadMXBean.getCurrentThreadAllocatedBytes();
+        }
+        return 0;
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count = 0;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.cgmes.conversion.test.export;
+
+import com.powsybl.cgmes.conformity.CgmesConformity1Catalog;
+import com.powsybl.cgmes.conversion.export.*;
+import com.powsybl.cgmes.model.GridModelReference;
+import com.powsybl.commons.xml.XmlUtil;
+import com.powsybl.iidm.network.Network;
+import org.junit.jupiter.api.Test;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class CimXmlStreamWriterTest {
+
+    @Test
+    void sameOutputAsIndentingWriter() throws XMLStreamException {
+        GridModelReference gm = CgmesConformity1Catalog.microGridBaseCaseBE();
+        Network network = Network.read(gm.dataSource());
+        checkSameOutput(network, (w, c) -> EquipmentExport.write(network, w, c));
+        checkSameOutput(network, (w, c) -> TopologyExport.write(network, w, c));
+        checkSameOutput(network, (w, c) -> SteadyStateHypothesisExport.write(network, w, c));
+        checkSameOutput(network, (w, c) -> StateVariablesExport.write(network, w, c));
+    }
+
+    @Test
+    void escaping() throws XMLStreamException {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        XMLStreamWriter writer = CimXmlStreamWriter.create(os);
+        writer.setPrefix("cim", "http://cim#");
+        writer.writeStartElement("http://cim#", "Name");
+        writer.writeNamespace("cim", "http://cim#");
+        writer.writeAttribute("id", "a\"<&b");
+        writer.writeCharacters("Ñ<>&\"😀");
+        writer.writeEndDocument();
+        String expected = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<cim:Name xmlns:cim=\"http://cim#\" id=\"a&quot;&lt;&amp;b\">Ñ&lt;&gt;&amp;\"😀</cim:Name>\n";
+        assertEquals(expected, os.toString(StandardCharsets.UTF_8));
+    }
+
+    private static void checkSameOutput(Network network, BiConsumer<XMLStreamWriter, CgmesExportContext> export) throws XMLStreamException {
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        // Export once, sending every event to both writers, exports contain random identifiers
+        XMLStreamWriter writer = both(XmlUtil.initializeWriter(true, "    ", expected), CimXmlStreamWriter.create(actual));
+        export.accept(writer, new CgmesExportContext(network));
+        writer.flush();
+        assertEquals(expected.toString(StandardCharsets.UTF_8), actual.toString(StandardCharsets.UTF_8));
+    }
+
+    private static XMLStreamWriter both(XMLStreamWriter writer1, XMLStreamWriter writer2) {
+        return (XMLStreamWriter) Proxy.newProxyInstance(XMLStreamWriter.class.getClassLoader(), new Class<?>[] {XMLStreamWriter.class},
+            (proxy, method, args) -> {
+                invoke(writer2, method, args);
+                return invoke(writer1, method, args);
+            });
+    }
+
+    private static Object invoke(XMLStreamWriter writer, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(writer, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
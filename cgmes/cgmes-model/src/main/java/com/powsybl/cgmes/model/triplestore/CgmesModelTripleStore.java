@@ -26,11 +26,11 @@ import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoField;
 import java.time.temporal.TemporalAccessor;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Objects;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -616,16 +616,38 @@ public class CgmesModelTripleStore extends AbstractCgmesModel {
             LOG.warn("Query [{}] not found in catalog", name);
             return new PropertyBags();
         }
+        NamedQueryStatistics stats;
+        synchronized (queryStatistics) {
+            stats = queryStatistics.computeIfAbsent(name, NamedQueryStatistics::new);
+        }
+        // The modification count is read before the query, so that results of a query run during a modification
+        // are cached with the count before the modification, and are never taken from the cache
+        long modificationCount = tripleStore.getModificationCount();
+        boolean cacheable = modificationCount >= 0 && cachedQueries.contains(name);
+        String cacheKey = cacheable ? cacheKey(name, params) : null;
+        if (cacheable) {
+            CachedQueryResult cached = cachedQueryResults.get(cacheKey);
+            if (cached != null && cached.modificationCount() == modificationCount) {
+                stats.addCacheHit();
+                return cached.results();
+            }
+        }
         // Optimization hint: Now we do the parameter injection by ourselves,
         // to maintain independence of the triple store engine,
         // instead of using native query parameters
         queryText = injectParams(queryText, params);
-        final long t0 = System.currentTimeMillis();
+        final long t0 = System.nanoTime();
         PropertyBags r = query(queryText);
-        final long t1 = System.currentTimeMillis();
+        final long t1 = System.nanoTime();
+        stats.addExecution(t1 - t0, r.size());
         if (LOG.isDebugEnabled()) {
             LOG.debug("results query {}{}{}", name, System.lineSeparator(), r.tabulateLocals());
-            LOG.debug("dt query {} {} ms, result set size = {}", name, t1 - t0, r.size());
+            LOG.debug("dt query {} {} ms, result set size = {}", name, (t1 - t0) / 1_000_000, r.size());
+        }
+        if (cacheable) {
+            PropertyBags results = new UnmodifiablePropertyBags(r);
+            cachedQueryResults.put(cacheKey, new CachedQueryResult(modificationCount, results));
+            return results;
         }
         return r;
     }
@@ -639,6 +661,143 @@ public class CgmesModelTripleStore extends AbstractCgmesModel {
         update(queryText);
     }
 
+    /**
+     * Define the named queries whose results are kept until the contents of the triple store change.
+     * Results are cached per query name and parameter values, and are checked against the
+     * {@link TripleStore#getModificationCount() modification count} of the triple store, so that
+     * modifications made directly on the triple store are also taken into account.
+     * Cached results are returned as unmodifiable lists of property bags shared by all callers:
+     * the property bags must not be modified.
+     */
+    public CgmesModelTripleStore setCachedQueries(Set<String> cachedQueries) {
+        this.cachedQueries = Set.copyOf(Objects.requireNonNull(cachedQueries));
+        clearCachedQueryResults();
+        return this;
+    }
+
+    public Set<String> getCachedQueries() {
+        return cachedQueries;
+    }
+
+    /**
+     * Execution statistics of the named queries run on this model, in order of first execution.
+     */
+    public Collection<NamedQueryStatistics> getQueryStatistics() {
+        synchronized (queryStatistics) {
+            return List.copyOf(queryStatistics.values());
+        }
+    }
+
+    public void printQueryStatistics(Consumer<String> liner) {
+        getQueryStatistics().forEach(s -> liner.accept(s.toString()));
+    }
+
+    /**
+     * Release the cached named query results, for instance once the conversion of the model is done.
+     */
+    public void clearCachedQueryResults() {
+        cachedQueryResults.clear();
+    }
+
+    @Override
+    protected void invalidateCaches() {
+        super.invalidateCaches();
+        clearCachedQueryResults();
+    }
+
+    private static String cacheKey(String name, String... params) {
+        return params.length == 0 ? name : name + "\0" + String.join("\0", params);
+    }
+
+    private record CachedQueryResult(long modificationCount, PropertyBags results) {
+    }
+
+    private static final class UnmodifiablePropertyBags extends PropertyBags {
+
+        private UnmodifiablePropertyBags(PropertyBags bags) {
+            super(bags);
+        }
+
+        private static UnsupportedOperationException unmodifiable() {
+            return new UnsupportedOperationException("Cached query results can not be modified");
+        }
+
+        @Override
+        public boolean add(PropertyBag bag) {
+            throw unmodifiable();
+        }
+
+        @Override
+        public void add(int index, PropertyBag bag) {
+            throw unmodifiable();
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends PropertyBag> bags) {
+            throw unmodifiable();
+        }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends PropertyBag> bags) {
+            throw unmodifiable();
+        }
+
+        @Override
+        public PropertyBag set(int index, PropertyBag bag) {
+            throw unmodifiable();
+        }
+
+        @Override
+        public PropertyBag remove(int index) {
+            throw unmodifiable();
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            throw unmodifiable();
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            throw unmodifiable();
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            throw unmodifiable();
+        }
+
+        @Override
+        public boolean removeIf(Predicate<? super PropertyBag> filter) {
+            throw unmodifiable();
+        }
+
+        @Override
+        public void replaceAll(UnaryOperator<PropertyBag> operator) {
+            throw unmodifiable();
+        }
+
+        @Override
+        public void sort(Comparator<? super PropertyBag> c) {
+            throw unmodifiable();
+        }
+
+        @Override
+        public void clear() {
+            throw unmodifiable();
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            throw unmodifiable();
+        }
+
+        @Override
+        public List<PropertyBag> subList(int fromIndex, int toIndex) {
+            return Collections.unmodifiableList(super.subList(fromIndex, toIndex));
+        }
+    }
+
     public String getCimNamespace() {
         return cimNamespace;
     }
@@ -799,6 +958,11 @@ public class CgmesModelTripleStore extends AbstractCgmesModel {
     private final TripleStore tripleStore;
     private final QueryCatalog queryCatalog;
     private Boolean nodeBreaker = null;
+    private Set<String> cachedQueries = DEFAULT_CACHED_QUERIES;
+    private final Map<String, CachedQueryResult> cachedQueryResults = new ConcurrentHashMap<>();
+    private final Map<String, NamedQueryStatistics> queryStatistics = new LinkedHashMap<>();
+
+    public static final Set<String> DEFAULT_CACHED_QUERIES = Set.of("terminals", "connectivityNodes", "topologicalNodes", "operationalLimits");
 
     private static final String MODEL_PROFILES = "modelProfiles";
     private static final String PROFILE = "profile";
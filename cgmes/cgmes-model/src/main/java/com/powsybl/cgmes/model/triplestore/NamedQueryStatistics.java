@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.cgmes.model.triplestore;
+
+import java.util.Objects;
+
+/**
+ * Execution statistics of a named query of a {@link CgmesModelTripleStore}. This class is thread-safe.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class NamedQueryStatistics {
+
+    private final String name;
+    private int executions;
+    private int cacheHits;
+    private long totalTimeNanos;
+    private long totalRows;
+
+    NamedQueryStatistics(String name) {
+        this.name = Objects.requireNonNull(name);
+    }
+
+    synchronized void addExecution(long timeNanos, int rows) {
+        executions++;
+        totalTimeNanos += timeNanos;
+        totalRows += rows;
+    }
+
+    synchronized void addCacheHit() {
+        cacheHits++;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Number of times the query has been sent to the triple store.
+     */
+    public synchronized int getExecutions() {
+        return executions;
+    }
+
+    /**
+     * Number of times the query results have been taken from the cache.
+     */
+    public synchronized int getCacheHits() {
+        return cacheHits;
+    }
+
+    public synchronized long getTotalTimeMillis() {
+        return totalTimeNanos / 1_000_000;
+    }
+
+    public synchronized long getTotalRows() {
+        return totalRows;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("%s: %d executions, %d cache hits, %d ms, %d rows",
+            name, executions, cacheHits, getTotalTimeMillis(), totalRows);
+    }
+}
@@ -7,6 +7,7 @@
  */
 package com.powsybl.contingency;
 
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.extensions.AbstractExtendable;
 import com.powsybl.contingency.contingency.list.ContingencyList;
 import com.powsybl.iidm.modification.NetworkModification;
@@ -90,6 +91,18 @@ public class Contingency extends AbstractExtendable<Contingency> {
         return new NetworkModificationList(elements.stream().map(ContingencyElement::toModification).collect(Collectors.toList()));
     }
 
+    /**
+     * Modification applying the precomputed effect of this contingency, without traversing the topology again. The
+     * effect has to be computed by a {@link ContingencyEffectCache} for the topology of the network it is applied to.
+     */
+    public NetworkModification toModification(ContingencyEffect effect) {
+        Objects.requireNonNull(effect);
+        if (!id.equals(effect.getContingencyId())) {
+            throw new PowsyblException("Effect of contingency '" + effect.getContingencyId() + "' cannot be applied for contingency '" + id + "'");
+        }
+        return effect.toModification();
+    }
+
     public boolean isValid(Network network) {
         Objects.requireNonNull(network);
         boolean valid = true;
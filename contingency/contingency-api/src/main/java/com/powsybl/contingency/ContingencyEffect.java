@@ -0,0 +1,162 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.contingency;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.computation.ComputationManager;
+import com.powsybl.iidm.modification.AbstractNetworkModification;
+import com.powsybl.iidm.modification.NetworkModification;
+import com.powsybl.iidm.modification.topology.NamingStrategy;
+import com.powsybl.iidm.network.*;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Topological effect of a contingency, precomputed by a {@link ContingencyEffectCache} for a given topology.
+ *
+ * <p>The effect is described with identifiers only, so that it can be applied to any network with the same topology,
+ * for instance the snapshots of several hours of the same day, without traversing the topology again.</p>
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class ContingencyEffect {
+
+    /**
+     * A terminal, identified by its connectable and its index in the terminals of the connectable.
+     */
+    public record TerminalRef(String connectableId, int index) {
+
+        public TerminalRef {
+            Objects.requireNonNull(connectableId);
+        }
+
+        static TerminalRef of(Terminal terminal) {
+            Connectable<?> connectable = terminal.getConnectable();
+            return new TerminalRef(connectable.getId(), connectable.getTerminals().indexOf(terminal));
+        }
+
+        Terminal resolve(Network network) {
+            Connectable<?> connectable = network.getConnectable(connectableId);
+            if (connectable == null || index < 0 || index >= connectable.getTerminals().size()) {
+                throw new PowsyblException("Terminal " + index + " of connectable '" + connectableId + "' not found");
+            }
+            return connectable.getTerminals().get(index);
+        }
+    }
+
+    private final String contingencyId;
+    private final List<String> switchIdsToOpen;
+    private final List<TerminalRef> terminalsToDisconnect;
+    private final int createdConnectedComponentCount;
+    private final int createdSynchronousComponentCount;
+    private final Set<String> disconnectedElementIds;
+
+    ContingencyEffect(String contingencyId, List<String> switchIdsToOpen, List<TerminalRef> terminalsToDisconnect,
+                      int createdConnectedComponentCount, int createdSynchronousComponentCount, Set<String> disconnectedElementIds) {
+        this.contingencyId = Objects.requireNonNull(contingencyId);
+        this.switchIdsToOpen = List.copyOf(switchIdsToOpen);
+        this.terminalsToDisconnect = List.copyOf(terminalsToDisconnect);
+        this.createdConnectedComponentCount = createdConnectedComponentCount;
+        this.createdSynchronousComponentCount = createdSynchronousComponentCount;
+        this.disconnectedElementIds = Set.copyOf(disconnectedElementIds);
+    }
+
+    public String getContingencyId() {
+        return contingencyId;
+    }
+
+    /**
+     * Switches opened by the contingency.
+     */
+    public List<String> getSwitchIdsToOpen() {
+        return switchIdsToOpen;
+    }
+
+    /**
+     * Terminals disconnected by the contingency.
+     */
+    public List<TerminalRef> getTerminalsToDisconnect() {
+        return terminalsToDisconnect;
+    }
+
+    /**
+     * Number of connected components created by the contingency.
+     */
+    public int getCreatedConnectedComponentCount() {
+        return createdConnectedComponentCount;
+    }
+
+    /**
+     * Number of synchronous components created by the contingency.
+     */
+    public int getCreatedSynchronousComponentCount() {
+        return createdSynchronousComponentCount;
+    }
+
+    /**
+     * Connectables connected to the main connected component before the contingency, and not anymore after it.
+     */
+    public Set<String> getDisconnectedElementIds() {
+        return disconnectedElementIds;
+    }
+
+    /**
+     * Active power of the loads disconnected from the main connected component, for the current variant of a network.
+     */
+    public double getDisconnectedLoadActivePower(Network network) {
+        Objects.requireNonNull(network);
+        return disconnectedElementIds.stream()
+                .map(network::getLoad)
+                .filter(Objects::nonNull)
+                .mapToDouble(Load::getP0)
+                .sum();
+    }
+
+    /**
+     * Active power of the generators disconnected from the main connected component, for the current variant of a network.
+     */
+    public double getDisconnectedGenerationActivePower(Network network) {
+        Objects.requireNonNull(network);
+        return disconnectedElementIds.stream()
+                .map(network::getGenerator)
+                .filter(Objects::nonNull)
+                .mapToDouble(Generator::getTargetP)
+                .sum();
+    }
+
+    /**
+     * Modification opening the switches and disconnecting the terminals of the contingency.
+     */
+    public NetworkModification toModification() {
+        return new AbstractNetworkModification() {
+
+            @Override
+            public String getName() {
+                return "ContingencyEffect";
+            }
+
+            @Override
+            public void apply(Network network, NamingStrategy namingStrategy, boolean throwException, ComputationManager computationManager,
+                              ReportNode reportNode) {
+                for (String switchId : switchIdsToOpen) {
+                    Switch aSwitch = network.getSwitch(switchId);
+                    if (aSwitch == null) {
+                        throw new PowsyblException("Switch '" + switchId + "' not found");
+                    }
+                    aSwitch.setOpen(true);
+                }
+                for (TerminalRef terminalRef : terminalsToDisconnect) {
+                    terminalRef.resolve(network).disconnect();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,218 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.contingency;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.powsybl.iidm.modification.NetworkModification;
+import com.powsybl.iidm.modification.tripping.Tripping;
+import com.powsybl.iidm.network.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Cache of the topological effects of contingencies, keyed by a fingerprint of the topology of the network.
+ *
+ * <p>Compiling a contingency traverses the topology to find the switches to open and the terminals to disconnect, as
+ * applying the contingency would do, then computes from the topology only, without modifying the network, the
+ * connected components created and the elements disconnected from the main connected component. Networks with the
+ * same topology (same switches, switch positions and terminal connections), as the snapshots of several hours, share
+ * the same effects, so that each contingency is only compiled once. Within a topology, effects are keyed by the id and the elements of the
+ * contingency, so that a contingency whose elements change is compiled again.</p>
+ *
+ * <p>Contingencies with an element whose modification is not a {@link Tripping}, or opening a switch which is not a
+ * breaker before another element, cannot be compiled, and have no effect in the cache. This class is thread-safe,
+ * each topology being compiled under its own lock.</p>
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class ContingencyEffectCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContingencyEffectCache.class);
+
+    public static final int DEFAULT_MAX_TOPOLOGY_COUNT = 4;
+
+    private record EffectKey(String contingencyId, List<ContingencyElement> elements) {
+
+        private static EffectKey of(Contingency contingency) {
+            return new EffectKey(contingency.getId(), List.copyOf(contingency.getElements()));
+        }
+    }
+
+    private static final class TopologyEffects {
+
+        private final Map<EffectKey, ContingencyEffect> effects = new HashMap<>();
+    }
+
+    private final Map<String, TopologyEffects> effectsByFingerprint;
+
+    public ContingencyEffectCache() {
+        this(DEFAULT_MAX_TOPOLOGY_COUNT);
+    }
+
+    /**
+     * @param maxTopologyCount the maximum number of topologies whose effects are kept, the least recently used one
+     *                         being evicted first.
+     */
+    public ContingencyEffectCache(int maxTopologyCount) {
+        if (maxTopologyCount < 1) {
+            throw new IllegalArgumentException("Invalid max topology count: " + maxTopologyCount);
+        }
+        effectsByFingerprint = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TopologyEffects> eldest) {
+                return size() > maxTopologyCount;
+            }
+        };
+    }
+
+    /**
+     * Get the effects of contingencies on the working variant of a network, compiling the ones which are not in the
+     * cache yet for the topology of the network.
+     *
+     * @return the effects of the contingencies which can be compiled, by contingency id.
+     */
+    public Map<String, ContingencyEffect> compile(Network network, List<Contingency> contingencies) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(contingencies);
+        String fingerprint = topologyFingerprint(network);
+        TopologyEffects topologyEffects;
+        synchronized (effectsByFingerprint) {
+            topologyEffects = effectsByFingerprint.computeIfAbsent(fingerprint, k -> new TopologyEffects());
+        }
+        // contingencies of different topologies are compiled concurrently
+        synchronized (topologyEffects) {
+            Map<EffectKey, ContingencyEffect> effects = topologyEffects.effects;
+            List<Contingency> toCompile = contingencies.stream()
+                    .filter(contingency -> !effects.containsKey(EffectKey.of(contingency)))
+                    .toList();
+            if (!toCompile.isEmpty()) {
+                LOGGER.debug("Compiling {} contingencies for topology {}", toCompile.size(), fingerprint);
+                effects.putAll(compileEffects(network, toCompile));
+            }
+            Map<String, ContingencyEffect> result = new HashMap<>();
+            for (Contingency contingency : contingencies) {
+                ContingencyEffect effect = effects.get(EffectKey.of(contingency));
+                if (effect != null) {
+                    result.put(contingency.getId(), effect);
+                }
+            }
+            return result;
+        }
+    }
+
+    public void clear() {
+        synchronized (effectsByFingerprint) {
+            effectsByFingerprint.clear();
+        }
+    }
+
+    /**
+     * Fingerprint of the topology of the working variant of a network: the switches and their position, the internal
+     * connections, and the connection of the terminals.
+     */
+    public static String topologyFingerprint(Network network) {
+        Objects.requireNonNull(network);
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        for (VoltageLevel voltageLevel : network.getVoltageLevels()) {
+            hasher.putString(voltageLevel.getId(), StandardCharsets.UTF_8)
+                    .putInt(voltageLevel.getTopologyKind().ordinal());
+            if (voltageLevel.getTopologyKind() == TopologyKind.NODE_BREAKER) {
+                VoltageLevel.NodeBreakerView view = voltageLevel.getNodeBreakerView();
+                for (Switch aSwitch : view.getSwitches()) {
+                    hasher.putString(aSwitch.getId(), StandardCharsets.UTF_8)
+                            .putInt(view.getNode1(aSwitch.getId()))
+                            .putInt(view.getNode2(aSwitch.getId()))
+                            .putInt(aSwitch.getKind().ordinal())
+                            .putBoolean(aSwitch.isOpen())
+                            .putBoolean(aSwitch.isFictitious());
+                }
+                view.getInternalConnections().forEach(internalConnection -> hasher.putInt(internalConnection.getNode1())
+                        .putInt(internalConnection.getNode2()));
+            } else {
+                VoltageLevel.BusBreakerView view = voltageLevel.getBusBreakerView();
+                for (Switch aSwitch : view.getSwitches()) {
+                    hasher.putString(aSwitch.getId(), StandardCharsets.UTF_8)
+                            .putString(view.getBus1(aSwitch.getId()).getId(), StandardCharsets.UTF_8)
+                            .putString(view.getBus2(aSwitch.getId()).getId(), StandardCharsets.UTF_8)
+                            .putBoolean(aSwitch.isOpen());
+                }
+            }
+        }
+        for (Connectable<?> connectable : network.getConnectables()) {
+            hasher.putString(connectable.getId(), StandardCharsets.UTF_8);
+            for (Terminal terminal : connectable.getTerminals()) {
+                hasher.putBoolean(terminal.isConnected());
+                if (terminal.getVoltageLevel().getTopologyKind() == TopologyKind.NODE_BREAKER) {
+                    hasher.putInt(terminal.getNodeBreakerView().getNode());
+                } else {
+                    hasher.putString(terminal.getBusBreakerView().getConnectableBus().getId(), StandardCharsets.UTF_8);
+                }
+            }
+        }
+        return hasher.hash().toString();
+    }
+
+    private static Map<EffectKey, ContingencyEffect> compileEffects(Network network, List<Contingency> contingencies) {
+        Map<EffectKey, ContingencyEffect> effects = new HashMap<>();
+        ContingencyTopology topology = new ContingencyTopology(network);
+        ContingencyTopology.Components components = topology.computeComponents(Set.of(), Set.of());
+        for (Contingency contingency : contingencies) {
+            Set<Switch> switchesToOpen = new LinkedHashSet<>();
+            Set<Terminal> terminalsToDisconnect = new LinkedHashSet<>();
+            if (!traverse(network, contingency, switchesToOpen, terminalsToDisconnect)) {
+                continue;
+            }
+            ContingencyTopology.Components postContingencyComponents = topology.computeComponents(switchesToOpen, terminalsToDisconnect);
+            Set<String> disconnectedElementIds = new HashSet<>(components.mainComponentConnectableIds());
+            disconnectedElementIds.removeAll(postContingencyComponents.mainComponentConnectableIds());
+            effects.put(EffectKey.of(contingency), new ContingencyEffect(contingency.getId(),
+                    switchesToOpen.stream().map(Identifiable::getId).toList(),
+                    terminalsToDisconnect.stream().map(ContingencyEffect.TerminalRef::of).toList(),
+                    Math.max(0, postContingencyComponents.connectedComponentCount() - components.connectedComponentCount()),
+                    Math.max(0, postContingencyComponents.synchronousComponentCount() - components.synchronousComponentCount()),
+                    disconnectedElementIds));
+        }
+        return effects;
+    }
+
+    /**
+     * Traverse the elements of a contingency one after the other, as {@link Contingency#toModification()} applies
+     * them. A switch or a terminal is reported by the first element reaching it: the switches opened and the terminals
+     * disconnected by the previous elements end the traversal of the next ones, as the openable breakers and the
+     * bus/breaker terminals they are.
+     */
+    private static boolean traverse(Network network, Contingency contingency, Set<Switch> switchesToOpen, Set<Terminal> terminalsToDisconnect) {
+        for (ContingencyElement element : contingency.getElements()) {
+            NetworkModification modification = element.toModification();
+            if (!(modification instanceof Tripping tripping) || network.getIdentifiable(element.getId()) == null) {
+                LOGGER.debug("Contingency '{}' cannot be compiled", contingency.getId());
+                return false;
+            }
+            if (switchesToOpen.stream().anyMatch(ContingencyEffectCache::isTraversable)) {
+                // a switch opened by a previous element would not end the traversal on the unmodified network
+                LOGGER.debug("Contingency '{}' cannot be compiled, it opens a switch which is not a breaker before tripping '{}'",
+                        contingency.getId(), element.getId());
+                return false;
+            }
+            Set<Switch> elementSwitchesToOpen = new LinkedHashSet<>();
+            Set<Terminal> elementTerminalsToDisconnect = new LinkedHashSet<>();
+            tripping.traverse(network, elementSwitchesToOpen, elementTerminalsToDisconnect);
+            switchesToOpen.addAll(elementSwitchesToOpen);
+            terminalsToDisconnect.addAll(elementTerminalsToDisconnect);
+        }
+        return true;
+    }
+
+    private static boolean isTraversable(Switch aSwitch) {
+        return !aSwitch.isOpen() && (aSwitch.isFictitious() || aSwitch.getKind() != SwitchKind.BREAKER);
+    }
+}
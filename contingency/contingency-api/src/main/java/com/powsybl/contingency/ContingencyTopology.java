@@ -0,0 +1,279 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.contingency;
+
+import com.powsybl.iidm.network.*;
+
+import java.util.*;
+
+/**
+ * Connectivity of the working variant of a network, computed from its topology only: the buses of the bus view and
+ * their connected and synchronous components, before and after opening switches and disconnecting terminals, without
+ * modifying the network.
+ *
+ * <p>Buses follow the rules of the bus view: in a node/breaker voltage level a bus is valid with a busbar section and
+ * a feeder, or with a branch and two feeders, in a bus/breaker voltage level a bus is valid with a feeder. Components
+ * are linked by lines, tie lines and transformers, connected components also by HVDC lines.</p>
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class ContingencyTopology {
+
+    private static final int NONE = 0;
+    private static final int BUSBAR_SECTION = 1;
+    private static final int BRANCH = 2;
+    private static final int FEEDER = 3;
+
+    record Components(int connectedComponentCount, int synchronousComponentCount, Set<String> mainComponentConnectableIds) {
+    }
+
+    private record SwitchEdge(Switch aSwitch, int vertex1, int vertex2) {
+    }
+
+    private record TerminalVertex(Terminal terminal, int vertex, int kind, String connectableId) {
+    }
+
+    private int vertexCount = 0;
+
+    private final BitSet nodeBreakerVertices = new BitSet();
+
+    private final List<int[]> internalConnections = new ArrayList<>();
+
+    private final List<SwitchEdge> switchEdges = new ArrayList<>();
+
+    private final List<TerminalVertex> terminals = new ArrayList<>();
+
+    private final List<int[]> branches = new ArrayList<>();
+
+    private final List<int[]> hvdcLines = new ArrayList<>();
+
+    ContingencyTopology(Network network) {
+        Objects.requireNonNull(network);
+        Map<String, Integer> nodeOffsets = new HashMap<>();
+        Map<String, Integer> busVertices = new HashMap<>();
+        for (VoltageLevel voltageLevel : network.getVoltageLevels()) {
+            if (voltageLevel.getTopologyKind() == TopologyKind.NODE_BREAKER) {
+                addNodeBreakerVoltageLevel(voltageLevel, nodeOffsets);
+            } else {
+                addBusBreakerVoltageLevel(voltageLevel, busVertices);
+            }
+        }
+
+        Map<Terminal, Integer> terminalIndexes = new HashMap<>();
+        for (Connectable<?> connectable : network.getConnectables()) {
+            List<? extends Terminal> connectableTerminals = connectable.getTerminals();
+            int[] indexes = new int[connectableTerminals.size()];
+            for (int i = 0; i < indexes.length; i++) {
+                Terminal terminal = connectableTerminals.get(i);
+                indexes[i] = terminals.size();
+                terminalIndexes.put(terminal, indexes[i]);
+                terminals.add(new TerminalVertex(terminal, getVertex(terminal, nodeOffsets, busVertices),
+                        getKind(connectable.getType()), connectable.getId()));
+            }
+            if (indexes.length > 1) {
+                branches.add(indexes);
+            }
+        }
+        for (TieLine tieLine : network.getTieLines()) {
+            branches.add(new int[] {terminalIndexes.get(tieLine.getDanglingLine1().getTerminal()),
+                terminalIndexes.get(tieLine.getDanglingLine2().getTerminal())});
+        }
+        for (HvdcLine hvdcLine : network.getHvdcLines()) {
+            hvdcLines.add(new int[] {terminalIndexes.get(hvdcLine.getConverterStation1().getTerminal()),
+                terminalIndexes.get(hvdcLine.getConverterStation2().getTerminal())});
+        }
+    }
+
+    private void addNodeBreakerVoltageLevel(VoltageLevel voltageLevel, Map<String, Integer> nodeOffsets) {
+        VoltageLevel.NodeBreakerView view = voltageLevel.getNodeBreakerView();
+        int offset = vertexCount;
+        int nodeCount = Arrays.stream(view.getNodes()).max().orElse(-1) + 1;
+        nodeOffsets.put(voltageLevel.getId(), offset);
+        nodeBreakerVertices.set(offset, offset + nodeCount);
+        vertexCount += nodeCount;
+        for (Switch aSwitch : view.getSwitches()) {
+            if (!aSwitch.isOpen()) {
+                switchEdges.add(new SwitchEdge(aSwitch, offset + view.getNode1(aSwitch.getId()), offset + view.getNode2(aSwitch.getId())));
+            }
+        }
+        view.getInternalConnections().forEach(internalConnection ->
+                internalConnections.add(new int[] {offset + internalConnection.getNode1(), offset + internalConnection.getNode2()}));
+    }
+
+    private void addBusBreakerVoltageLevel(VoltageLevel voltageLevel, Map<String, Integer> busVertices) {
+        VoltageLevel.BusBreakerView view = voltageLevel.getBusBreakerView();
+        for (Bus bus : view.getBuses()) {
+            busVertices.put(bus.getId(), vertexCount++);
+        }
+        for (Switch aSwitch : view.getSwitches()) {
+            if (!aSwitch.isOpen()) {
+                switchEdges.add(new SwitchEdge(aSwitch, busVertices.get(view.getBus1(aSwitch.getId()).getId()),
+                        busVertices.get(view.getBus2(aSwitch.getId()).getId())));
+            }
+        }
+    }
+
+    private static int getVertex(Terminal terminal, Map<String, Integer> nodeOffsets, Map<String, Integer> busVertices) {
+        if (terminal.getVoltageLevel().getTopologyKind() == TopologyKind.NODE_BREAKER) {
+            return nodeOffsets.get(terminal.getVoltageLevel().getId()) + terminal.getNodeBreakerView().getNode();
+        }
+        return terminal.isConnected() ? busVertices.get(terminal.getBusBreakerView().getConnectableBus().getId()) : -1;
+    }
+
+    private static int getKind(IdentifiableType type) {
+        return switch (type) {
+            case LINE, TWO_WINDINGS_TRANSFORMER, THREE_WINDINGS_TRANSFORMER, HVDC_CONVERTER_STATION, DANGLING_LINE -> BRANCH;
+            case LOAD, GENERATOR, BATTERY, SHUNT_COMPENSATOR, STATIC_VAR_COMPENSATOR -> FEEDER;
+            case BUSBAR_SECTION -> BUSBAR_SECTION;
+            default -> NONE;
+        };
+    }
+
+    /**
+     * Components of the network once the given switches are opened and the given terminals are disconnected.
+     */
+    Components computeComponents(Set<Switch> openedSwitches, Set<Terminal> disconnectedTerminals) {
+        // buses: vertices linked by the internal connections and the switches which stay closed
+        UnionFind buses = new UnionFind(vertexCount);
+        internalConnections.forEach(edge -> buses.union(edge[0], edge[1]));
+        for (SwitchEdge edge : switchEdges) {
+            if (!openedSwitches.contains(edge.aSwitch())) {
+                buses.union(edge.vertex1(), edge.vertex2());
+            }
+        }
+
+        int[] terminalBuses = new int[terminals.size()];
+        int[] feederCounts = new int[vertexCount];
+        int[] branchCounts = new int[vertexCount];
+        int[] busbarSectionCounts = new int[vertexCount];
+        for (int i = 0; i < terminals.size(); i++) {
+            TerminalVertex terminal = terminals.get(i);
+            if (terminal.vertex() < 0 || disconnectedTerminals.contains(terminal.terminal())) {
+                terminalBuses[i] = -1;
+                continue;
+            }
+            int bus = buses.find(terminal.vertex());
+            terminalBuses[i] = bus;
+            switch (terminal.kind()) {
+                case BRANCH -> {
+                    branchCounts[bus]++;
+                    feederCounts[bus]++;
+                }
+                case FEEDER -> feederCounts[bus]++;
+                case BUSBAR_SECTION -> busbarSectionCounts[bus]++;
+                default -> {
+                    // not a feeder
+                }
+            }
+        }
+        boolean[] validBuses = new boolean[vertexCount];
+        for (int v = 0; v < vertexCount; v++) {
+            if (buses.find(v) == v) {
+                validBuses[v] = nodeBreakerVertices.get(v)
+                        ? busbarSectionCounts[v] >= 1 && feederCounts[v] >= 1 || branchCounts[v] >= 1 && feederCounts[v] >= 2
+                        : feederCounts[v] >= 1;
+            }
+        }
+        for (int i = 0; i < terminalBuses.length; i++) {
+            if (terminalBuses[i] >= 0 && !validBuses[terminalBuses[i]]) {
+                terminalBuses[i] = -1;
+            }
+        }
+
+        // components: valid buses linked by the branches
+        UnionFind connectedComponents = new UnionFind(vertexCount);
+        UnionFind synchronousComponents = new UnionFind(vertexCount);
+        for (int[] branch : branches) {
+            union(branch, terminalBuses, connectedComponents);
+            union(branch, terminalBuses, synchronousComponents);
+        }
+        for (int[] hvdcLine : hvdcLines) {
+            union(hvdcLine, terminalBuses, connectedComponents);
+        }
+
+        int[] connectedComponentSizes = new int[vertexCount];
+        boolean[] synchronousComponentFound = new boolean[vertexCount];
+        int connectedComponentCount = 0;
+        int synchronousComponentCount = 0;
+        int mainComponent = -1;
+        for (int v = 0; v < vertexCount; v++) {
+            if (!validBuses[v]) {
+                continue;
+            }
+            int connectedComponent = connectedComponents.find(v);
+            if (connectedComponentSizes[connectedComponent]++ == 0) {
+                connectedComponentCount++;
+            }
+            int synchronousComponent = synchronousComponents.find(v);
+            if (!synchronousComponentFound[synchronousComponent]) {
+                synchronousComponentFound[synchronousComponent] = true;
+                synchronousComponentCount++;
+            }
+        }
+        // the main component is the largest one, the first found in case of equality
+        for (int v = 0; v < vertexCount; v++) {
+            if (validBuses[v]) {
+                int connectedComponent = connectedComponents.find(v);
+                if (mainComponent < 0 || connectedComponentSizes[connectedComponent] > connectedComponentSizes[mainComponent]) {
+                    mainComponent = connectedComponent;
+                }
+            }
+        }
+
+        Set<String> mainComponentConnectableIds = new HashSet<>();
+        for (int i = 0; i < terminalBuses.length; i++) {
+            if (terminalBuses[i] >= 0 && connectedComponents.find(terminalBuses[i]) == mainComponent) {
+                mainComponentConnectableIds.add(terminals.get(i).connectableId());
+            }
+        }
+        return new Components(connectedComponentCount, synchronousComponentCount, mainComponentConnectableIds);
+    }
+
+    private static void union(int[] terminalIndexes, int[] terminalBuses, UnionFind components) {
+        int firstBus = -1;
+        for (int terminalIndex : terminalIndexes) {
+            int bus = terminalBuses[terminalIndex];
+            if (bus >= 0) {
+                if (firstBus < 0) {
+                    firstBus = bus;
+                } else {
+                    components.union(firstBus, bus);
+                }
+            }
+        }
+    }
+
+    private static final class UnionFind {
+
+        private final int[] parents;
+
+        private UnionFind(int size) {
+            parents = new int[size];
+            for (int i = 0; i < size; i++) {
+                parents[i] = i;
+            }
+        }
+
+        private int find(int v) {
+            int root = v;
+            while (parents[root] != root) {
+                parents[root] = parents[parents[root]];
+                root = parents[root];
+            }
+            return root;
+        }
+
+        private void union(int v1, int v2) {
+            int root1 = find(v1);
+            int root2 = find(v2);
+            if (root1 != root2) {
+                parents[root2] = root1;
+            }
+        }
+    }
+}
@@ -8,14 +8,17 @@
 package com.powsybl.contingency.contingency.list;
 
 import com.google.common.collect.ImmutableList;
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.contingency.Contingency;
 import com.powsybl.contingency.ContingencyElement;
 import com.powsybl.iidm.criteria.Criterion;
+import com.powsybl.iidm.criteria.NetworkElementIndex;
 import com.powsybl.iidm.criteria.PropertyCriterion;
 import com.powsybl.iidm.criteria.RegexCriterion;
 import com.powsybl.iidm.network.IdentifiableType;
 import com.powsybl.iidm.network.Network;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -52,6 +55,22 @@ public abstract class AbstractEquipmentCriterionContingencyList implements Conti
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Contingency> getContingencies(Network network, NetworkElementIndex index) {
+        Objects.requireNonNull(network);
+        if (index.getNetwork() != network) {
+            throw new PowsyblException("Index of network elements built for another network than '" + network.getId() + "'");
+        }
+        List<Criterion> criteria = new ArrayList<>(getPropertyCriteria().size() + 3);
+        criteria.add(getCountryCriterion());
+        criteria.add(getNominalVoltageCriterion());
+        criteria.addAll(getPropertyCriteria());
+        criteria.add(getRegexCriterion());
+        return index.filter(getIdentifiableType(), criteria).stream()
+                .map(identifiable -> new Contingency(identifiable.getId(), ContingencyElement.of(identifiable)))
+                .collect(Collectors.toList());
+    }
+
     public IdentifiableType getIdentifiableType() {
         return identifiableType;
     }
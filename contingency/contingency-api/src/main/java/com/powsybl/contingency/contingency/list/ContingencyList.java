@@ -11,6 +11,7 @@ package com.powsybl.contingency.contingency.list;
 import com.powsybl.contingency.Contingency;
 import com.powsybl.contingency.ContingencyListLoader;
 import com.powsybl.contingency.ContingencyListLoaderProvider;
+import com.powsybl.iidm.criteria.NetworkElementIndex;
 import com.powsybl.iidm.network.Network;
 import org.apache.commons.io.FilenameUtils;
 
@@ -51,6 +52,14 @@ public interface ContingencyList {
      */
     List<Contingency> getContingencies(Network network);
 
+    /**
+     * Return a list of contingency for the given network, using an index of the elements of the network shared with
+     * other contingency lists.
+     */
+    default List<Contingency> getContingencies(Network network, NetworkElementIndex index) {
+        return getContingencies(network);
+    }
+
     /**
      * Load a {@link ContingencyList} from a path
      *
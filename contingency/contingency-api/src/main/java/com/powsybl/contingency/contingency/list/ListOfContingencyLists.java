@@ -9,11 +9,15 @@ package com.powsybl.contingency.contingency.list;
 
 import com.google.common.collect.ImmutableList;
 import com.powsybl.contingency.Contingency;
+import com.powsybl.iidm.criteria.NetworkElementIndex;
 import com.powsybl.iidm.network.Network;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * @author Etienne Lesot {@literal <etienne.lesot@rte-france.com>}
@@ -41,8 +45,32 @@ public class ListOfContingencyLists implements ContingencyList {
 
     @Override
     public List<Contingency> getContingencies(Network network) {
-        return contingencyLists.stream()
-                .flatMap(contingencyList -> contingencyList.getContingencies(network).stream())
+        return getContingencies(network, new NetworkElementIndex(network));
+    }
+
+    /**
+     * Return the contingencies of all the lists, in the order of the lists. The lists share the same index of the
+     * network elements, and the criterion contingency lists, which only read the network, are evaluated in parallel,
+     * unless the working variant is local to each thread.
+     */
+    @Override
+    public List<Contingency> getContingencies(Network network, NetworkElementIndex index) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(index);
+        List<List<Contingency>> contingenciesByList = new ArrayList<>(Collections.nCopies(contingencyLists.size(), null));
+        if (!network.getVariantManager().isVariantMultiThreadAccessAllowed()) {
+            IntStream.range(0, contingencyLists.size())
+                    .filter(i -> contingencyLists.get(i) instanceof AbstractEquipmentCriterionContingencyList)
+                    .parallel()
+                    .forEach(i -> contingenciesByList.set(i, contingencyLists.get(i).getContingencies(network, index)));
+        }
+        for (int i = 0; i < contingencyLists.size(); i++) {
+            if (contingenciesByList.get(i) == null) {
+                contingenciesByList.set(i, contingencyLists.get(i).getContingencies(network, index));
+            }
+        }
+        return contingenciesByList.stream()
+                .flatMap(List::stream)
                 .collect(Collectors.toList());
     }
 
@@ -0,0 +1,167 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.contingency;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.iidm.network.test.FourSubstationsNodeBreakerFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class ContingencyEffectCacheTest {
+
+    @Test
+    void testBusBreaker() {
+        Network network = EurostagTutorialExample1Factory.create();
+        Contingency line = Contingency.line("NHV1_NHV2_1");
+        Contingency transformer = Contingency.twoWindingsTransformer("NGEN_NHV1");
+        Contingency unknown = Contingency.line("UNKNOWN");
+
+        Map<String, ContingencyEffect> effects = new ContingencyEffectCache().compile(network, List.of(line, transformer, unknown));
+        assertEquals(Set.of("NHV1_NHV2_1", "NGEN_NHV1"), effects.keySet());
+        assertEquals(List.of(VariantManagerConstants.INITIAL_VARIANT_ID), List.copyOf(network.getVariantManager().getVariantIds()));
+
+        ContingencyEffect lineEffect = effects.get("NHV1_NHV2_1");
+        assertTrue(lineEffect.getSwitchIdsToOpen().isEmpty());
+        assertEquals(List.of(new ContingencyEffect.TerminalRef("NHV1_NHV2_1", 0), new ContingencyEffect.TerminalRef("NHV1_NHV2_1", 1)),
+                lineEffect.getTerminalsToDisconnect());
+        assertEquals(0, lineEffect.getCreatedConnectedComponentCount());
+        assertEquals(Set.of("NHV1_NHV2_1"), lineEffect.getDisconnectedElementIds());
+        assertEquals(0.0, lineEffect.getDisconnectedGenerationActivePower(network));
+
+        ContingencyEffect transformerEffect = effects.get("NGEN_NHV1");
+        assertEquals(Set.of("NGEN_NHV1", "GEN"), transformerEffect.getDisconnectedElementIds());
+        assertEquals(607.0, transformerEffect.getDisconnectedGenerationActivePower(network));
+        assertEquals(0.0, transformerEffect.getDisconnectedLoadActivePower(network));
+
+        transformer.toModification(transformerEffect).apply(network);
+        assertFalse(network.getTwoWindingsTransformer("NGEN_NHV1").getTerminal1().isConnected());
+        assertFalse(network.getTwoWindingsTransformer("NGEN_NHV1").getTerminal2().isConnected());
+
+        PowsyblException e = assertThrows(PowsyblException.class, () -> line.toModification(transformerEffect));
+        assertEquals("Effect of contingency 'NGEN_NHV1' cannot be applied for contingency 'NHV1_NHV2_1'", e.getMessage());
+    }
+
+    @Test
+    void testNodeBreaker() {
+        Network network = FourSubstationsNodeBreakerFactory.create();
+        Contingency contingency = Contingency.line("LINE_S2S3");
+        ContingencyEffect effect = new ContingencyEffectCache().compile(network, List.of(contingency)).get("LINE_S2S3");
+        assertFalse(effect.getSwitchIdsToOpen().isEmpty());
+        assertTrue(effect.getTerminalsToDisconnect().isEmpty());
+
+        // the precomputed effect and the contingency open the same switches
+        Network expected = FourSubstationsNodeBreakerFactory.create();
+        contingency.toModification().apply(expected);
+        contingency.toModification(effect).apply(network);
+        for (Switch aSwitch : expected.getSwitches()) {
+            assertEquals(aSwitch.isOpen(), network.getSwitch(aSwitch.getId()).isOpen(), aSwitch.getId());
+        }
+        for (Terminal terminal : expected.getLine("LINE_S2S3").getTerminals()) {
+            assertFalse(terminal.isConnected());
+        }
+    }
+
+    @Test
+    void testSameComponentsAsBusView() {
+        Network network = FourSubstationsNodeBreakerFactory.create();
+        List<Contingency> contingencies = List.of(Contingency.line("LINE_S2S3"), Contingency.line("LINE_S3S4"),
+                Contingency.generator("GH1"), Contingency.hvdcLine("HVDC1"), Contingency.busbarSection("S1VL2_BBS1"),
+                new Contingency("N-2", new LineContingency("LINE_S2S3"), new LineContingency("LINE_S3S4")));
+        Map<String, ContingencyEffect> effects = new ContingencyEffectCache().compile(network, contingencies);
+        assertEquals(contingencies.size(), effects.size());
+        for (Contingency contingency : contingencies) {
+            ContingencyEffect effect = effects.get(contingency.getId());
+            Network expected = FourSubstationsNodeBreakerFactory.create();
+            Set<String> mainComponentElementIds = getMainComponentElementIds(expected);
+            int connectedComponentCount = expected.getBusView().getConnectedComponents().size();
+            int synchronousComponentCount = expected.getBusView().getSynchronousComponents().size();
+            contingency.toModification().apply(expected);
+            mainComponentElementIds.removeAll(getMainComponentElementIds(expected));
+            assertEquals(mainComponentElementIds, effect.getDisconnectedElementIds(), contingency.getId());
+            assertEquals(Math.max(0, expected.getBusView().getConnectedComponents().size() - connectedComponentCount),
+                    effect.getCreatedConnectedComponentCount(), contingency.getId());
+            assertEquals(Math.max(0, expected.getBusView().getSynchronousComponents().size() - synchronousComponentCount),
+                    effect.getCreatedSynchronousComponentCount(), contingency.getId());
+        }
+    }
+
+    private static Set<String> getMainComponentElementIds(Network network) {
+        Set<String> ids = new HashSet<>();
+        for (Connectable<?> connectable : network.getConnectables()) {
+            for (Terminal terminal : connectable.getTerminals()) {
+                Bus bus = terminal.getBusView().getBus();
+                if (bus != null && bus.isInMainConnectedComponent()) {
+                    ids.add(connectable.getId());
+                }
+            }
+        }
+        return ids;
+    }
+
+    @Test
+    void testCacheByTopology() {
+        Network network1 = EurostagTutorialExample1Factory.create();
+        Network network2 = EurostagTutorialExample1Factory.create();
+        network2.getLoad("LOAD").setP0(700.0);
+        assertEquals(ContingencyEffectCache.topologyFingerprint(network1), ContingencyEffectCache.topologyFingerprint(network2));
+
+        ContingencyEffectCache cache = new ContingencyEffectCache();
+        List<Contingency> contingencies = List.of(Contingency.twoWindingsTransformer("NHV2_NLOAD"));
+        ContingencyEffect effect1 = cache.compile(network1, contingencies).get("NHV2_NLOAD");
+        ContingencyEffect effect2 = cache.compile(network2, contingencies).get("NHV2_NLOAD");
+        assertSame(effect1, effect2);
+        assertEquals(600.0, effect1.getDisconnectedLoadActivePower(network1));
+        assertEquals(700.0, effect1.getDisconnectedLoadActivePower(network2));
+
+        // another topology is compiled again
+        network2.getLine("NHV1_NHV2_1").getTerminal1().disconnect();
+        assertNotEquals(ContingencyEffectCache.topologyFingerprint(network1), ContingencyEffectCache.topologyFingerprint(network2));
+        assertNotSame(effect1, cache.compile(network2, contingencies).get("NHV2_NLOAD"));
+
+        cache.clear();
+        assertNotSame(effect1, cache.compile(network1, contingencies).get("NHV2_NLOAD"));
+    }
+
+    @Test
+    void testCacheByContingencyElements() {
+        Network network = EurostagTutorialExample1Factory.create();
+        ContingencyEffectCache cache = new ContingencyEffectCache();
+        Contingency contingency = new Contingency("N-1", new LineContingency("NHV1_NHV2_1"));
+        ContingencyEffect effect = cache.compile(network, List.of(contingency)).get("N-1");
+        assertSame(effect, cache.compile(network, List.of(new Contingency("N-1", new LineContingency("NHV1_NHV2_1")))).get("N-1"));
+
+        // same id, other elements
+        Contingency other = new Contingency("N-1", new TwoWindingsTransformerContingency("NGEN_NHV1"));
+        ContingencyEffect otherEffect = cache.compile(network, List.of(other)).get("N-1");
+        assertNotSame(effect, otherEffect);
+        assertEquals(Set.of("NGEN_NHV1", "GEN"), otherEffect.getDisconnectedElementIds());
+
+        // a contingency modified after being compiled is compiled again
+        contingency.addElement(new TwoWindingsTransformerContingency("NGEN_NHV1"));
+        ContingencyEffect modifiedEffect = cache.compile(network, List.of(contingency)).get("N-1");
+        assertEquals(Set.of("NHV1_NHV2_1", "NGEN_NHV1", "GEN"), modifiedEffect.getDisconnectedElementIds());
+        assertSame(effect, cache.compile(network, List.of(new Contingency("N-1", new LineContingency("NHV1_NHV2_1")))).get("N-1"));
+    }
+
+    @Test
+    void testInvalidMaxTopologyCount() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> new ContingencyEffectCache(0));
+        assertEquals("Invalid max topology count: 0", e.getMessage());
+    }
+}
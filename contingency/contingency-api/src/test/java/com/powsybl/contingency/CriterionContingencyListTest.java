@@ -7,6 +7,7 @@
  */
 package com.powsybl.contingency;
 
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.contingency.contingency.list.*;
 import com.powsybl.iidm.criteria.*;
 import com.powsybl.iidm.network.Country;
@@ -558,4 +559,41 @@ class CriterionContingencyListTest {
         assertEquals(new Contingency("S1VL2_BBS2", new BusbarSectionContingency("S1VL2_BBS2")), contingencies.get(1));
         assertEquals(new Contingency("S3VL1_BBS", new BusbarSectionContingency("S3VL1_BBS")), contingencies.get(2));
     }
+
+    @Test
+    void testNetworkElementIndex() {
+        List<ContingencyList> contingencyLists = List.of(
+                new LineCriterionContingencyList("lines", new TwoCountriesCriterion(List.of(Country.FR), List.of(Country.BE)),
+                        null, Collections.emptyList(), null),
+                new LineCriterionContingencyList("400kV lines", null,
+                        new TwoNominalVoltageCriterion(VoltageInterval.between(380.0, 420.0, true, true), null), Collections.emptyList(), null),
+                new InjectionCriterionContingencyList("generators", "GENERATOR", new SingleCountryCriterion(List.of(Country.FR)), null,
+                        List.of(new PropertyCriterion("property", List.of("val1", "val2", "val4"), PropertyCriterion.EquipmentToCheck.SELF)), null),
+                new InjectionCriterionContingencyList("generators of S1VL2", "GENERATOR", null, null,
+                        List.of(new PropertyCriterion("property", List.of("value2"), PropertyCriterion.EquipmentToCheck.VOLTAGE_LEVEL)), null),
+                new InjectionCriterionContingencyList("loads", "LOAD", null,
+                        new SingleNominalVoltageCriterion(VoltageInterval.between(200.0, 230.0, true, true)), Collections.emptyList(), null),
+                new TwoWindingsTransformerCriterionContingencyList("transformers", new SingleCountryCriterion(List.of(Country.FR)),
+                        new TwoNominalVoltageCriterion(VoltageInterval.between(200.0, 230.0, true, true), VoltageInterval.between(380.0, 420.0, true, true)),
+                        Collections.emptyList(), new RegexCriterion("TW")),
+                new HvdcLineCriterionContingencyList("hvdc lines", new TwoCountriesCriterion(List.of(Country.BE)), null, Collections.emptyList(), null),
+                ContingencyList.of(Contingency.load("LD1")));
+
+        // the index gives the same contingencies, in the same order, as scanning the network
+        NetworkElementIndex index = new NetworkElementIndex(fourSubstationNetwork);
+        List<Contingency> expected = new ArrayList<>();
+        for (ContingencyList contingencyList : contingencyLists) {
+            List<Contingency> contingencies = contingencyList.getContingencies(fourSubstationNetwork);
+            assertEquals(contingencies, contingencyList.getContingencies(fourSubstationNetwork, index), contingencyList.getName());
+            expected.addAll(contingencies);
+        }
+        assertEquals(12, expected.size());
+        assertEquals(expected, new ListOfContingencyLists("list", contingencyLists).getContingencies(fourSubstationNetwork));
+        assertEquals(expected, new ListOfContingencyLists("list", contingencyLists).getContingencies(fourSubstationNetwork, index));
+
+        Network otherNetwork = FourSubstationsNodeBreakerFactory.create();
+        ContingencyList contingencyList = contingencyLists.get(0);
+        PowsyblException e = assertThrows(PowsyblException.class, () -> contingencyList.getContingencies(otherNetwork, index));
+        assertEquals("Index of network elements built for another network than 'fourSubstations'", e.getMessage());
+    }
 }
@@ -0,0 +1,208 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.criteria;
+
+import com.powsybl.iidm.network.*;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the elements of a network by type, country, nominal voltage and property value, to evaluate
+ * {@link Criterion criteria} on many elements without scanning all the elements of a type for each set of criteria.
+ *
+ * <p>The index of a type is built on first use, with the working variant of the network at that time, and is then
+ * reused by all the evaluations: it has to be rebuilt if the elements, their properties or their substations change.
+ * Country and nominal voltage criteria, and property criteria on the elements themselves, select the candidate elements
+ * from the index. All the criteria are then evaluated on the candidates only, so that the result is the same as
+ * filtering all the elements. This class is thread-safe.</p>
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class NetworkElementIndex {
+
+    private final Network network;
+
+    private final Map<IdentifiableType, TypeIndex> typeIndexes = new ConcurrentHashMap<>();
+
+    public NetworkElementIndex(Network network) {
+        this.network = Objects.requireNonNull(network);
+    }
+
+    public Network getNetwork() {
+        return network;
+    }
+
+    /**
+     * Get the elements of a type, in the order of the network.
+     */
+    public List<Identifiable<?>> getIdentifiables(IdentifiableType type) {
+        return getTypeIndex(type).elements;
+    }
+
+    /**
+     * Get the elements of a type matching all the given criteria, in the order of the network. Null criteria are
+     * ignored.
+     */
+    public List<Identifiable<?>> filter(IdentifiableType type, List<? extends Criterion> criteria) {
+        Objects.requireNonNull(criteria);
+        TypeIndex typeIndex = getTypeIndex(type);
+        BitSet candidates = new BitSet(typeIndex.elements.size());
+        candidates.set(0, typeIndex.elements.size());
+        for (Criterion criterion : criteria) {
+            if (criterion != null) {
+                BitSet criterionCandidates = typeIndex.getCandidates(criterion);
+                if (criterionCandidates != null) {
+                    candidates.and(criterionCandidates);
+                }
+            }
+        }
+        List<Identifiable<?>> identifiables = new ArrayList<>(candidates.cardinality());
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            Identifiable<?> identifiable = typeIndex.elements.get(i);
+            if (criteria.stream().allMatch(criterion -> criterion == null || criterion.filter(identifiable, type))) {
+                identifiables.add(identifiable);
+            }
+        }
+        return identifiables;
+    }
+
+    private TypeIndex getTypeIndex(IdentifiableType type) {
+        Objects.requireNonNull(type);
+        return typeIndexes.computeIfAbsent(type, t -> new TypeIndex(network, t));
+    }
+
+    private static final class TypeIndex {
+
+        private final List<Identifiable<?>> elements;
+
+        /**
+         * Elements by country of their substations, on any side.
+         */
+        private final Map<Country, BitSet> elementsByCountry = new EnumMap<>(Country.class);
+
+        /**
+         * Elements by nominal voltage of their voltage levels, on any side.
+         */
+        private final Map<Double, BitSet> elementsByNominalVoltage = new HashMap<>();
+
+        /**
+         * Elements by value of a property, by property key, built on first use of the key.
+         */
+        private final Map<String, Map<String, BitSet>> elementsByPropertyValue = new ConcurrentHashMap<>();
+
+        private TypeIndex(Network network, IdentifiableType type) {
+            elements = network.getIdentifiableStream(type).toList();
+            for (int i = 0; i < elements.size(); i++) {
+                Identifiable<?> identifiable = elements.get(i);
+                Set<Country> countries = EnumSet.noneOf(Country.class);
+                Optional.ofNullable(SingleCountryCriterion.getCountry(identifiable, type)).ifPresent(countries::add);
+                TwoCountriesCriterion.getCountries(identifiable, type).stream().filter(Objects::nonNull).forEach(countries::add);
+                for (Country country : countries) {
+                    elementsByCountry.computeIfAbsent(country, c -> new BitSet()).set(i);
+                }
+                List<Double> nominalVoltages = new ArrayList<>(3);
+                nominalVoltages.add(SingleNominalVoltageCriterion.getNominalVoltage(identifiable, type));
+                nominalVoltages.addAll(TwoNominalVoltageCriterion.getNominalVoltages(identifiable, type));
+                nominalVoltages.addAll(ThreeNominalVoltageCriterion.getNominalVoltages(identifiable, type));
+                for (Double nominalVoltage : nominalVoltages) {
+                    if (nominalVoltage != null) {
+                        elementsByNominalVoltage.computeIfAbsent(nominalVoltage, v -> new BitSet()).set(i);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Candidate elements for a criterion, as a superset of the elements matching the criterion, or null if the
+         * index cannot narrow the elements for this criterion.
+         */
+        private BitSet getCandidates(Criterion criterion) {
+            if (criterion instanceof SingleCountryCriterion c) {
+                return getCountryCandidates(c.getCountries());
+            } else if (criterion instanceof AtLeastOneCountryCriterion c) {
+                return getCountryCandidates(c.getCountries());
+            } else if (criterion instanceof TwoCountriesCriterion c) {
+                return and(getCountryCandidates(c.getCountries1()), getCountryCandidates(c.getCountries2()));
+            } else if (criterion instanceof SingleNominalVoltageCriterion c) {
+                return getNominalVoltageCandidates(c.getVoltageInterval());
+            } else if (criterion instanceof AtLeastOneNominalVoltageCriterion c) {
+                return getNominalVoltageCandidates(c.getVoltageInterval());
+            } else if (criterion instanceof TwoNominalVoltageCriterion c) {
+                return and(getNominalVoltageCandidates(c.getVoltageInterval1()), getNominalVoltageCandidates(c.getVoltageInterval2()));
+            } else if (criterion instanceof ThreeNominalVoltageCriterion c) {
+                return and(and(getNominalVoltageCandidates(c.getVoltageInterval1()), getNominalVoltageCandidates(c.getVoltageInterval2())),
+                        getNominalVoltageCandidates(c.getVoltageInterval3()));
+            } else if (criterion instanceof PropertyCriterion c && c.getEquipmentToCheck() == PropertyCriterion.EquipmentToCheck.SELF) {
+                return getPropertyCandidates(c.getPropertyKey(), c.getPropertyValues());
+            }
+            return null;
+        }
+
+        private BitSet getCountryCandidates(List<Country> countries) {
+            // no country means no filtering
+            if (countries.isEmpty()) {
+                return null;
+            }
+            BitSet candidates = new BitSet();
+            for (Country country : countries) {
+                BitSet countryElements = elementsByCountry.get(country);
+                if (countryElements != null) {
+                    candidates.or(countryElements);
+                }
+            }
+            return candidates;
+        }
+
+        private BitSet getNominalVoltageCandidates(Optional<VoltageInterval> voltageInterval) {
+            // no interval means no filtering
+            return voltageInterval.map(this::getNominalVoltageCandidates).orElse(null);
+        }
+
+        private BitSet getNominalVoltageCandidates(VoltageInterval voltageInterval) {
+            BitSet candidates = new BitSet();
+            elementsByNominalVoltage.forEach((nominalVoltage, nominalVoltageElements) -> {
+                if (voltageInterval.checkIsBetweenBound(nominalVoltage)) {
+                    candidates.or(nominalVoltageElements);
+                }
+            });
+            return candidates;
+        }
+
+        private BitSet getPropertyCandidates(String propertyKey, List<String> propertyValues) {
+            Map<String, BitSet> elementsByValue = elementsByPropertyValue.computeIfAbsent(propertyKey, key -> {
+                Map<String, BitSet> byValue = new HashMap<>();
+                for (int i = 0; i < elements.size(); i++) {
+                    Identifiable<?> identifiable = elements.get(i);
+                    if (identifiable.hasProperty(key)) {
+                        byValue.computeIfAbsent(identifiable.getProperty(key), v -> new BitSet()).set(i);
+                    }
+                }
+                return byValue;
+            });
+            BitSet candidates = new BitSet();
+            for (String propertyValue : propertyValues) {
+                BitSet valueElements = elementsByValue.get(propertyValue);
+                if (valueElements != null) {
+                    candidates.or(valueElements);
+                }
+            }
+            return candidates;
+        }
+
+        private static BitSet and(BitSet candidates1, BitSet candidates2) {
+            if (candidates1 == null) {
+                return candidates2;
+            }
+            if (candidates2 != null) {
+                candidates1.and(candidates2);
+            }
+            return candidates1;
+        }
+    }
+}
@@ -19,6 +19,8 @@ public class RegexCriterion implements Criterion {
 
     private final String regex;
 
+    private volatile Pattern pattern;
+
     public RegexCriterion(String regex) {
         this.regex = regex;
     }
@@ -30,7 +32,17 @@ public class RegexCriterion implements Criterion {
 
     @Override
     public boolean filter(Identifiable<?> identifiable, IdentifiableType type) {
-        return Pattern.compile(regex).matcher(identifiable.getId()).find();
+        return getPattern().matcher(identifiable.getId()).find();
+    }
+
+    private Pattern getPattern() {
+        // compiled once, on first use, as the criterion is evaluated for every element of a network
+        Pattern p = pattern;
+        if (p == null) {
+            p = Pattern.compile(regex);
+            pattern = p;
+        }
+        return p;
     }
 
     public String getRegex() {
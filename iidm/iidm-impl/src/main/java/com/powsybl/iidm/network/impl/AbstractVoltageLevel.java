@@ -14,6 +14,9 @@ import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.config.PlatformConfig;
 import com.powsybl.iidm.network.*;
 import com.powsybl.commons.ref.Ref;
+import com.powsybl.math.graph.CsrUndirectedGraph;
+import com.powsybl.math.graph.UndirectedGraph;
+import com.powsybl.math.graph.UndirectedGraphImpl;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -29,6 +32,24 @@ abstract class AbstractVoltageLevel extends AbstractIdentifiable<VoltageLevel> i
 
     public static final int NODE_INDEX_LIMIT = loadNodeIndexLimit(PlatformConfig.defaultConfig());
 
+    /**
+     * Implementation of the topology graphs of the voltage levels.
+     */
+    enum GraphImplementation {
+        /**
+         * {@link UndirectedGraphImpl}: vertices and edges stored as objects, adjacency rebuilt after each modification.
+         */
+        DEFAULT,
+        /**
+         * {@link CsrUndirectedGraph}: vertices, edges and adjacency stored in primitive arrays, adjacency updated incrementally.
+         */
+        CSR
+    }
+
+    private static final GraphImplementation DEFAULT_GRAPH_IMPLEMENTATION = GraphImplementation.DEFAULT;
+
+    static final GraphImplementation GRAPH_IMPLEMENTATION = loadGraphImplementation(PlatformConfig.defaultConfig());
+
     private final Ref<NetworkImpl> networkRef;
     private Ref<SubnetworkImpl> subnetworkRef;
 
@@ -63,6 +84,20 @@ abstract class AbstractVoltageLevel extends AbstractIdentifiable<VoltageLevel> i
             .orElse(DEFAULT_NODE_INDEX_LIMIT);
     }
 
+    static GraphImplementation loadGraphImplementation(PlatformConfig platformConfig) {
+        return platformConfig
+            .getOptionalModuleConfig("iidm")
+            .map(moduleConfig -> moduleConfig.getEnumProperty("graph-implementation", GraphImplementation.class, DEFAULT_GRAPH_IMPLEMENTATION))
+            .orElse(DEFAULT_GRAPH_IMPLEMENTATION);
+    }
+
+    static <V, E> UndirectedGraph<V, E> createGraph(GraphImplementation graphImplementation) {
+        return switch (graphImplementation) {
+            case DEFAULT -> new UndirectedGraphImpl<>(NODE_INDEX_LIMIT);
+            case CSR -> new CsrUndirectedGraph<>(NODE_INDEX_LIMIT);
+        };
+    }
+
     @Override
     public String getSubnetworkId() {
         return Optional.ofNullable(subnetworkRef.get()).map(Identifiable::getId).orElse(null);
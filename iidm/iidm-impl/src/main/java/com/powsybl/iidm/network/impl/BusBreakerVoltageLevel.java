@@ -17,9 +17,11 @@ import com.powsybl.commons.ref.Ref;
 import com.powsybl.iidm.network.util.Identifiables;
 import com.powsybl.iidm.network.util.Networks;
 import com.powsybl.iidm.network.util.ShortIdDictionary;
+import com.powsybl.math.graph.TraversalContext;
 import com.powsybl.math.graph.TraversalType;
 import com.powsybl.math.graph.TraverseResult;
-import com.powsybl.math.graph.UndirectedGraphImpl;
+import com.powsybl.math.graph.Traverser;
+import com.powsybl.math.graph.UndirectedGraph;
 import com.powsybl.math.graph.UndirectedGraphListener;
 import org.anarres.graphviz.builder.GraphVizAttribute;
 import org.anarres.graphviz.builder.GraphVizEdge;
@@ -108,7 +110,7 @@ class BusBreakerVoltageLevel extends AbstractVoltageLevel {
 
     }
 
-    private final UndirectedGraphImpl<ConfiguredBus, SwitchImpl> graph = new UndirectedGraphImpl<>(NODE_INDEX_LIMIT);
+    private final UndirectedGraph<ConfiguredBus, SwitchImpl> graph = createGraph(GRAPH_IMPLEMENTATION);
 
     /* buses indexed by vertex number */
     private final Map<String, Integer> buses = new HashMap<>();
@@ -230,26 +232,23 @@ class BusBreakerVoltageLevel extends AbstractVoltageLevel {
             // mapping between configured buses and merged buses
             Map<ConfiguredBus, MergedBus> mapping = new IdentityHashMap<>();
 
-            boolean[] encountered = new boolean[graph.getVertexCapacity()];
-            Arrays.fill(encountered, false);
+            Traverser traverser = (v1, e, v2) -> graph.getEdgeObject(e).isOpen() ? TraverseResult.TERMINATE_PATH : TraverseResult.CONTINUE;
             int busNum = 0;
-            for (int v : graph.getVertices()) {
-                if (!encountered[v]) {
-                    final Set<ConfiguredBus> busSet = new LinkedHashSet<>(1);
-                    busSet.add(graph.getVertexObject(v));
-                    graph.traverse(v, TraversalType.DEPTH_FIRST, (v1, e, v2) -> {
-                        SwitchImpl aSwitch = graph.getEdgeObject(e);
-                        if (aSwitch.isOpen()) {
-                            return TraverseResult.TERMINATE_PATH;
-                        } else {
-                            busSet.add(graph.getVertexObject(v2));
-                            return TraverseResult.CONTINUE;
+            try (TraversalContext context = TraversalContext.acquire(graph.getVertexCapacity())) {
+                for (int v : graph.getVertices()) {
+                    if (!context.isVisited(v)) {
+                        // the buses of the merged bus are the ones traversed by this traversal
+                        int first = context.getTraversedVertexCount();
+                        graph.traverse(v, TraversalType.DEPTH_FIRST, traverser, context);
+                        final Set<ConfiguredBus> busSet = new LinkedHashSet<>(context.getTraversedVertexCount() - first);
+                        for (int i = first; i < context.getTraversedVertexCount(); i++) {
+                            busSet.add(graph.getVertexObject(context.getTraversedVertex(i)));
+                        }
+                        if (isBusValid(busSet)) {
+                            MergedBus mergedBus = createMergedBus(busNum++, busSet);
+                            mergedBuses.put(mergedBus.getId(), mergedBus);
+                            busSet.forEach(bus -> mapping.put(bus, mergedBus));
                         }
-                    }, encountered);
-                    if (isBusValid(busSet)) {
-                        MergedBus mergedBus = createMergedBus(busNum++, busSet);
-                        mergedBuses.put(mergedBus.getId(), mergedBus);
-                        busSet.forEach(bus -> mapping.put(bus, mergedBus));
                     }
                 }
             }
@@ -64,7 +64,7 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
 
     private static final BusNamingStrategy NAMING_STRATEGY = new LowestNodeNumberBusNamingStrategy();
 
-    private final UndirectedGraphImpl<NodeTerminal, SwitchImpl> graph = new UndirectedGraphImpl<>(NODE_INDEX_LIMIT);
+    private final UndirectedGraph<NodeTerminal, SwitchImpl> graph = createGraph(GRAPH_IMPLEMENTATION);
 
     private final Map<String, Integer> switches = new HashMap<>();
 
@@ -259,19 +259,15 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
             return CALCULATED_BUS_CHECKER;
         }
 
-        private void traverse(int n, boolean[] encountered, Predicate<SwitchImpl> terminate, Map<String, CalculatedBus> id2bus, CalculatedBus[] node2bus) {
-            if (!encountered[n]) {
-                final TIntArrayList nodes = new TIntArrayList(1);
-                nodes.add(n);
-                graph.traverse(n, TraversalType.DEPTH_FIRST, (n1, e, n2) -> {
-                    SwitchImpl aSwitch = graph.getEdgeObject(e);
-                    if (aSwitch != null && terminate.test(aSwitch)) {
-                        return TraverseResult.TERMINATE_PATH;
-                    }
-
-                    nodes.add(n2);
-                    return TraverseResult.CONTINUE;
-                }, encountered);
+        private void traverse(int n, TraversalContext context, Traverser traverser, Map<String, CalculatedBus> id2bus, CalculatedBus[] node2bus) {
+            if (!context.isVisited(n)) {
+                // the nodes of the component are the ones traversed by this traversal
+                int first = context.getTraversedVertexCount();
+                graph.traverse(n, TraversalType.DEPTH_FIRST, traverser, context);
+                final TIntArrayList nodes = new TIntArrayList(context.getTraversedVertexCount() - first);
+                for (int i = first; i < context.getTraversedVertexCount(); i++) {
+                    nodes.add(context.getTraversedVertex(i));
+                }
 
                 // check that the component is a bus
                 String busId = Identifiables.getUniqueId(NAMING_STRATEGY.getId(NodeBreakerVoltageLevel.this, nodes), getNetwork().getIndex()::contains);
@@ -307,11 +303,15 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
             LOGGER.trace("Update bus topology of voltage level {}", NodeBreakerVoltageLevel.this.id);
             Map<String, CalculatedBus> id2bus = new LinkedHashMap<>();
             CalculatedBus[] node2bus = new CalculatedBus[graph.getVertexCapacity()];
-            boolean[] encountered = new boolean[graph.getVertexCapacity()];
-            Arrays.fill(encountered, false);
-            for (int e : graph.getEdges()) {
-                traverse(graph.getEdgeVertex1(e), encountered, terminate, id2bus, node2bus);
-                traverse(graph.getEdgeVertex2(e), encountered, terminate, id2bus, node2bus);
+            Traverser traverser = (n1, e, n2) -> {
+                SwitchImpl aSwitch = graph.getEdgeObject(e);
+                return aSwitch != null && terminate.test(aSwitch) ? TraverseResult.TERMINATE_PATH : TraverseResult.CONTINUE;
+            };
+            try (TraversalContext context = TraversalContext.acquire(graph.getVertexCapacity())) {
+                for (int e : graph.getEdges()) {
+                    traverse(graph.getEdgeVertex1(e), context, traverser, id2bus, node2bus);
+                    traverse(graph.getEdgeVertex2(e), context, traverser, id2bus, node2bus);
+                }
             }
             busCache = new BusCache(node2bus, id2bus);
             LOGGER.trace("Found buses {}", id2bus.values());
@@ -12,6 +12,8 @@ import com.google.common.jimfs.Jimfs;
 import com.powsybl.commons.config.InMemoryPlatformConfig;
 import com.powsybl.commons.config.MapModuleConfig;
 import com.powsybl.commons.config.PlatformConfig;
+import com.powsybl.math.graph.CsrUndirectedGraph;
+import com.powsybl.math.graph.UndirectedGraphImpl;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
@@ -38,4 +40,20 @@ class TestAbstractVoltageLevel {
             assertEquals(5, AbstractVoltageLevel.loadNodeIndexLimit(platformConfig));
         }
     }
+
+    @Test
+    void testLoadGraphImplementation() throws IOException {
+        assertEquals(AbstractVoltageLevel.GraphImplementation.DEFAULT, AbstractVoltageLevel.loadGraphImplementation(PlatformConfig.defaultConfig()));
+        assertInstanceOf(UndirectedGraphImpl.class, AbstractVoltageLevel.createGraph(AbstractVoltageLevel.GraphImplementation.DEFAULT));
+        assertInstanceOf(CsrUndirectedGraph.class, AbstractVoltageLevel.createGraph(AbstractVoltageLevel.GraphImplementation.CSR));
+
+        try (FileSystem fileSystem = Jimfs.newFileSystem(Configuration.unix())) {
+
+            InMemoryPlatformConfig platformConfig = new InMemoryPlatformConfig(fileSystem);
+            MapModuleConfig moduleConfig = platformConfig.createModuleConfig("iidm");
+            moduleConfig.setStringProperty("graph-implementation", "CSR");
+
+            assertEquals(AbstractVoltageLevel.GraphImplementation.CSR, AbstractVoltageLevel.loadGraphImplementation(platformConfig));
+        }
+    }
 }
@@ -0,0 +1,808 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.math.graph;
+
+import com.powsybl.commons.PowsyblException;
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.list.linked.TIntLinkedList;
+import gnu.trove.set.hash.TIntHashSet;
+
+import java.io.PrintStream;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Undirected graph stored in primitive arrays, with a compressed sparse row (CSR) like adjacency.
+ *
+ * <p>The vertices and edges are stored in arrays indexed by vertex and edge number. The adjacent edges of all the
+ * vertices are packed in a single array: the adjacent edges of a vertex are in a block of this array, which has some
+ * free slots at its end. The adjacency is updated incrementally when an edge is added or removed, instead of being
+ * rebuilt: a block is only moved to the end of the array when it is full, and the array is compacted when more than
+ * half of it is made of released blocks.</p>
+ *
+ * <p>The adjacent edges of a vertex are kept sorted by edge number, so that this graph has the same vertex and edge
+ * numbering, and the same traversal orders, as {@link UndirectedGraphImpl}. As the adjacency is never rebuilt on
+ * reading, this graph can be read concurrently as long as it is not modified.</p>
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class CsrUndirectedGraph<V, E> implements UndirectedGraph<V, E> {
+
+    private static final int VERTICES_CAPACITY = 10;
+
+    private static final int EDGES_CAPACITY = 15;
+
+    private static final int NEIGHBORS_CAPACITY = 2;
+
+    /* vertices, vertex count is the highest vertex number + 1 */
+    private int vertexCapacity = 0;
+
+    private boolean[] vertexExists = new boolean[VERTICES_CAPACITY];
+
+    private Object[] vertexObjects = new Object[VERTICES_CAPACITY];
+
+    private final TIntHashSet availableVertices = new TIntHashSet();
+
+    /* edges, the vertices of a removed edge are -1 */
+    private int edgeCapacity = 0;
+
+    private int[] edgeVertices1 = new int[EDGES_CAPACITY];
+
+    private int[] edgeVertices2 = new int[EDGES_CAPACITY];
+
+    private Object[] edgeObjects = new Object[EDGES_CAPACITY];
+
+    private final TIntLinkedList removedEdges = new TIntLinkedList();
+
+    /* adjacent edges of vertex v: adjacency[adjacencyStarts[v]] to adjacency[adjacencyStarts[v] + degrees[v] - 1] */
+    private int[] adjacency = new int[2 * EDGES_CAPACITY];
+
+    private int adjacencySize = 0;
+
+    private int releasedAdjacencySize = 0;
+
+    private int[] adjacencyStarts = new int[VERTICES_CAPACITY];
+
+    private int[] adjacencyCapacities = new int[VERTICES_CAPACITY];
+
+    private int[] degrees = new int[VERTICES_CAPACITY];
+
+    private final List<UndirectedGraphListener<V, E>> listeners = new CopyOnWriteArrayList<>();
+
+    private final int vertexLimit;
+
+    public CsrUndirectedGraph(int vertexLimit) {
+        if (vertexLimit < 1) {
+            throw new PowsyblException("Vertex limit should be positive");
+        }
+        this.vertexLimit = vertexLimit;
+    }
+
+    private void checkVertex(int v) {
+        if (v < 0 || v >= vertexCapacity || !vertexExists[v]) {
+            throw new PowsyblException("Vertex " + v + " not found");
+        }
+    }
+
+    private void checkEdge(int e) {
+        if (e < 0 || e >= edgeCapacity || edgeVertices1[e] < 0) {
+            throw new PowsyblException("Edge " + e + " not found");
+        }
+    }
+
+    private void ensureVertexCapacity(int capacity) {
+        if (capacity > vertexExists.length) {
+            int newLength = Math.max(capacity, 2 * vertexExists.length);
+            vertexExists = Arrays.copyOf(vertexExists, newLength);
+            vertexObjects = Arrays.copyOf(vertexObjects, newLength);
+            adjacencyStarts = Arrays.copyOf(adjacencyStarts, newLength);
+            adjacencyCapacities = Arrays.copyOf(adjacencyCapacities, newLength);
+            degrees = Arrays.copyOf(degrees, newLength);
+        }
+    }
+
+    private void ensureEdgeCapacity(int capacity) {
+        if (capacity > edgeVertices1.length) {
+            int newLength = Math.max(capacity, 2 * edgeVertices1.length);
+            edgeVertices1 = Arrays.copyOf(edgeVertices1, newLength);
+            edgeVertices2 = Arrays.copyOf(edgeVertices2, newLength);
+            edgeObjects = Arrays.copyOf(edgeObjects, newLength);
+        }
+    }
+
+    private void createVertex(int v) {
+        vertexExists[v] = true;
+        vertexObjects[v] = null;
+        adjacencyStarts[v] = 0;
+        adjacencyCapacities[v] = 0;
+        degrees[v] = 0;
+    }
+
+    @Override
+    public int addVertex() {
+        int v;
+        if (availableVertices.isEmpty()) {
+            v = vertexCapacity;
+            ensureVertexCapacity(v + 1);
+            vertexCapacity++;
+        } else {
+            v = availableVertices.iterator().next();
+            availableVertices.remove(v);
+        }
+        createVertex(v);
+        notifyVertexAdded(v);
+        return v;
+    }
+
+    @Override
+    public void addVertexIfNotPresent(int v) {
+        if (v < 0) {
+            throw new PowsyblException("Invalid vertex " + v);
+        }
+        if (v >= this.vertexLimit) {
+            throw new PowsyblException("Vertex index too high: " + v + ". Limit is " + this.vertexLimit);
+        }
+        if (v < vertexCapacity) {
+            if (availableVertices.contains(v)) {
+                availableVertices.remove(v);
+                createVertex(v);
+                notifyVertexAdded(v);
+            }
+        } else {
+            ensureVertexCapacity(v + 1);
+            for (int i = vertexCapacity; i < v; i++) {
+                availableVertices.add(i);
+            }
+            vertexCapacity = v + 1;
+            createVertex(v);
+            notifyVertexAdded(v);
+        }
+    }
+
+    @Override
+    public boolean vertexExists(int v) {
+        if (v < 0) {
+            throw new PowsyblException("Invalid vertex " + v);
+        }
+        return v < vertexCapacity && vertexExists[v];
+    }
+
+    @SuppressWarnings("unchecked")
+    private V removeVertexInternal(int v) {
+        V obj = (V) vertexObjects[v];
+        releaseAdjacentEdges(v);
+        vertexExists[v] = false;
+        vertexObjects[v] = null;
+        if (v == vertexCapacity - 1) {
+            vertexCapacity--;
+            cleanVertices(v - 1);
+        } else {
+            availableVertices.add(v);
+        }
+        notifyVertexRemoved(v, obj);
+        return obj;
+    }
+
+    @Override
+    public V removeVertex(int v) {
+        checkVertex(v);
+        if (degrees[v] > 0) {
+            throw new PowsyblException("An edge is connected to vertex " + v);
+        }
+        return removeVertexInternal(v);
+    }
+
+    private void cleanVertices(int v) {
+        for (int i = v; i >= 0; i--) {
+            if (!availableVertices.contains(i)) {
+                return;
+            }
+            availableVertices.remove(i);
+            vertexCapacity--;
+        }
+    }
+
+    @Override
+    public int getVertexCount() {
+        return vertexCapacity - availableVertices.size();
+    }
+
+    @Override
+    public void removeAllVertices() {
+        if (edgeCapacity > 0) {
+            throw new PowsyblException("Cannot remove all vertices because there is still some edges in the graph");
+        }
+        Arrays.fill(vertexExists, 0, vertexCapacity, false);
+        Arrays.fill(vertexObjects, 0, vertexCapacity, null);
+        vertexCapacity = 0;
+        availableVertices.clear();
+        adjacencySize = 0;
+        releasedAdjacencySize = 0;
+        notifyAllVerticesRemoved();
+    }
+
+    @Override
+    public int addEdge(int v1, int v2, E obj) {
+        checkVertex(v1);
+        checkVertex(v2);
+        int e;
+        if (removedEdges.isEmpty()) {
+            e = edgeCapacity;
+            ensureEdgeCapacity(e + 1);
+            edgeCapacity++;
+        } else {
+            e = removedEdges.removeAt(0);
+        }
+        edgeVertices1[e] = v1;
+        edgeVertices2[e] = v2;
+        edgeObjects[e] = obj;
+        // a loop is twice in the adjacent edges of its vertex, as in UndirectedGraphImpl
+        addAdjacentEdge(v1, e);
+        addAdjacentEdge(v2, e);
+        notifyEdgeAdded(e, obj);
+        return e;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E removeEdgeInternal(int e) {
+        E obj = (E) edgeObjects[e];
+        notifyEdgeBeforeRemoval(e, obj);
+        removeAdjacentEdge(edgeVertices1[e], e);
+        removeAdjacentEdge(edgeVertices2[e], e);
+        edgeVertices1[e] = -1;
+        edgeVertices2[e] = -1;
+        edgeObjects[e] = null;
+        if (e == edgeCapacity - 1) {
+            edgeCapacity--;
+        } else {
+            removedEdges.add(e);
+        }
+        notifyEdgeRemoved(e, obj);
+        return obj;
+    }
+
+    @Override
+    public E removeEdge(int e) {
+        checkEdge(e);
+        return removeEdgeInternal(e);
+    }
+
+    @Override
+    public void removeAllEdges() {
+        Collection<E> allEdges = getEdgeObjectStream().toList();
+        notifyAllEdgesBeforeRemoval(allEdges);
+        Arrays.fill(edgeVertices1, 0, edgeCapacity, -1);
+        Arrays.fill(edgeVertices2, 0, edgeCapacity, -1);
+        Arrays.fill(edgeObjects, 0, edgeCapacity, null);
+        edgeCapacity = 0;
+        removedEdges.clear();
+        // blocks of adjacent edges are kept for the next edges
+        Arrays.fill(degrees, 0, vertexCapacity, 0);
+        notifyAllEdgesRemoved(allEdges);
+    }
+
+    /**
+     * Add an edge to the adjacent edges of a vertex, keeping them sorted by edge number.
+     */
+    private void addAdjacentEdge(int v, int e) {
+        int degree = degrees[v];
+        if (degree == adjacencyCapacities[v]) {
+            growAdjacentEdges(v, Math.max(NEIGHBORS_CAPACITY, 2 * degree));
+        }
+        int start = adjacencyStarts[v];
+        int i = start + degree;
+        while (i > start && adjacency[i - 1] > e) {
+            adjacency[i] = adjacency[i - 1];
+            i--;
+        }
+        adjacency[i] = e;
+        degrees[v] = degree + 1;
+    }
+
+    private void removeAdjacentEdge(int v, int e) {
+        int start = adjacencyStarts[v];
+        int end = start + degrees[v];
+        for (int i = start; i < end; i++) {
+            if (adjacency[i] == e) {
+                System.arraycopy(adjacency, i + 1, adjacency, i, end - i - 1);
+                degrees[v]--;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Move the adjacent edges of a vertex to a larger block at the end of the adjacency array.
+     */
+    private void growAdjacentEdges(int v, int capacity) {
+        if (adjacencyStarts[v] + adjacencyCapacities[v] == adjacencySize) {
+            // last block of the array: grow it in place
+            ensureAdjacencyCapacity(adjacencyStarts[v] + capacity);
+            adjacencySize = adjacencyStarts[v] + capacity;
+            adjacencyCapacities[v] = capacity;
+            return;
+        }
+        if (releasedAdjacencySize > adjacencySize / 2) {
+            compactAdjacency();
+        }
+        ensureAdjacencyCapacity(adjacencySize + capacity);
+        System.arraycopy(adjacency, adjacencyStarts[v], adjacency, adjacencySize, degrees[v]);
+        releasedAdjacencySize += adjacencyCapacities[v];
+        adjacencyStarts[v] = adjacencySize;
+        adjacencyCapacities[v] = capacity;
+        adjacencySize += capacity;
+    }
+
+    private void releaseAdjacentEdges(int v) {
+        releasedAdjacencySize += adjacencyCapacities[v];
+        adjacencyStarts[v] = 0;
+        adjacencyCapacities[v] = 0;
+        degrees[v] = 0;
+    }
+
+    private void ensureAdjacencyCapacity(int capacity) {
+        if (capacity > adjacency.length) {
+            adjacency = Arrays.copyOf(adjacency, Math.max(capacity, 2 * adjacency.length));
+        }
+    }
+
+    /**
+     * Pack the blocks of adjacent edges at the beginning of the adjacency array, removing the released blocks.
+     */
+    private void compactAdjacency() {
+        int[] compactedAdjacency = new int[adjacency.length];
+        int size = 0;
+        for (int v = 0; v < vertexCapacity; v++) {
+            if (vertexExists[v] && adjacencyCapacities[v] > 0) {
+                System.arraycopy(adjacency, adjacencyStarts[v], compactedAdjacency, size, degrees[v]);
+                adjacencyStarts[v] = size;
+                size += adjacencyCapacities[v];
+            }
+        }
+        adjacency = compactedAdjacency;
+        adjacencySize = size;
+        releasedAdjacencySize = 0;
+    }
+
+    @Override
+    public int getEdgeCount() {
+        return edgeCapacity - removedEdges.size();
+    }
+
+    @Override
+    public int[] getVertices() {
+        TIntArrayList t = new TIntArrayList(vertexCapacity);
+        for (int v = 0; v < vertexCapacity; v++) {
+            if (vertexExists[v]) {
+                t.add(v);
+            }
+        }
+        return t.toArray();
+    }
+
+    @Override
+    public int[] getEdges() {
+        TIntArrayList t = new TIntArrayList(getEdgeCount());
+        for (int e = 0; e < edgeCapacity; e++) {
+            if (edgeVertices1[e] >= 0) {
+                t.add(e);
+            }
+        }
+        return t.toArray();
+    }
+
+    @Override
+    public int getVertexCapacity() {
+        return vertexCapacity;
+    }
+
+    @Override
+    public Iterable<V> getVerticesObj() {
+        return () -> getVertexObjectStream().iterator();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Stream<V> getVertexObjectStream() {
+        return IntStream.range(0, vertexCapacity)
+                .filter(v -> vertexExists[v])
+                .mapToObj(v -> (V) vertexObjects[v]);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V getVertexObject(int v) {
+        checkVertex(v);
+        return (V) vertexObjects[v];
+    }
+
+    @Override
+    public void setVertexObject(int v, V obj) {
+        checkVertex(v);
+        vertexObjects[v] = obj;
+        notifyVertexObjectSet(v, obj);
+    }
+
+    @Override
+    public int getEdgeVertex1(int e) {
+        checkEdge(e);
+        return edgeVertices1[e];
+    }
+
+    @Override
+    public int getEdgeVertex2(int e) {
+        checkEdge(e);
+        return edgeVertices2[e];
+    }
+
+    @Override
+    public List<E> getEdgeObjectsConnectedToVertex(int v) {
+        return getEdgeObjectConnectedToVertexStream(v).toList();
+    }
+
+    @Override
+    public Stream<E> getEdgeObjectConnectedToVertexStream(int v) {
+        return getEdgeConnectedToVertexStream(v).mapToObj(this::getEdgeObject);
+    }
+
+    @Override
+    public List<Integer> getEdgesConnectedToVertex(int v) {
+        return getEdgeConnectedToVertexStream(v).boxed().toList();
+    }
+
+    @Override
+    public IntStream getEdgeConnectedToVertexStream(int v) {
+        checkVertex(v);
+        // copy, as the graph may be modified while the stream is consumed
+        return IntStream.of(Arrays.copyOfRange(adjacency, adjacencyStarts[v], adjacencyStarts[v] + degrees[v]));
+    }
+
+    @Override
+    public Iterable<E> getEdgesObject() {
+        return () -> getEdgeObjectStream().iterator();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Stream<E> getEdgeObjectStream() {
+        return IntStream.range(0, edgeCapacity)
+                .filter(e -> edgeVertices1[e] >= 0)
+                .mapToObj(e -> (E) edgeObjects[e]);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E getEdgeObject(int e) {
+        checkEdge(e);
+        return (E) edgeObjects[e];
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<E> getEdgeObjects(int v1, int v2) {
+        checkVertex(v1);
+        checkVertex(v2);
+        List<E> objects = new ArrayList<>(1);
+        int start = adjacencyStarts[v1];
+        for (int i = start; i < start + degrees[v1]; i++) {
+            int e = adjacency[i];
+            if (edgeVertices1[e] == v1 && edgeVertices2[e] == v2
+                    || edgeVertices1[e] == v2 && edgeVertices2[e] == v1) {
+                objects.add((E) edgeObjects[e]);
+            }
+        }
+        return objects;
+    }
+
+    private void addAdjacentEdges(int v, TraversalContext context, TraversalType traversalType) {
+        int start = adjacencyStarts[v];
+        int degree = degrees[v];
+        // as in UndirectedGraphImpl, edges are added in reverse order for depth-first traversal, which polls the
+        // last element added, so that the traversal goes deeper with the first neighbour of the visited vertex
+        if (traversalType == TraversalType.DEPTH_FIRST) {
+            for (int i = start + degree - 1; i >= start; i--) {
+                context.addEdge(adjacency[i]);
+            }
+        } else {
+            for (int i = start; i < start + degree; i++) {
+                context.addEdge(adjacency[i]);
+            }
+        }
+    }
+
+    private static int pollEdge(TraversalContext context, TraversalType traversalType) {
+        return switch (traversalType) {
+            case DEPTH_FIRST -> context.pollLastEdge();
+            case BREADTH_FIRST -> context.pollFirstEdge();
+        };
+    }
+
+    @Override
+    public boolean traverse(int v, TraversalType traversalType, Traverser traverser, boolean[] encountered) {
+        checkVertex(v);
+        Objects.requireNonNull(traverser);
+        Objects.requireNonNull(encountered);
+
+        if (encountered.length < vertexCapacity) {
+            throw new PowsyblException("Encountered array is too small");
+        }
+
+        boolean keepGoing = true;
+
+        // only the edges to traverse are taken from the context, the visited vertices are the encountered ones
+        try (TraversalContext context = TraversalContext.acquire(0)) {
+            encountered[v] = true;
+            addAdjacentEdges(v, context, traversalType);
+            while (context.hasEdges() && keepGoing) {
+                int e = pollEdge(context, traversalType);
+
+                int v1 = edgeVertices1[e];
+                int v2 = edgeVertices2[e];
+                if (!encountered[v1] || !encountered[v2]) {
+                    // This means the edge hasn't been traversed yet.
+                    // Nonetheless, by doing so we're missing the edges parallel to an edge already traversed.
+                    boolean flipEdge = encountered[v2];
+                    int vOrigin = flipEdge ? v2 : v1;
+                    int vDest = flipEdge ? v1 : v2;
+                    TraverseResult traverserResult = traverser.traverse(vOrigin, e, vDest);
+                    switch (traverserResult) {
+                        case CONTINUE -> {
+                            encountered[vDest] = true;
+                            addAdjacentEdges(vDest, context, traversalType);
+                        }
+                        case TERMINATE_TRAVERSER -> keepGoing = false; // the whole traversing needs to stop
+                        case TERMINATE_PATH -> {
+                            // Path ends on edge e before reaching vDest, continuing with next edge in the deque
+                        }
+                    }
+                }
+            }
+        }
+        return keepGoing;
+    }
+
+    @Override
+    public boolean traverse(int v, TraversalType traversalType, Traverser traverser, TraversalContext context) {
+        checkVertex(v);
+        Objects.requireNonNull(traverser);
+        Objects.requireNonNull(context);
+
+        context.ensureCapacity(vertexCapacity);
+        boolean keepGoing = true;
+
+        context.clearEdges();
+        context.visit(v);
+        addAdjacentEdges(v, context, traversalType);
+        while (context.hasEdges() && keepGoing) {
+            int e = pollEdge(context, traversalType);
+
+            int v1 = edgeVertices1[e];
+            int v2 = edgeVertices2[e];
+            if (!context.isVisited(v1) || !context.isVisited(v2)) {
+                // same as above, with the visited vertices of the context
+                boolean flipEdge = context.isVisited(v2);
+                int vOrigin = flipEdge ? v2 : v1;
+                int vDest = flipEdge ? v1 : v2;
+                TraverseResult traverserResult = traverser.traverse(vOrigin, e, vDest);
+                switch (traverserResult) {
+                    case CONTINUE -> {
+                        context.visit(vDest);
+                        addAdjacentEdges(vDest, context, traversalType);
+                    }
+                    case TERMINATE_TRAVERSER -> keepGoing = false; // the whole traversing needs to stop
+                    case TERMINATE_PATH -> {
+                        // Path ends on edge e before reaching vDest, continuing with next edge in the deque
+                    }
+                }
+            }
+        }
+        return keepGoing;
+    }
+
+    @Override
+    public boolean traverse(int v, TraversalType traversalType, Traverser traverser) {
+        try (TraversalContext context = TraversalContext.acquire(vertexCapacity)) {
+            return traverse(v, traversalType, traverser, context);
+        }
+    }
+
+    @Override
+    public boolean traverse(int[] startingVertices, TraversalType traversalType, Traverser traverser) {
+        try (TraversalContext context = TraversalContext.acquire(vertexCapacity)) {
+            for (int startingVertex : startingVertices) {
+                if (!context.isVisited(startingVertex) && !traverse(startingVertex, traversalType, traverser, context)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * In the output, the paths are sorted by size considering the number of switches in each path.
+     * </p>
+     */
+    @Override
+    public List<TIntArrayList> findAllPaths(int from, Predicate<V> pathComplete, Predicate<? super E> pathCancelled) {
+        return findAllPaths(from, pathComplete, pathCancelled, Comparator.comparing(TIntArrayList::size));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * In the output, the paths are sorted by using the given comparator.
+     * </p>
+     */
+    @Override
+    public List<TIntArrayList> findAllPaths(int from, Predicate<V> pathComplete, Predicate<? super E> pathCancelled, Comparator<TIntArrayList> comparator) {
+        Objects.requireNonNull(pathComplete);
+        List<TIntArrayList> paths = new ArrayList<>();
+        BitSet encountered = new BitSet(vertexCapacity);
+        TIntArrayList path = new TIntArrayList(1);
+        findAllPaths(from, pathComplete, pathCancelled, path, encountered, paths);
+
+        // sort paths by size according to the given comparator
+        paths.sort(comparator);
+        return paths;
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean findAllPaths(int e, int v1or2, Predicate<V> pathComplete, Predicate<? super E> pathCancelled,
+                                 TIntArrayList path, BitSet encountered, List<TIntArrayList> paths) {
+        if (encountered.get(v1or2)) {
+            return false;
+        }
+        path.add(e);
+        if (Boolean.TRUE.equals(pathComplete.test((V) vertexObjects[v1or2]))) {
+            paths.add(path);
+            return true;
+        } else {
+            findAllPaths(v1or2, pathComplete, pathCancelled, path, encountered, paths);
+            return false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void findAllPaths(int v, Predicate<V> pathComplete, Predicate<? super E> pathCancelled,
+                              TIntArrayList path, BitSet encountered, List<TIntArrayList> paths) {
+        checkVertex(v);
+        encountered.set(v, true);
+        int start = adjacencyStarts[v];
+        int degree = degrees[v];
+        for (int i = 0; i < degree; i++) {
+            int e = adjacency[start + i];
+            if (pathCancelled != null && pathCancelled.test((E) edgeObjects[e])) {
+                continue;
+            }
+            TIntArrayList path2;
+            BitSet encountered2;
+            if (i < degree - 1) {
+                path2 = new TIntArrayList(path);
+                encountered2 = new BitSet(vertexCapacity);
+                encountered2.or(encountered);
+            } else {
+                path2 = path;
+                encountered2 = encountered;
+            }
+            int v1 = edgeVertices1[e];
+            int v2 = edgeVertices2[e];
+            if (v == v2) {
+                findAllPaths(e, v1, pathComplete, pathCancelled, path2, encountered2, paths);
+            } else if (v == v1) {
+                findAllPaths(e, v2, pathComplete, pathCancelled, path2, encountered2, paths);
+            } else {
+                throw new IllegalStateException();
+            }
+        }
+    }
+
+    @Override
+    public void addListener(UndirectedGraphListener<V, E> l) {
+        listeners.add(l);
+    }
+
+    @Override
+    public void removeListener(UndirectedGraphListener<V, E> l) {
+        listeners.remove(l);
+    }
+
+    private void notifyVertexAdded(int v) {
+        for (UndirectedGraphListener<V, E> l : listeners) {
+            l.vertexAdded(v);
+        }
+    }
+
+    private void notifyVertexObjectSet(int v, V obj) {
+        for (UndirectedGraphListener<V, E> l : listeners) {
+            l.vertexObjectSet(v, obj);
+        }
+    }
+
+    private void notifyVertexRemoved(int v, V obj) {
+        for (UndirectedGraphListener<V, E> l : listeners) {
+            l.vertexRemoved(v, obj);
+        }
+    }
+
+    private void notifyAllVerticesRemoved() {
+        for (UndirectedGraphListener<V, E> l : listeners) {
+            l.allVerticesRemoved();
+        }
+    }
+
+    private void notifyEdgeAdded(int e, E obj) {
+        for (UndirectedGraphListener<V, E> l : listeners) {
+            l.edgeAdded(e, obj);
+        }
+    }
+
+    private void notifyEdgeRemoved(int e, E obj) {
+        for (UndirectedGraphListener<V, E> l : listeners) {
+            l.edgeRemoved(e, obj);
+        }
+    }
+
+    private void notifyEdgeBeforeRemoval(int e, E obj) {
+        for (UndirectedGraphListener<V, E> l : listeners) {
+            l.edgeBeforeRemoval(e, obj);
+        }
+    }
+
+    private void notifyAllEdgesBeforeRemoval(Collection<E> obj) {
+        for (UndirectedGraphListener<V, E> l : listeners) {
+            l.allEdgesBeforeRemoval(obj);
+        }
+    }
+
+    private void notifyAllEdgesRemoved(Collection<E> obj) {
+        for (UndirectedGraphListener<V, E> l : listeners) {
+            l.allEdgesRemoved(obj);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void print(PrintStream out, Function<V, String> vertexToString, Function<E, String> edgeToString) {
+        out.append("Vertices:").append(System.lineSeparator());
+        for (int v = 0; v < vertexCapacity; v++) {
+            if (vertexExists[v]) {
+                V obj = (V) vertexObjects[v];
+                String str = vertexToString == null ? Objects.toString(obj) : vertexToString.apply(obj);
+                out.append(Integer.toString(v)).append(": ")
+                        .append(str)
+                        .append(System.lineSeparator());
+            }
+        }
+        out.append("Edges:").append(System.lineSeparator());
+        for (int e = 0; e < edgeCapacity; e++) {
+            if (edgeVertices1[e] >= 0) {
+                E obj = (E) edgeObjects[e];
+                String str = edgeToString == null ? Objects.toString(obj) : edgeToString.apply(obj);
+                out.append(Integer.toString(e)).append(": ")
+                        .append(Integer.toString(edgeVertices1[e])).append("<->")
+                        .append(Integer.toString(edgeVertices2[e])).append(" ")
+                        .append(str).append(System.lineSeparator());
+            }
+        }
+    }
+
+    @Override
+    public void removeIsolatedVertices() {
+        for (int v = 0; v < vertexCapacity; v++) {
+            if (vertexExists[v] && vertexObjects[v] == null && degrees[v] == 0) {
+                removeVertexInternal(v);
+            }
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.math.graph;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+/**
+ * Reusable state of graph traversals, to traverse a graph many times without allocating anything.
+ *
+ * <p>A context holds the visited vertices, the edges still to traverse and the list of the vertices traversed since
+ * the last {@link #reset(int)}. Visited vertices are stamped with a generation number, so that forgetting them is
+ * done in constant time. The visited vertices are kept between the calls to
+ * {@link UndirectedGraph#traverse(int, TraversalType, Traverser, TraversalContext)}, as with an encountered array,
+ * until the context is reset.</p>
+ *
+ * <p>A context is not thread safe and must not be used by a traversal started from the traverser of another
+ * traversal using the same context. Contexts can either be held by the caller, or borrowed from a per-thread pool:
+ * <pre>
+ * try (TraversalContext context = TraversalContext.acquire(graph.getVertexCapacity())) {
+ *     graph.traverse(v, TraversalType.DEPTH_FIRST, traverser, context);
+ * }
+ * </pre></p>
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class TraversalContext implements AutoCloseable {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private static final int MAX_POOLED_CONTEXTS = 8;
+
+    private static final ThreadLocal<Deque<TraversalContext>> POOL = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /* a vertex is visited if its stamp is the current generation */
+    private int[] visitedGenerations;
+
+    private int generation = 1;
+
+    private int[] traversedVertices;
+
+    private int traversedVertexCount = 0;
+
+    /* edges to traverse, used as a stack for depth-first traversal and as a queue for breadth-first traversal */
+    private int[] edges = new int[DEFAULT_CAPACITY];
+
+    private int head = 0;
+
+    private int tail = 0;
+
+    private boolean acquired = false;
+
+    public TraversalContext() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public TraversalContext(int vertexCapacity) {
+        if (vertexCapacity < 0) {
+            throw new IllegalArgumentException("Invalid vertex capacity: " + vertexCapacity);
+        }
+        visitedGenerations = new int[vertexCapacity];
+        traversedVertices = new int[Math.max(vertexCapacity, 1)];
+    }
+
+    /**
+     * Borrow a reset context from the pool of the current thread. The context is given back to the pool when closed.
+     * @param vertexCapacity the vertex capacity of the graph to traverse.
+     * @return a context without any visited vertex.
+     */
+    public static TraversalContext acquire(int vertexCapacity) {
+        TraversalContext context = POOL.get().pollLast();
+        if (context == null) {
+            context = new TraversalContext(vertexCapacity);
+        }
+        context.acquired = true;
+        return context.reset(vertexCapacity);
+    }
+
+    /**
+     * Give this context back to the pool of the current thread, if it has been borrowed with {@link #acquire(int)}.
+     */
+    @Override
+    public void close() {
+        if (acquired) {
+            acquired = false;
+            Deque<TraversalContext> pool = POOL.get();
+            if (pool.size() < MAX_POOLED_CONTEXTS) {
+                pool.addLast(this);
+            }
+        }
+    }
+
+    /**
+     * Forget the visited and the traversed vertices.
+     * @param vertexCapacity the vertex capacity of the graph to traverse.
+     * @return this context.
+     */
+    public TraversalContext reset(int vertexCapacity) {
+        ensureCapacity(vertexCapacity);
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(visitedGenerations, 0);
+            generation = 0;
+        }
+        generation++;
+        traversedVertexCount = 0;
+        head = 0;
+        tail = 0;
+        return this;
+    }
+
+    void ensureCapacity(int vertexCapacity) {
+        if (visitedGenerations.length < vertexCapacity) {
+            visitedGenerations = Arrays.copyOf(visitedGenerations, Math.max(vertexCapacity, 2 * visitedGenerations.length));
+        }
+    }
+
+    public boolean isVisited(int v) {
+        return v < visitedGenerations.length && visitedGenerations[v] == generation;
+    }
+
+    /**
+     * Mark a vertex as visited, so that it is not traversed, without adding it to the traversed vertices.
+     */
+    public void setVisited(int v) {
+        ensureCapacity(v + 1);
+        visitedGenerations[v] = generation;
+    }
+
+    /**
+     * Mark a vertex as visited and add it to the traversed vertices.
+     */
+    void visit(int v) {
+        setVisited(v);
+        if (traversedVertexCount == traversedVertices.length) {
+            traversedVertices = Arrays.copyOf(traversedVertices, 2 * traversedVertices.length);
+        }
+        traversedVertices[traversedVertexCount++] = v;
+    }
+
+    /**
+     * Get the number of vertices traversed since the last reset, including the starting vertices.
+     */
+    public int getTraversedVertexCount() {
+        return traversedVertexCount;
+    }
+
+    /**
+     * Get a vertex traversed since the last reset, in the traversal order.
+     * @param i the index of the vertex in the traversal order, lower than {@link #getTraversedVertexCount()}.
+     */
+    public int getTraversedVertex(int i) {
+        if (i < 0 || i >= traversedVertexCount) {
+            throw new IndexOutOfBoundsException("Traversed vertex index " + i + " out of bounds");
+        }
+        return traversedVertices[i];
+    }
+
+    void clearEdges() {
+        head = 0;
+        tail = 0;
+    }
+
+    boolean hasEdges() {
+        return head != tail;
+    }
+
+    void addEdge(int e) {
+        if (tail == edges.length) {
+            if (head > 0) {
+                System.arraycopy(edges, head, edges, 0, tail - head);
+                tail -= head;
+                head = 0;
+            } else {
+                edges = Arrays.copyOf(edges, 2 * edges.length);
+            }
+        }
+        edges[tail++] = e;
+    }
+
+    int pollFirstEdge() {
+        return edges[head++];
+    }
+
+    int pollLastEdge() {
+        return edges[--tail];
+    }
+}
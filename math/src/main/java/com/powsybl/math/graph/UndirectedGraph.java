@@ -12,6 +12,7 @@ import gnu.trove.list.array.TIntArrayList;
 import java.io.PrintStream;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.IntStream;
@@ -259,9 +260,41 @@ public interface UndirectedGraph<V, E> {
      */
     boolean traverse(int v, TraversalType traversalType, Traverser traverser, boolean[] encountered);
 
+    /**
+     * Traverse the entire graph, starting at the specified vertex v, using a reusable {@link TraversalContext}.
+     * The vertices already visited in the context are not traversed, and at the end of the method, the traversed
+     * vertices are visited in the context and appended to its traversed vertices.
+     * The default implementation delegates to {@link #traverse(int, TraversalType, Traverser, boolean[])} with an
+     * encountered array initialized from the context, and appends the traversed vertices other than v in the order of
+     * their indices. Implementations override it to traverse without allocating any memory once the context is large
+     * enough.
+     *
+     * @param v the vertex index where the traverse has to start.
+     * @param traversalType the type of traversal (breadth-first or depth-first)
+     * @param traverser the {@link Traverser} instance to use to know if the traverse should continue or stop.
+     * @param context the traversal context, which must not be used by another traversal in progress.
+     * @return false if the whole traversing has to stop, meaning that a {@link TraverseResult#TERMINATE_TRAVERSER}
+     * has been returned from the traverser, true otherwise
+     */
+    default boolean traverse(int v, TraversalType traversalType, Traverser traverser, TraversalContext context) {
+        Objects.requireNonNull(context);
+        boolean[] encountered = new boolean[getVertexCapacity()];
+        for (int i = 0; i < encountered.length; i++) {
+            encountered[i] = context.isVisited(i);
+        }
+        boolean keepGoing = traverse(v, traversalType, traverser, encountered);
+        context.visit(v);
+        for (int i = 0; i < encountered.length; i++) {
+            if (encountered[i] && !context.isVisited(i)) {
+                context.visit(i);
+            }
+        }
+        return keepGoing;
+    }
+
     /**
      * Traverse the entire graph, starting at the specified vertex v.
-     * This method allocates a boolean array and calls {@link #traverse(int, TraversalType, Traverser, boolean[])}.
+     * This method borrows a context from the pool of the current thread and calls {@link #traverse(int, TraversalType, Traverser, TraversalContext)}.
      * @param v the vertex index where the traverse has to start.
      * @param traversalType the type of traversal (breadth-first or depth-first)
      * @param traverser the {@link Traverser} instance to use to know if the traverse should continue or stop.
@@ -272,8 +305,8 @@ public interface UndirectedGraph<V, E> {
 
     /**
      * Traverse the entire graph, starting at each vertex index of the specified vertices array v.
-     * This method allocates a boolean array and calls {@link #traverse(int, TraversalType, Traverser, boolean[])} for each entry of
-     * the array.
+     * This method borrows a context from the pool of the current thread and calls {@link #traverse(int, TraversalType, Traverser, TraversalContext)}
+     * for each entry of the array.
      * @param v the array of vertex indices where the traverse has to start.
      * @param traversalType the type of traversal (breadth-first or depth-first)
      * @param traverser the {@link Traverser} instance to use to know if the traverse should continue or stop.
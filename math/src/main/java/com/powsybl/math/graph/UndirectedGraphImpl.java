@@ -446,8 +446,7 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
         adjacencyListCache = null;
     }
 
-    private static void traverseVertex(int v, boolean[] encountered, Deque<Integer> edgesToTraverse, TIntArrayList[] adjacencyList, TraversalType traversalType) {
-        encountered[v] = true;
+    private static void addAdjacentEdges(int v, TraversalContext context, TIntArrayList[] adjacencyList, TraversalType traversalType) {
         TIntArrayList adjacentEdges = adjacencyList[v];
         for (int i = 0; i < adjacentEdges.size(); i++) {
             // For depth-first traversal, we're going to poll the last element added in the deque. Hence, edges have to
@@ -457,10 +456,17 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
                 case DEPTH_FIRST -> adjacentEdges.size() - i - 1;
                 case BREADTH_FIRST -> i;
             };
-            edgesToTraverse.add(adjacentEdges.getQuick(iEdge));
+            context.addEdge(adjacentEdges.getQuick(iEdge));
         }
     }
 
+    private static int pollEdge(TraversalContext context, TraversalType traversalType) {
+        return switch (traversalType) {
+            case DEPTH_FIRST -> context.pollLastEdge();
+            case BREADTH_FIRST -> context.pollFirstEdge();
+        };
+    }
+
     @Override
     public boolean traverse(int v, TraversalType traversalType, Traverser traverser, boolean[] encountered) {
         checkVertex(v);
@@ -474,24 +480,65 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
         TIntArrayList[] adjacencyList = getAdjacencyList();
         boolean keepGoing = true;
 
-        Deque<Integer> edgesToTraverse = new ArrayDeque<>();
-        traverseVertex(v, encountered, edgesToTraverse, adjacencyList, traversalType);
-        while (!edgesToTraverse.isEmpty() && keepGoing) {
-            int e = switch (traversalType) {
-                case DEPTH_FIRST -> edgesToTraverse.pollLast();
-                case BREADTH_FIRST -> edgesToTraverse.pollFirst();
-            };
+        // only the edges to traverse are taken from the context, the visited vertices are the encountered ones
+        try (TraversalContext context = TraversalContext.acquire(0)) {
+            encountered[v] = true;
+            addAdjacentEdges(v, context, adjacencyList, traversalType);
+            while (context.hasEdges() && keepGoing) {
+                int e = pollEdge(context, traversalType);
+
+                Edge<E> edge = edges.get(e);
+                if (!encountered[edge.getV1()] || !encountered[edge.getV2()]) {
+                    // This means the edge hasn't been traversed yet.
+                    // Nonetheless, by doing so we're missing the edges parallel to an edge already traversed.
+                    boolean flipEdge = encountered[edge.getV2()];
+                    int vOrigin = flipEdge ? edge.getV2() : edge.getV1();
+                    int vDest = flipEdge ? edge.getV1() : edge.getV2();
+                    TraverseResult traverserResult = traverser.traverse(vOrigin, e, vDest);
+                    switch (traverserResult) {
+                        case CONTINUE -> {
+                            encountered[vDest] = true;
+                            addAdjacentEdges(vDest, context, adjacencyList, traversalType);
+                        }
+                        case TERMINATE_TRAVERSER -> keepGoing = false; // the whole traversing needs to stop
+                        case TERMINATE_PATH -> {
+                            // Path ends on edge e before reaching vDest, continuing with next edge in the deque
+                        }
+                    }
+                }
+            }
+        }
+        return keepGoing;
+    }
+
+    @Override
+    public boolean traverse(int v, TraversalType traversalType, Traverser traverser, TraversalContext context) {
+        checkVertex(v);
+        Objects.requireNonNull(traverser);
+        Objects.requireNonNull(context);
+
+        context.ensureCapacity(vertices.size());
+        TIntArrayList[] adjacencyList = getAdjacencyList();
+        boolean keepGoing = true;
+
+        context.clearEdges();
+        context.visit(v);
+        addAdjacentEdges(v, context, adjacencyList, traversalType);
+        while (context.hasEdges() && keepGoing) {
+            int e = pollEdge(context, traversalType);
 
             Edge<E> edge = edges.get(e);
-            if (!encountered[edge.getV1()] || !encountered[edge.getV2()]) {
-                // This means the edge hasn't been traversed yet.
-                // Nonetheless, by doing so we're missing the edges parallel to an edge already traversed.
-                boolean flipEdge = encountered[edge.getV2()];
+            if (!context.isVisited(edge.getV1()) || !context.isVisited(edge.getV2())) {
+                // same as above, with the visited vertices of the context
+                boolean flipEdge = context.isVisited(edge.getV2());
                 int vOrigin = flipEdge ? edge.getV2() : edge.getV1();
                 int vDest = flipEdge ? edge.getV1() : edge.getV2();
                 TraverseResult traverserResult = traverser.traverse(vOrigin, e, vDest);
                 switch (traverserResult) {
-                    case CONTINUE -> traverseVertex(vDest, encountered, edgesToTraverse, adjacencyList, traversalType);
+                    case CONTINUE -> {
+                        context.visit(vDest);
+                        addAdjacentEdges(vDest, context, adjacencyList, traversalType);
+                    }
                     case TERMINATE_TRAVERSER -> keepGoing = false; // the whole traversing needs to stop
                     case TERMINATE_PATH -> {
                         // Path ends on edge e before reaching vDest, continuing with next edge in the deque
@@ -504,18 +551,18 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
 
     @Override
     public boolean traverse(int v, TraversalType traversalType, Traverser traverser) {
-        boolean[] encountered = new boolean[vertices.size()];
-        Arrays.fill(encountered, false);
-        return traverse(v, traversalType, traverser, encountered);
+        try (TraversalContext context = TraversalContext.acquire(vertices.size())) {
+            return traverse(v, traversalType, traverser, context);
+        }
     }
 
     @Override
     public boolean traverse(int[] startingVertices, TraversalType traversalType, Traverser traverser) {
-        boolean[] encountered = new boolean[vertices.size()];
-        Arrays.fill(encountered, false);
-        for (int startingVertex : startingVertices) {
-            if (!encountered[startingVertex] && !traverse(startingVertex, traversalType, traverser, encountered)) {
-                return false;
+        try (TraversalContext context = TraversalContext.acquire(vertices.size())) {
+            for (int startingVertex : startingVertices) {
+                if (!context.isVisited(startingVertex) && !traverse(startingVertex, traversalType, traverser, context)) {
+                    return false;
+                }
             }
         }
         return true;
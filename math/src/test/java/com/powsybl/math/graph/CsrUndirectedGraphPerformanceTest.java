@@ -0,0 +1,143 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.math.graph;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compare the time and the heap allocated to build and to traverse node/breaker like topologies with an
+ * {@link UndirectedGraphImpl} and with a {@link CsrUndirectedGraph}. Results are only logged, the benchmark checks that
+ * both implementations traverse the same number of edges.
+ *
+ * <p>This benchmark is not part of the default test run, it is enabled with {@code -Dpowsybl.benchmarks=true}.</p>
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Tag("benchmarks")
+@EnabledIfSystemProperty(named = "powsybl.benchmarks", matches = "true")
+class CsrUndirectedGraphPerformanceTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CsrUndirectedGraphPerformanceTest.class);
+
+    private static final int WARM_UP_ITERATIONS = 5;
+
+    private static final int ITERATIONS = 10;
+
+    private static final int BUSBAR_SECTION_COUNT = 4;
+
+    private static final Object CLOSED = new Object();
+
+    private static final Object OPEN = new Object();
+
+    @Test
+    void smallVoltageLevels() {
+        compare(20, 10_000);
+    }
+
+    @Test
+    void largeVoltageLevels() {
+        compare(2_000, 100);
+    }
+
+    private static void compare(int bayCount, int voltageLevelCount) {
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            measure(UndirectedGraphImpl::new, bayCount, voltageLevelCount);
+            measure(CsrUndirectedGraph::new, bayCount, voltageLevelCount);
+        }
+        long[] impl = new long[4];
+        long[] csr = new long[4];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long[] implMeasure = measure(UndirectedGraphImpl::new, bayCount, voltageLevelCount);
+            long[] csrMeasure = measure(CsrUndirectedGraph::new, bayCount, voltageLevelCount);
+            assertEquals(implMeasure[3], csrMeasure[3]);
+            add(impl, implMeasure);
+            add(csr, csrMeasure);
+        }
+        LOG.info("{} voltage levels of {} bays: UndirectedGraphImpl build {} ms, {} KB allocated, traversal {} ms, "
+                        + "CsrUndirectedGraph build {} ms, {} KB allocated, traversal {} ms",
+                voltageLevelCount, bayCount,
+                impl[0] / ITERATIONS / 1_000_000, impl[1] / ITERATIONS / 1024, impl[2] / ITERATIONS / 1_000_000,
+                csr[0] / ITERATIONS / 1_000_000, csr[1] / ITERATIONS / 1024, csr[2] / ITERATIONS / 1_000_000);
+    }
+
+    private static void add(long[] total, long[] measure) {
+        for (int i = 0; i < total.length; i++) {
+            total[i] += measure[i];
+        }
+    }
+
+    /**
+     * @return the time in nanoseconds and the number of bytes allocated to build the graphs, the time in nanoseconds
+     * to traverse them from each busbar section, and the number of edges traversed.
+     */
+    private static long[] measure(IntFunction<UndirectedGraph<Object, Object>> graphFactory, int bayCount, int voltageLevelCount) {
+        long allocated0 = allocatedBytes();
+        long t0 = System.nanoTime();
+        UndirectedGraph<Object, Object>[] graphs = createGraphs(graphFactory, bayCount, voltageLevelCount);
+        long t1 = System.nanoTime();
+        long allocated1 = allocatedBytes();
+        long traversedEdgeCount = 0;
+        for (UndirectedGraph<Object, Object> graph : graphs) {
+            for (int busbarSection = 0; busbarSection < BUSBAR_SECTION_COUNT; busbarSection++) {
+                int[] count = new int[1];
+                graph.traverse(busbarSection, TraversalType.DEPTH_FIRST, (v1, e, v2) -> {
+                    count[0]++;
+                    return graph.getEdgeObject(e) == OPEN ? TraverseResult.TERMINATE_PATH : TraverseResult.CONTINUE;
+                });
+                traversedEdgeCount += count[0];
+            }
+        }
+        long t2 = System.nanoTime();
+        return new long[] {t1 - t0, allocated1 - allocated0, t2 - t1, traversedEdgeCount};
+    }
+
+    /**
+     * Voltage levels with busbar sections {@code 0} to {@code BUSBAR_SECTION_COUNT - 1}, and bays made of a closed
+     * disconnector to a busbar section, an open disconnector to the next one, a breaker and a feeder node.
+     */
+    @SuppressWarnings("unchecked")
+    private static UndirectedGraph<Object, Object>[] createGraphs(IntFunction<UndirectedGraph<Object, Object>> graphFactory,
+                                                                  int bayCount, int voltageLevelCount) {
+        UndirectedGraph<Object, Object>[] graphs = new UndirectedGraph[voltageLevelCount];
+        Object vertexObject = new Object();
+        for (int i = 0; i < voltageLevelCount; i++) {
+            UndirectedGraph<Object, Object> graph = graphFactory.apply(BUSBAR_SECTION_COUNT + 3 * bayCount);
+            for (int busbarSection = 0; busbarSection < BUSBAR_SECTION_COUNT; busbarSection++) {
+                graph.setVertexObject(graph.addVertex(), vertexObject);
+            }
+            for (int bay = 0; bay < bayCount; bay++) {
+                int node = graph.addVertex();
+                int breakerNode = graph.addVertex();
+                int feederNode = graph.addVertex();
+                graph.setVertexObject(feederNode, vertexObject);
+                graph.addEdge(bay % BUSBAR_SECTION_COUNT, node, CLOSED);
+                graph.addEdge((bay + 1) % BUSBAR_SECTION_COUNT, node, OPEN);
+                graph.addEdge(node, breakerNode, CLOSED);
+                graph.addEdge(breakerNode, feederNode, CLOSED);
+            }
+            graphs[i] = graph;
+        }
+        return graphs;
+    }
+
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean) {
+            return threadMXBean.getCurrentThreadAllocatedBytes();
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.math.graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the tests of {@link UndirectedGraphImplTest} on a {@link CsrUndirectedGraph}, and checks that both
+ * implementations behave the same way on random modifications.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+class CsrUndirectedGraphTest extends UndirectedGraphImplTest {
+
+    @Override
+    protected <V, E> UndirectedGraph<V, E> createGraph(int vertexLimit) {
+        return new CsrUndirectedGraph<>(vertexLimit);
+    }
+
+    private static List<String> traverse(UndirectedGraph<String, String> graph, int v, TraversalType traversalType) {
+        List<String> traversed = new ArrayList<>();
+        graph.traverse(v, traversalType, (v1, e, v2) -> {
+            traversed.add(v1 + "-" + e + "-" + v2);
+            return e % 7 == 0 ? TraverseResult.TERMINATE_PATH : TraverseResult.CONTINUE;
+        });
+        return traversed;
+    }
+
+    private static void assertSameGraph(UndirectedGraph<String, String> expected, UndirectedGraph<String, String> actual) {
+        assertEquals(expected.getVertexCount(), actual.getVertexCount());
+        assertEquals(expected.getVertexCapacity(), actual.getVertexCapacity());
+        assertEquals(expected.getEdgeCount(), actual.getEdgeCount());
+        assertArrayEquals(expected.getVertices(), actual.getVertices());
+        assertArrayEquals(expected.getEdges(), actual.getEdges());
+        assertEquals(expected.getVertexObjectStream().toList(), actual.getVertexObjectStream().toList());
+        assertEquals(expected.getEdgeObjectStream().toList(), actual.getEdgeObjectStream().toList());
+        for (int v : expected.getVertices()) {
+            assertEquals(expected.getEdgesConnectedToVertex(v), actual.getEdgesConnectedToVertex(v));
+            assertEquals(traverse(expected, v, TraversalType.DEPTH_FIRST), traverse(actual, v, TraversalType.DEPTH_FIRST));
+            assertEquals(traverse(expected, v, TraversalType.BREADTH_FIRST), traverse(actual, v, TraversalType.BREADTH_FIRST));
+        }
+    }
+
+    @Test
+    void testSameAsUndirectedGraphImpl() {
+        UndirectedGraph<String, String> expected = new UndirectedGraphImpl<>(1000);
+        UndirectedGraph<String, String> actual = new CsrUndirectedGraph<>(1000);
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            int[] vertices = expected.getVertices();
+            int[] edges = expected.getEdges();
+            int action = random.nextInt(10);
+            if (action == 0 || vertices.length < 2) {
+                assertEquals(expected.addVertex(), actual.addVertex());
+            } else if (action == 1) {
+                int v = random.nextInt(200);
+                expected.addVertexIfNotPresent(v);
+                actual.addVertexIfNotPresent(v);
+            } else if (action == 2) {
+                int v = vertices[random.nextInt(vertices.length)];
+                expected.setVertexObject(v, random.nextBoolean() ? "v" + i : null);
+                actual.setVertexObject(v, expected.getVertexObject(v));
+            } else if (action <= 6) {
+                // loops and parallel edges included
+                int v1 = vertices[random.nextInt(vertices.length)];
+                int v2 = vertices[random.nextInt(vertices.length)];
+                assertEquals(expected.addEdge(v1, v2, "e" + i), actual.addEdge(v1, v2, "e" + i));
+            } else if (action <= 8 && edges.length > 0) {
+                int e = edges[random.nextInt(edges.length)];
+                assertEquals(expected.removeEdge(e), actual.removeEdge(e));
+            } else {
+                expected.removeIsolatedVertices();
+                actual.removeIsolatedVertices();
+            }
+            if (i % 100 == 0) {
+                assertSameGraph(expected, actual);
+            }
+        }
+        assertSameGraph(expected, actual);
+
+        expected.removeAllEdges();
+        actual.removeAllEdges();
+        assertSameGraph(expected, actual);
+        expected.removeAllVertices();
+        actual.removeAllVertices();
+        assertSameGraph(expected, actual);
+    }
+}
@@ -18,6 +18,8 @@ import org.mockito.Mockito;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -52,9 +54,13 @@ class UndirectedGraphImplTest {
     UndirectedGraphImplTest() {
     }
 
+    protected <V, E> UndirectedGraph<V, E> createGraph(int vertexLimit) {
+        return new UndirectedGraphImpl<>(vertexLimit);
+    }
+
     @BeforeEach
     void setUp() {
-        graph = new UndirectedGraphImpl<>(VERTEX_LIMIT);
+        graph = createGraph(VERTEX_LIMIT);
     }
 
     @AfterEach
@@ -66,7 +72,7 @@ class UndirectedGraphImplTest {
     void testConstructor() {
         assertEquals(0, graph.getVertexCount());
         assertEquals(0, graph.getEdgeCount());
-        PowsyblException e = assertThrows(PowsyblException.class, () -> new UndirectedGraphImpl<>(0));
+        PowsyblException e = assertThrows(PowsyblException.class, () -> createGraph(0));
         assertEquals("Vertex limit should be positive", e.getMessage());
     }
 
@@ -490,6 +496,103 @@ class UndirectedGraphImplTest {
         assertArrayEquals(new boolean[] {false, true, false, false, true, true}, encountered);
     }
 
+    @Test
+    void testTraverseWithContext() {
+        graph.addVertex();
+        graph.addVertex();
+        graph.addVertex();
+        graph.addVertex();
+        graph.addVertex();
+        graph.addVertex();
+        graph.addEdge(0, 1, null); // 0
+        graph.addEdge(0, 2, null); // 1
+        graph.addEdge(0, 3, null); // 2
+        graph.addEdge(1, 4, null); // 3
+        graph.addEdge(2, 4, null); // 4
+        graph.addEdge(4, 5, null); // 5
+        graph.addEdge(3, 5, null); // 6
+
+        // Stops on edges 2, 3 and 6: vertex 3 is not reached
+        Traverser traverser = (v1, e, v2) -> e == 2 || e == 3 || e == 6 ? TraverseResult.TERMINATE_PATH : TraverseResult.CONTINUE;
+        TraversalContext context = new TraversalContext();
+        assertTrue(graph.traverse(5, TraversalType.DEPTH_FIRST, traverser, context));
+        assertEquals(5, context.getTraversedVertexCount());
+        int[] traversed = new int[context.getTraversedVertexCount()];
+        for (int i = 0; i < traversed.length; i++) {
+            traversed[i] = context.getTraversedVertex(i);
+        }
+        assertArrayEquals(new int[] {5, 4, 2, 0, 1}, traversed);
+        boolean[] encountered = new boolean[graph.getVertexCount()];
+        graph.traverse(5, TraversalType.DEPTH_FIRST, traverser, encountered);
+        for (int v = 0; v < encountered.length; v++) {
+            assertEquals(encountered[v], context.isVisited(v));
+        }
+
+        // visited vertices are kept until the context is reset
+        assertTrue(graph.traverse(3, TraversalType.BREADTH_FIRST, traverser, context));
+        assertEquals(6, context.getTraversedVertexCount());
+        assertEquals(3, context.getTraversedVertex(5));
+        assertThrows(IndexOutOfBoundsException.class, () -> context.getTraversedVertex(6));
+        context.reset(graph.getVertexCapacity());
+        assertEquals(0, context.getTraversedVertexCount());
+        assertFalse(context.isVisited(5));
+
+        context.setVisited(0);
+        assertFalse(graph.traverse(1, TraversalType.DEPTH_FIRST, (v1, e, v2) -> v2 == 5 ? TraverseResult.TERMINATE_TRAVERSER : TraverseResult.CONTINUE, context));
+        assertArrayEquals(new int[] {1, 4, 2}, new int[] {context.getTraversedVertex(0), context.getTraversedVertex(1), context.getTraversedVertex(2)});
+        assertEquals(3, context.getTraversedVertexCount());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testDefaultTraverseWithContext() {
+        for (int v = 0; v < 6; v++) {
+            graph.addVertex();
+        }
+        graph.addEdge(0, 1, null); // 0
+        graph.addEdge(0, 2, null); // 1
+        graph.addEdge(0, 3, null); // 2
+        graph.addEdge(1, 4, null); // 3
+        graph.addEdge(2, 4, null); // 4
+        graph.addEdge(4, 5, null); // 5
+        graph.addEdge(3, 5, null); // 6
+        // graph using the default implementation of the traversal with a context
+        UndirectedGraph<Vertex, Object> defaultGraph = (UndirectedGraph<Vertex, Object>) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {UndirectedGraph.class}, (proxy, method, args) -> method.isDefault()
+                        ? InvocationHandler.invokeDefault(proxy, method, args)
+                        : method.invoke(graph, args));
+
+        Traverser traverser = (v1, e, v2) -> e == 2 || e == 3 || e == 6 ? TraverseResult.TERMINATE_PATH : TraverseResult.CONTINUE;
+        TraversalContext context = new TraversalContext();
+        context.setVisited(1);
+        assertTrue(defaultGraph.traverse(5, TraversalType.DEPTH_FIRST, traverser, context));
+        assertArrayEquals(new int[] {5, 0, 2, 4}, new int[] {context.getTraversedVertex(0), context.getTraversedVertex(1),
+            context.getTraversedVertex(2), context.getTraversedVertex(3)});
+        assertEquals(4, context.getTraversedVertexCount());
+        assertTrue(context.isVisited(1));
+        assertFalse(context.isVisited(3));
+    }
+
+    @Test
+    void testTraversalContextPool() {
+        TraversalContext context1;
+        try (TraversalContext context = TraversalContext.acquire(10)) {
+            context1 = context;
+            context.setVisited(3);
+            // a nested traversal gets another context
+            try (TraversalContext context2 = TraversalContext.acquire(10)) {
+                assertNotSame(context1, context2);
+                assertFalse(context2.isVisited(3));
+            }
+        }
+        try (TraversalContext context = TraversalContext.acquire(20)) {
+            // the context is given back to the pool on close, and reset when acquired again
+            assertSame(context1, context);
+            assertFalse(context.isVisited(3));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new TraversalContext(-1));
+    }
+
     @Test
     void testGetVertexObjectStream() {
         graph.addVertex();
@@ -0,0 +1,285 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.security;
+
+import com.powsybl.contingency.ContingencyContext;
+import com.powsybl.contingency.ContingencyContextType;
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.limitmodification.LimitsComputer;
+import com.powsybl.security.detectors.LoadingLimitType;
+import com.powsybl.security.limitreduction.DefaultLimitReductionsApplier;
+import com.powsybl.security.limitreduction.LimitReduction;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Limit violation detection compiled once for a network, a {@link LimitViolationFilter} and a list of
+ * {@link LimitReduction}s, to be run on each state of a security analysis.
+ *
+ * <p>Compilation keeps only the branch and three windings transformer sides, voltage levels and voltage angle limits
+ * whose violations would be kept by the filter, and computes for each side the lowest reduced current limit
+ * (permanent or temporary) in each contingency context of the reductions: pre-contingency state, contingencies
+ * without specific reductions, and each contingency with specific reductions. The detection then only reads the
+ * current of each side and compares it to this threshold: the reduced limits of a side are only computed, by a
+ * {@link DefaultLimitReductionsApplier}, when the threshold is reached, i.e. when there may be a violation.</p>
+ *
+ * <p>The violations found are the ones {@link LimitViolationDetection#checkAll} would find with the same limit
+ * reductions, minus the ones the filter would remove. The limits and the filtering criteria (nominal voltages,
+ * countries) must not be modified after the compilation; the state of the network (flows, voltages, topology) may
+ * change between detections. A compiled detection can be used concurrently on different variants.</p>
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class CompiledLimitViolationDetection {
+
+    /**
+     * Id used to select the reductions of the contingencies without specific reductions: once the reductions of
+     * specific contingencies are removed, all the contingency ids select the same reductions.
+     */
+    private static final String ANY_CONTINGENCY_ID = "";
+
+    private final LimitViolationFilter filter;
+
+    private final Set<LimitViolationType> violationTypes;
+
+    private final List<LimitReduction> limitReductions;
+
+    private final List<LimitReduction> postContingencyLimitReductions;
+
+    private final Identifiable<?>[] elements;
+
+    private final ThreeSides[] sides;
+
+    private final Terminal[] terminals;
+
+    private final double[] preContingencyThresholds;
+
+    private final double[] postContingencyThresholds;
+
+    private final Map<String, double[]> specificContingencyThresholds = new HashMap<>();
+
+    private final VoltageLevel[] voltageLevels;
+
+    private final double[] lowVoltageLimits;
+
+    private final double[] highVoltageLimits;
+
+    private final List<VoltageAngleLimit> voltageAngleLimits = new ArrayList<>();
+
+    private CompiledLimitViolationDetection(Network network, LimitViolationFilter filter, List<LimitReduction> limitReductions) {
+        this.filter = filter;
+        violationTypes = Set.copyOf(filter.getViolationTypes());
+        this.limitReductions = List.copyOf(limitReductions);
+        // reductions applying to the contingencies without specific reductions
+        postContingencyLimitReductions = this.limitReductions.stream()
+                .filter(limitReduction -> !isSpecific(limitReduction.getContingencyContext()))
+                .toList();
+
+        List<Identifiable<?>> elementList = new ArrayList<>();
+        List<ThreeSides> sideList = new ArrayList<>();
+        if (violationTypes.contains(LimitViolationType.CURRENT)) {
+            for (Branch<?> branch : network.getBranches()) {
+                addSide(branch, ThreeSides.ONE, branch.getTerminal1(), elementList, sideList);
+                addSide(branch, ThreeSides.TWO, branch.getTerminal2(), elementList, sideList);
+            }
+            for (ThreeWindingsTransformer transformer : network.getThreeWindingsTransformers()) {
+                for (ThreeSides side : ThreeSides.values()) {
+                    addSide(transformer, side, transformer.getTerminal(side), elementList, sideList);
+                }
+            }
+        }
+        elements = elementList.toArray(new Identifiable<?>[0]);
+        sides = sideList.toArray(new ThreeSides[0]);
+        terminals = new Terminal[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            terminals[i] = getTerminal(elements[i], sides[i]);
+        }
+
+        preContingencyThresholds = computeThresholds(this.limitReductions, null);
+        postContingencyThresholds = computeThresholds(postContingencyLimitReductions, ANY_CONTINGENCY_ID);
+        for (LimitReduction limitReduction : this.limitReductions) {
+            ContingencyContext contingencyContext = limitReduction.getContingencyContext();
+            if (isSpecific(contingencyContext)) {
+                specificContingencyThresholds.computeIfAbsent(contingencyContext.getContingencyId(),
+                    contingencyId -> computeThresholds(this.limitReductions, contingencyId));
+            }
+        }
+
+        List<VoltageLevel> voltageLevelList = new ArrayList<>();
+        List<Double> lowVoltageLimitList = new ArrayList<>();
+        List<Double> highVoltageLimitList = new ArrayList<>();
+        for (VoltageLevel voltageLevel : network.getVoltageLevels()) {
+            double lowVoltageLimit = getVoltageLimit(voltageLevel, LimitViolationType.LOW_VOLTAGE, voltageLevel.getLowVoltageLimit(), Double.NEGATIVE_INFINITY);
+            double highVoltageLimit = getVoltageLimit(voltageLevel, LimitViolationType.HIGH_VOLTAGE, voltageLevel.getHighVoltageLimit(), Double.POSITIVE_INFINITY);
+            if (lowVoltageLimit != Double.NEGATIVE_INFINITY || highVoltageLimit != Double.POSITIVE_INFINITY) {
+                voltageLevelList.add(voltageLevel);
+                lowVoltageLimitList.add(lowVoltageLimit);
+                highVoltageLimitList.add(highVoltageLimit);
+            }
+        }
+        voltageLevels = voltageLevelList.toArray(new VoltageLevel[0]);
+        lowVoltageLimits = lowVoltageLimitList.stream().mapToDouble(Double::doubleValue).toArray();
+        highVoltageLimits = highVoltageLimitList.stream().mapToDouble(Double::doubleValue).toArray();
+
+        for (VoltageAngleLimit voltageAngleLimit : network.getVoltageAngleLimits()) {
+            VoltageLevel voltageLevel = voltageAngleLimit.getTerminalFrom().getVoltageLevel();
+            if (filter.accept(LimitViolationType.LOW_VOLTAGE_ANGLE, voltageLevel) || filter.accept(LimitViolationType.HIGH_VOLTAGE_ANGLE, voltageLevel)) {
+                voltageAngleLimits.add(voltageAngleLimit);
+            }
+        }
+    }
+
+    /**
+     * Compile the detection of the limit violations of a network kept by a filter, using limit reductions.
+     *
+     * @param network         The network on which the violations will be detected.
+     * @param filter          The filter of the violations.
+     * @param limitReductions The limit reductions to apply.
+     */
+    public static CompiledLimitViolationDetection compile(Network network, LimitViolationFilter filter, List<LimitReduction> limitReductions) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(filter);
+        Objects.requireNonNull(limitReductions);
+        return new CompiledLimitViolationDetection(network, filter, limitReductions);
+    }
+
+    private void addSide(Identifiable<?> element, ThreeSides side, Terminal terminal, List<Identifiable<?>> elementList, List<ThreeSides> sideList) {
+        if (filter.accept(LimitViolationType.CURRENT, terminal.getVoltageLevel())) {
+            elementList.add(element);
+            sideList.add(side);
+        }
+    }
+
+    private static Terminal getTerminal(Identifiable<?> element, ThreeSides side) {
+        if (element instanceof Branch<?> branch) {
+            return branch.getTerminal(side.toTwoSides());
+        }
+        return ((ThreeWindingsTransformer) element).getTerminal(side);
+    }
+
+    private double getVoltageLimit(VoltageLevel voltageLevel, LimitViolationType type, double limit, double noLimit) {
+        return !Double.isNaN(limit) && filter.accept(type, voltageLevel) ? limit : noLimit;
+    }
+
+    private static boolean isSpecific(ContingencyContext contingencyContext) {
+        return contingencyContext != null && contingencyContext.getContextType() == ContingencyContextType.SPECIFIC;
+    }
+
+    /**
+     * Compute for each side the lowest value of the current above which there may be a violation.
+     */
+    private double[] computeThresholds(List<LimitReduction> reductions, String contingencyId) {
+        LimitsComputer<Identifiable<?>, LoadingLimits> limitsComputer = createLimitsComputer(reductions, contingencyId);
+        double[] thresholds = new double[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            thresholds[i] = limitsComputer.computeLimits(elements[i], LimitType.CURRENT, sides[i], false)
+                    .map(limitsContainer -> getLowestLimit(limitsContainer.getLimits()))
+                    .orElse(Double.POSITIVE_INFINITY);
+        }
+        return thresholds;
+    }
+
+    private static double getLowestLimit(LoadingLimits limits) {
+        double lowestLimit = limits.getPermanentLimit();
+        if (Double.isNaN(lowestLimit)) {
+            // no violation can be detected without permanent limit
+            return Double.POSITIVE_INFINITY;
+        }
+        for (LoadingLimits.TemporaryLimit temporaryLimit : limits.getTemporaryLimits()) {
+            // reductions may be different for each limit, temporary limits may become lower than the permanent one
+            lowestLimit = Math.min(lowestLimit, temporaryLimit.getValue());
+        }
+        return lowestLimit;
+    }
+
+    private static LimitsComputer<Identifiable<?>, LoadingLimits> createLimitsComputer(List<LimitReduction> reductions, String contingencyId) {
+        if (reductions.isEmpty()) {
+            return LimitsComputer.NO_MODIFICATIONS;
+        }
+        DefaultLimitReductionsApplier applier = new DefaultLimitReductionsApplier(reductions);
+        applier.setWorkingContingency(contingencyId);
+        return applier;
+    }
+
+    /**
+     * Number of branch and three windings transformer sides whose current is checked.
+     */
+    public int getCheckedSideCount() {
+        return elements.length;
+    }
+
+    /**
+     * Check the current and voltage values of the working variant of the network, and feed the consumer with the
+     * limit violations kept by the filter.
+     *
+     * @param contingencyId     The id of the contingency of the state to check, null for the pre-contingency state.
+     * @param currentLimitTypes The current limit types to consider.
+     * @param consumer          Will be fed with the limit violations.
+     */
+    public void checkAll(String contingencyId, Set<LoadingLimitType> currentLimitTypes, Consumer<LimitViolation> consumer) {
+        Objects.requireNonNull(currentLimitTypes);
+        Objects.requireNonNull(consumer);
+        if (!currentLimitTypes.isEmpty()) {
+            checkCurrents(contingencyId, currentLimitTypes, consumer);
+        }
+        Consumer<LimitViolation> filteringConsumer = violation -> {
+            if (violationTypes.contains(violation.getLimitType())) {
+                consumer.accept(violation);
+            }
+        };
+        checkVoltages(filteringConsumer);
+        for (VoltageAngleLimit voltageAngleLimit : voltageAngleLimits) {
+            LimitViolationDetection.checkVoltageAngle(voltageAngleLimit, filteringConsumer);
+        }
+    }
+
+    private void checkCurrents(String contingencyId, Set<LoadingLimitType> currentLimitTypes, Consumer<LimitViolation> consumer) {
+        double[] thresholds;
+        List<LimitReduction> reductions;
+        if (contingencyId == null) {
+            thresholds = preContingencyThresholds;
+            reductions = limitReductions;
+        } else {
+            thresholds = specificContingencyThresholds.get(contingencyId);
+            reductions = limitReductions;
+            if (thresholds == null) {
+                thresholds = postContingencyThresholds;
+                reductions = postContingencyLimitReductions;
+            }
+        }
+        LimitsComputer<Identifiable<?>, LoadingLimits> limitsComputer = null;
+        for (int i = 0; i < terminals.length; i++) {
+            double value = terminals[i].getI();
+            if (value >= thresholds[i]) {
+                if (limitsComputer == null) {
+                    // reduced limits only computed for the sides which may be in violation
+                    limitsComputer = createLimitsComputer(reductions, contingencyId);
+                }
+                if (elements[i] instanceof Branch<?> branch) {
+                    LimitViolationDetection.checkLimitViolation(branch, sides[i].toTwoSides(), value, LimitType.CURRENT,
+                            currentLimitTypes, limitsComputer, consumer);
+                } else {
+                    LimitViolationDetection.checkLimitViolation((ThreeWindingsTransformer) elements[i], sides[i], value, LimitType.CURRENT,
+                            currentLimitTypes, limitsComputer, consumer);
+                }
+            }
+        }
+    }
+
+    private void checkVoltages(Consumer<LimitViolation> consumer) {
+        for (int i = 0; i < voltageLevels.length; i++) {
+            for (Bus bus : voltageLevels[i].getBusView().getBuses()) {
+                double value = bus.getV();
+                if (value <= lowVoltageLimits[i] || value >= highVoltageLimits[i]) {
+                    LimitViolationDetection.checkVoltage(bus, value, consumer);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.security;
+
+import com.powsybl.loadflow.LoadFlowResult;
+import com.powsybl.security.results.OperatorStrategyResult;
+import com.powsybl.security.results.PostContingencyResult;
+import com.powsybl.security.results.PreContingencyResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Merge of the results of security analyses run on partitions of the same contingency list, as they become available.
+ *
+ * <p>Only the post-contingency and operator strategy results are kept from each partial result, so that partial
+ * results can be released as soon as they are merged. Partial results can be added in any order with their index in
+ * the partition: merged results are in the order of the indexes, whatever the order of the additions. As for
+ * {@link SecurityAnalysisResultMerger}, if the pre-contingency computation of one of the partial results has failed,
+ * the merged result is {@link SecurityAnalysisResultMerger#FAILED_SECURITY_ANALYSIS_RESULT}.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class IncrementalSecurityAnalysisResultMerger {
+
+    private record Part(List<PostContingencyResult> postContingencyResults, List<OperatorStrategyResult> operatorStrategyResults) {
+    }
+
+    private PreContingencyResult preContingencyResult;
+    private NetworkMetadata networkMetadata;
+    private final TreeMap<Integer, Part> parts = new TreeMap<>();
+    private boolean failed = false;
+    private int resultCount = 0;
+
+    /**
+     * Add a partial result after the ones already added.
+     */
+    public synchronized IncrementalSecurityAnalysisResultMerger add(SecurityAnalysisResult result) {
+        return add(parts.isEmpty() ? resultCount : Math.max(resultCount, parts.lastKey() + 1), result);
+    }
+
+    /**
+     * Add the partial result of index {@code partIndex} in the partition.
+     */
+    public synchronized IncrementalSecurityAnalysisResultMerger add(int partIndex, SecurityAnalysisResult result) {
+        Objects.requireNonNull(result);
+        if (parts.containsKey(partIndex)) {
+            throw new IllegalArgumentException("Partial result " + partIndex + " has already been merged");
+        }
+        resultCount++;
+        if (failed) {
+            return this;
+        }
+        if (result.getPreContingencyResult().getStatus() != LoadFlowResult.ComponentResult.Status.CONVERGED) {
+            failed = true;
+            parts.clear();
+            return this;
+        }
+        if (preContingencyResult == null) {
+            preContingencyResult = result.getPreContingencyResult();
+            networkMetadata = result.getNetworkMetadata();
+        }
+        parts.put(partIndex, new Part(result.getPostContingencyResults(), result.getOperatorStrategyResults()));
+        return this;
+    }
+
+    /**
+     * Number of partial results merged so far.
+     */
+    public synchronized int getResultCount() {
+        return resultCount;
+    }
+
+    public synchronized SecurityAnalysisResult getResult() {
+        if (resultCount == 0) {
+            throw new IllegalStateException("No result to merge");
+        }
+        if (failed) {
+            return SecurityAnalysisResultMerger.FAILED_SECURITY_ANALYSIS_RESULT;
+        }
+        List<PostContingencyResult> postContingencyResults = new ArrayList<>();
+        List<OperatorStrategyResult> operatorStrategyResults = new ArrayList<>();
+        for (Part part : parts.values()) {
+            postContingencyResults.addAll(part.postContingencyResults());
+            operatorStrategyResults.addAll(part.operatorStrategyResults());
+        }
+        return new SecurityAnalysisResult(preContingencyResult, postContingencyResults, operatorStrategyResults)
+                .setNetworkMetadata(networkMetadata);
+    }
+}
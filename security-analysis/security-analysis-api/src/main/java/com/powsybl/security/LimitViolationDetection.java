@@ -238,7 +238,7 @@ public final class LimitViolationDetection {
         };
     }
 
-    private static void checkVoltageAngle(VoltageAngleLimit voltageAngleLimit, Consumer<LimitViolation> consumer) {
+    static void checkVoltageAngle(VoltageAngleLimit voltageAngleLimit, Consumer<LimitViolation> consumer) {
         Bus referenceBus = voltageAngleLimit.getTerminalFrom().getBusView().getBus();
         Bus otherBus = voltageAngleLimit.getTerminalTo().getBusView().getBus();
         if (referenceBus != null && otherBus != null
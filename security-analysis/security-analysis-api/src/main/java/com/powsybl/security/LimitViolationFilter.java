@@ -11,6 +11,8 @@ package com.powsybl.security;
 import com.powsybl.commons.config.PlatformConfig;
 import com.powsybl.iidm.network.Country;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.Substation;
+import com.powsybl.iidm.network.VoltageLevel;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -120,6 +122,15 @@ public class LimitViolationFilter {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Check whether the violations of a type located in a voltage level would be kept by this filter.
+     */
+    boolean accept(LimitViolationType limitViolationType, VoltageLevel voltageLevel) {
+        return accept(limitViolationType)
+                && accept(voltageLevel.getNominalV())
+                && accept(voltageLevel.getSubstation().flatMap(Substation::getCountry).orElse(null));
+    }
+
     private boolean accept(Country country) {
         if (countries == null) {
             return true;
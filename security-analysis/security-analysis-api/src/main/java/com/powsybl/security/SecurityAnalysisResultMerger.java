@@ -9,8 +9,9 @@ package com.powsybl.security;
 
 import com.powsybl.loadflow.LoadFlowResult;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
 
 /**
  * @author Yichen Tang {@literal <yichen.tang at rte-france.com>}
@@ -24,15 +25,11 @@ public final class SecurityAnalysisResultMerger {
     public static SecurityAnalysisResult merge(SecurityAnalysisResult[] results) {
         //If one of the subtasks has failed, return a failed result
         Objects.requireNonNull(results);
-        for (SecurityAnalysisResult subResult : results) {
-            if (subResult.getPreContingencyResult().getStatus() != LoadFlowResult.ComponentResult.Status.CONVERGED) {
-                return FAILED_SECURITY_ANALYSIS_RESULT;
-            }
+        IncrementalSecurityAnalysisResultMerger merger = new IncrementalSecurityAnalysisResultMerger();
+        for (SecurityAnalysisResult result : results) {
+            merger.add(result);
         }
-        return new SecurityAnalysisResult(results[0].getPreContingencyLimitViolationsResult(), results[0].getPreContingencyResult().getStatus(),
-                Arrays.stream(results).flatMap(result -> result.getPostContingencyResults().stream()).collect(Collectors.toList()))
-                .setNetworkMetadata(results[0].getNetworkMetadata());
-
+        return merger.getResult();
     }
 
     public static SecurityAnalysisResult merge(Collection<SecurityAnalysisResult> results) {
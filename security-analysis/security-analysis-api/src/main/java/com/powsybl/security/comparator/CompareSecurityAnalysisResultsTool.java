@@ -33,6 +33,8 @@ public class CompareSecurityAnalysisResultsTool implements Tool {
     private static final String RESULT2_FILE_OPTION = "result2-file";
     private static final String OUTPUT_FILE_OPTION = "output-file";
     private static final String THRESHOLD_OPTION = "threshold";
+    private static final String STREAMING_OPTION = "streaming";
+    private static final String ORDERED_BY_ID_OPTION = "ordered-by-id";
 
     private static final double THRESHOLD_DEFAULT = 0d;
 
@@ -81,6 +83,13 @@ public class CompareSecurityAnalysisResultsTool implements Tool {
                         .hasArg()
                         .argName("THRESHOLD")
                         .build());
+                options.addOption(Option.builder().longOpt(STREAMING_OPTION)
+                        .desc("compare the post-contingency results while reading them, without loading the results in memory")
+                        .build());
+                options.addOption(Option.builder().longOpt(ORDERED_BY_ID_OPTION)
+                        .desc("with " + STREAMING_OPTION + ", the post-contingency results of both files are ordered by contingency id, "
+                                + "so that only a few of them are kept in memory")
+                        .build());
                 return options;
             }
 
@@ -99,6 +108,13 @@ public class CompareSecurityAnalysisResultsTool implements Tool {
         Path outputFile = context.getFileSystem().getPath(line.getOptionValue(OUTPUT_FILE_OPTION));
         double threshold = line.hasOption(THRESHOLD_OPTION) ? Double.parseDouble(line.getOptionValue(THRESHOLD_OPTION)) : THRESHOLD_DEFAULT;
         try (Writer outputWriter = Files.newBufferedWriter(outputFile)) {
+            if (line.hasOption(STREAMING_OPTION)) {
+                SecurityAnalysisResultStreamComparator comparator = new SecurityAnalysisResultStreamComparator(threshold, outputWriter,
+                        context.getShortTimeExecutionComputationManager().getExecutor())
+                        .setOrderedById(line.hasOption(ORDERED_BY_ID_OPTION));
+                context.getOutputStream().println("Comparison result: " + (comparator.compare(results1File, results2File) ? "success" : "fail"));
+                return;
+            }
             SecurityAnalysisResult result1 = SecurityAnalysisResultDeserializer.read(results1File);
             SecurityAnalysisResult result2 = SecurityAnalysisResultDeserializer.read(results2File);
             SecurityAnalysisResultEquivalence resultEquivalence = new SecurityAnalysisResultEquivalence(threshold, outputWriter);
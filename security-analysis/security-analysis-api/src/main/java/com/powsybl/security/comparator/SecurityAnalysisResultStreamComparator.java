@@ -0,0 +1,350 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.security.comparator;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.ThreeSides;
+import com.powsybl.security.LimitViolation;
+import com.powsybl.security.LimitViolationType;
+import com.powsybl.security.LimitViolationsResult;
+import com.powsybl.security.PostContingencyComputationStatus;
+import com.powsybl.security.json.SecurityAnalysisResultStreamReader;
+import com.powsybl.security.results.PostContingencyResult;
+import com.powsybl.security.results.PreContingencyResult;
+
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Comparison of two security analysis results read as streams of post-contingency results, with the same criteria as
+ * {@link SecurityAnalysisResultEquivalence}, without having both results in memory.
+ *
+ * <p>Post-contingency results are matched by contingency id while they are read: a result is kept until the result of
+ * the same contingency is read from the other stream. When both streams are in the same order, as results of the same
+ * contingency list, only the results missing in the other stream are kept until the end. When both streams are
+ * {@link #setOrderedById ordered by contingency id}, a result is reported as missing in the other stream as soon as
+ * the other stream is past its contingency id, so that only a few results are kept in memory.</p>
+ *
+ * <p>Violations of two results are matched through a hash map on the subject, the limit type and the side, instead of
+ * sorting them. Matched contingencies are compared in parallel by chunks of consecutive contingencies, and the
+ * differences are written in the order the contingencies are matched.</p>
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class SecurityAnalysisResultStreamComparator {
+
+    public static final int DEFAULT_CHUNK_SIZE = 100;
+
+    private final double threshold;
+
+    private final SecurityAnalysisResultComparisonWriter comparisonWriter;
+
+    private final Executor executor;
+
+    private final int chunkSize;
+
+    private final int maxPendingChunks;
+
+    private boolean orderedById = false;
+
+    /**
+     * Results of the comparison of a chunk of contingencies: the writes of the differences, deferred so that they are
+     * done in order by the reading thread.
+     */
+    private static final class ChunkComparison {
+
+        private final List<Consumer<SecurityAnalysisResultComparisonWriter>> writes = new ArrayList<>();
+
+        private boolean equivalent = true;
+    }
+
+    private record ViolationKey(String subjectId, LimitViolationType limitType, ThreeSides side) {
+
+        private static ViolationKey of(LimitViolation violation) {
+            // same matching as LimitViolationComparator
+            boolean sided = violation.getLimitType() == LimitViolationType.CURRENT
+                    || violation.getLimitType() == LimitViolationType.ACTIVE_POWER
+                    || violation.getLimitType() == LimitViolationType.APPARENT_POWER;
+            return new ViolationKey(violation.getSubjectId(), violation.getLimitType(), sided ? violation.getSide() : null);
+        }
+    }
+
+    public SecurityAnalysisResultStreamComparator(double threshold, Writer writer, Executor executor) {
+        this(threshold, writer, executor, DEFAULT_CHUNK_SIZE, Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * @param chunkSize the number of consecutive contingencies compared by a task.
+     * @param maxPendingChunks the maximum number of chunks compared at the same time, bounding the number of results
+     *                         in memory.
+     */
+    public SecurityAnalysisResultStreamComparator(double threshold, Writer writer, Executor executor, int chunkSize, int maxPendingChunks) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Invalid chunk size: " + chunkSize);
+        }
+        if (maxPendingChunks < 1) {
+            throw new IllegalArgumentException("Invalid max number of pending chunks: " + maxPendingChunks);
+        }
+        this.threshold = threshold;
+        this.comparisonWriter = new SecurityAnalysisResultComparisonWriter(writer);
+        this.executor = Objects.requireNonNull(executor);
+        this.chunkSize = chunkSize;
+        this.maxPendingChunks = maxPendingChunks;
+    }
+
+    /**
+     * Declare that the post-contingency results of both streams are ordered by contingency id: a stream out of order is
+     * then an error.
+     */
+    public SecurityAnalysisResultStreamComparator setOrderedById(boolean orderedById) {
+        this.orderedById = orderedById;
+        return this;
+    }
+
+    /**
+     * Compare two JSON security analysis results, read with a {@link SecurityAnalysisResultStreamReader}.
+     */
+    public boolean compare(Path jsonFile1, Path jsonFile2) {
+        try (SecurityAnalysisResultStreamReader reader1 = new SecurityAnalysisResultStreamReader(jsonFile1);
+             SecurityAnalysisResultStreamReader reader2 = new SecurityAnalysisResultStreamReader(jsonFile2)) {
+            if (reader1.getPreContingencyResult() == null || reader2.getPreContingencyResult() == null) {
+                throw new PowsyblException("Pre-contingency result has to be written before post-contingency results");
+            }
+            return compare(reader1.getPreContingencyResult(), reader1, reader2.getPreContingencyResult(), reader2);
+        }
+    }
+
+    public boolean compare(PreContingencyResult preContingencyResult1, Iterator<PostContingencyResult> postContingencyResults1,
+                           PreContingencyResult preContingencyResult2, Iterator<PostContingencyResult> postContingencyResults2) {
+        Objects.requireNonNull(preContingencyResult1);
+        Objects.requireNonNull(postContingencyResults1);
+        Objects.requireNonNull(preContingencyResult2);
+        Objects.requireNonNull(postContingencyResults2);
+
+        // compare precontingency results
+        ChunkComparison preContingencyComparison = new ChunkComparison();
+        preContingencyComparison.equivalent = preContingencyResult1.getStatus() == preContingencyResult2.getStatus();
+        compareViolations(null, preContingencyResult1.getLimitViolationsResult(), preContingencyResult2.getLimitViolationsResult(), preContingencyComparison);
+        boolean equivalent = write(preContingencyComparison);
+
+        // compare postcontingency results
+        Matcher matcher = new Matcher();
+        while (postContingencyResults1.hasNext() || postContingencyResults2.hasNext()) {
+            if (postContingencyResults1.hasNext()) {
+                matcher.add(postContingencyResults1.next(), true);
+            }
+            if (postContingencyResults2.hasNext()) {
+                matcher.add(postContingencyResults2.next(), false);
+            }
+        }
+        matcher.finish();
+        return equivalent && matcher.equivalent;
+    }
+
+    /**
+     * Matching of the post-contingency results of both streams, and comparison of the pairs by chunks.
+     */
+    private final class Matcher {
+
+        private final LinkedHashMap<String, PostContingencyResult> unmatched1 = new LinkedHashMap<>();
+
+        private final LinkedHashMap<String, PostContingencyResult> unmatched2 = new LinkedHashMap<>();
+
+        private String lastId1;
+
+        private String lastId2;
+
+        private List<PostContingencyResult[]> chunk = new ArrayList<>(chunkSize);
+
+        private final Deque<CompletableFuture<ChunkComparison>> pendingChunks = new ArrayDeque<>();
+
+        private boolean equivalent = true;
+
+        private void add(PostContingencyResult result, boolean first) {
+            String id = result.getContingency().getId();
+            String lastId = first ? lastId1 : lastId2;
+            if (orderedById && lastId != null && lastId.compareTo(id) >= 0) {
+                throw new PowsyblException("Results are not ordered by contingency id: '" + id + "' after '" + lastId + "'");
+            }
+            if (first) {
+                lastId1 = id;
+            } else {
+                lastId2 = id;
+            }
+            Map<String, PostContingencyResult> unmatched = first ? unmatched1 : unmatched2;
+            PostContingencyResult other = (first ? unmatched2 : unmatched1).remove(id);
+            if (other != null) {
+                addPair(first ? result : other, first ? other : result);
+            } else if (unmatched.put(id, result) != null) {
+                throw new PowsyblException("Several results for contingency '" + id + "'");
+            }
+            if (orderedById) {
+                // results whose contingency id is before the last id of the other stream will never be matched
+                flushUnmatched(unmatched1, lastId2, true);
+                flushUnmatched(unmatched2, lastId1, false);
+            }
+        }
+
+        private void flushUnmatched(LinkedHashMap<String, PostContingencyResult> unmatched, String otherLastId, boolean first) {
+            if (otherLastId == null) {
+                return;
+            }
+            Iterator<Map.Entry<String, PostContingencyResult>> it = unmatched.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<String, PostContingencyResult> e = it.next();
+                if (e.getKey().compareTo(otherLastId) >= 0) {
+                    break;
+                }
+                addPair(first ? e.getValue() : null, first ? null : e.getValue());
+                it.remove();
+            }
+        }
+
+        private void addPair(PostContingencyResult result1, PostContingencyResult result2) {
+            chunk.add(new PostContingencyResult[] {result1, result2});
+            if (chunk.size() == chunkSize) {
+                submitChunk();
+            }
+        }
+
+        private void submitChunk() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            List<PostContingencyResult[]> pairs = chunk;
+            chunk = new ArrayList<>(chunkSize);
+            pendingChunks.addLast(CompletableFuture.supplyAsync(() -> compareChunk(pairs), executor));
+            while (pendingChunks.size() >= maxPendingChunks) {
+                writeOldestChunk();
+            }
+        }
+
+        private void writeOldestChunk() {
+            try {
+                equivalent &= write(pendingChunks.removeFirst().join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw e;
+            }
+        }
+
+        private void finish() {
+            unmatched1.values().forEach(result -> addPair(result, null));
+            unmatched2.values().forEach(result -> addPair(null, result));
+            unmatched1.clear();
+            unmatched2.clear();
+            submitChunk();
+            while (!pendingChunks.isEmpty()) {
+                writeOldestChunk();
+            }
+        }
+    }
+
+    private boolean write(ChunkComparison comparison) {
+        comparison.writes.forEach(write -> write.accept(comparisonWriter));
+        return comparison.equivalent;
+    }
+
+    private ChunkComparison compareChunk(List<PostContingencyResult[]> pairs) {
+        ChunkComparison comparison = new ChunkComparison();
+        for (PostContingencyResult[] pair : pairs) {
+            if (pair[0] != null && pair[1] != null) {
+                compareViolations(pair[0].getContingency().getId(), pair[0].getLimitViolationsResult(), pair[1].getLimitViolationsResult(), comparison);
+            } else if (pair[0] != null) {
+                onlySmallViolations(pair[0], false, comparison);
+            } else {
+                onlySmallViolations(pair[1], true, comparison);
+            }
+        }
+        return comparison;
+    }
+
+    private void compareViolations(String contingencyId, LimitViolationsResult result1, LimitViolationsResult result2, ChunkComparison comparison) {
+        LimitViolationEquivalence violationEquivalence = new LimitViolationEquivalence(threshold);
+
+        // violations of result2 by key, in the order of result2
+        Map<ViolationKey, Deque<LimitViolation>> violations2ByKey = new LinkedHashMap<>();
+        for (LimitViolation violation2 : result2.getLimitViolations()) {
+            violations2ByKey.computeIfAbsent(ViolationKey.of(violation2), k -> new ArrayDeque<>(1)).addLast(violation2);
+        }
+        for (LimitViolation violation1 : result1.getLimitViolations()) {
+            Deque<LimitViolation> violations2 = violations2ByKey.get(ViolationKey.of(violation1));
+            LimitViolation violation2 = violations2 != null ? violations2.pollFirst() : null;
+            if (violation2 != null) { // same violations in both results
+                boolean violationsEquivalent = violationEquivalence.equivalent(violation1, violation2);
+                addWrite(comparison, contingencyId, writer -> writer.write(violation1, violation2, violationsEquivalent));
+                comparison.equivalent &= violationsEquivalent;
+            } else { // violation only on result1
+                comparison.equivalent &= isSmallViolation(contingencyId, violation1, false, comparison);
+            }
+        }
+        for (Deque<LimitViolation> violations2 : violations2ByKey.values()) {
+            for (LimitViolation violation2 : violations2) { // violation only on result2
+                comparison.equivalent &= isSmallViolation(contingencyId, violation2, true, comparison);
+            }
+        }
+
+        // compare actions
+        List<String> actions1 = new ArrayList<>(result1.getActionsTaken());
+        List<String> actions2 = new ArrayList<>(result2.getActionsTaken());
+        Collections.sort(actions1);
+        Collections.sort(actions2);
+        boolean actionsEquivalent = actions1.equals(actions2);
+        addWrite(comparison, contingencyId, writer -> writer.write(actions1, actions2, actionsEquivalent));
+        comparison.equivalent &= actionsEquivalent;
+    }
+
+    private void onlySmallViolations(PostContingencyResult postContingencyResult, boolean missingResult1, ChunkComparison comparison) {
+        String contingencyId = postContingencyResult.getContingency().getId();
+        List<LimitViolation> violations = new ArrayList<>(postContingencyResult.getLimitViolationsResult().getLimitViolations());
+        violations.sort(new LimitViolationComparator());
+        boolean equivalent = !violations.isEmpty();
+        for (LimitViolation violation : violations) {
+            equivalent &= isSmallViolation(contingencyId, violation, missingResult1, comparison);
+        }
+        boolean converged = postContingencyResult.getStatus() == PostContingencyComputationStatus.CONVERGED;
+        List<String> actions = postContingencyResult.getLimitViolationsResult().getActionsTaken();
+        boolean finalEquivalent = equivalent;
+        addWrite(comparison, contingencyId, writer -> {
+            if (missingResult1) {
+                writer.write(null, converged, finalEquivalent);
+                writer.write(null, actions, finalEquivalent);
+            } else {
+                writer.write(converged, null, finalEquivalent);
+                writer.write(actions, null, finalEquivalent);
+            }
+        });
+        comparison.equivalent &= equivalent;
+    }
+
+    private boolean isSmallViolation(String contingencyId, LimitViolation violation, boolean missingResult1, ChunkComparison comparison) {
+        boolean smallViolation = Math.abs(violation.getValue() - (violation.getLimit() * violation.getLimitReduction())) <= threshold;
+        addWrite(comparison, contingencyId, writer -> {
+            if (missingResult1) {
+                writer.write(null, violation, smallViolation);
+            } else {
+                writer.write(violation, null, smallViolation);
+            }
+        });
+        return smallViolation;
+    }
+
+    private static void addWrite(ChunkComparison comparison, String contingencyId, Consumer<SecurityAnalysisResultComparisonWriter> write) {
+        comparison.writes.add(writer -> {
+            writer.setContingency(contingencyId);
+            write.accept(writer);
+        });
+    }
+}
@@ -8,9 +8,11 @@
 package com.powsybl.security.distributed;
 
 import com.google.common.io.ByteSource;
+import com.powsybl.commons.io.TreeDataFormat;
 import com.powsybl.action.Action;
 import com.powsybl.action.ActionList;
 import com.powsybl.computation.*;
+import com.powsybl.iidm.serde.ExportOptions;
 import com.powsybl.iidm.serde.NetworkSerDe;
 import com.powsybl.security.execution.AbstractSecurityAnalysisExecutionInput;
 import com.powsybl.security.execution.NetworkVariant;
@@ -44,7 +46,7 @@ public abstract class AbstractSecurityAnalysisExecutionHandler<R,
 
     protected static final Logger LOGGER = LoggerFactory.getLogger(AbstractSecurityAnalysisExecutionHandler.class);
 
-    private static final String NETWORK_FILE = "network.xiidm";
+    private static final String NETWORK_FILE = "network";
     private static final String CONTINGENCIES_FILE = "contingencies.groovy";
     private static final String PARAMETERS_FILE = "parameters.json";
     private static final String ACTIONS_FILE = "actions.json";
@@ -56,6 +58,7 @@ public abstract class AbstractSecurityAnalysisExecutionHandler<R,
     private final ResultReader<R> reader;
     private final OptionsCustomizer<S> optionsCustomizer;
     private final ExceptionHandler exceptionHandler;
+    private final TreeDataFormat networkFormat;
 
     /**
      * Defines the result type, and how is should be read from the working directory after the command execution.
@@ -90,12 +93,25 @@ public abstract class AbstractSecurityAnalysisExecutionHandler<R,
                                                        ExceptionHandler exceptionHandler,
                                                        int executionCount,
                                                        T input) {
+        this(reader, optionsCustomizer, exceptionHandler, executionCount, input, TreeDataFormat.XML);
+    }
+
+    /**
+     * The network is written once in the working directory, in the specified format, and read by all the executions.
+     */
+    protected AbstractSecurityAnalysisExecutionHandler(ResultReader<R> reader,
+                                                       OptionsCustomizer<S> optionsCustomizer,
+                                                       ExceptionHandler exceptionHandler,
+                                                       int executionCount,
+                                                       T input,
+                                                       TreeDataFormat networkFormat) {
         this.reader = requireNonNull(reader);
         this.optionsCustomizer = optionsCustomizer;
         this.exceptionHandler = exceptionHandler;
         checkArgument(executionCount > 0, "Execution count must be positive.");
         this.executionCount = executionCount;
         this.input = requireNonNull(input);
+        this.networkFormat = requireNonNull(networkFormat);
     }
 
 
@@ -156,8 +172,13 @@ public abstract class AbstractSecurityAnalysisExecutionHandler<R,
         addLimitReductionsFile(options, workingDir, input.getLimitReductions());
     }
 
-    private static Path getCasePath(Path workingDir) {
-        return workingDir.resolve(NETWORK_FILE);
+    private Path getCasePath(Path workingDir) {
+        String extension = switch (networkFormat) {
+            case XML -> "xiidm";
+            case JSON -> "jiidm";
+            case BIN -> "biidm";
+        };
+        return workingDir.resolve(NETWORK_FILE + "." + extension);
     }
 
     protected static Path getParametersPath(Path workingDir) {
@@ -187,7 +208,7 @@ public abstract class AbstractSecurityAnalysisExecutionHandler<R,
         Path dest = getCasePath(workingDir);
         options.caseFile(dest);
         LOGGER.debug("Copying network to file {}", dest);
-        NetworkSerDe.write(variant.getVariant(), dest);
+        NetworkSerDe.write(variant.getVariant(), new ExportOptions().setFormat(networkFormat), dest);
     }
 
     /**
@@ -33,7 +33,9 @@ public class DistributedSecurityAnalysisExecution extends AbstractDistributedSec
     @Override
     public CompletableFuture<SecurityAnalysisReport> execute(ComputationManager computationManager, SecurityAnalysisExecutionInput data) {
         ExecutionEnvironment itoolsEnv = new ExecutionEnvironment(Collections.emptyMap(), "security_analysis_task_", config.isDebug());
-        ExecutionHandler<SecurityAnalysisReport> executionHandler = SecurityAnalysisExecutionHandlers.distributed(data, subtaskCount);
+        // many small batches rather than one partition per subtask, handed out by the computation manager as its resources free up
+        int batchCount = subtaskCount * config.getBatchesPerSubtask();
+        ExecutionHandler<SecurityAnalysisReport> executionHandler = SecurityAnalysisExecutionHandlers.distributed(data, batchCount, config.getNetworkFormat());
         return computationManager.execute(itoolsEnv, executionHandler);
     }
 }
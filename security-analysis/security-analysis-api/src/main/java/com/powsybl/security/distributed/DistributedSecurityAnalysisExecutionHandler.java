@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.security.distributed;
+
+import com.powsybl.commons.io.TreeDataFormat;
+import com.powsybl.computation.CommandExecution;
+import com.powsybl.security.IncrementalSecurityAnalysisResultMerger;
+import com.powsybl.security.SecurityAnalysisReport;
+import com.powsybl.security.SecurityAnalysisResult;
+import com.powsybl.security.execution.SecurityAnalysisExecutionInput;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Execution handler distributing the contingencies of a security analysis over batches, each batch being an
+ * execution of the {@literal itools security-analysis} command on a partition of the contingencies.
+ *
+ * <p>The result of a batch is merged as soon as the computation manager notifies its completion, so that the result of
+ * each batch is released while the other ones are still running. Results of batches whose completion has not been
+ * notified are merged after all the executions. Whatever the order of completion, post-contingency results are in the
+ * order of the batches, as with the non-incremental merge.</p>
+ *
+ * @author agent {@literal <agent at local>}
+ */
+class DistributedSecurityAnalysisExecutionHandler extends SecurityAnalysisExecutionHandler<SecurityAnalysisReport> {
+
+    private final BatchResults batchResults;
+
+    DistributedSecurityAnalysisExecutionHandler(SecurityAnalysisExecutionInput input, int batchCount, TreeDataFormat networkFormat, String taskCmdId) {
+        this(input, batchCount, networkFormat, taskCmdId, new BatchResults(batchCount));
+    }
+
+    private DistributedSecurityAnalysisExecutionHandler(SecurityAnalysisExecutionInput input, int batchCount, TreeDataFormat networkFormat,
+                                                        String taskCmdId, BatchResults batchResults) {
+        super(workingDir -> SecurityAnalysisExecutionDataHandlers.createReport(workingDir, batchResults.getResult(workingDir), batchCount, input.isWithLogs(), taskCmdId),
+            (workingDir, options) -> SecurityAnalysisExecutionDataHandlers.distributedOptions(workingDir, options, batchCount, input.isWithLogs(), taskCmdId),
+            (workingDir, cause) -> SecurityAnalysisExecutionDataHandlers.generateExceptionWithLogs(workingDir, cause, batchCount, taskCmdId),
+            batchCount,
+            input,
+            networkFormat);
+        this.batchResults = batchResults;
+    }
+
+    @Override
+    public List<CommandExecution> before(Path workingDir) throws IOException {
+        batchResults.workingDir = workingDir;
+        return super.before(workingDir);
+    }
+
+    @Override
+    public void onExecutionCompletion(CommandExecution execution, int executionIndex) {
+        batchResults.merge(executionIndex);
+    }
+
+    private static final class BatchResults {
+
+        private final IncrementalSecurityAnalysisResultMerger merger = new IncrementalSecurityAnalysisResultMerger();
+
+        /**
+         * 1 if the result of the batch has been merged, or is being merged.
+         */
+        private final AtomicIntegerArray merged;
+
+        private volatile Path workingDir;
+
+        private BatchResults(int batchCount) {
+            merged = new AtomicIntegerArray(batchCount);
+        }
+
+        private void merge(int batchIndex) {
+            Path dir = workingDir;
+            // a failed execution has no result: the error is reported after all the executions
+            if (dir == null || !Files.exists(SecurityAnalysisExecutionDataHandlers.getOutputPathForTask(dir, batchIndex))
+                    || !merged.compareAndSet(batchIndex, 0, 1)) {
+                return;
+            }
+            try {
+                merger.add(batchIndex, SecurityAnalysisExecutionDataHandlers.readTaskResult(dir, batchIndex));
+            } catch (Exception e) {
+                // read again, and report the error, after all the executions
+                LOGGER.debug("Cannot read the result of batch {}", batchIndex, e);
+                merged.set(batchIndex, 0);
+            }
+        }
+
+        private SecurityAnalysisResult getResult(Path workingDir) {
+            for (int i = 0; i < merged.length(); i++) {
+                if (merged.compareAndSet(i, 0, 1)) {
+                    try {
+                        merger.add(i, SecurityAnalysisExecutionDataHandlers.readTaskResult(workingDir, i));
+                    } catch (RuntimeException e) {
+                        merged.set(i, 0);
+                        throw e;
+                    }
+                }
+            }
+            return merger.getResult();
+        }
+    }
+}
@@ -9,6 +9,7 @@ package com.powsybl.security.distributed;
 
 import com.powsybl.commons.config.ConfigurationException;
 import com.powsybl.commons.config.PlatformConfig;
+import com.powsybl.commons.io.TreeDataFormat;
 
 import java.util.Objects;
 
@@ -19,9 +20,13 @@ public class ExternalSecurityAnalysisConfig {
 
     private static final boolean DEFAULT_DEBUG = false;
     private static final String DEFAULT_COMMAND = "itools";
+    private static final int DEFAULT_BATCHES_PER_SUBTASK = 1;
+    private static final TreeDataFormat DEFAULT_NETWORK_FORMAT = TreeDataFormat.XML;
 
     private final boolean debug;
     private final String itoolsCommand;
+    private final int batchesPerSubtask;
+    private final TreeDataFormat networkFormat;
 
     public ExternalSecurityAnalysisConfig() {
         this(DEFAULT_DEBUG, DEFAULT_COMMAND);
@@ -32,12 +37,21 @@ public class ExternalSecurityAnalysisConfig {
     }
 
     public ExternalSecurityAnalysisConfig(boolean debug, String itoolsCommand) {
+        this(debug, itoolsCommand, DEFAULT_BATCHES_PER_SUBTASK, DEFAULT_NETWORK_FORMAT);
+    }
+
+    public ExternalSecurityAnalysisConfig(boolean debug, String itoolsCommand, int batchesPerSubtask, TreeDataFormat networkFormat) {
         this.debug = debug;
         Objects.requireNonNull(itoolsCommand);
         if (itoolsCommand.isEmpty()) {
             throw new ConfigurationException("itools command must not be empty.");
         }
         this.itoolsCommand = itoolsCommand;
+        if (batchesPerSubtask < 1) {
+            throw new ConfigurationException("Batches per subtask must be positive.");
+        }
+        this.batchesPerSubtask = batchesPerSubtask;
+        this.networkFormat = Objects.requireNonNull(networkFormat);
     }
 
     public boolean isDebug() {
@@ -48,6 +62,21 @@ public class ExternalSecurityAnalysisConfig {
         return itoolsCommand;
     }
 
+    /**
+     * Number of batches of contingencies per subtask of a distributed execution: the batches are handed out by the
+     * computation manager as its resources free up, so that small batches balance uneven computation times.
+     */
+    public int getBatchesPerSubtask() {
+        return batchesPerSubtask;
+    }
+
+    /**
+     * Format of the network file written once in the working directory and read by all the subtasks.
+     */
+    public TreeDataFormat getNetworkFormat() {
+        return networkFormat;
+    }
+
     public static ExternalSecurityAnalysisConfig load() {
         return load(PlatformConfig.defaultConfig());
     }
@@ -58,7 +87,9 @@ public class ExternalSecurityAnalysisConfig {
                 .map(module -> {
                     boolean debug = module.getBooleanProperty("debug", DEFAULT_DEBUG);
                     String itoolsCommand = module.getStringProperty("itools-command", DEFAULT_COMMAND);
-                    return new ExternalSecurityAnalysisConfig(debug, itoolsCommand);
+                    int batchesPerSubtask = module.getIntProperty("batches-per-subtask", DEFAULT_BATCHES_PER_SUBTASK);
+                    TreeDataFormat networkFormat = module.getEnumProperty("network-format", TreeDataFormat.class, DEFAULT_NETWORK_FORMAT);
+                    return new ExternalSecurityAnalysisConfig(debug, itoolsCommand, batchesPerSubtask, networkFormat);
                 })
                 .orElseGet(() -> new ExternalSecurityAnalysisConfig(DEFAULT_DEBUG, DEFAULT_COMMAND));
 
@@ -10,15 +10,14 @@ import com.powsybl.commons.compress.ZipPackager;
 import com.powsybl.computation.ComputationException;
 import com.powsybl.computation.ComputationExceptionBuilder;
 import com.powsybl.computation.Partition;
+import com.powsybl.security.IncrementalSecurityAnalysisResultMerger;
 import com.powsybl.security.SecurityAnalysisReport;
 import com.powsybl.security.SecurityAnalysisResult;
-import com.powsybl.security.SecurityAnalysisResultMerger;
 import com.powsybl.security.json.SecurityAnalysisResultDeserializer;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 /**
@@ -82,12 +81,22 @@ public final class SecurityAnalysisExecutionDataHandlers {
     }
 
     public static SecurityAnalysisReport readResults(Path workingDir, int subtaskCount, boolean withLogs, String taskCmdId) {
-        List<SecurityAnalysisResult> results = IntStream.range(0, subtaskCount)
-                .mapToObj(taskIndex -> getOutputPathForTask(workingDir, taskIndex))
-                .map(SecurityAnalysisResultDeserializer::read)
-                .collect(Collectors.toList());
-        SecurityAnalysisResult re = SecurityAnalysisResultMerger.merge(results);
-        SecurityAnalysisReport report = new SecurityAnalysisReport(re);
+        IncrementalSecurityAnalysisResultMerger merger = new IncrementalSecurityAnalysisResultMerger();
+        IntStream.range(0, subtaskCount)
+                .mapToObj(taskIndex -> readTaskResult(workingDir, taskIndex))
+                .forEach(merger::add);
+        return createReport(workingDir, merger.getResult(), subtaskCount, withLogs, taskCmdId);
+    }
+
+    public static SecurityAnalysisResult readTaskResult(Path workingDir, int taskIndex) {
+        return SecurityAnalysisResultDeserializer.read(getOutputPathForTask(workingDir, taskIndex));
+    }
+
+    /**
+     * Create the report of a distributed execution from its merged result, with the logs of the subtasks if requested.
+     */
+    public static SecurityAnalysisReport createReport(Path workingDir, SecurityAnalysisResult result, int subtaskCount, boolean withLogs, String taskCmdId) {
+        SecurityAnalysisReport report = new SecurityAnalysisReport(result);
         if (withLogs) {
             List<String> collectedLogsFilename = new ArrayList<>();
             for (int i = 0; i < subtaskCount; i++) {
@@ -7,6 +7,7 @@
  */
 package com.powsybl.security.distributed;
 
+import com.powsybl.commons.io.TreeDataFormat;
 import com.powsybl.computation.CommandExecution;
 import com.powsybl.computation.ComputationException;
 import com.powsybl.computation.ExecutionHandler;
@@ -21,7 +22,7 @@ import java.nio.file.Path;
  * The exact behaviour is provided through the constructor argument.
  * Instances are provided by factory methods of {@link SecurityAnalysisExecutionHandlers}.
  *
- * <p>Specified {@link Network} variant is serialized as an XIIDM file.
+ * <p>Specified {@link Network} variant is serialized as an XIIDM file, or in the specified IIDM format.
  *
  * @author Sylvain Leclerc {@literal <sylvain.leclerc at rte-france.com>}
  * @author Laurent Issertial {@literal <laurent.issertial at rte-france.com>}
@@ -44,7 +45,26 @@ public class SecurityAnalysisExecutionHandler<R> extends AbstractSecurityAnalysi
                                             ExceptionHandler exceptionHandler,
                                             int executionCount,
                                             SecurityAnalysisExecutionInput input) {
-        super(reader, optionsCustomizer, exceptionHandler, executionCount, input);
+        this(reader, optionsCustomizer, exceptionHandler, executionCount, input, TreeDataFormat.XML);
+    }
+
+    /**
+     * Creates a new security analysis execution handler, writing the network in the specified format.
+     *
+     * @param reader            Defines how results should be read from working directory.
+     * @param optionsCustomizer If not {@code null}, defines additional command options.
+     * @param exceptionHandler  Used to translate exceptions to a {@link ComputationException}.
+     * @param executionCount    The number of executions of the command.
+     * @param input             The execution input data.
+     * @param networkFormat     The format of the network file shared by the executions.
+     */
+    public SecurityAnalysisExecutionHandler(ResultReader<R> reader,
+                                            OptionsCustomizer<SecurityAnalysisCommandOptions> optionsCustomizer,
+                                            ExceptionHandler exceptionHandler,
+                                            int executionCount,
+                                            SecurityAnalysisExecutionInput input,
+                                            TreeDataFormat networkFormat) {
+        super(reader, optionsCustomizer, exceptionHandler, executionCount, input, networkFormat);
     }
 
     @Override
@@ -8,6 +8,7 @@
 package com.powsybl.security.distributed;
 
 import com.google.common.base.Preconditions;
+import com.powsybl.commons.io.TreeDataFormat;
 import com.powsybl.computation.ExecutionHandler;
 import com.powsybl.security.SecurityAnalysisReport;
 import com.powsybl.security.execution.SecurityAnalysisExecutionInput;
@@ -54,11 +55,16 @@ public final class SecurityAnalysisExecutionHandlers {
      * to {@literal itools security-analysis}, as specified in argument.
      */
     public static ExecutionHandler<SecurityAnalysisReport> distributed(SecurityAnalysisExecutionInput input, int subtaskCount) {
-        Preconditions.checkArgument(subtaskCount >= 1, TASK_COUNT_ERROR_MESSAGE, subtaskCount);
-        return new SecurityAnalysisExecutionHandler<>(workingDir -> SecurityAnalysisExecutionDataHandlers.readResults(workingDir, subtaskCount, input.isWithLogs(), SA_TASK_CMD_ID),
-            (workingDir, options) -> SecurityAnalysisExecutionDataHandlers.distributedOptions(workingDir, options, subtaskCount, input.isWithLogs(), SA_TASK_CMD_ID),
-            (workingDir, cause) -> SecurityAnalysisExecutionDataHandlers.generateExceptionWithLogs(workingDir, cause, subtaskCount, SA_TASK_CMD_ID),
-            subtaskCount,
-            input);
+        return distributed(input, subtaskCount, TreeDataFormat.XML);
+    }
+
+    /**
+     * Create an {@link ExecutionHandler} which distributes the security analysis execution through multiple calls
+     * to {@literal itools security-analysis}, one for each batch of contingencies. The network is written once in the
+     * specified format and read by all the calls, and the result of each call is merged as soon as it completes.
+     */
+    public static ExecutionHandler<SecurityAnalysisReport> distributed(SecurityAnalysisExecutionInput input, int batchCount, TreeDataFormat networkFormat) {
+        Preconditions.checkArgument(batchCount >= 1, TASK_COUNT_ERROR_MESSAGE, batchCount);
+        return new DistributedSecurityAnalysisExecutionHandler(input, batchCount, networkFormat, SA_TASK_CMD_ID);
     }
 }
@@ -0,0 +1,177 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.security.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.powsybl.action.json.ActionJsonModule;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.json.JsonUtil;
+import com.powsybl.loadflow.LoadFlowResult;
+import com.powsybl.security.LimitViolationsResult;
+import com.powsybl.security.results.PostContingencyResult;
+import com.powsybl.security.results.PreContingencyResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import static com.powsybl.security.json.LimitViolationDeserializer.VIOLATION_LOCATION_SUPPORT;
+
+/**
+ * Streaming reader of a JSON security analysis result: the pre-contingency result is read on opening, and the
+ * post-contingency results are then read one at a time, in the order of the file, so that the whole result is never
+ * in memory.
+ *
+ * <p>The fields of the result are expected in the order they are written by {@link SecurityAnalysisResultSerializer}:
+ * the fields after the post-contingency results (operator strategy results and extensions) are not read.</p>
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class SecurityAnalysisResultStreamReader implements Iterator<PostContingencyResult>, AutoCloseable {
+
+    private final InputStream is;
+
+    private final JsonParser parser;
+
+    private String version;
+
+    private PreContingencyResult preContingencyResult;
+
+    private ObjectReader postContingencyResultReader;
+
+    private PostContingencyResult next;
+
+    private boolean inPostContingencyResults = false;
+
+    public SecurityAnalysisResultStreamReader(Path jsonFile) {
+        this(newInputStream(jsonFile));
+    }
+
+    /**
+     * @param is the JSON input stream, closed with this reader.
+     */
+    public SecurityAnalysisResultStreamReader(InputStream is) {
+        this.is = Objects.requireNonNull(is);
+        ObjectMapper objectMapper = JsonUtil.createObjectMapper()
+                .registerModule(new SecurityAnalysisJsonModule())
+                .registerModule(new ActionJsonModule());
+        try {
+            parser = objectMapper.createParser(is);
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new PowsyblException("Start object token was expected");
+            }
+            readHeader(objectMapper);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static InputStream newInputStream(Path jsonFile) {
+        try {
+            return Files.newInputStream(jsonFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Read the fields before the post-contingency results, and move to the first post-contingency result.
+     */
+    private void readHeader(ObjectMapper objectMapper) throws IOException {
+        ObjectReader reader = objectMapper.reader();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            switch (parser.currentName()) {
+                case "version" -> {
+                    version = parser.nextTextValue();
+                    reader = reader.withAttribute(SecurityAnalysisResultDeserializer.SOURCE_VERSION_ATTRIBUTE, version)
+                            .withAttribute(VIOLATION_LOCATION_SUPPORT, version.compareTo("1.7") >= 0);
+                }
+                case "preContingencyResult" -> {
+                    parser.nextToken();
+                    if ("1.0".equals(version)) {
+                        LimitViolationsResult limitViolationsResult = reader.readValue(parser, LimitViolationsResult.class);
+                        LoadFlowResult.ComponentResult.Status status = limitViolationsResult.isComputationOk()
+                                ? LoadFlowResult.ComponentResult.Status.CONVERGED : LoadFlowResult.ComponentResult.Status.FAILED;
+                        preContingencyResult = new PreContingencyResult(status, limitViolationsResult, Collections.emptyList(),
+                                Collections.emptyList(), Collections.emptyList());
+                    } else {
+                        preContingencyResult = reader.readValue(parser, PreContingencyResult.class);
+                    }
+                }
+                case "postContingencyResults" -> {
+                    if (parser.nextToken() != JsonToken.START_ARRAY) {
+                        throw new PowsyblException("Start array token was expected");
+                    }
+                    postContingencyResultReader = reader.forType(PostContingencyResult.class);
+                    inPostContingencyResults = true;
+                    return;
+                }
+                default -> {
+                    parser.nextToken();
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * Get the pre-contingency result, or null if the result has none before its post-contingency results.
+     */
+    public PreContingencyResult getPreContingencyResult() {
+        return preContingencyResult;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && inPostContingencyResults) {
+            try {
+                if (parser.nextToken() == JsonToken.START_OBJECT) {
+                    next = postContingencyResultReader.readValue(parser);
+                } else {
+                    inPostContingencyResults = false;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public PostContingencyResult next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        PostContingencyResult result = next;
+        next = null;
+        return result;
+    }
+
+    @Override
+    public void close() {
+        try {
+            parser.close();
+            is.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
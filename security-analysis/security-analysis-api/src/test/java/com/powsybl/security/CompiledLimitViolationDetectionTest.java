@@ -0,0 +1,116 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.security;
+
+import com.powsybl.contingency.ContingencyContext;
+import com.powsybl.iidm.criteria.NetworkElementIdListCriterion;
+import com.powsybl.iidm.criteria.duration.PermanentDurationCriterion;
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.limitmodification.LimitsComputer;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.security.detectors.LoadingLimitType;
+import com.powsybl.security.limitreduction.DefaultLimitReductionsApplier;
+import com.powsybl.security.limitreduction.LimitReduction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class CompiledLimitViolationDetectionTest {
+
+    private Network network;
+
+    @BeforeEach
+    void setUp() {
+        network = EurostagTutorialExample1Factory.createWithFixedCurrentLimits();
+    }
+
+    private List<String> check(CompiledLimitViolationDetection detection, String contingencyId) {
+        List<LimitViolation> violations = new ArrayList<>();
+        detection.checkAll(contingencyId, EnumSet.allOf(LoadingLimitType.class), violations::add);
+        return violations.stream().map(LimitViolation::toString).toList();
+    }
+
+    private List<String> checkUncompiled(LimitViolationFilter filter, List<LimitReduction> limitReductions, String contingencyId) {
+        LimitsComputer<Identifiable<?>, LoadingLimits> limitsComputer = LimitsComputer.NO_MODIFICATIONS;
+        if (!limitReductions.isEmpty()) {
+            DefaultLimitReductionsApplier applier = new DefaultLimitReductionsApplier(limitReductions);
+            applier.setWorkingContingency(contingencyId);
+            limitsComputer = applier;
+        }
+        List<LimitViolation> violations = new ArrayList<>();
+        LimitViolationDetection.checkAll(network, EnumSet.allOf(LoadingLimitType.class), limitsComputer, violations::add);
+        return filter.apply(violations, network).stream().map(LimitViolation::toString).toList();
+    }
+
+    @Test
+    void testSameViolations() {
+        LimitViolationFilter filter = new LimitViolationFilter();
+        CompiledLimitViolationDetection detection = CompiledLimitViolationDetection.compile(network, filter, Collections.emptyList());
+        List<String> violations = check(detection, null);
+        assertEquals(checkUncompiled(filter, Collections.emptyList(), null), violations);
+        // current violations on both lines and low voltage on NHV1
+        assertEquals(5, violations.size());
+        assertEquals(check(detection, null), check(detection, "contingency"));
+        assertEquals(8, detection.getCheckedSideCount());
+    }
+
+    @Test
+    void testFilter() {
+        LimitViolationFilter filter = new LimitViolationFilter(EnumSet.of(LimitViolationType.CURRENT), 0.0, EnumSet.of(Country.BE));
+        CompiledLimitViolationDetection detection = CompiledLimitViolationDetection.compile(network, filter, Collections.emptyList());
+        List<String> violations = check(detection, null);
+        assertEquals(checkUncompiled(filter, Collections.emptyList(), null), violations);
+        // only the sides of the branches in Belgium
+        assertEquals(2, violations.size());
+        assertEquals(4, detection.getCheckedSideCount());
+
+        filter = new LimitViolationFilter(EnumSet.allOf(LimitViolationType.class), 400.0);
+        detection = CompiledLimitViolationDetection.compile(network, filter, Collections.emptyList());
+        assertTrue(check(detection, null).isEmpty());
+        assertEquals(0, detection.getCheckedSideCount());
+    }
+
+    @Test
+    void testLimitReductions() {
+        LimitReduction preContingencyReduction = LimitReduction.builder(LimitType.CURRENT, 0.5)
+                .withContingencyContext(ContingencyContext.none())
+                .withNetworkElementCriteria(new NetworkElementIdListCriterion(Set.of("NGEN_NHV1")))
+                .build();
+        LimitReduction postContingencyReduction = LimitReduction.builder(LimitType.CURRENT, 0.9)
+                .withContingencyContext(ContingencyContext.onlyContingencies())
+                .withLimitDurationCriteria(new PermanentDurationCriterion())
+                .build();
+        LimitReduction specificReduction = LimitReduction.builder(LimitType.CURRENT, 0.1)
+                .withContingencyContext(ContingencyContext.specificContingency("c1"))
+                .build();
+        List<LimitReduction> limitReductions = List.of(preContingencyReduction, postContingencyReduction, specificReduction);
+        TwoWindingsTransformer generatorTransformer = network.getTwoWindingsTransformer("NGEN_NHV1");
+        generatorTransformer.newCurrentLimits2().setPermanentLimit(1500).add();
+        generatorTransformer.getTerminal2().setP(-600.0).setQ(-300.0);
+        TwoWindingsTransformer loadTransformer = network.getTwoWindingsTransformer("NHV2_NLOAD");
+        loadTransformer.newCurrentLimits1().setPermanentLimit(5000).add();
+        loadTransformer.getTerminal1().setP(600.0).setQ(200.0);
+
+        LimitViolationFilter filter = new LimitViolationFilter();
+        CompiledLimitViolationDetection detection = CompiledLimitViolationDetection.compile(network, filter, limitReductions);
+        for (String contingencyId : Arrays.asList(null, "c1", "c2")) {
+            assertEquals(checkUncompiled(filter, limitReductions, contingencyId), check(detection, contingencyId));
+        }
+        // the transformer is only in violation with the pre-contingency reduction, the load transformer with the specific one
+        assertTrue(check(detection, null).stream().anyMatch(violation -> violation.contains("NGEN_NHV1")));
+        assertTrue(check(detection, "c2").stream().noneMatch(violation -> violation.contains("NGEN_NHV1")));
+        assertTrue(check(detection, "c1").stream().anyMatch(violation -> violation.contains("NHV2_NLOAD")));
+    }
+}
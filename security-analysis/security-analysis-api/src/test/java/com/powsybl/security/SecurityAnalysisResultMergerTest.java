@@ -18,7 +18,7 @@ import org.mockito.Mockito;
 import java.util.Arrays;
 import java.util.Collections;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author Yichen Tang {@literal <yichen.tang at rte-france.com>}
@@ -75,4 +75,25 @@ class SecurityAnalysisResultMergerTest {
         SecurityAnalysisResult mergedResult = SecurityAnalysisResultMerger.merge(results);
         assertEquals(SecurityAnalysisResultMerger.FAILED_SECURITY_ANALYSIS_RESULT, mergedResult);
     }
+
+    @Test
+    void testIncrementalMerge() {
+        IncrementalSecurityAnalysisResultMerger merger = new IncrementalSecurityAnalysisResultMerger();
+        assertThrows(IllegalStateException.class, merger::getResult);
+        merger.add(result2).add(result1);
+        assertEquals(2, merger.getResultCount());
+        SecurityAnalysisResult mergedResult = merger.getResult();
+        assertEquals(preContingencyResult, mergedResult.getPreContingencyLimitViolationsResult());
+        assertEquals(Arrays.asList(postContingencyResult2, postContingencyResult), mergedResult.getPostContingencyResults());
+
+        merger.add(failedResult);
+        assertSame(SecurityAnalysisResultMerger.FAILED_SECURITY_ANALYSIS_RESULT, merger.getResult());
+
+        // results added with their index are merged in the order of the indexes
+        IncrementalSecurityAnalysisResultMerger indexedMerger = new IncrementalSecurityAnalysisResultMerger();
+        indexedMerger.add(1, result2).add(0, result1);
+        assertEquals(Arrays.asList(postContingencyResult, postContingencyResult2), indexedMerger.getResult().getPostContingencyResults());
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> indexedMerger.add(1, result2));
+        assertEquals("Partial result 1 has already been merged", e.getMessage());
+    }
 }
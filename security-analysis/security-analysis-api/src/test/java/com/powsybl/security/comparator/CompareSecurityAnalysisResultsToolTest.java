@@ -29,11 +29,13 @@ class CompareSecurityAnalysisResultsToolTest extends AbstractToolTest {
         CompareSecurityAnalysisResultsTool tool = new CompareSecurityAnalysisResultsTool();
         Command command = tool.getCommand();
 
-        assertCommand(command, "compare-security-analysis-results", 4, 3);
+        assertCommand(command, "compare-security-analysis-results", 6, 3);
         assertOption(command.getOptions(), "result1-file", true, true);
         assertOption(command.getOptions(), "result2-file", true, true);
         assertOption(command.getOptions(), "output-file", true, true);
         assertOption(command.getOptions(), "threshold", false, true);
+        assertOption(command.getOptions(), "streaming", false, false);
+        assertOption(command.getOptions(), "ordered-by-id", false, false);
     }
 
 }
@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.security.comparator;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.contingency.Contingency;
+import com.powsybl.iidm.network.TwoSides;
+import com.powsybl.loadflow.LoadFlowResult;
+import com.powsybl.security.*;
+import com.powsybl.security.json.SecurityAnalysisResultSerializer;
+import com.powsybl.security.json.SecurityAnalysisResultStreamReader;
+import com.powsybl.security.results.PostContingencyResult;
+import com.powsybl.security.results.PreContingencyResult;
+import org.apache.commons.io.output.NullWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class SecurityAnalysisResultStreamComparatorTest {
+
+    private static final LimitViolation LINE1_VIOLATION = new LimitViolation("NHV1_NHV2_1", LimitViolationType.CURRENT, null, Integer.MAX_VALUE, 1000.0, 0.95f, 1100.0, TwoSides.ONE);
+    private static final LimitViolation SIMILAR_LINE1_VIOLATION = new LimitViolation("NHV1_NHV2_1", LimitViolationType.CURRENT, null, Integer.MAX_VALUE, 1000.0, 0.95f, 1100.09, TwoSides.ONE);
+    private static final LimitViolation DIFFERENT_LINE1_VIOLATION = new LimitViolation("NHV1_NHV2_1", LimitViolationType.CURRENT, null, Integer.MAX_VALUE, 1000.0, 0.95f, 1101.0, TwoSides.ONE);
+    private static final LimitViolation LINE1_SIDE2_VIOLATION = new LimitViolation("NHV1_NHV2_1", LimitViolationType.CURRENT, null, Integer.MAX_VALUE, 1000.0, 0.95f, 1100.0, TwoSides.TWO);
+    private static final LimitViolation SMALL_LINE2_VIOLATION = new LimitViolation("NHV1_NHV2_2", LimitViolationType.CURRENT, null, Integer.MAX_VALUE, 1000.0, 0.95f, 950.09, TwoSides.ONE);
+
+    private static PreContingencyResult preContingencyResult(LimitViolation... violations) {
+        return new PreContingencyResult(LoadFlowResult.ComponentResult.Status.CONVERGED, new LimitViolationsResult(List.of(violations)),
+                Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+    }
+
+    private static PostContingencyResult postContingencyResult(String contingencyId, LimitViolation... violations) {
+        return new PostContingencyResult(new Contingency(contingencyId), PostContingencyComputationStatus.CONVERGED, List.of(violations));
+    }
+
+    private static SecurityAnalysisResultStreamComparator createComparator(StringWriter writer) {
+        return new SecurityAnalysisResultStreamComparator(0.1, writer, ForkJoinPool.commonPool(), 1, 2);
+    }
+
+    @Test
+    void testEquivalent() {
+        List<PostContingencyResult> results1 = List.of(postContingencyResult("c1", LINE1_VIOLATION, LINE1_SIDE2_VIOLATION),
+                                                       postContingencyResult("c2", LINE1_VIOLATION));
+        // same contingencies, other order, other order of violations
+        List<PostContingencyResult> results2 = List.of(postContingencyResult("c2", SIMILAR_LINE1_VIOLATION),
+                                                       postContingencyResult("c1", LINE1_SIDE2_VIOLATION, SIMILAR_LINE1_VIOLATION));
+        StringWriter writer = new StringWriter();
+        assertTrue(createComparator(writer).compare(preContingencyResult(LINE1_VIOLATION), results1.iterator(),
+                                                    preContingencyResult(SIMILAR_LINE1_VIOLATION), results2.iterator()));
+        assertFalse(writer.toString().contains("different"));
+
+        // different post contingency results
+        results2 = List.of(postContingencyResult("c1", LINE1_VIOLATION, LINE1_SIDE2_VIOLATION),
+                           postContingencyResult("c2", DIFFERENT_LINE1_VIOLATION));
+        writer = new StringWriter();
+        assertFalse(createComparator(writer).compare(preContingencyResult(), results1.iterator(), preContingencyResult(), results2.iterator()));
+        assertEquals(List.of("c2"), writer.toString().lines().filter(line -> line.endsWith("different")).map(line -> line.substring(0, 2)).toList());
+    }
+
+    @Test
+    void testMissingContingencies() {
+        // contingencies ordered by id, c2 only in result1 with small violations
+        List<PostContingencyResult> results1 = List.of(postContingencyResult("c1", LINE1_VIOLATION),
+                                                       postContingencyResult("c2", SMALL_LINE2_VIOLATION),
+                                                       postContingencyResult("c3", LINE1_VIOLATION));
+        List<PostContingencyResult> results2 = List.of(postContingencyResult("c1", LINE1_VIOLATION),
+                                                       postContingencyResult("c3", LINE1_VIOLATION));
+        SecurityAnalysisResultStreamComparator orderedComparator = new SecurityAnalysisResultStreamComparator(0.1, NullWriter.NULL_WRITER, ForkJoinPool.commonPool())
+                .setOrderedById(true);
+        assertTrue(orderedComparator.compare(preContingencyResult(), results1.iterator(), preContingencyResult(), results2.iterator()));
+
+        // c3 only in result2, contingencies in any order
+        List<PostContingencyResult> unorderedResults2 = List.of(postContingencyResult("c3", LINE1_VIOLATION), postContingencyResult("c4"),
+                                                                postContingencyResult("c1", LINE1_VIOLATION));
+        SecurityAnalysisResultStreamComparator comparator = new SecurityAnalysisResultStreamComparator(0.1, NullWriter.NULL_WRITER, ForkJoinPool.commonPool());
+        assertFalse(comparator.compare(preContingencyResult(), results1.subList(0, 2).iterator(), preContingencyResult(), unorderedResults2.iterator()));
+
+        PowsyblException e = assertThrows(PowsyblException.class, () -> orderedComparator.compare(preContingencyResult(), results1.iterator(),
+                                                                                                 preContingencyResult(), unorderedResults2.iterator()));
+        assertEquals("Results are not ordered by contingency id: 'c1' after 'c4'", e.getMessage());
+    }
+
+    @Test
+    void testStreamReader() throws IOException {
+        SecurityAnalysisResult result = new SecurityAnalysisResult(preContingencyResult(LINE1_VIOLATION),
+                List.of(postContingencyResult("c1", LINE1_VIOLATION, LINE1_SIDE2_VIOLATION), postContingencyResult("c2", LINE1_VIOLATION)),
+                Collections.emptyList());
+        StringWriter json = new StringWriter();
+        SecurityAnalysisResultSerializer.write(result, json);
+        byte[] bytes = json.toString().getBytes(StandardCharsets.UTF_8);
+
+        try (SecurityAnalysisResultStreamReader reader = new SecurityAnalysisResultStreamReader(new ByteArrayInputStream(bytes))) {
+            assertEquals(SecurityAnalysisResultSerializer.VERSION, reader.getVersion());
+            assertEquals(1, reader.getPreContingencyResult().getLimitViolationsResult().getLimitViolations().size());
+            assertTrue(reader.hasNext());
+            assertEquals("c1", reader.next().getContingency().getId());
+            assertEquals(1, reader.next().getLimitViolationsResult().getLimitViolations().size());
+            assertFalse(reader.hasNext());
+        }
+
+        try (SecurityAnalysisResultStreamReader reader1 = new SecurityAnalysisResultStreamReader(new ByteArrayInputStream(bytes));
+             SecurityAnalysisResultStreamReader reader2 = new SecurityAnalysisResultStreamReader(new ByteArrayInputStream(bytes))) {
+            assertTrue(createComparator(new StringWriter()).compare(reader1.getPreContingencyResult(), reader1, reader2.getPreContingencyResult(), reader2));
+        }
+    }
+}
@@ -9,8 +9,10 @@ package com.powsybl.security.distributed;
 
 import com.google.common.jimfs.Configuration;
 import com.google.common.jimfs.Jimfs;
+import com.powsybl.commons.config.ConfigurationException;
 import com.powsybl.commons.config.InMemoryPlatformConfig;
 import com.powsybl.commons.config.MapModuleConfig;
+import com.powsybl.commons.io.TreeDataFormat;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -52,10 +54,18 @@ class DistributedSecurityAnalysisTest {
         assertFalse(config.isDebug());
         assertEquals("itools", config.getItoolsCommand());
 
+        assertEquals(1, config.getBatchesPerSubtask());
+        assertEquals(TreeDataFormat.XML, config.getNetworkFormat());
+
         config = new ExternalSecurityAnalysisConfig(true, "/path/to/itools");
         assertTrue(config.isDebug());
         assertEquals("/path/to/itools", config.getItoolsCommand());
 
+        config = new ExternalSecurityAnalysisConfig(false, "itools", 10, TreeDataFormat.BIN);
+        assertEquals(10, config.getBatchesPerSubtask());
+        assertEquals(TreeDataFormat.BIN, config.getNetworkFormat());
+        assertThrows(ConfigurationException.class, () -> new ExternalSecurityAnalysisConfig(false, "itools", 0, TreeDataFormat.BIN));
+
         assertThatNullPointerException().isThrownBy(() -> new ExternalSecurityAnalysisConfig(true, null));
 
         try {
@@ -80,9 +90,13 @@ class DistributedSecurityAnalysisTest {
             MapModuleConfig moduleConfig = platformConfig.createModuleConfig("external-security-analysis-config");
             moduleConfig.setStringProperty("debug", "true");
             moduleConfig.setStringProperty("itools-command", "/path/to/itools");
+            moduleConfig.setStringProperty("batches-per-subtask", "10");
+            moduleConfig.setStringProperty("network-format", "BIN");
             config = ExternalSecurityAnalysisConfig.load(platformConfig);
             assertTrue(config.isDebug());
             assertEquals("/path/to/itools", config.getItoolsCommand());
+            assertEquals(10, config.getBatchesPerSubtask());
+            assertEquals(TreeDataFormat.BIN, config.getNetworkFormat());
         }
     }
 }
@@ -12,6 +12,7 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.io.ByteSource;
 import com.google.common.jimfs.Configuration;
 import com.google.common.jimfs.Jimfs;
+import com.powsybl.commons.io.TreeDataFormat;
 import com.powsybl.computation.*;
 import com.powsybl.contingency.Contingency;
 import com.powsybl.contingency.ContingencyContext;
@@ -285,6 +286,59 @@ class SecurityAnalysisExecutionHandlersTest {
         assertEquals("c2", result.getPostContingencyResults().get(1).getContingency().getId());
     }
 
+    @Test
+    void distributedBeforeWithBinaryNetwork() throws IOException {
+        SecurityAnalysisExecutionInput input = new SecurityAnalysisExecutionInput()
+                .setParameters(new SecurityAnalysisParameters())
+                .setNetworkVariant(EurostagTutorialExample1Factory.create(), VariantManagerConstants.INITIAL_VARIANT_ID);
+        ExecutionHandler<SecurityAnalysisReport> handler = SecurityAnalysisExecutionHandlers.distributed(input, 12, TreeDataFormat.BIN);
+
+        List<CommandExecution> commandExecutions = handler.before(workingDir);
+        assertEquals(12, commandExecutions.get(0).getExecutionCount());
+        SimpleCommand command = (SimpleCommand) commandExecutions.get(0).getCommand();
+        List<String> args = command.getArgs(11);
+        assertThat(args.subList(1, args.size()))
+                .containsExactlyInAnyOrder("--case-file=/work/network.biidm",
+                        "--parameters-file=/work/parameters.json",
+                        "--output-file=/work/task_11_result.json",
+                        "--output-format=JSON",
+                        "--task=12/12");
+
+        // the network is written once for all the batches
+        assertThat(workingDir.resolve("network.biidm")).exists();
+        assertThat(workingDir.resolve("network.xiidm")).doesNotExist();
+    }
+
+    @Test
+    void distributedAfterIncremental() throws IOException {
+        SecurityAnalysisExecutionInput input = new SecurityAnalysisExecutionInput()
+                .setParameters(new SecurityAnalysisParameters())
+                .setNetworkVariant(EurostagTutorialExample1Factory.create(), VariantManagerConstants.INITIAL_VARIANT_ID);
+        ExecutionHandler<SecurityAnalysisReport> handler = SecurityAnalysisExecutionHandlers.distributed(input, 3, TreeDataFormat.XML);
+        List<CommandExecution> commandExecutions = handler.before(workingDir);
+
+        JsonSecurityAnalysisResultExporter exporter = new JsonSecurityAnalysisResultExporter();
+        try (Writer writer = Files.newBufferedWriter(workingDir.resolve("task_2_result.json"))) {
+            exporter.export(resultForContingency("c3"), writer);
+        }
+        // a failed batch has no result, the error is reported after all the executions
+        handler.onExecutionCompletion(commandExecutions.get(0), 0);
+        handler.onExecutionCompletion(commandExecutions.get(0), 2);
+        // the result of the batch has been merged as soon as it completed
+        Files.delete(workingDir.resolve("task_2_result.json"));
+
+        for (String id : List.of("c1", "c2")) {
+            try (Writer writer = Files.newBufferedWriter(workingDir.resolve("task_" + (Integer.parseInt(id.substring(1)) - 1) + "_result.json"))) {
+                exporter.export(resultForContingency(id), writer);
+            }
+        }
+        handler.onExecutionCompletion(commandExecutions.get(0), 1);
+
+        SecurityAnalysisResult result = handler.after(workingDir, new DefaultExecutionReport(workingDir)).getResult();
+        // results are in the order of the batches, not in the order of completion
+        assertEquals(List.of("c1", "c2", "c3"), result.getPostContingencyResults().stream().map(r -> r.getContingency().getId()).toList());
+    }
+
     private static Set<String> getFileNamesFromZip(byte[] bytes) throws IOException {
         Set<String> foundNames = new HashSet<>();
         try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(bytes))) {
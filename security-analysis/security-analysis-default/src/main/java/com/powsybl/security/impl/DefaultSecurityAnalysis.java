@@ -7,29 +7,37 @@
  */
 package com.powsybl.security.impl;
 
+import com.powsybl.action.Action;
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.config.PlatformConfig;
-import com.powsybl.commons.exceptions.UncheckedInterruptedException;
 import com.powsybl.commons.report.ReportNode;
 import com.powsybl.computation.ComputationManager;
 import com.powsybl.contingency.ContingenciesProvider;
 import com.powsybl.contingency.Contingency;
+import com.powsybl.contingency.ContingencyContext;
+import com.powsybl.contingency.ContingencyEffect;
+import com.powsybl.contingency.ContingencyEffectCache;
+import com.powsybl.iidm.modification.NetworkModification;
 import com.powsybl.iidm.network.*;
-import com.powsybl.iidm.network.limitmodification.LimitsComputer;
 import com.powsybl.loadflow.LoadFlow;
 import com.powsybl.loadflow.LoadFlowParameters;
 import com.powsybl.loadflow.LoadFlowResult;
 import com.powsybl.security.*;
+import com.powsybl.security.condition.*;
 import com.powsybl.security.detectors.LimitViolationDetector;
 import com.powsybl.security.detectors.LoadingLimitType;
 import com.powsybl.security.interceptors.CurrentLimitViolationInterceptor;
 import com.powsybl.security.interceptors.RunningContext;
 import com.powsybl.security.interceptors.SecurityAnalysisInterceptor;
+import com.powsybl.security.limitreduction.LimitReduction;
 import com.powsybl.security.monitor.StateMonitor;
 import com.powsybl.security.monitor.StateMonitorIndex;
 import com.powsybl.security.results.BranchResult;
 import com.powsybl.security.results.BusResult;
 import com.powsybl.security.results.ConnectivityResult;
 import com.powsybl.security.results.ThreeWindingsTransformerResult;
+import com.powsybl.security.strategy.ConditionalActions;
+import com.powsybl.security.strategy.OperatorStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -49,16 +57,9 @@ public class DefaultSecurityAnalysis {
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultSecurityAnalysis.class);
 
     /**
-     * This executor is used to create the variants of the network, submit the tasks
-     * for computing contingency loadflows and submit the tasks for checking for the
-     * violations. Submitting tasks itself is blocking because we can only run a
-     * limited number of loadflows in parallel because we need the memory for the
-     * variant, and we don't want to submit tasks that would immediately block to
-     * get an available variant (they hurt the performance of the executor who
-     * excutes them)
+     * The maximum number of workers of an analysis: each worker owns a copy of the working variant, so it is the
+     * maximum number of post-contingency variants existing at the same time.
      */
-    private static final ExecutorService SCHEDULER_EXECUTOR = createThreadPool(getOptionalIntProperty("default-security-analysis", "scheduler-pool-size", 10));
-
     private static final int MAX_VARIANTS_PER_ANALYSIS = getOptionalIntProperty("default-security-analysis", "max-variants-per-analysis", 10);
 
     /**
@@ -76,13 +77,6 @@ public class DefaultSecurityAnalysis {
             .orElse(defaultValue);
     }
 
-    private static ExecutorService createThreadPool(int poolSize) {
-        ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 1L, TimeUnit.NANOSECONDS, new LinkedBlockingQueue<>());
-        executor.allowCoreThreadTimeOut(true);
-
-        return executor;
-    }
-
     private final ComputationManager computationManager;
     private final Network network;
     private final LimitViolationDetector violationDetector;
@@ -90,6 +84,10 @@ public class DefaultSecurityAnalysis {
     private final List<SecurityAnalysisInterceptor> interceptors;
     private final StateMonitorIndex monitorIndex;
     private final ReportNode reportNode;
+    private final SecurityAnalysisProgress progress = new SecurityAnalysisProgress();
+    private ContingencyEffectCache contingencyEffectCache;
+    private List<LimitReduction> limitReductions = Collections.emptyList();
+    private volatile CompiledLimitViolationDetection compiledViolationDetection;
 
     public DefaultSecurityAnalysis(Network network, LimitViolationFilter filter, ComputationManager computationManager,
                                    List<StateMonitor> monitors, ReportNode reportNode) {
@@ -117,15 +115,56 @@ public class DefaultSecurityAnalysis {
         return interceptors.remove(interceptor);
     }
 
+    /**
+     * Use a cache of the effects of the contingencies: contingencies are compiled once per topology, possibly shared
+     * with other analyses, and the post-contingency results report the connectivity changes they cause.
+     */
+    public void setContingencyEffectCache(@Nullable ContingencyEffectCache contingencyEffectCache) {
+        this.contingencyEffectCache = contingencyEffectCache;
+    }
+
+    /**
+     * Set the limit reductions to apply when no {@link LimitViolationDetector} is given. The detection of the
+     * violations is compiled with these reductions and the filter once per run.
+     */
+    public void setLimitReductions(List<LimitReduction> limitReductions) {
+        this.limitReductions = List.copyOf(limitReductions);
+    }
+
+    /**
+     * Progress of the post-contingency computations of the current (or last) run of this analysis.
+     */
+    public SecurityAnalysisProgress getProgress() {
+        return progress;
+    }
+
     private SecurityAnalysisResultBuilder createResultBuilder(String initialWorkingStateId) {
         return new SecurityAnalysisResultBuilder(violationFilter, new RunningContext(network, initialWorkingStateId), interceptors);
     }
 
     public CompletableFuture<SecurityAnalysisReport> run(String workingVariantId,
                                                          SecurityAnalysisParameters securityAnalysisParameters, ContingenciesProvider contingenciesProvider) {
+        return run(workingVariantId, securityAnalysisParameters, contingenciesProvider, Collections.emptyList(), Collections.emptyList());
+    }
+
+    /**
+     * Run the security analysis, including the operator strategies defined for the contingencies.
+     *
+     * <p>The actions of the operator strategies of a contingency are applied on top of its post-contingency state,
+     * stage by stage. Strategies applying the same actions at a stage share the same variant and load flow for this
+     * stage, so the number of variant copies and load flows depends on the number of distinct sequences of actions
+     * rather than on the number of strategies.</p>
+     */
+    public CompletableFuture<SecurityAnalysisReport> run(String workingVariantId,
+                                                         SecurityAnalysisParameters securityAnalysisParameters, ContingenciesProvider contingenciesProvider,
+                                                         List<OperatorStrategy> operatorStrategies, List<Action> actions) {
         Objects.requireNonNull(workingVariantId);
         Objects.requireNonNull(securityAnalysisParameters);
         Objects.requireNonNull(contingenciesProvider);
+        Objects.requireNonNull(operatorStrategies);
+        Objects.requireNonNull(actions);
+
+        OperatorStrategies strategies = new OperatorStrategies(operatorStrategies, indexActions(operatorStrategies, actions));
 
         LoadFlowParameters loadFlowParameters = securityAnalysisParameters.getLoadFlowParameters();
 
@@ -135,6 +174,10 @@ public class DefaultSecurityAnalysis {
 
         SecurityAnalysisResultBuilder resultBuilder = createResultBuilder(workingVariantId);
 
+        if (violationDetector == null) {
+            compiledViolationDetection = CompiledLimitViolationDetection.compile(network, violationFilter, limitReductions);
+        }
+
         return LoadFlow
             .runAsync(network, workingVariantId, computationManager, loadFlowParameters, reportNode)
             .thenCompose(loadFlowResult -> {
@@ -145,8 +188,8 @@ public class DefaultSecurityAnalysis {
                             setPreContingencyOkAndCheckViolations(resultBuilder);
                         }, computationManager.getExecutor())
                         .thenComposeAsync(aVoid ->
-                                submitAllLoadFlows(workingVariantId, contingenciesProvider, postContParameters, resultBuilder),
-                            SCHEDULER_EXECUTOR);
+                                submitAllLoadFlows(workingVariantId, contingenciesProvider, postContParameters, resultBuilder, strategies),
+                            computationManager.getExecutor());
                 } else {
                     return setPreContingencyKo(resultBuilder);
                 }
@@ -154,6 +197,25 @@ public class DefaultSecurityAnalysis {
             .thenApply(aVoid -> new SecurityAnalysisReport(resultBuilder.build()));
     }
 
+    private static Map<String, Action> indexActions(List<OperatorStrategy> operatorStrategies, List<Action> actions) {
+        Map<String, Action> actionsById = new HashMap<>();
+        for (Action action : actions) {
+            if (actionsById.put(action.getId(), action) != null) {
+                throw new PowsyblException("Duplicate action id '" + action.getId() + "'");
+            }
+        }
+        for (OperatorStrategy operatorStrategy : operatorStrategies) {
+            for (ConditionalActions conditionalActions : operatorStrategy.getConditionalActions()) {
+                for (String actionId : conditionalActions.getActionIds()) {
+                    if (!actionsById.containsKey(actionId)) {
+                        throw new PowsyblException("Operator strategy '" + operatorStrategy.getId() + "' refers to unknown action '" + actionId + "'");
+                    }
+                }
+            }
+        }
+        return actionsById;
+    }
+
     private void setPreContingencyOkAndCheckViolations(SecurityAnalysisResultBuilder resultBuilder) {
         SecurityAnalysisResultBuilder.PreContingencyResultBuilder builder =
                 resultBuilder.preContingency()
@@ -169,23 +231,41 @@ public class DefaultSecurityAnalysis {
         return CompletableFuture.completedFuture(null);
     }
 
+    /**
+     * Run the post-contingency load flows with a bounded number of workers: each worker owns one copy of the working
+     * variant and pulls the contingencies from a queue shared by all the workers of this analysis, so that a worker
+     * finishing early takes over the remaining contingencies instead of leaving a core idle. Contingencies are queued
+     * in the order of the provider.
+     */
     private CompletableFuture<Void> submitAllLoadFlows(String workingVariantId,
                                                        ContingenciesProvider contingenciesProvider, LoadFlowParameters postContParameters,
-                                                       SecurityAnalysisResultBuilder resultBuilder) {
+                                                       SecurityAnalysisResultBuilder resultBuilder, OperatorStrategies strategies) {
 
+        network.getVariantManager().setWorkingVariant(workingVariantId);
         List<Contingency> contingencies = contingenciesProvider.getContingencies(network);
+        Map<String, ContingencyEffect> effects = contingencyEffectCache != null
+            ? contingencyEffectCache.compile(network, contingencies)
+            : Collections.emptyMap();
         int workerCount = Math.min(MAX_VARIANTS_PER_ANALYSIS, Math.min(computationManager.getResourcesStatus().getAvailableCores(), contingencies.isEmpty() ? 1 : contingencies.size()));
         List<String> variantIds = makeWorkingVariantsNames(workerCount);
-        BlockingQueue<String> queue = new ArrayBlockingQueue<>(workerCount, false, variantIds);
+        Queue<Contingency> queue = new ConcurrentLinkedQueue<>(contingencies);
+        progress.start(contingencies.size(), workerCount);
 
         network.getVariantManager().allowVariantMultiThreadAccess(true);
         network.getVariantManager().cloneVariant(workingVariantId, variantIds);
 
         return CompletableFuture
-            .allOf(contingencies.stream()
-                .map(contingency -> submitOneLoadFlow(workingVariantId, contingency, postContParameters, resultBuilder, queue))
+            .allOf(variantIds.stream()
+                .map(postContVariantId -> {
+                    CompletableFuture<Void> workerFuture = new CompletableFuture<>();
+                    runWorker(workingVariantId, postContVariantId, postContParameters, resultBuilder, queue, effects, strategies, workerFuture);
+                    return workerFuture;
+                })
                 .toArray(CompletableFuture[]::new))
-            .whenComplete((aVoid, throwable) -> variantIds.forEach(network.getVariantManager()::removeVariant));
+            .whenComplete((aVoid, throwable) -> {
+                variantIds.forEach(network.getVariantManager()::removeVariant);
+                strategies.actionVariantIds.forEach(network.getVariantManager()::removeVariant);
+            });
     }
 
     private static List<String> makeWorkingVariantsNames(int workerCount) {
@@ -193,64 +273,280 @@ public class DefaultSecurityAnalysis {
         return IntStream.range(0, workerCount).mapToObj(i -> hash + "_" + i).collect(Collectors.toList());
     }
 
-    // Block for an available variant, then submit a loadflow on this variant, then
-    // make the variant available again
-    private CompletableFuture<Void> submitOneLoadFlow(String workingVariantId, Contingency contingency, LoadFlowParameters postContParameters,
-                                                      SecurityAnalysisResultBuilder resultBuilder, BlockingQueue<String> queue) {
-        return CompletableFuture.completedFuture(null).thenCompose(aaVoid -> {
-            String postContVariantId = getVariantId(queue);
-            return runOneLoadFlowAsync(workingVariantId, postContVariantId, postContParameters, resultBuilder, contingency)
-                .whenComplete((aVoid, throwable) -> queue.add(postContVariantId));
-        });
-    }
-
-    private static String getVariantId(BlockingQueue<String> queue) {
-        try {
-            return queue.take();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new UncheckedInterruptedException(e);
+    /**
+     * Run the contingencies of the queue one after the other on the variant of a worker, until the queue is empty.
+     * Contingencies completed synchronously are chained in a loop rather than in callbacks, so that a synchronous
+     * executor does not grow the stack with the number of contingencies. If a contingency fails, the queue is cleared
+     * so that the other workers stop after their current contingency.
+     */
+    private void runWorker(String workingVariantId, String postContVariantId, LoadFlowParameters postContParameters,
+                           SecurityAnalysisResultBuilder resultBuilder, Queue<Contingency> queue, Map<String, ContingencyEffect> effects,
+                           OperatorStrategies strategies, CompletableFuture<Void> workerFuture) {
+        Contingency contingency;
+        while ((contingency = queue.poll()) != null) {
+            CompletableFuture<Void> future;
+            try {
+                future = runOneLoadFlowAsync(workingVariantId, postContVariantId, postContParameters, resultBuilder, contingency,
+                    effects.get(contingency.getId()), strategies);
+            } catch (Exception e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            if (!future.isDone() || future.isCompletedExceptionally()) {
+                Contingency runningContingency = contingency;
+                future.whenComplete((aVoid, throwable) -> {
+                    if (throwable != null) {
+                        queue.clear();
+                        workerFuture.completeExceptionally(throwable);
+                    } else {
+                        progress.contingencyCompleted(runningContingency.getId());
+                        runWorker(workingVariantId, postContVariantId, postContParameters, resultBuilder, queue, effects, strategies, workerFuture);
+                    }
+                });
+                return;
+            }
+            progress.contingencyCompleted(contingency.getId());
         }
+        workerFuture.complete(null);
     }
 
     private CompletableFuture<Void> runOneLoadFlowAsync(String workingVariantId, String postContVariantId, LoadFlowParameters postContParameters,
-                                                        SecurityAnalysisResultBuilder resultBuilder, Contingency contingency) {
+                                                        SecurityAnalysisResultBuilder resultBuilder, Contingency contingency,
+                                                        @Nullable ContingencyEffect effect, OperatorStrategies strategies) {
         return CompletableFuture
             .runAsync(() -> {
                 LOGGER.debug("Worker {} run loadflow for contingency '{}'.", postContVariantId, contingency.getId());
-                applyContingency(workingVariantId, postContVariantId, contingency);
+                applyContingency(workingVariantId, postContVariantId, contingency, effect);
             }, computationManager.getExecutor())
             .thenCompose(aVoid ->
                 LoadFlow.runAsync(network, postContVariantId, computationManager, postContParameters, reportNode)
             )
-            .thenApplyAsync(lfResult -> {
-                setContingencyOkAndCheckViolations(postContVariantId, resultBuilder, contingency, lfResult);
-                return null;
-            }, computationManager.getExecutor());
+            .thenApplyAsync(lfResult -> setContingencyOkAndCheckViolations(postContVariantId, resultBuilder, contingency, effect, lfResult),
+                computationManager.getExecutor())
+            .thenCompose(postContState -> {
+                if (postContState.status() != PostContingencyComputationStatus.CONVERGED) {
+                    return CompletableFuture.completedFuture(null);
+                }
+                return runOperatorStrategiesAsync(postContVariantId, contingency, postContState, postContParameters, resultBuilder, strategies);
+            });
     }
 
-    private void setContingencyOkAndCheckViolations(String postContVariantId, SecurityAnalysisResultBuilder resultBuilder,
-                                                    Contingency contingency, LoadFlowResult lfResult) {
+    private NetworkState setContingencyOkAndCheckViolations(String postContVariantId, SecurityAnalysisResultBuilder resultBuilder,
+                                                            Contingency contingency, @Nullable ContingencyEffect effect,
+                                                            LoadFlowResult lfResult) {
         network.getVariantManager().setWorkingVariant(postContVariantId);
+        NetworkState state = computeNetworkState(contingency, lfResult);
         SecurityAnalysisResultBuilder.PostContingencyResultBuilder builder =
                 resultBuilder.contingency(contingency)
-                        .setStatus(lfResult.isOk() ? PostContingencyComputationStatus.CONVERGED : PostContingencyComputationStatus.FAILED)
-                        .setConnectivityResult(new ConnectivityResult(0, 0, 0.0, 0.0, Collections.emptySet()));
+                        .setStatus(state.status())
+                        .setConnectivityResult(createConnectivityResult(effect));
+        state.violations().forEach(builder::addViolation);
+        state.branchResults().forEach(builder::addBranchResult);
+        state.busResults().forEach(builder::addBusResult);
+        state.threeWindingsTransformerResults().forEach(builder::addThreeWindingsTransformerResult);
+        builder.endContingency();
+        return state;
+    }
+
+    /**
+     * Violations and monitored results of the working variant after a post-contingency load flow.
+     */
+    private record NetworkState(PostContingencyComputationStatus status, List<LimitViolation> violations, List<BranchResult> branchResults,
+                                List<BusResult> busResults, List<ThreeWindingsTransformerResult> threeWindingsTransformerResults) {
+    }
+
+    private NetworkState computeNetworkState(Contingency contingency, LoadFlowResult lfResult) {
+        NetworkState state = new NetworkState(lfResult.isOk() ? PostContingencyComputationStatus.CONVERGED : PostContingencyComputationStatus.FAILED,
+            new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
         if (lfResult.isOk()) {
-            checkPostContingencyViolations(contingency, network, builder::addViolation);
-            addMonitorInfos(network, monitorIndex.getAllStateMonitor(), builder::addBranchResult, builder::addBusResult, builder::addThreeWindingsTransformerResult);
+            checkPostContingencyViolations(contingency, network, state.violations()::add);
+            addMonitorInfos(network, monitorIndex.getAllStateMonitor(), state.branchResults()::add, state.busResults()::add, state.threeWindingsTransformerResults()::add);
             StateMonitor stateMonitor = monitorIndex.getSpecificStateMonitors().get(contingency.getId());
             if (stateMonitor != null) {
-                addMonitorInfos(network, stateMonitor, builder::addBranchResult, builder::addBusResult, builder::addThreeWindingsTransformerResult);
+                addMonitorInfos(network, stateMonitor, state.branchResults()::add, state.busResults()::add, state.threeWindingsTransformerResults()::add);
             }
         }
-        builder.endContingency();
+        return state;
+    }
+
+    /**
+     * The operator strategies of the analysis, and the actions they refer to.
+     */
+    private static final class OperatorStrategies {
+
+        private final List<OperatorStrategy> operatorStrategies;
+
+        private final Map<String, Action> actionsById;
+
+        // variants used as checkpoints after the actions, removed at the end of the analysis
+        private final Set<String> actionVariantIds = ConcurrentHashMap.newKeySet();
+
+        private OperatorStrategies(List<OperatorStrategy> operatorStrategies, Map<String, Action> actionsById) {
+            this.operatorStrategies = operatorStrategies;
+            this.actionsById = actionsById;
+        }
+
+        private List<OperatorStrategy> getOperatorStrategies(Contingency contingency) {
+            return operatorStrategies.stream()
+                .filter(operatorStrategy -> appliesTo(operatorStrategy.getContingencyContext(), contingency))
+                .toList();
+        }
+
+        private static boolean appliesTo(ContingencyContext contingencyContext, Contingency contingency) {
+            return switch (contingencyContext.getContextType()) {
+                case ALL, ONLY_CONTINGENCIES -> true;
+                case SPECIFIC -> contingency.getId().equals(contingencyContext.getContingencyId());
+                case NONE -> false;
+            };
+        }
+    }
+
+    /**
+     * The operator strategies of one contingency being evaluated.
+     */
+    private static final class OperatorStrategiesRun {
+
+        private final String postContVariantId;
+
+        private final Contingency contingency;
+
+        private final LoadFlowParameters postContParameters;
+
+        private final OperatorStrategies strategies;
+
+        private final Map<OperatorStrategy, SecurityAnalysisResultBuilder.OperatorStrategyResultBuilder> builders = new LinkedHashMap<>();
+
+        private final Set<OperatorStrategy> evaluatedStrategies = new HashSet<>();
+
+        private OperatorStrategiesRun(String postContVariantId, Contingency contingency, LoadFlowParameters postContParameters,
+                                      OperatorStrategies strategies) {
+            this.postContVariantId = postContVariantId;
+            this.contingency = contingency;
+            this.postContParameters = postContParameters;
+            this.strategies = strategies;
+        }
+
+        private String getActionVariantId(int stage) {
+            return postContVariantId + "_actions_" + stage;
+        }
+    }
+
+    private CompletableFuture<Void> runOperatorStrategiesAsync(String postContVariantId, Contingency contingency, NetworkState postContState,
+                                                               LoadFlowParameters postContParameters, SecurityAnalysisResultBuilder resultBuilder,
+                                                               OperatorStrategies strategies) {
+        List<OperatorStrategy> operatorStrategies = strategies.getOperatorStrategies(contingency);
+        if (operatorStrategies.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        OperatorStrategiesRun run = new OperatorStrategiesRun(postContVariantId, contingency, postContParameters, strategies);
+        operatorStrategies.forEach(operatorStrategy -> run.builders.put(operatorStrategy, resultBuilder.operatorStrategy(operatorStrategy)));
+        return runStageAsync(run, postContVariantId, postContState, operatorStrategies, 0)
+            .thenRun(() -> run.builders.forEach((operatorStrategy, builder) -> {
+                // strategies whose first condition is not satisfied have no result
+                if (run.evaluatedStrategies.contains(operatorStrategy)) {
+                    builder.endOperatorStrategy();
+                }
+            }));
+    }
+
+    /**
+     * Evaluate one stage of the strategies from the state reached by their previous stages. Strategies applying the
+     * same actions are evaluated together, then the next stages are evaluated from the resulting state, depth first
+     * so that only one variant per stage is needed.
+     */
+    private CompletableFuture<Void> runStageAsync(OperatorStrategiesRun run, String baseVariantId, NetworkState baseState,
+                                                  List<OperatorStrategy> operatorStrategies, int stage) {
+        List<LimitViolation> filteredViolations = violationFilter.apply(baseState.violations(), network);
+        Map<List<String>, List<OperatorStrategy>> strategiesByActionIds = new LinkedHashMap<>();
+        for (OperatorStrategy operatorStrategy : operatorStrategies) {
+            List<ConditionalActions> stages = operatorStrategy.getConditionalActions();
+            if (stage < stages.size() && isConditionSatisfied(stages.get(stage).getCondition(), filteredViolations)) {
+                strategiesByActionIds.computeIfAbsent(stages.get(stage).getActionIds(), k -> new ArrayList<>()).add(operatorStrategy);
+            }
+        }
+        CompletableFuture<Void> future = CompletableFuture.completedFuture(null);
+        for (Map.Entry<List<String>, List<OperatorStrategy>> e : strategiesByActionIds.entrySet()) {
+            future = future.thenCompose(aVoid -> runActionsAsync(run, baseVariantId, e.getKey(), e.getValue(), stage));
+        }
+        return future;
     }
 
-    private void applyContingency(String workingVariantId, String postContVariantId, Contingency contingency) {
+    private CompletableFuture<Void> runActionsAsync(OperatorStrategiesRun run, String baseVariantId, List<String> actionIds,
+                                                    List<OperatorStrategy> operatorStrategies, int stage) {
+        String actionVariantId = run.getActionVariantId(stage);
+        return CompletableFuture
+            .runAsync(() -> {
+                LOGGER.debug("Worker {} apply actions {} for contingency '{}'.", actionVariantId, actionIds, run.contingency.getId());
+                // the base variant already contains the contingency and the actions of the previous stages
+                network.getVariantManager().cloneVariant(baseVariantId, actionVariantId, true);
+                run.strategies.actionVariantIds.add(actionVariantId);
+                network.getVariantManager().setWorkingVariant(actionVariantId);
+                actionIds.forEach(actionId -> run.strategies.actionsById.get(actionId).toModification().apply(network, computationManager));
+            }, computationManager.getExecutor())
+            .thenCompose(aVoid ->
+                LoadFlow.runAsync(network, actionVariantId, computationManager, run.postContParameters, reportNode)
+            )
+            .thenApplyAsync(lfResult -> {
+                network.getVariantManager().setWorkingVariant(actionVariantId);
+                NetworkState state = computeNetworkState(run.contingency, lfResult);
+                for (OperatorStrategy operatorStrategy : operatorStrategies) {
+                    run.evaluatedStrategies.add(operatorStrategy);
+                    SecurityAnalysisResultBuilder.OperatorStrategyResultBuilder.ConditionalActionsResultBuilder builder =
+                        run.builders.get(operatorStrategy)
+                            .newConditionalActionsResult(operatorStrategy.getConditionalActions().get(stage).getId())
+                            .setStatus(state.status());
+                    state.violations().forEach(builder::addViolation);
+                    state.branchResults().forEach(builder::addBranchResult);
+                    state.busResults().forEach(builder::addBusResult);
+                    state.threeWindingsTransformerResults().forEach(builder::addThreeWindingsTransformerResult);
+                    builder.endConditionalActions();
+                }
+                return state;
+            }, computationManager.getExecutor())
+            .thenCompose(state -> {
+                if (state.status() != PostContingencyComputationStatus.CONVERGED) {
+                    return CompletableFuture.completedFuture(null);
+                }
+                return runStageAsync(run, actionVariantId, state, operatorStrategies, stage + 1);
+            });
+    }
+
+    private static boolean isConditionSatisfied(Condition condition, List<LimitViolation> violations) {
+        if (condition instanceof TrueCondition) {
+            return true;
+        } else if (condition instanceof AnyViolationCondition anyViolationCondition) {
+            return violations.stream().anyMatch(violation -> matches(anyViolationCondition, violation));
+        } else if (condition instanceof AtLeastOneViolationCondition atLeastOneViolationCondition) {
+            Set<String> violationIds = new HashSet<>(atLeastOneViolationCondition.getViolationIds());
+            return violations.stream().anyMatch(violation -> matches(atLeastOneViolationCondition, violation) && violationIds.contains(violation.getSubjectId()));
+        } else if (condition instanceof AllViolationCondition allViolationCondition) {
+            Set<String> violatedIds = violations.stream()
+                .filter(violation -> matches(allViolationCondition, violation))
+                .map(LimitViolation::getSubjectId)
+                .collect(Collectors.toSet());
+            return violatedIds.containsAll(allViolationCondition.getViolationIds());
+        }
+        throw new PowsyblException("Unsupported condition type: " + condition.getType());
+    }
+
+    private static boolean matches(AbstractFilteredCondition condition, LimitViolation violation) {
+        return condition.getFilters().isEmpty() || condition.getFilters().contains(violation.getLimitType());
+    }
+
+    private void applyContingency(String workingVariantId, String postContVariantId, Contingency contingency,
+                                  @Nullable ContingencyEffect effect) {
         network.getVariantManager().cloneVariant(workingVariantId, postContVariantId, true);
         network.getVariantManager().setWorkingVariant(postContVariantId);
-        contingency.toModification().apply(network, computationManager);
+        NetworkModification modification = effect != null ? contingency.toModification(effect) : contingency.toModification();
+        modification.apply(network, computationManager);
+    }
+
+    private ConnectivityResult createConnectivityResult(@Nullable ContingencyEffect effect) {
+        if (effect == null) {
+            return new ConnectivityResult(0, 0, 0.0, 0.0, Collections.emptySet());
+        }
+        return new ConnectivityResult(effect.getCreatedSynchronousComponentCount(), effect.getCreatedConnectedComponentCount(),
+            effect.getDisconnectedLoadActivePower(network), effect.getDisconnectedGenerationActivePower(network),
+            effect.getDisconnectedElementIds());
     }
 
     private void addMonitorInfos(Network network, StateMonitor monitor, Consumer<BranchResult> branchResultConsumer,
@@ -297,7 +593,7 @@ public class DefaultSecurityAnalysis {
         if (violationDetector != null) {
             violationDetector.checkAll(network, consumer);
         } else {
-            LimitViolationDetection.checkAll(network, EnumSet.allOf(LoadingLimitType.class), LimitsComputer.NO_MODIFICATIONS, consumer);
+            compiledViolationDetection.checkAll(null, EnumSet.allOf(LoadingLimitType.class), consumer);
         }
     }
 
@@ -305,8 +601,7 @@ public class DefaultSecurityAnalysis {
         if (violationDetector != null) {
             violationDetector.checkAll(contingency, network, consumer);
         } else {
-            // TODO: Take the contingency into account with full support of LimitReductions
-            LimitViolationDetection.checkAll(network, EnumSet.allOf(LoadingLimitType.class), LimitsComputer.NO_MODIFICATIONS, consumer);
+            compiledViolationDetection.checkAll(contingency.getId(), EnumSet.allOf(LoadingLimitType.class), consumer);
         }
     }
 }
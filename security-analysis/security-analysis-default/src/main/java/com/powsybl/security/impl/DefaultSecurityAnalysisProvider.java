@@ -28,7 +28,9 @@ public class DefaultSecurityAnalysisProvider implements SecurityAnalysisProvider
         DefaultSecurityAnalysis securityAnalysis = new DefaultSecurityAnalysis(network, runParameters.getFilter(),
                 runParameters.getComputationManager(), runParameters.getMonitors(), runParameters.getReportNode());
         runParameters.getInterceptors().forEach(securityAnalysis::addInterceptor);
-        return securityAnalysis.run(workingVariantId, runParameters.getSecurityAnalysisParameters(), contingenciesProvider);
+        securityAnalysis.setLimitReductions(runParameters.getLimitReductions());
+        return securityAnalysis.run(workingVariantId, runParameters.getSecurityAnalysisParameters(), contingenciesProvider,
+                runParameters.getOperatorStrategies(), runParameters.getActions());
     }
 
     @Override
@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.security.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Progress of the post-contingency computations of a {@link DefaultSecurityAnalysis}, which can be read from any
+ * thread while the analysis is running.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class SecurityAnalysisProgress {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SecurityAnalysisProgress.class);
+
+    private volatile int contingencyCount;
+
+    private volatile int workerCount;
+
+    private final AtomicInteger completedContingencyCount = new AtomicInteger();
+
+    SecurityAnalysisProgress() {
+    }
+
+    void start(int contingencyCount, int workerCount) {
+        this.contingencyCount = contingencyCount;
+        this.workerCount = workerCount;
+        completedContingencyCount.set(0);
+        LOGGER.debug("Running {} contingencies with {} workers", contingencyCount, workerCount);
+    }
+
+    void contingencyCompleted(String contingencyId) {
+        int completed = completedContingencyCount.incrementAndGet();
+        LOGGER.debug("Contingency '{}' completed ({}/{})", contingencyId, completed, contingencyCount);
+    }
+
+    /**
+     * Number of contingencies to compute.
+     */
+    public int getContingencyCount() {
+        return contingencyCount;
+    }
+
+    /**
+     * Number of workers, each of them computing one contingency at a time on its own variant.
+     */
+    public int getWorkerCount() {
+        return workerCount;
+    }
+
+    /**
+     * Number of contingencies whose computation, including their operator strategies, is completed.
+     */
+    public int getCompletedContingencyCount() {
+        return completedContingencyCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return "SecurityAnalysisProgress(contingencyCount=" + contingencyCount + ", workerCount=" + workerCount
+                + ", completedContingencyCount=" + completedContingencyCount.get() + ")";
+    }
+}
@@ -9,7 +9,9 @@ package com.powsybl.security.impl;
 
 import com.google.common.jimfs.Configuration;
 import com.google.common.jimfs.Jimfs;
+import com.powsybl.action.Action;
 import com.powsybl.action.SwitchAction;
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.config.InMemoryPlatformConfig;
 import com.powsybl.commons.config.PlatformConfig;
 import com.powsybl.commons.report.ReportNode;
@@ -17,6 +19,7 @@ import com.powsybl.computation.ComputationManager;
 import com.powsybl.computation.ComputationResourcesStatus;
 import com.powsybl.contingency.*;
 import com.powsybl.iidm.modification.AbstractNetworkModification;
+import com.powsybl.iidm.modification.NetworkModification;
 import com.powsybl.iidm.modification.topology.NamingStrategy;
 import com.powsybl.iidm.network.Bus;
 import com.powsybl.iidm.network.Network;
@@ -24,7 +27,10 @@ import com.powsybl.iidm.network.VariantManagerConstants;
 import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
 import com.powsybl.loadflow.LoadFlowResult;
 import com.powsybl.security.*;
+import com.powsybl.security.condition.AllViolationCondition;
 import com.powsybl.security.condition.AnyViolationCondition;
+import com.powsybl.security.condition.AtLeastOneViolationCondition;
+import com.powsybl.security.condition.TrueCondition;
 import com.powsybl.security.extensions.ActivePowerExtension;
 import com.powsybl.security.extensions.CurrentExtension;
 import com.powsybl.security.impl.interceptors.SecurityAnalysisInterceptorMock;
@@ -32,7 +38,10 @@ import com.powsybl.security.interceptors.SecurityAnalysisInterceptor;
 import com.powsybl.security.monitor.StateMonitor;
 import com.powsybl.security.results.BranchResult;
 import com.powsybl.security.results.BusResult;
+import com.powsybl.security.results.ConnectivityResult;
+import com.powsybl.security.results.OperatorStrategyResult;
 import com.powsybl.security.results.PostContingencyResult;
+import com.powsybl.security.strategy.ConditionalActions;
 import com.powsybl.security.strategy.OperatorStrategy;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.AfterEach;
@@ -42,11 +51,12 @@ import org.mockito.Mockito;
 
 import java.io.IOException;
 import java.nio.file.FileSystem;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -73,6 +83,46 @@ class SecurityAnalysisTest {
         }
     }
 
+    private static final class CountingAction implements Action {
+
+        private final String id;
+
+        private final Consumer<Network> modification;
+
+        private int applyCount = 0;
+
+        private CountingAction(String id, Consumer<Network> modification) {
+            this.id = id;
+            this.modification = modification;
+        }
+
+        @Override
+        public String getType() {
+            return "COUNTING_ACTION";
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public NetworkModification toModification() {
+            return new AbstractNetworkModification() {
+                @Override
+                public String getName() {
+                    return "CountingActionModification";
+                }
+
+                @Override
+                public void apply(Network network, NamingStrategy namingStrategy, boolean throwException, ComputationManager computationManager, ReportNode reportNode) {
+                    applyCount++;
+                    modification.accept(network);
+                }
+            };
+        }
+    }
+
     private FileSystem fileSystem;
 
     private PlatformConfig platformConfig;
@@ -177,6 +227,108 @@ class SecurityAnalysisTest {
         assertEquals(1, interceptorMock.getOnSecurityAnalysisResultCount());
     }
 
+    @Test
+    void runWithOperatorStrategies() {
+        Network network = EurostagTutorialExample1Factory.create();
+        ((Bus) network.getIdentifiable("NHV1")).setV(380.0).setAngle(0.0);
+        ((Bus) network.getIdentifiable("NHV2")).setV(380.0).setAngle(0.0);
+        network.getLine("NHV1_NHV2_1").getTerminal1().setP(560.0).setQ(550.0);
+        network.getLine("NHV1_NHV2_1").getTerminal2().setP(600.0).setQ(550.0);
+        network.getLine("NHV1_NHV2_1").newCurrentLimits2().setPermanentLimit(1200.0).add();
+
+        CountingAction fix = new CountingAction("fix", n -> n.getLine("NHV1_NHV2_1").getTerminal2().setP(500.0));
+        CountingAction noop = new CountingAction("noop", n -> { });
+        ContingencyContext context = ContingencyContext.specificContingency("NHV1_NHV2_2");
+        List<OperatorStrategy> operatorStrategies = List.of(
+            new OperatorStrategy("s1", context, new TrueCondition(), List.of("fix")),
+            new OperatorStrategy("s2", context, List.of(new ConditionalActions("s2-1", new AnyViolationCondition(), List.of("noop")),
+                                                        new ConditionalActions("s2-2", new AnyViolationCondition(), List.of("fix")))),
+            new OperatorStrategy("s3", ContingencyContext.all(), List.of(new ConditionalActions("s3-1", new AnyViolationCondition(), List.of("noop")),
+                                                                         new ConditionalActions("s3-2", new AtLeastOneViolationCondition(List.of("NHV1_NHV2_1")), List.of("fix")))),
+            new OperatorStrategy("s4", context, List.of(new ConditionalActions("s4-1", new TrueCondition(), List.of("fix")),
+                                                        new ConditionalActions("s4-2", new AnyViolationCondition(), List.of("noop")))),
+            new OperatorStrategy("s5", ContingencyContext.specificContingency("other"), new TrueCondition(), List.of("fix")),
+            new OperatorStrategy("s6", context, new AllViolationCondition(List.of("NHV1_NHV2_1", "NGEN_NHV1")), List.of("noop")));
+        ContingenciesProvider contingenciesProvider = n -> List.of(new Contingency("NHV1_NHV2_2", new BranchContingency("NHV1_NHV2_2")));
+
+        DefaultSecurityAnalysis securityAnalysis = new DefaultSecurityAnalysis(network, new LimitViolationFilter(), createMockComputationManager(),
+                                                                               Collections.emptyList(), ReportNode.NO_OP);
+        SecurityAnalysisResult result = securityAnalysis.run(VariantManagerConstants.INITIAL_VARIANT_ID, new SecurityAnalysisParameters(),
+                                                             contingenciesProvider, operatorStrategies, List.of(fix, noop))
+                .join()
+                .getResult();
+
+        assertEquals(1, result.getPostContingencyResults().get(0).getLimitViolationsResult().getLimitViolations().size());
+        // the distinct sequences of actions are [fix], [noop] and [noop, fix]
+        assertEquals(2, fix.applyCount);
+        assertEquals(1, noop.applyCount);
+        Map<String, OperatorStrategyResult> strategyResults = result.getOperatorStrategyResults().stream()
+                .collect(Collectors.toMap(r -> r.getOperatorStrategy().getId(), Function.identity()));
+        // s5 does not apply to the contingency and the condition of s6 is not satisfied
+        assertEquals(Set.of("s1", "s2", "s3", "s4"), strategyResults.keySet());
+        assertTrue(strategyResults.get("s1").getLimitViolationsResult().getLimitViolations().isEmpty());
+        for (String id : List.of("s2", "s3")) {
+            List<OperatorStrategyResult.ConditionalActionsResult> stageResults = strategyResults.get(id).getConditionalActionsResults();
+            assertEquals(List.of(id + "-1", id + "-2"), stageResults.stream().map(OperatorStrategyResult.ConditionalActionsResult::getConditionalActionsId).toList());
+            assertEquals(1, stageResults.get(0).getLimitViolationsResult().getLimitViolations().size());
+            assertTrue(stageResults.get(1).getLimitViolationsResult().getLimitViolations().isEmpty());
+        }
+        // no violation is left after the first stage of s4, so its second stage is not applied
+        assertEquals(1, strategyResults.get("s4").getConditionalActionsResults().size());
+        assertEquals(Set.of(VariantManagerConstants.INITIAL_VARIANT_ID), new HashSet<>(network.getVariantManager().getVariantIds()));
+
+        List<OperatorStrategy> unknownAction = List.of(new OperatorStrategy("s7", context, new TrueCondition(), List.of("foo")));
+        PowsyblException e = assertThrows(PowsyblException.class, () -> securityAnalysis.run(VariantManagerConstants.INITIAL_VARIANT_ID,
+            new SecurityAnalysisParameters(), contingenciesProvider, unknownAction, List.of(fix)));
+        assertEquals("Operator strategy 's7' refers to unknown action 'foo'", e.getMessage());
+    }
+
+    @Test
+    void runWithManyContingencies() {
+        Network network = EurostagTutorialExample1Factory.create();
+        List<String> branchIds = List.of("NHV1_NHV2_1", "NHV1_NHV2_2", "NGEN_NHV1", "NHV2_NLOAD");
+        List<Contingency> contingencies = IntStream.range(0, 2000)
+            .mapToObj(i -> new Contingency("c" + i, new BranchContingency(branchIds.get(i % branchIds.size()))))
+            .toList();
+
+        DefaultSecurityAnalysis securityAnalysis = new DefaultSecurityAnalysis(network, new LimitViolationFilter(), createMockComputationManager(),
+                                                                               Collections.emptyList(), ReportNode.NO_OP);
+        SecurityAnalysisResult result = securityAnalysis.run(VariantManagerConstants.INITIAL_VARIANT_ID, new SecurityAnalysisParameters(), n -> contingencies)
+                .join()
+                .getResult();
+
+        // contingencies completing synchronously are run in a loop, not in nested callbacks
+        assertEquals(2000, result.getPostContingencyResults().size());
+        assertEquals(2000, securityAnalysis.getProgress().getContingencyCount());
+        assertEquals(2000, securityAnalysis.getProgress().getCompletedContingencyCount());
+        assertEquals(4, securityAnalysis.getProgress().getWorkerCount());
+        assertEquals(Set.of(VariantManagerConstants.INITIAL_VARIANT_ID), new HashSet<>(network.getVariantManager().getVariantIds()));
+    }
+
+    @Test
+    void runWithContingencyEffectCache() {
+        Network network = EurostagTutorialExample1Factory.create();
+        List<Contingency> contingencies = List.of(Contingency.line("NHV1_NHV2_1"), Contingency.twoWindingsTransformer("NHV2_NLOAD"));
+        ContingencyEffectCache cache = new ContingencyEffectCache();
+
+        DefaultSecurityAnalysis securityAnalysis = new DefaultSecurityAnalysis(network, new LimitViolationFilter(), createMockComputationManager(),
+                                                                               Collections.emptyList(), ReportNode.NO_OP);
+        securityAnalysis.setContingencyEffectCache(cache);
+        SecurityAnalysisResult result = securityAnalysis.run(VariantManagerConstants.INITIAL_VARIANT_ID, new SecurityAnalysisParameters(), n -> contingencies)
+                .join()
+                .getResult();
+
+        ConnectivityResult connectivityResult = result.getPostContingencyResults().stream()
+                .filter(r -> r.getContingency().getId().equals("NHV2_NLOAD"))
+                .findFirst()
+                .orElseThrow()
+                .getConnectivityResult();
+        assertEquals(600.0, connectivityResult.getDisconnectedLoadActivePower(), 0.0);
+        assertEquals(0.0, connectivityResult.getDisconnectedGenerationActivePower(), 0.0);
+        assertEquals(Set.of("NHV2_NLOAD", "LOAD"), connectivityResult.getDisconnectedElements());
+        assertEquals(Set.of(VariantManagerConstants.INITIAL_VARIANT_ID), new HashSet<>(network.getVariantManager().getVariantIds()));
+    }
+
     private SecurityAnalysisRunParameters createSecurityAnalysisRunParameters(SecurityAnalysisInterceptor interceptor) {
         return new SecurityAnalysisRunParameters()
                 .setSecurityAnalysisParameters(SecurityAnalysisParameters.load(platformConfig))
@@ -90,7 +90,7 @@ public final class SensitivityAnalysis {
             SensitivityResultModelWriter resultWriter = new SensitivityResultModelWriter(contingencies);
 
             return provider.run(network, workingVariantId, factorReader, resultWriter, contingencies, variableSets, parameters, computationManager, reportNode)
-                    .thenApply(unused -> new SensitivityAnalysisResult(factors, resultWriter.getContingencyStatuses(), resultWriter.getValues()));
+                    .thenApply(unused -> new SensitivityAnalysisResult(factors, resultWriter.getContingencyStatuses(), resultWriter.getValueColumns()));
         }
 
         public void run(Network network,
@@ -36,7 +36,8 @@ import java.util.*;
  *  - the list of function reference values in pre-contingency and post-contingency states.
  *  A sensitivity analysis result offers a set of methods to retrieve sensitivity values or function reference values.
  *  For example, you can retrieve a sensitivity value as a double given the ID of a contingency, the ID of a variable
- *  and the ID of a function.
+ *  and the ID of a function. The indexes used by these methods are built on the first call to one of them, so that
+ *  a result which is only iterated or serialized does not pay for them.
  *
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  * @see SensitivityValue
@@ -49,13 +50,10 @@ public class SensitivityAnalysisResult {
 
     private final List<SensitivityValue> values;
 
-    private final Map<String, List<SensitivityValue>> valuesByContingencyId = new HashMap<>();
-
-    private final Map<SensitivityValueKey, SensitivityValue> valuesByContingencyIdAndFunctionAndVariable = new HashMap<>();
-
-    private final Map<Triple<SensitivityFunctionType, String, String>, Double> functionReferenceByContingencyAndFunction = new HashMap<>();
-
-    private final Map<String, SensitivityContingencyStatus> statusByContingencyId = new HashMap<>();
+    /**
+     * Indexes of the values, built on first lookup.
+     */
+    private volatile Indexes indexes;
 
     public enum Status {
         SUCCESS,
@@ -144,20 +142,101 @@ public class SensitivityAnalysisResult {
         this.factors = Collections.unmodifiableList(Objects.requireNonNull(factors));
         this.contingencyStatuses = Collections.unmodifiableList(Objects.requireNonNull(contingencyStatuses));
         this.values = Collections.unmodifiableList(Objects.requireNonNull(values));
-        for (SensitivityValue value : values) {
-            SensitivityFactor factor = factors.get(value.getFactorIndex());
-            String contingencyId = value.getContingencyIndex() != -1 ? contingencyStatuses.get(value.getContingencyIndex()).getContingencyId() : null;
-            valuesByContingencyId.computeIfAbsent(contingencyId, k -> new ArrayList<>())
-                    .add(value);
-            valuesByContingencyIdAndFunctionAndVariable.put(new SensitivityValueKey(contingencyId, factor.getVariableId(), factor.getFunctionId(), factor.getFunctionType(), factor.getVariableType()), value);
-            functionReferenceByContingencyAndFunction.put(Triple.of(factor.getFunctionType(), contingencyId, factor.getFunctionId()), value.getFunctionReference());
+    }
+
+    /**
+     * Sensitivity analysis result, with values stored in columns: {@link SensitivityValue} objects are only created when
+     * the values are read.
+     * @param factors the list of sensitivity factors that have been computed.
+     * @param contingencyStatuses the list of contingencies and their associated computation status.
+     * @param values result values of the sensitivity analysis in pre-contingency state and post-contingency states.
+     */
+    public SensitivityAnalysisResult(List<SensitivityFactor> factors, List<SensitivityContingencyStatus> contingencyStatuses, SensitivityValueColumns values) {
+        this(factors, contingencyStatuses, Objects.requireNonNull(values).asList());
+    }
+
+    private Indexes getIndexes() {
+        Indexes result = indexes;
+        if (result == null) {
+            synchronized (this) {
+                result = indexes;
+                if (result == null) {
+                    result = new Indexes(factors, contingencyStatuses, values);
+                    indexes = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Lookup indexes of the values, by row in the list of values.
+     */
+    private static final class Indexes {
+
+        private final Map<String, int[]> rowsByContingencyId = new HashMap<>();
+
+        private final Map<SensitivityValueKey, Integer> rowByContingencyIdAndFunctionAndVariable = new HashMap<>();
+
+        private final Map<Triple<SensitivityFunctionType, String, String>, Integer> functionReferenceRowByContingencyAndFunction = new HashMap<>();
+
+        private final Map<String, SensitivityContingencyStatus> statusByContingencyId = new HashMap<>();
+
+        private Indexes(List<SensitivityFactor> factors, List<SensitivityContingencyStatus> contingencyStatuses, List<SensitivityValue> values) {
+            // rows by contingency, pre-contingency rows being at index 0
+            int[] rowCounts = new int[contingencyStatuses.size() + 1];
+            for (SensitivityValue value : values) {
+                rowCounts[value.getContingencyIndex() + 1]++;
+            }
+            int[][] rowsByContingencyIndex = new int[rowCounts.length][];
+            for (int i = 0; i < rowCounts.length; i++) {
+                rowsByContingencyIndex[i] = new int[rowCounts[i]];
+                rowCounts[i] = 0;
+            }
+            for (int row = 0; row < values.size(); row++) {
+                SensitivityValue value = values.get(row);
+                int contingencyIndex = value.getContingencyIndex();
+                rowsByContingencyIndex[contingencyIndex + 1][rowCounts[contingencyIndex + 1]++] = row;
+                SensitivityFactor factor = factors.get(value.getFactorIndex());
+                String contingencyId = contingencyIndex != -1 ? contingencyStatuses.get(contingencyIndex).getContingencyId() : null;
+                rowByContingencyIdAndFunctionAndVariable.put(new SensitivityValueKey(contingencyId, factor.getVariableId(), factor.getFunctionId(), factor.getFunctionType(), factor.getVariableType()), row);
+                functionReferenceRowByContingencyAndFunction.put(Triple.of(factor.getFunctionType(), contingencyId, factor.getFunctionId()), row);
+            }
+            for (int i = 0; i < rowsByContingencyIndex.length; i++) {
+                if (rowsByContingencyIndex[i].length > 0) {
+                    String contingencyId = i > 0 ? contingencyStatuses.get(i - 1).getContingencyId() : null;
+                    // contingencies with the same id share their values
+                    rowsByContingencyId.merge(contingencyId, rowsByContingencyIndex[i], Indexes::concat);
+                }
+            }
+
+            for (SensitivityContingencyStatus status : contingencyStatuses) {
+                statusByContingencyId.put(status.getContingencyId(), status);
+            }
         }
 
-        for (SensitivityContingencyStatus status : contingencyStatuses) {
-            this.statusByContingencyId.put(status.getContingencyId(), status);
+        private static int[] concat(int[] rows1, int[] rows2) {
+            int[] rows = Arrays.copyOf(rows1, rows1.length + rows2.length);
+            System.arraycopy(rows2, 0, rows, rows1.length, rows2.length);
+            Arrays.sort(rows);
+            return rows;
         }
     }
 
+    private List<SensitivityValue> getValuesOfRows(int[] rows) {
+        return new AbstractList<>() {
+            @Override
+            public SensitivityValue get(int index) {
+                return values.get(rows[index]);
+            }
+
+            @Override
+            public int size() {
+                return rows.length;
+            }
+        };
+    }
+
     /**
      * Get a list of all the sensitivity factors.
      *
@@ -192,7 +271,8 @@ public class SensitivityAnalysisResult {
      * @return the sensitivity value associated to a given contingency ID.
      */
     public List<SensitivityValue> getValues(String contingencyId) {
-        return valuesByContingencyId.getOrDefault(contingencyId, Collections.emptyList());
+        int[] rows = getIndexes().rowsByContingencyId.get(contingencyId);
+        return rows != null ? getValuesOfRows(rows) : Collections.emptyList();
     }
 
     /**
@@ -201,7 +281,7 @@ public class SensitivityAnalysisResult {
      * @return a list of all the pre-contingency sensitivity values.
      */
     public List<SensitivityValue> getPreContingencyValues() {
-        return valuesByContingencyId.getOrDefault(null, Collections.emptyList());
+        return getValues(null);
     }
 
     /**
@@ -214,9 +294,9 @@ public class SensitivityAnalysisResult {
      * @return the sensitivity value associated with a given function and a given variable for a given contingency.
      */
     public double getSensitivityValue(String contingencyId, String variableId, String functionId, SensitivityFunctionType functionType, SensitivityVariableType variableType) {
-        SensitivityValue value = valuesByContingencyIdAndFunctionAndVariable.get(new SensitivityValueKey(contingencyId, variableId, functionId, functionType, variableType));
-        if (value != null) {
-            return value.getValue();
+        Integer row = getIndexes().rowByContingencyIdAndFunctionAndVariable.get(new SensitivityValueKey(contingencyId, variableId, functionId, functionType, variableType));
+        if (row != null) {
+            return values.get(row).getValue();
         }
         throw new PowsyblException("Sensitivity value not found for contingency '" + contingencyId + "', function '"
                                    + functionId + "', variable '" + variableId + "'" + "', functionType '" + functionType);
@@ -404,12 +484,12 @@ public class SensitivityAnalysisResult {
      * @return the function reference value
      */
     public double getFunctionReferenceValue(String contingencyId, String functionId, SensitivityFunctionType functionType) {
-        Double value = functionReferenceByContingencyAndFunction.get(Triple.of(functionType, contingencyId, functionId));
-        if (value == null) {
+        Integer row = getIndexes().functionReferenceRowByContingencyAndFunction.get(Triple.of(functionType, contingencyId, functionId));
+        if (row == null) {
             throw new PowsyblException("Reference flow value not found for contingency '" + contingencyId + "', function '" + functionId + "'"
                                        + "', functionType '" + functionType);
         }
-        return value;
+        return values.get(row).getFunctionReference();
     }
 
     /**
@@ -577,6 +657,6 @@ public class SensitivityAnalysisResult {
      * @return The associated status.
      */
     public Status getContingencyStatus(String contingencyId) {
-        return statusByContingencyId.get(contingencyId).getStatus();
+        return getIndexes().statusByContingencyId.get(contingencyId).getStatus();
     }
 }
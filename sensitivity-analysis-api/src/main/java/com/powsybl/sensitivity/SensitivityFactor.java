@@ -11,6 +11,7 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.json.JsonUtil;
 import com.powsybl.contingency.ContingencyContext;
 import com.powsybl.contingency.ContingencyContextType;
 
@@ -135,6 +136,12 @@ public class SensitivityFactor {
         Boolean variableSet;
         ContingencyContextType contingencyContextType;
         String contingencyId;
+        List<String> functionIds;
+        List<String> variableIds;
+
+        boolean isMatrix() {
+            return functionIds != null || variableIds != null;
+        }
 
         void reset() {
             functionType = null;
@@ -144,6 +151,8 @@ public class SensitivityFactor {
             variableSet = null;
             contingencyContextType = null;
             contingencyId = null;
+            functionIds = null;
+            variableIds = null;
         }
     }
 
@@ -157,6 +166,9 @@ public class SensitivityFactor {
                 if (token == JsonToken.FIELD_NAME) {
                     parseJson(parser, context);
                 } else if (token == JsonToken.END_OBJECT) {
+                    if (context.isMatrix()) {
+                        throw new PowsyblException("Unexpected matrix of sensitivity factors");
+                    }
                     return new SensitivityFactor(context.functionType, context.functionId, context.variableType, context.variableId, context.variableSet,
                             new ContingencyContext(context.contingencyId, context.contingencyContextType));
                 }
@@ -191,6 +203,12 @@ public class SensitivityFactor {
             case "contingencyId":
                 context.contingencyId = parser.nextTextValue();
                 break;
+            case "functionIds":
+                context.functionIds = JsonUtil.parseStringArray(parser);
+                break;
+            case "variableIds":
+                context.variableIds = JsonUtil.parseStringArray(parser);
+                break;
             default:
                 throw new PowsyblException("Unexpected field: " + fieldName);
         }
@@ -39,8 +39,12 @@ public class SensitivityFactorJsonReader implements SensitivityFactorReader {
                     if (token == JsonToken.FIELD_NAME) {
                         SensitivityFactor.parseJson(parser, context);
                     } else if (token == JsonToken.END_OBJECT) {
-                        handler.onFactor(context.functionType, context.functionId, context.variableType, context.variableId, context.variableSet,
-                                ContingencyContext.create(context.contingencyId, context.contingencyContextType));
+                        if (context.isMatrix()) {
+                            SensitivityFactorMatrix.create(context).read(handler);
+                        } else {
+                            handler.onFactor(context.functionType, context.functionId, context.variableType, context.variableId, context.variableSet,
+                                    ContingencyContext.create(context.contingencyId, context.contingencyContextType));
+                        }
                         context.reset();
                     } else if (token == JsonToken.END_ARRAY) {
                         break;
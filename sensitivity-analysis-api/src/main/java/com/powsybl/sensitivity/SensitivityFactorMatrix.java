@@ -0,0 +1,245 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sensitivity;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.contingency.ContingencyContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+
+/**
+ * Matrix of sensitivity factors: the factors of each function of a list with each variable of a list, in a given
+ * contingency context. It describes the same factors as
+ * {@link SensitivityFactor#createMatrix(SensitivityFunctionType, Collection, SensitivityVariableType, Collection, boolean, ContingencyContext)},
+ * in the same order, without creating a {@link SensitivityFactor} object per factor.
+ *
+ * <p>The factor at row {@code functionIndex} and column {@code variableIndex} has the index
+ * {@code functionIndex * variableCount + variableIndex} in the matrix.</p>
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class SensitivityFactorMatrix {
+
+    private final SensitivityFunctionType functionType;
+
+    private final List<String> functionIds;
+
+    private final SensitivityVariableType variableType;
+
+    private final List<String> variableIds;
+
+    private final boolean variableSet;
+
+    private final ContingencyContext contingencyContext;
+
+    public SensitivityFactorMatrix(SensitivityFunctionType functionType, List<String> functionIds, SensitivityVariableType variableType,
+                                   List<String> variableIds, boolean variableSet, ContingencyContext contingencyContext) {
+        this.functionType = Objects.requireNonNull(functionType);
+        this.functionIds = List.copyOf(functionIds);
+        this.variableType = Objects.requireNonNull(variableType);
+        this.variableIds = List.copyOf(variableIds);
+        this.variableSet = variableSet;
+        this.contingencyContext = Objects.requireNonNull(contingencyContext);
+        if ((long) this.functionIds.size() * this.variableIds.size() > Integer.MAX_VALUE) {
+            throw new PowsyblException("Too many factors in matrix: " + this.functionIds.size() + " functions x " + this.variableIds.size() + " variables");
+        }
+    }
+
+    public SensitivityFunctionType getFunctionType() {
+        return functionType;
+    }
+
+    public List<String> getFunctionIds() {
+        return functionIds;
+    }
+
+    public SensitivityVariableType getVariableType() {
+        return variableType;
+    }
+
+    public List<String> getVariableIds() {
+        return variableIds;
+    }
+
+    public boolean isVariableSet() {
+        return variableSet;
+    }
+
+    public ContingencyContext getContingencyContext() {
+        return contingencyContext;
+    }
+
+    /**
+     * Get the number of factors of the matrix.
+     */
+    public int size() {
+        return functionIds.size() * variableIds.size();
+    }
+
+    public int getFactorIndex(int functionIndex, int variableIndex) {
+        Objects.checkIndex(functionIndex, functionIds.size());
+        Objects.checkIndex(variableIndex, variableIds.size());
+        return functionIndex * variableIds.size() + variableIndex;
+    }
+
+    public int getFunctionIndex(int factorIndex) {
+        Objects.checkIndex(factorIndex, size());
+        return factorIndex / variableIds.size();
+    }
+
+    public int getVariableIndex(int factorIndex) {
+        Objects.checkIndex(factorIndex, size());
+        return factorIndex % variableIds.size();
+    }
+
+    public SensitivityFactor getFactor(int factorIndex) {
+        return new SensitivityFactor(functionType, functionIds.get(getFunctionIndex(factorIndex)), variableType,
+                variableIds.get(getVariableIndex(factorIndex)), variableSet, contingencyContext);
+    }
+
+    /**
+     * Get the sensitivity value of the factor at the given coordinates of the matrix, for a contingency.
+     *
+     * @param contingencyId the contingency id, null for the pre-contingency state.
+     */
+    public double getSensitivityValue(SensitivityAnalysisResult result, String contingencyId, int functionIndex, int variableIndex) {
+        Objects.requireNonNull(result);
+        Objects.checkIndex(functionIndex, functionIds.size());
+        Objects.checkIndex(variableIndex, variableIds.size());
+        return result.getSensitivityValue(contingencyId, variableIds.get(variableIndex), functionIds.get(functionIndex), functionType, variableType);
+    }
+
+    /**
+     * Send the factors of the matrix to a factor reader handler, in the order of the factor indexes.
+     */
+    public void read(SensitivityFactorReader.Handler handler) {
+        read(handler, functionIds);
+    }
+
+    void read(SensitivityFactorReader.Handler handler, List<String> functionIdsToRead) {
+        Objects.requireNonNull(handler);
+        for (String functionId : functionIdsToRead) {
+            for (String variableId : variableIds) {
+                handler.onFactor(functionType, functionId, variableType, variableId, variableSet, contingencyContext);
+            }
+        }
+    }
+
+    /**
+     * Get a view of the factors of matrices, one after the other, creating a {@link SensitivityFactor} each time a
+     * factor is read. The view can be used as the factors of a {@link SensitivityAnalysisResult}.
+     */
+    public static List<SensitivityFactor> asFactorList(List<SensitivityFactorMatrix> matrices) {
+        Objects.requireNonNull(matrices);
+        int[] offsets = new int[matrices.size() + 1];
+        for (int i = 0; i < matrices.size(); i++) {
+            long offset = (long) offsets[i] + matrices.get(i).size();
+            if (offset > Integer.MAX_VALUE) {
+                throw new PowsyblException("Too many factors in matrices");
+            }
+            offsets[i + 1] = (int) offset;
+        }
+        List<SensitivityFactorMatrix> matricesCopy = List.copyOf(matrices);
+        return new AbstractList<>() {
+            @Override
+            public SensitivityFactor get(int index) {
+                Objects.checkIndex(index, size());
+                int position = Arrays.binarySearch(offsets, index);
+                // an exact match may be the offset of empty matrices, take the last matrix starting at this index
+                int matrixIndex = position >= 0 ? lastMatrixStartingAt(position) : -position - 2;
+                return matricesCopy.get(matrixIndex).getFactor(index - offsets[matrixIndex]);
+            }
+
+            private int lastMatrixStartingAt(int position) {
+                int matrixIndex = position;
+                while (offsets[matrixIndex + 1] == offsets[matrixIndex]) {
+                    matrixIndex++;
+                }
+                return matrixIndex;
+            }
+
+            @Override
+            public int size() {
+                return offsets[offsets.length - 1];
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "SensitivityFactorMatrix(" +
+                "functionType=" + functionType +
+                ", functionIds=" + functionIds.size() +
+                ", variableType=" + variableType +
+                ", variableIds=" + variableIds.size() +
+                ", variableSet=" + variableSet +
+                ", contingencyContext=" + contingencyContext +
+                ')';
+    }
+
+    public static void writeJson(JsonGenerator jsonGenerator, SensitivityFactorMatrix matrix) {
+        try {
+            jsonGenerator.writeStartObject();
+            jsonGenerator.writeStringField("functionType", matrix.getFunctionType().name());
+            writeStringArrayField(jsonGenerator, "functionIds", matrix.getFunctionIds());
+            jsonGenerator.writeStringField("variableType", matrix.getVariableType().name());
+            writeStringArrayField(jsonGenerator, "variableIds", matrix.getVariableIds());
+            jsonGenerator.writeBooleanField("variableSet", matrix.isVariableSet());
+            jsonGenerator.writeStringField("contingencyContextType", matrix.getContingencyContext().getContextType().name());
+            if (matrix.getContingencyContext().getContingencyId() != null) {
+                jsonGenerator.writeStringField("contingencyId", matrix.getContingencyContext().getContingencyId());
+            }
+            jsonGenerator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeStringArrayField(JsonGenerator jsonGenerator, String fieldName, List<String> values) throws IOException {
+        jsonGenerator.writeFieldName(fieldName);
+        jsonGenerator.writeStartArray();
+        for (String value : values) {
+            jsonGenerator.writeString(value);
+        }
+        jsonGenerator.writeEndArray();
+    }
+
+    public static SensitivityFactorMatrix parseJson(JsonParser parser) {
+        Objects.requireNonNull(parser);
+
+        var context = new SensitivityFactor.ParsingContext();
+        try {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.FIELD_NAME) {
+                    SensitivityFactor.parseJson(parser, context);
+                } else if (token == JsonToken.END_OBJECT) {
+                    return create(context);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        throw new PowsyblException("Parsing error");
+    }
+
+    /**
+     * Create a matrix from parsed fields: a single function id or variable id is a matrix with one row or one column.
+     */
+    static SensitivityFactorMatrix create(SensitivityFactor.ParsingContext context) {
+        List<String> functionIds = context.functionIds != null ? context.functionIds : Collections.singletonList(context.functionId);
+        List<String> variableIds = context.variableIds != null ? context.variableIds : Collections.singletonList(context.variableId);
+        return new SensitivityFactorMatrix(context.functionType, functionIds, context.variableType, variableIds, context.variableSet,
+                ContingencyContext.create(context.contingencyId, context.contingencyContextType));
+    }
+}
@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sensitivity;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.Bus;
+import com.powsybl.iidm.network.IdBasedBusRef;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.TopologyLevel;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Factor reader iterating over matrices of factors, in the order of {@link SensitivityFactorMatrix#asFactorList(List)},
+ * without creating a {@link SensitivityFactor} per factor. Bus references of bus voltage functions are resolved once
+ * per matrix.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class SensitivityFactorMatrixReader implements SensitivityFactorReader {
+
+    private final List<SensitivityFactorMatrix> matrices;
+    private final Network network;
+
+    public SensitivityFactorMatrixReader(List<SensitivityFactorMatrix> matrices, Network network) {
+        this.matrices = Objects.requireNonNull(matrices);
+        this.network = Objects.requireNonNull(network);
+    }
+
+    @Override
+    public void read(Handler handler) {
+        Objects.requireNonNull(handler);
+        for (SensitivityFactorMatrix matrix : matrices) {
+            List<String> functionIds = matrix.getFunctionIds();
+            if (matrix.getFunctionType() == SensitivityFunctionType.BUS_VOLTAGE) {
+                functionIds = functionIds.stream().map(this::resolveBusId).toList();
+            }
+            matrix.read(handler, functionIds);
+        }
+    }
+
+    private String resolveBusId(String functionId) {
+        Bus bus = new IdBasedBusRef(functionId).resolve(network, TopologyLevel.BUS_BRANCH)
+                .orElseThrow(() -> new PowsyblException("The bus ref for '" + functionId + "' cannot be resolved."));
+        return bus.getId();
+    }
+}
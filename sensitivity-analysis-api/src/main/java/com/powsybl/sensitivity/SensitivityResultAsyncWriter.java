@@ -0,0 +1,270 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sensitivity;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.exceptions.UncheckedInterruptedException;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntFunction;
+
+/**
+ * Sensitivity result writer buffering the values in blocks of primitive columns, and writing the blocks to other
+ * result writers on background threads, so that the formatting of the values does not slow down the computation.
+ *
+ * <p>Results are either written in order to a single writer, or sharded by ranges of contingencies, each shard being
+ * written to its own writer (for instance one file per range of contingencies), shards being written in parallel.
+ * Pre-contingency values are written to the first shard. Values and statuses of a shard are written in the order they
+ * have been received.</p>
+ *
+ * <p>This writer is thread-safe, while the writers it writes to are only used by one thread at a time. The number of
+ * blocks waiting to be written is bounded: when it is reached, the computation waits for blocks to be written. The
+ * writer has to be closed to write the last blocks; errors of the background writes are thrown by the next call to
+ * this writer.</p>
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class SensitivityResultAsyncWriter implements SensitivityResultWriter, AutoCloseable {
+
+    public static final int DEFAULT_BLOCK_SIZE = 4096;
+
+    public static final int DEFAULT_MAX_PENDING_BLOCKS = 16;
+
+    /**
+     * @param valueCount the number of values of the block received before the status.
+     */
+    private record ContingencyStatus(int valueCount, int contingencyIndex, SensitivityAnalysisResult.Status status) {
+    }
+
+    private static final class Block {
+
+        private final SensitivityValueColumns values;
+
+        private final List<ContingencyStatus> contingencyStatuses = new ArrayList<>();
+
+        private Block(int blockSize) {
+            values = new SensitivityValueColumns(blockSize);
+        }
+
+        private boolean isEmpty() {
+            return values.size() == 0 && contingencyStatuses.isEmpty();
+        }
+
+        private void addContingencyStatus(int contingencyIndex, SensitivityAnalysisResult.Status status) {
+            contingencyStatuses.add(new ContingencyStatus(values.size(), contingencyIndex, status));
+        }
+
+        private void writeTo(SensitivityResultWriter writer) {
+            // statuses are interleaved with the values at the position they have been received
+            Iterator<ContingencyStatus> itStatus = contingencyStatuses.iterator();
+            ContingencyStatus nextStatus = itStatus.hasNext() ? itStatus.next() : null;
+            for (int i = 0; i <= values.size(); i++) {
+                while (nextStatus != null && nextStatus.valueCount() == i) {
+                    writer.writeContingencyStatus(nextStatus.contingencyIndex(), nextStatus.status());
+                    nextStatus = itStatus.hasNext() ? itStatus.next() : null;
+                }
+                if (i < values.size()) {
+                    writer.writeSensitivityValue(values.getFactorIndex(i), values.getContingencyIndex(i), values.getValue(i), values.getFunctionReference(i));
+                }
+            }
+        }
+    }
+
+    private final class Shard {
+
+        private final int index;
+
+        private SensitivityResultWriter writer;
+
+        private Block block = new Block(blockSize);
+
+        /**
+         * Completion of the last block submitted for this shard: blocks of a shard are written one after the other.
+         */
+        private CompletableFuture<Void> lastWrite = CompletableFuture.completedFuture(null);
+
+        private Shard(int index) {
+            this.index = index;
+        }
+
+        private void submit() {
+            if (block.isEmpty()) {
+                return;
+            }
+            Block blockToWrite = block;
+            block = new Block(blockSize);
+            try {
+                pendingBlocks.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new UncheckedInterruptedException(e);
+            }
+            lastWrite = lastWrite.thenRunAsync(() -> {
+                try {
+                    if (writer == null) {
+                        writer = writerFactory.apply(index);
+                    }
+                    blockToWrite.writeTo(writer);
+                } finally {
+                    pendingBlocks.release();
+                }
+            }, executor);
+            lastWrite.whenComplete((unused, throwable) -> {
+                if (throwable != null) {
+                    failure.compareAndSet(null, throwable instanceof CompletionException ? throwable.getCause() : throwable);
+                    // the following blocks of the shard are not written
+                    pendingBlocks.release(maxPendingBlocks);
+                }
+            });
+        }
+    }
+
+    private final IntFunction<SensitivityResultWriter> writerFactory;
+
+    private final boolean ownWriters;
+
+    private final int contingenciesPerShard;
+
+    private final int blockSize;
+
+    private final int maxPendingBlocks;
+
+    private final Executor executor;
+
+    private final Semaphore pendingBlocks;
+
+    private final Map<Integer, Shard> shards = new TreeMap<>();
+
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    private boolean closed = false;
+
+    private SensitivityResultAsyncWriter(IntFunction<SensitivityResultWriter> writerFactory, boolean ownWriters, int contingenciesPerShard,
+                                         int blockSize, int maxPendingBlocks, Executor executor) {
+        this.writerFactory = Objects.requireNonNull(writerFactory);
+        this.ownWriters = ownWriters;
+        if (contingenciesPerShard < 1) {
+            throw new IllegalArgumentException("Invalid number of contingencies per shard: " + contingenciesPerShard);
+        }
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Invalid block size: " + blockSize);
+        }
+        if (maxPendingBlocks < 1) {
+            throw new IllegalArgumentException("Invalid max number of pending blocks: " + maxPendingBlocks);
+        }
+        this.contingenciesPerShard = contingenciesPerShard;
+        this.blockSize = blockSize;
+        this.maxPendingBlocks = maxPendingBlocks;
+        this.executor = Objects.requireNonNull(executor);
+        pendingBlocks = new Semaphore(maxPendingBlocks);
+    }
+
+    /**
+     * Write the results in order to a single writer, which is not closed by this writer.
+     */
+    public static SensitivityResultAsyncWriter ordered(SensitivityResultWriter writer, Executor executor) {
+        return ordered(writer, DEFAULT_BLOCK_SIZE, DEFAULT_MAX_PENDING_BLOCKS, executor);
+    }
+
+    public static SensitivityResultAsyncWriter ordered(SensitivityResultWriter writer, int blockSize, int maxPendingBlocks, Executor executor) {
+        Objects.requireNonNull(writer);
+        return new SensitivityResultAsyncWriter(shardIndex -> writer, false, Integer.MAX_VALUE, blockSize, maxPendingBlocks, executor);
+    }
+
+    /**
+     * Write the results of each range of contingencies to its own writer, created on first use from the index of the
+     * range. The writers are closed, if they are {@link AutoCloseable}, when this writer is closed.
+     *
+     * @param contingenciesPerShard the number of contingencies of a range: contingency {@code i} belongs to the range
+     *                              {@code i / contingenciesPerShard}.
+     */
+    public static SensitivityResultAsyncWriter sharded(int contingenciesPerShard, IntFunction<SensitivityResultWriter> writerFactory, Executor executor) {
+        return sharded(contingenciesPerShard, writerFactory, DEFAULT_BLOCK_SIZE, DEFAULT_MAX_PENDING_BLOCKS, executor);
+    }
+
+    public static SensitivityResultAsyncWriter sharded(int contingenciesPerShard, IntFunction<SensitivityResultWriter> writerFactory,
+                                                       int blockSize, int maxPendingBlocks, Executor executor) {
+        return new SensitivityResultAsyncWriter(writerFactory, true, contingenciesPerShard, blockSize, maxPendingBlocks, executor);
+    }
+
+    private Shard getShard(int contingencyIndex) {
+        checkState();
+        int shardIndex = contingencyIndex < 0 ? 0 : contingencyIndex / contingenciesPerShard;
+        return shards.computeIfAbsent(shardIndex, Shard::new);
+    }
+
+    private void checkState() {
+        if (closed) {
+            throw new PowsyblException("Sensitivity result writer is closed");
+        }
+        rethrowFailure();
+    }
+
+    private void rethrowFailure() {
+        Throwable throwable = failure.get();
+        if (throwable instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        } else if (throwable != null) {
+            throw new PowsyblException("Failed to write sensitivity results", throwable);
+        }
+    }
+
+    @Override
+    public synchronized void writeSensitivityValue(int factorIndex, int contingencyIndex, double value, double functionReference) {
+        Shard shard = getShard(contingencyIndex);
+        shard.block.values.add(factorIndex, contingencyIndex, value, functionReference);
+        if (shard.block.values.size() == blockSize) {
+            shard.submit();
+        }
+    }
+
+    @Override
+    public synchronized void writeContingencyStatus(int contingencyIndex, SensitivityAnalysisResult.Status status) {
+        Objects.requireNonNull(status);
+        getShard(contingencyIndex).block.addContingencyStatus(contingencyIndex, status);
+    }
+
+    /**
+     * Write the remaining blocks and wait for all the blocks to be written.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        List<Throwable> errors = new ArrayList<>();
+        for (Shard shard : shards.values()) {
+            if (failure.get() == null) {
+                shard.submit();
+            }
+        }
+        for (Shard shard : shards.values()) {
+            try {
+                shard.lastWrite.join();
+            } catch (CompletionException | CancellationException e) {
+                // reported below
+            }
+            if (ownWriters && shard.writer instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    errors.add(e);
+                }
+            }
+        }
+        rethrowFailure();
+        if (!errors.isEmpty()) {
+            PowsyblException e = new PowsyblException("Failed to close sensitivity result writers", errors.get(0));
+            errors.stream().skip(1).forEach(e::addSuppressed);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sensitivity;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.contingency.Contingency;
+
+import java.io.*;
+import java.util.List;
+import java.util.Objects;
+
+import static com.powsybl.sensitivity.SensitivityResultBinaryWriter.*;
+
+/**
+ * Reader of the binary format written by {@link SensitivityResultBinaryWriter}.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class SensitivityResultBinaryReader {
+
+    private static final SensitivityAnalysisResult.Status[] STATUSES = SensitivityAnalysisResult.Status.values();
+
+    private SensitivityResultBinaryReader() {
+    }
+
+    /**
+     * Read the values and the contingency statuses of a stream, in the order they have been written, and write them to
+     * another result writer.
+     */
+    public static void read(InputStream in, SensitivityResultWriter resultWriter) {
+        Objects.requireNonNull(in);
+        Objects.requireNonNull(resultWriter);
+        DataInputStream dataIn = new DataInputStream(new BufferedInputStream(in));
+        try {
+            if (dataIn.readInt() != MAGIC) {
+                throw new PowsyblException("Not a binary sensitivity result");
+            }
+            int version = dataIn.readInt();
+            if (version != VERSION) {
+                throw new PowsyblException("Unsupported binary sensitivity result version: " + version);
+            }
+            int recordType;
+            while ((recordType = dataIn.read()) != -1) {
+                switch (recordType) {
+                    case VALUE_RECORD -> resultWriter.writeSensitivityValue(dataIn.readInt(), dataIn.readInt(), dataIn.readDouble(), dataIn.readDouble());
+                    case CONTINGENCY_STATUS_RECORD -> resultWriter.writeContingencyStatus(dataIn.readInt(), readStatus(dataIn));
+                    default -> throw new PowsyblException("Unexpected record type: " + recordType);
+                }
+            }
+        } catch (EOFException e) {
+            throw new PowsyblException("Truncated binary sensitivity result", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Read a stream to a result storing its values in columns.
+     *
+     * @param factors the sensitivity factors the values have been computed for.
+     * @param contingencies the contingencies the values have been computed for.
+     */
+    public static SensitivityAnalysisResult read(InputStream in, List<SensitivityFactor> factors, List<Contingency> contingencies) {
+        Objects.requireNonNull(factors);
+        SensitivityResultModelWriter resultWriter = new SensitivityResultModelWriter(contingencies);
+        read(in, resultWriter);
+        resultWriter.getValueColumns().trimToSize();
+        return new SensitivityAnalysisResult(factors, resultWriter.getContingencyStatuses(), resultWriter.getValueColumns());
+    }
+
+    private static SensitivityAnalysisResult.Status readStatus(DataInputStream dataIn) throws IOException {
+        int ordinal = dataIn.readUnsignedByte();
+        if (ordinal >= STATUSES.length) {
+            throw new PowsyblException("Unexpected contingency status: " + ordinal);
+        }
+        return STATUSES[ordinal];
+    }
+}
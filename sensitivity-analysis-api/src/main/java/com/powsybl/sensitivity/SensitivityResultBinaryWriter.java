@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sensitivity;
+
+import java.io.*;
+import java.util.Objects;
+
+/**
+ * Sensitivity result writer streaming the values and the contingency statuses to a compact binary format, which can
+ * be read back with {@link SensitivityResultBinaryReader}.
+ *
+ * <p>The stream starts with a magic number and a version, followed by one record per value (factor index, contingency
+ * index, value and function reference, as in {@link SensitivityValueColumns}) or per contingency status, in the order
+ * they are written. Records are buffered: the writer has to be closed, which closes the underlying stream, to write
+ * the last ones.</p>
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class SensitivityResultBinaryWriter implements SensitivityResultWriter, Closeable {
+
+    static final int MAGIC = 0x50534252; // "PSBR"
+
+    static final int VERSION = 1;
+
+    static final byte VALUE_RECORD = 0;
+
+    static final byte CONTINGENCY_STATUS_RECORD = 1;
+
+    private final DataOutputStream out;
+
+    public SensitivityResultBinaryWriter(OutputStream out) {
+        this.out = new DataOutputStream(new BufferedOutputStream(Objects.requireNonNull(out)));
+        try {
+            this.out.writeInt(MAGIC);
+            this.out.writeInt(VERSION);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void writeSensitivityValue(int factorIndex, int contingencyIndex, double value, double functionReference) {
+        try {
+            out.writeByte(VALUE_RECORD);
+            out.writeInt(factorIndex);
+            out.writeInt(contingencyIndex);
+            out.writeDouble(value);
+            out.writeDouble(functionReference);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void writeContingencyStatus(int contingencyIndex, SensitivityAnalysisResult.Status status) {
+        Objects.requireNonNull(status);
+        try {
+            out.writeByte(CONTINGENCY_STATUS_RECORD);
+            out.writeInt(contingencyIndex);
+            out.writeByte(status.ordinal());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
@@ -21,7 +21,7 @@ public class SensitivityResultModelWriter implements SensitivityResultWriter {
 
     private final List<Contingency> contingencies;
 
-    private final List<SensitivityValue> values = new ArrayList<>();
+    private final SensitivityValueColumns values = new SensitivityValueColumns();
 
     private final List<SensitivityAnalysisResult.SensitivityContingencyStatus> contingencyStatuses;
 
@@ -31,6 +31,10 @@ public class SensitivityResultModelWriter implements SensitivityResultWriter {
     }
 
     public List<SensitivityValue> getValues() {
+        return values.asList();
+    }
+
+    public SensitivityValueColumns getValueColumns() {
         return values;
     }
 
@@ -40,7 +44,7 @@ public class SensitivityResultModelWriter implements SensitivityResultWriter {
 
     @Override
     public void writeSensitivityValue(int factorIndex, int contingencyIndex, double value, double functionReference) {
-        values.add(new SensitivityValue(factorIndex, contingencyIndex, value, functionReference));
+        values.add(factorIndex, contingencyIndex, value, functionReference);
     }
 
     @Override
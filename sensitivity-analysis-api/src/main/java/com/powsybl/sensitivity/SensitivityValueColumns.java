@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sensitivity;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Compact storage of sensitivity values, in primitive columns: factor index, contingency index, value and function
+ * reference. A value takes 24 bytes, instead of a {@link SensitivityValue} object and a reference to it.
+ *
+ * <p>Values are appended with {@link #add}. {@link SensitivityValue} objects are only created when the values are read
+ * through the {@link #asList() list view}. This class is not thread-safe.</p>
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class SensitivityValueColumns {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] factorIndexes;
+
+    private int[] contingencyIndexes;
+
+    private double[] values;
+
+    private double[] functionReferences;
+
+    private int size;
+
+    private final List<SensitivityValue> list = new ListView();
+
+    public SensitivityValueColumns() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public SensitivityValueColumns(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Invalid initial capacity: " + initialCapacity);
+        }
+        factorIndexes = new int[initialCapacity];
+        contingencyIndexes = new int[initialCapacity];
+        values = new double[initialCapacity];
+        functionReferences = new double[initialCapacity];
+    }
+
+    public static SensitivityValueColumns of(List<SensitivityValue> values) {
+        Objects.requireNonNull(values);
+        SensitivityValueColumns columns = new SensitivityValueColumns(values.size());
+        for (SensitivityValue value : values) {
+            columns.add(value.getFactorIndex(), value.getContingencyIndex(), value.getValue(), value.getFunctionReference());
+        }
+        return columns;
+    }
+
+    /**
+     * Append a value.
+     *
+     * @param factorIndex the sensitivity factor index
+     * @param contingencyIndex the contingency index, -1 for pre-contingency state.
+     * @param value the sensitivity value
+     * @param functionReference the value of the sensitivity function
+     */
+    public void add(int factorIndex, int contingencyIndex, double value, double functionReference) {
+        if (contingencyIndex < -1) {
+            throw new IllegalArgumentException("Invalid contingency index: " + contingencyIndex);
+        }
+        if (size == factorIndexes.length) {
+            grow();
+        }
+        factorIndexes[size] = factorIndex;
+        contingencyIndexes[size] = contingencyIndex;
+        values[size] = value;
+        functionReferences[size] = functionReference;
+        size++;
+    }
+
+    private void grow() {
+        int capacity = Math.max(DEFAULT_CAPACITY, factorIndexes.length + (factorIndexes.length >> 1));
+        factorIndexes = Arrays.copyOf(factorIndexes, capacity);
+        contingencyIndexes = Arrays.copyOf(contingencyIndexes, capacity);
+        values = Arrays.copyOf(values, capacity);
+        functionReferences = Arrays.copyOf(functionReferences, capacity);
+    }
+
+    /**
+     * Release the unused capacity of the columns.
+     */
+    public void trimToSize() {
+        if (size < factorIndexes.length) {
+            factorIndexes = Arrays.copyOf(factorIndexes, size);
+            contingencyIndexes = Arrays.copyOf(contingencyIndexes, size);
+            values = Arrays.copyOf(values, size);
+            functionReferences = Arrays.copyOf(functionReferences, size);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getFactorIndex(int row) {
+        Objects.checkIndex(row, size);
+        return factorIndexes[row];
+    }
+
+    public int getContingencyIndex(int row) {
+        Objects.checkIndex(row, size);
+        return contingencyIndexes[row];
+    }
+
+    public double getValue(int row) {
+        Objects.checkIndex(row, size);
+        return values[row];
+    }
+
+    public double getFunctionReference(int row) {
+        Objects.checkIndex(row, size);
+        return functionReferences[row];
+    }
+
+    /**
+     * Unmodifiable view of the values, creating a {@link SensitivityValue} each time a value is read.
+     */
+    public List<SensitivityValue> asList() {
+        return list;
+    }
+
+    private final class ListView extends AbstractList<SensitivityValue> implements RandomAccess {
+
+        @Override
+        public SensitivityValue get(int index) {
+            Objects.checkIndex(index, size);
+            return new SensitivityValue(factorIndexes[index], contingencyIndexes[index], values[index], functionReferences[index]);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sensitivity.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.powsybl.sensitivity.SensitivityFactorMatrix;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+public class SensitivityFactorMatrixJsonSerializer extends StdSerializer<SensitivityFactorMatrix> {
+
+    public SensitivityFactorMatrixJsonSerializer() {
+        super(SensitivityFactorMatrix.class);
+    }
+
+    @Override
+    public void serialize(SensitivityFactorMatrix matrix, JsonGenerator jsonGenerator, SerializerProvider serializerProvider) {
+        SensitivityFactorMatrix.writeJson(jsonGenerator, matrix);
+    }
+}
@@ -20,6 +20,8 @@ public class SensitivityJsonModule extends SimpleModule {
         addSerializer(SensitivityAnalysisParameters.class, new SensitivityAnalysisParametersSerializer());
         addSerializer(SensitivityFactor.class, new SensitivityFactorJsonSerializer());
         addDeserializer(SensitivityFactor.class, new SensitivityFactorJsonDeserializer());
+        addSerializer(SensitivityFactorMatrix.class, new SensitivityFactorMatrixJsonSerializer());
+        addDeserializer(SensitivityFactorMatrix.class, new SensitivityFactorMatrixJsonDeserializer());
         addSerializer(SensitivityValue.class, new SensitivityValueJsonSerializer());
         addDeserializer(SensitivityValue.class, new SensitivityValueJsonDeserializer());
         addSerializer(SensitivityVariableSet.class, new SensitivityVariableSetJsonSerializer());
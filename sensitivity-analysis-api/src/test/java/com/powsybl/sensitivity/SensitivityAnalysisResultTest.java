@@ -15,8 +15,11 @@ import com.powsybl.contingency.*;
 import com.powsybl.sensitivity.json.SensitivityJsonModule;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -258,6 +261,56 @@ class SensitivityAnalysisResultTest extends AbstractSerDeTest {
         assertNotEquals(key1, dummy);
     }
 
+    @Test
+    void testValueColumns() throws IOException {
+        SensitivityFactor factor1 = new SensitivityFactor(SensitivityFunctionType.BRANCH_ACTIVE_POWER_1, "l",
+                SensitivityVariableType.INJECTION_ACTIVE_POWER, "g",
+                false, ContingencyContext.all());
+        SensitivityFactor factor2 = new SensitivityFactor(SensitivityFunctionType.BRANCH_ACTIVE_POWER_1, "l2",
+                SensitivityVariableType.INJECTION_ACTIVE_POWER, "g2",
+                false, ContingencyContext.none());
+        List<SensitivityFactor> factors = List.of(factor1, factor2);
+        List<Contingency> contingencies = List.of(new Contingency("NHV1_NHV2_2", new BranchContingency("NHV1_NHV2_2")),
+                new Contingency("NHV2_NHV3", new BranchContingency("NHV2_NHV3")));
+
+        // values written in binary, read back to columns
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (SensitivityResultBinaryWriter writer = new SensitivityResultBinaryWriter(out)) {
+            writer.writeSensitivityValue(0, 0, 1d, 2d);
+            writer.writeSensitivityValue(1, -1, 3d, 4d);
+            writer.writeContingencyStatus(1, SensitivityAnalysisResult.Status.NO_IMPACT);
+            writer.writeSensitivityValue(0, 1, 5d, 6d);
+            writer.writeContingencyStatus(0, SensitivityAnalysisResult.Status.SUCCESS);
+        }
+        SensitivityAnalysisResult result = SensitivityResultBinaryReader.read(new ByteArrayInputStream(out.toByteArray()), factors, contingencies);
+
+        assertEquals(3, result.getValues().size());
+        SensitivityValue value = result.getValues().get(2);
+        assertEquals(0, value.getFactorIndex());
+        assertEquals(1, value.getContingencyIndex());
+        assertEquals(5d, value.getValue(), 0d);
+        assertEquals(6d, value.getFunctionReference(), 0d);
+        assertEquals(1, result.getValues("NHV1_NHV2_2").size());
+        assertEquals(1, result.getPreContingencyValues().size());
+        assertEquals(3d, result.getBranchFlow1SensitivityValue("g2", "l2", SensitivityVariableType.INJECTION_ACTIVE_POWER), 0d);
+        assertEquals(5d, result.getBranchFlow1SensitivityValue("NHV2_NHV3", "g", "l", SensitivityVariableType.INJECTION_ACTIVE_POWER), 0d);
+        assertEquals(6d, result.getBranchFlow1FunctionReferenceValue("NHV2_NHV3", "l"), 0d);
+        assertEquals(SensitivityAnalysisResult.Status.SUCCESS, result.getContingencyStatus("NHV1_NHV2_2"));
+        assertEquals(SensitivityAnalysisResult.Status.NO_IMPACT, result.getContingencyStatus("NHV2_NHV3"));
+
+        SensitivityValueColumns columns = SensitivityValueColumns.of(result.getValues());
+        assertEquals(3, columns.size());
+        assertEquals(1, columns.getContingencyIndex(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> columns.getValue(3));
+        assertThrows(IllegalArgumentException.class, () -> columns.add(0, -2, 0d, 0d));
+
+        PowsyblException e = assertThrows(PowsyblException.class, () -> SensitivityResultBinaryReader.read(new ByteArrayInputStream(new byte[8]), factors, contingencies));
+        assertEquals("Not a binary sensitivity result", e.getMessage());
+        byte[] truncated = Arrays.copyOf(out.toByteArray(), 20);
+        e = assertThrows(PowsyblException.class, () -> SensitivityResultBinaryReader.read(new ByteArrayInputStream(truncated), factors, contingencies));
+        assertEquals("Truncated binary sensitivity result", e.getMessage());
+    }
+
     @Test
     void testSerializeDeserialize() throws IOException {
         SensitivityFactor factor1 = new SensitivityFactor(SensitivityFunctionType.BRANCH_ACTIVE_POWER_1, "l",
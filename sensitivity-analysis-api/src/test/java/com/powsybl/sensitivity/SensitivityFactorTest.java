@@ -11,10 +11,15 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.powsybl.commons.test.AbstractSerDeTest;
 import com.powsybl.commons.json.JsonUtil;
 import com.powsybl.contingency.ContingencyContext;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
 import com.powsybl.sensitivity.json.JsonSensitivityAnalysisParameters;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.OptionalInt;
 
@@ -75,4 +80,71 @@ class SensitivityFactorTest extends AbstractSerDeTest {
         roundTripTest(factor, (factor1, jsonFile) -> JsonUtil.writeJson(jsonFile, factor1, objectMapper),
             jsonFile -> JsonUtil.readJson(jsonFile, SensitivityFactor.class, objectMapper), "/factorRef.json");
     }
+
+    private static SensitivityFactorMatrix createFactorMatrix() {
+        return new SensitivityFactorMatrix(SensitivityFunctionType.BRANCH_ACTIVE_POWER_1, List.of("l12", "l13", "l23"),
+                                           SensitivityVariableType.INJECTION_ACTIVE_POWER, List.of("g1", "g2"),
+                                           false, ContingencyContext.specificContingency("c1"));
+    }
+
+    @Test
+    void testFactorMatrix() {
+        SensitivityFactorMatrix matrix = createFactorMatrix();
+        assertEquals(6, matrix.size());
+        assertEquals(3, matrix.getFactorIndex(1, 1));
+        assertEquals(1, matrix.getFunctionIndex(3));
+        assertEquals(1, matrix.getVariableIndex(3));
+
+        List<SensitivityFactor> expectedFactors = SensitivityFactor.createMatrix(SensitivityFunctionType.BRANCH_ACTIVE_POWER_1, List.of("l12", "l13", "l23"),
+                                                                                 SensitivityVariableType.INJECTION_ACTIVE_POWER, List.of("g1", "g2"),
+                                                                                 false, ContingencyContext.specificContingency("c1"));
+        SensitivityFactorMatrix emptyMatrix = new SensitivityFactorMatrix(SensitivityFunctionType.BRANCH_ACTIVE_POWER_1, List.of(),
+                                                                          SensitivityVariableType.INJECTION_ACTIVE_POWER, List.of("g1"),
+                                                                          false, ContingencyContext.all());
+        List<SensitivityFactor> factors = SensitivityFactorMatrix.asFactorList(List.of(emptyMatrix, matrix, emptyMatrix, matrix));
+        assertEquals(12, factors.size());
+        for (int i = 0; i < factors.size(); i++) {
+            assertEquals(expectedFactors.get(i % 6).toString(), factors.get(i).toString());
+        }
+
+        // bus references of the functions are resolved once per matrix
+        Network network = EurostagTutorialExample1Factory.create();
+        SensitivityFactorMatrix busVoltageMatrix = new SensitivityFactorMatrix(SensitivityFunctionType.BUS_VOLTAGE, List.of("NGEN", "NLOAD"),
+                                                                               SensitivityVariableType.BUS_TARGET_VOLTAGE, List.of("GEN"),
+                                                                               false, ContingencyContext.none());
+        List<String> functionIds = new ArrayList<>();
+        new SensitivityFactorMatrixReader(List.of(busVoltageMatrix, matrix), network)
+                .read((functionType, functionId, variableType, variableId, variableSet, contingencyContext) -> functionIds.add(functionId));
+        assertEquals(List.of("VLGEN_0", "VLLOAD_0", "l12", "l12", "l13", "l13", "l23", "l23"), functionIds);
+    }
+
+    @Test
+    void testFactorMatrixJson() throws IOException {
+        ObjectMapper objectMapper = JsonSensitivityAnalysisParameters.createObjectMapper();
+        roundTripTest(createFactorMatrix(), (matrix, jsonFile) -> JsonUtil.writeJson(jsonFile, matrix, objectMapper),
+            jsonFile -> JsonUtil.readJson(jsonFile, SensitivityFactorMatrix.class, objectMapper), "/factorMatrixRef.json");
+
+        // factor files may mix factors and matrices
+        Path jsonFile = fileSystem.getPath("/factors.json");
+        SensitivityFactor factor = new SensitivityFactor(SensitivityFunctionType.BRANCH_ACTIVE_POWER_2, "l",
+                                                         SensitivityVariableType.INJECTION_ACTIVE_POWER, "g",
+                                                         false, ContingencyContext.all());
+        JsonUtil.writeJson(jsonFile, jsonGenerator -> {
+            try {
+                jsonGenerator.writeStartArray();
+                SensitivityFactor.writeJson(jsonGenerator, factor);
+                SensitivityFactorMatrix.writeJson(jsonGenerator, createFactorMatrix());
+                jsonGenerator.writeEndArray();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        List<String> factors = new ArrayList<>();
+        new SensitivityFactorJsonReader(jsonFile).read((functionType, functionId, variableType, variableId, variableSet, contingencyContext) ->
+                factors.add(new SensitivityFactor(functionType, functionId, variableType, variableId, variableSet, contingencyContext).toString()));
+        List<String> expectedFactors = new ArrayList<>();
+        expectedFactors.add(factor.toString());
+        SensitivityFactorMatrix.asFactorList(List.of(createFactorMatrix())).forEach(f -> expectedFactors.add(f.toString()));
+        assertEquals(expectedFactors, factors);
+    }
 }
@@ -0,0 +1,152 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sensitivity;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.contingency.Contingency;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class SensitivityResultAsyncWriterTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static class ClosableModelWriter extends SensitivityResultModelWriter implements AutoCloseable {
+
+        private boolean closed = false;
+
+        ClosableModelWriter() {
+            super(Collections.emptyList());
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    @Test
+    void testOrdered() {
+        List<Contingency> contingencies = List.of(new Contingency("c0"), new Contingency("c1"));
+        SensitivityResultModelWriter modelWriter = new SensitivityResultModelWriter(contingencies);
+        try (SensitivityResultAsyncWriter writer = SensitivityResultAsyncWriter.ordered(modelWriter, 3, 2, executor)) {
+            for (int i = 0; i < 10; i++) {
+                writer.writeSensitivityValue(i, i % 3 - 1, i, 2.0 * i);
+            }
+            writer.writeContingencyStatus(1, SensitivityAnalysisResult.Status.FAILURE);
+        }
+        assertEquals(IntStream.range(0, 10).boxed().toList(), modelWriter.getValues().stream().map(SensitivityValue::getFactorIndex).toList());
+        assertEquals(8.0, modelWriter.getValues().get(4).getFunctionReference());
+        assertEquals(SensitivityAnalysisResult.Status.FAILURE, modelWriter.getContingencyStatuses().get(1).getStatus());
+
+        PowsyblException e = assertThrows(PowsyblException.class, () -> {
+            SensitivityResultAsyncWriter writer = SensitivityResultAsyncWriter.ordered(modelWriter, executor);
+            writer.close();
+            writer.writeSensitivityValue(0, -1, 0.0, 0.0);
+        });
+        assertEquals("Sensitivity result writer is closed", e.getMessage());
+    }
+
+    @Test
+    void testStatusesInReceivedOrder() {
+        List<String> events = new ArrayList<>();
+        SensitivityResultWriter recordingWriter = new SensitivityResultWriter() {
+            @Override
+            public void writeSensitivityValue(int factorIndex, int contingencyIndex, double value, double functionReference) {
+                events.add("value " + factorIndex);
+            }
+
+            @Override
+            public void writeContingencyStatus(int contingencyIndex, SensitivityAnalysisResult.Status status) {
+                events.add("status " + contingencyIndex);
+            }
+        };
+        try (SensitivityResultAsyncWriter writer = SensitivityResultAsyncWriter.ordered(recordingWriter, 3, 2, executor)) {
+            writer.writeContingencyStatus(0, SensitivityAnalysisResult.Status.SUCCESS);
+            writer.writeSensitivityValue(0, 0, 1.0, 2.0);
+            writer.writeSensitivityValue(1, 0, 1.0, 2.0);
+            writer.writeContingencyStatus(1, SensitivityAnalysisResult.Status.FAILURE);
+            writer.writeSensitivityValue(2, 1, 1.0, 2.0);
+            writer.writeSensitivityValue(3, 1, 1.0, 2.0);
+            writer.writeContingencyStatus(2, SensitivityAnalysisResult.Status.SUCCESS);
+        }
+        assertEquals(List.of("status 0", "value 0", "value 1", "status 1", "value 2", "value 3", "status 2"), events);
+    }
+
+    @Test
+    void testSharded() {
+        Map<Integer, ClosableModelWriter> shardWriters = Collections.synchronizedMap(new TreeMap<>());
+        try (SensitivityResultAsyncWriter writer = SensitivityResultAsyncWriter.sharded(2, shardIndex -> shardWriters.computeIfAbsent(shardIndex, i -> new ClosableModelWriter()), 4, 2, executor)) {
+            for (int contingencyIndex = -1; contingencyIndex < 5; contingencyIndex++) {
+                for (int factorIndex = 0; factorIndex < 5; factorIndex++) {
+                    writer.writeSensitivityValue(factorIndex, contingencyIndex, 1.0, 2.0);
+                }
+            }
+        }
+        assertEquals(Set.of(0, 1, 2), shardWriters.keySet());
+        assertTrue(shardWriters.values().stream().allMatch(w -> w.closed));
+        assertEquals(List.of(-1, 0, 1), shardWriters.get(0).getValues().stream().map(SensitivityValue::getContingencyIndex).distinct().toList());
+        assertEquals(List.of(2, 3), shardWriters.get(1).getValues().stream().map(SensitivityValue::getContingencyIndex).distinct().toList());
+        assertEquals(5, shardWriters.get(2).getValues().size());
+        assertEquals(List.of(0, 1, 2, 3, 4), shardWriters.get(2).getValues().stream().map(SensitivityValue::getFactorIndex).toList());
+    }
+
+    @Test
+    void testFailure() {
+        SensitivityResultWriter failingWriter = new SensitivityResultWriter() {
+            @Override
+            public void writeSensitivityValue(int factorIndex, int contingencyIndex, double value, double functionReference) {
+                throw new PowsyblException("Disk full");
+            }
+
+            @Override
+            public void writeContingencyStatus(int contingencyIndex, SensitivityAnalysisResult.Status status) {
+                // nothing to do
+            }
+        };
+        SensitivityResultAsyncWriter writer = SensitivityResultAsyncWriter.ordered(failingWriter, 1, 1, executor);
+        PowsyblException e = assertThrows(PowsyblException.class, () -> {
+            for (int i = 0; i < 1_000_000; i++) {
+                writer.writeSensitivityValue(i, -1, 0.0, 0.0);
+            }
+        });
+        assertEquals("Disk full", e.getMessage());
+        e = assertThrows(PowsyblException.class, writer::close);
+        assertEquals("Disk full", e.getMessage());
+    }
+
+    @Test
+    void testInvalidParameters() {
+        SensitivityResultModelWriter modelWriter = new SensitivityResultModelWriter(Collections.emptyList());
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> SensitivityResultAsyncWriter.ordered(modelWriter, 0, 1, executor));
+        assertEquals("Invalid block size: 0", e.getMessage());
+        e = assertThrows(IllegalArgumentException.class, () -> SensitivityResultAsyncWriter.sharded(0, i -> modelWriter, executor));
+        assertEquals("Invalid number of contingencies per shard: 0", e.getMessage());
+    }
+}
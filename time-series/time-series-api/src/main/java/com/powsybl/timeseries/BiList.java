@@ -84,6 +84,15 @@ public class BiList<E> {
         }
     }
 
+    List<E> toList() {
+        lock.lock();
+        try {
+            return new ArrayList<>(list);
+        } finally {
+            lock.unlock();
+        }
+    }
+
     void clear() {
         lock.lock();
         try {
@@ -90,6 +90,28 @@ public class BigDoubleBuffer {
         );
     }
 
+    /**
+     * Bulk copy of {@code length} values starting at {@code index} to {@code dst}, possibly spanning several buffers.
+     */
+    public void get(long index, double[] dst, int offset, int length) {
+        Objects.requireNonNull(dst);
+        if (index < 0 || length < 0 || index + length > size) {
+            throw new IndexOutOfBoundsException("Range [" + index + ", " + (index + length) + "[ is out of buffer bounds [0, " + size + "[");
+        }
+        long i = index;
+        int o = offset;
+        int remaining = length;
+        while (remaining > 0) {
+            int bufferIndex = (int) (i >> BUFFER_SHIFT);
+            int secondIndex = (int) (i & BUFFER_MASK);
+            int n = Math.min(remaining, buffers[bufferIndex].capacity() - secondIndex);
+            buffers[bufferIndex].get(secondIndex, dst, o, n);
+            i += n;
+            o += n;
+            remaining -= n;
+        }
+    }
+
     public long capacity() {
         return size;
     }
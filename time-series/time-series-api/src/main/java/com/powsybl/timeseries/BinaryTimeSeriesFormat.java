@@ -0,0 +1,210 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.timeseries;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary columnar format of time series files.
+ *
+ * <p>A file starts with a header (magic number and format version) followed by data blocks, one per time series and
+ * version, each block being the list of the data chunks of the time series. Then comes the index, giving for each time
+ * series its metadata and the position, size and chunk count of the block of each version. The file ends with the
+ * position of the index and the magic number, so that the index can be read without scanning the file.</p>
+ *
+ * <p>Double values are either written as is or XOR encoded: each value is XORed with the previous one and only the
+ * non zero bytes of the result are written, after a byte giving the number of leading and trailing zero bytes.</p>
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class BinaryTimeSeriesFormat {
+
+    static final int MAGIC = 0x50545342; // PTSB
+
+    static final int VERSION = 1;
+
+    static final int HEADER_SIZE = 2 * Integer.BYTES;
+
+    static final int TRAILER_SIZE = Long.BYTES + Integer.BYTES;
+
+    static final byte UNCOMPRESSED_DOUBLE_CHUNK = 0;
+    static final byte COMPRESSED_DOUBLE_CHUNK = 1;
+    static final byte UNCOMPRESSED_STRING_CHUNK = 2;
+    static final byte COMPRESSED_STRING_CHUNK = 3;
+
+    static final byte RAW_ENCODING = 0;
+    static final byte XOR_ENCODING = 1;
+
+    private static final int ZERO_XOR = 0x80;
+
+    private BinaryTimeSeriesFormat() {
+    }
+
+    static void writeDoubles(DataOutputStream os, double[] values, boolean xorEncoding) throws IOException {
+        os.writeByte(xorEncoding ? XOR_ENCODING : RAW_ENCODING);
+        if (xorEncoding) {
+            long previous = 0;
+            for (double value : values) {
+                long bits = Double.doubleToRawLongBits(value);
+                long xor = bits ^ previous;
+                previous = bits;
+                if (xor == 0) {
+                    os.writeByte(ZERO_XOR);
+                } else {
+                    int leadingZeroBytes = Long.numberOfLeadingZeros(xor) / 8;
+                    int trailingZeroBytes = Long.numberOfTrailingZeros(xor) / 8;
+                    os.writeByte(leadingZeroBytes << 4 | trailingZeroBytes);
+                    for (int i = 7 - leadingZeroBytes; i >= trailingZeroBytes; i--) {
+                        os.writeByte((int) (xor >>> (i * 8)));
+                    }
+                }
+            }
+        } else {
+            for (double value : values) {
+                os.writeDouble(value);
+            }
+        }
+    }
+
+    static double[] readDoubles(ByteBuffer buffer, int count) {
+        byte encoding = buffer.get();
+        double[] values = new double[count];
+        switch (encoding) {
+            case RAW_ENCODING -> {
+                buffer.asDoubleBuffer().get(values);
+                buffer.position(buffer.position() + count * Double.BYTES);
+            }
+            case XOR_ENCODING -> {
+                long previous = 0;
+                for (int i = 0; i < count; i++) {
+                    int zeroBytes = buffer.get() & 0xFF;
+                    long xor = 0;
+                    if (zeroBytes != ZERO_XOR) {
+                        int leadingZeroBytes = zeroBytes >>> 4;
+                        int trailingZeroBytes = zeroBytes & 0xF;
+                        for (int j = 0; j < 8 - leadingZeroBytes - trailingZeroBytes; j++) {
+                            xor = xor << 8 | (buffer.get() & 0xFF);
+                        }
+                        xor <<= trailingZeroBytes * 8;
+                    }
+                    previous ^= xor;
+                    values[i] = Double.longBitsToDouble(previous);
+                }
+            }
+            default -> throw new TimeSeriesException("Unknown double encoding " + encoding);
+        }
+        return values;
+    }
+
+    static void writeInts(DataOutputStream os, int[] values) throws IOException {
+        for (int value : values) {
+            os.writeInt(value);
+        }
+    }
+
+    static int[] readInts(ByteBuffer buffer, int count) {
+        int[] values = new int[count];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + count * Integer.BYTES);
+        return values;
+    }
+
+    static void writeString(DataOutputStream os, String value) throws IOException {
+        if (value == null) {
+            os.writeInt(-1);
+        } else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            os.writeInt(bytes.length);
+            os.write(bytes);
+        }
+    }
+
+    static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == -1) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static void writeStrings(DataOutputStream os, String[] values) throws IOException {
+        for (String value : values) {
+            writeString(os, value);
+        }
+    }
+
+    static String[] readStrings(ByteBuffer buffer, int count) {
+        String[] values = new String[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = readString(buffer);
+        }
+        return values;
+    }
+
+    static void writeChunk(DataOutputStream os, DataChunk<?, ?> chunk, boolean xorEncoding) throws IOException {
+        if (chunk instanceof UncompressedDoubleDataChunk uncompressedChunk) {
+            os.writeByte(UNCOMPRESSED_DOUBLE_CHUNK);
+            os.writeInt(uncompressedChunk.getOffset());
+            os.writeInt(uncompressedChunk.getLength());
+            writeDoubles(os, uncompressedChunk.getValues(), xorEncoding);
+        } else if (chunk instanceof CompressedDoubleDataChunk compressedChunk) {
+            os.writeByte(COMPRESSED_DOUBLE_CHUNK);
+            os.writeInt(compressedChunk.getOffset());
+            os.writeInt(compressedChunk.getUncompressedLength());
+            os.writeInt(compressedChunk.getStepLengths().length);
+            writeDoubles(os, compressedChunk.getStepValues(), xorEncoding);
+            writeInts(os, compressedChunk.getStepLengths());
+        } else if (chunk instanceof UncompressedStringDataChunk uncompressedChunk) {
+            os.writeByte(UNCOMPRESSED_STRING_CHUNK);
+            os.writeInt(uncompressedChunk.getOffset());
+            os.writeInt(uncompressedChunk.getLength());
+            writeStrings(os, uncompressedChunk.getValues());
+        } else if (chunk instanceof CompressedStringDataChunk compressedChunk) {
+            os.writeByte(COMPRESSED_STRING_CHUNK);
+            os.writeInt(compressedChunk.getOffset());
+            os.writeInt(compressedChunk.getUncompressedLength());
+            os.writeInt(compressedChunk.getStepLengths().length);
+            writeStrings(os, compressedChunk.getStepValues());
+            writeInts(os, compressedChunk.getStepLengths());
+        } else {
+            throw new TimeSeriesException("Unsupported data chunk type " + chunk.getClass().getName());
+        }
+    }
+
+    static List<DataChunk<?, ?>> readChunks(ByteBuffer buffer, int chunkCount) {
+        List<DataChunk<?, ?>> chunks = new ArrayList<>(chunkCount);
+        for (int i = 0; i < chunkCount; i++) {
+            byte type = buffer.get();
+            int offset = buffer.getInt();
+            int length = buffer.getInt();
+            switch (type) {
+                case UNCOMPRESSED_DOUBLE_CHUNK -> chunks.add(new UncompressedDoubleDataChunk(offset, readDoubles(buffer, length)));
+                case COMPRESSED_DOUBLE_CHUNK -> {
+                    int stepCount = buffer.getInt();
+                    double[] stepValues = readDoubles(buffer, stepCount);
+                    chunks.add(new CompressedDoubleDataChunk(offset, length, stepValues, readInts(buffer, stepCount)));
+                }
+                case UNCOMPRESSED_STRING_CHUNK -> chunks.add(new UncompressedStringDataChunk(offset, readStrings(buffer, length)));
+                case COMPRESSED_STRING_CHUNK -> {
+                    int stepCount = buffer.getInt();
+                    String[] stepValues = readStrings(buffer, stepCount);
+                    chunks.add(new CompressedStringDataChunk(offset, length, stepValues, readInts(buffer, stepCount)));
+                }
+                default -> throw new TimeSeriesException("Unknown data chunk type " + type);
+            }
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,254 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.timeseries;
+
+import com.powsybl.commons.json.JsonUtil;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Read only time series store over a file written by {@link BinaryTimeSeriesWriter}.
+ *
+ * <p>Only the index is read when the store is opened; the data chunks of a time series are read on demand, large blocks
+ * being memory-mapped instead of copied. The store is thread safe.</p>
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class BinaryTimeSeriesStore implements ReadOnlyTimeSeriesStore, Closeable {
+
+    /**
+     * Blocks from this size are memory-mapped, smaller ones are read into a heap buffer.
+     */
+    static final int MAPPING_THRESHOLD = 1024 * 1024;
+
+    private final Path file;
+
+    private final FileChannel channel;
+
+    private final Map<String, SeriesEntry> entries;
+
+    private record BlockEntry(long position, int length, int chunkCount) {
+    }
+
+    private record SeriesEntry(TimeSeriesMetadata metadata, SortedMap<Integer, BlockEntry> blocks) {
+    }
+
+    private BinaryTimeSeriesStore(Path file, FileChannel channel, Map<String, SeriesEntry> entries) {
+        this.file = file;
+        this.channel = channel;
+        this.entries = entries;
+    }
+
+    public static BinaryTimeSeriesStore open(Path file) {
+        Objects.requireNonNull(file);
+        try {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+            try {
+                return new BinaryTimeSeriesStore(file, channel, readIndex(file, channel));
+            } catch (RuntimeException | IOException e) {
+                channel.close();
+                throw e;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException();
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static TimeSeriesException createInvalidFileException(Path file) {
+        return new TimeSeriesException("Invalid binary time series file " + file);
+    }
+
+    private static Map<String, SeriesEntry> readIndex(Path file, FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size < BinaryTimeSeriesFormat.HEADER_SIZE + BinaryTimeSeriesFormat.TRAILER_SIZE) {
+            throw createInvalidFileException(file);
+        }
+        ByteBuffer header = read(channel, 0, BinaryTimeSeriesFormat.HEADER_SIZE);
+        if (header.getInt() != BinaryTimeSeriesFormat.MAGIC) {
+            throw createInvalidFileException(file);
+        }
+        int version = header.getInt();
+        if (version != BinaryTimeSeriesFormat.VERSION) {
+            throw new TimeSeriesException("Unsupported binary time series format version " + version);
+        }
+        ByteBuffer trailer = read(channel, size - BinaryTimeSeriesFormat.TRAILER_SIZE, BinaryTimeSeriesFormat.TRAILER_SIZE);
+        long indexPosition = trailer.getLong();
+        if (trailer.getInt() != BinaryTimeSeriesFormat.MAGIC || indexPosition < BinaryTimeSeriesFormat.HEADER_SIZE
+                || indexPosition > size - BinaryTimeSeriesFormat.TRAILER_SIZE) {
+            throw createInvalidFileException(file);
+        }
+
+        ByteBuffer index = read(channel, indexPosition, (int) (size - BinaryTimeSeriesFormat.TRAILER_SIZE - indexPosition));
+        int seriesCount = index.getInt();
+        Map<String, SeriesEntry> entries = new LinkedHashMap<>(seriesCount);
+        for (int i = 0; i < seriesCount; i++) {
+            TimeSeriesMetadata metadata = JsonUtil.parseJson(BinaryTimeSeriesFormat.readString(index), TimeSeriesMetadata::parseJson);
+            int blockCount = index.getInt();
+            SortedMap<Integer, BlockEntry> blocks = new TreeMap<>();
+            for (int j = 0; j < blockCount; j++) {
+                blocks.put(index.getInt(), new BlockEntry(index.getLong(), index.getInt(), index.getInt()));
+            }
+            entries.put(metadata.getName(), new SeriesEntry(metadata, blocks));
+        }
+        return entries;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    private List<DataChunk<?, ?>> readChunks(BlockEntry block) {
+        try {
+            ByteBuffer buffer = block.length() >= MAPPING_THRESHOLD
+                    ? channel.map(FileChannel.MapMode.READ_ONLY, block.position(), block.length())
+                    : read(channel, block.position(), block.length());
+            return BinaryTimeSeriesFormat.readChunks(buffer, block.chunkCount());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Optional<BlockEntry> getBlock(String timeSeriesName, int version, TimeSeriesDataType dataType) {
+        Objects.requireNonNull(timeSeriesName);
+        TimeSeriesVersions.check(version);
+        SeriesEntry entry = entries.get(timeSeriesName);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.metadata().getDataType() != dataType) {
+            throw new TimeSeriesException("Time series '" + timeSeriesName + "' is not a " + dataType + " time series");
+        }
+        return Optional.ofNullable(entry.blocks().get(version));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <C> List<C> castChunks(List<DataChunk<?, ?>> chunks) {
+        return (List<C>) (List<?>) chunks;
+    }
+
+    @Override
+    public Set<String> getTimeSeriesNames(TimeSeriesFilter filter) {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    @Override
+    public boolean timeSeriesExists(String timeSeriesName) {
+        Objects.requireNonNull(timeSeriesName);
+        return entries.containsKey(timeSeriesName);
+    }
+
+    @Override
+    public Optional<TimeSeriesMetadata> getTimeSeriesMetadata(String timeSeriesName) {
+        Objects.requireNonNull(timeSeriesName);
+        return Optional.ofNullable(entries.get(timeSeriesName)).map(SeriesEntry::metadata);
+    }
+
+    @Override
+    public List<TimeSeriesMetadata> getTimeSeriesMetadata(Set<String> timeSeriesNames) {
+        Objects.requireNonNull(timeSeriesNames);
+        return timeSeriesNames.stream()
+                .map(this::getTimeSeriesMetadata)
+                .flatMap(Optional::stream)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Set<Integer> getTimeSeriesDataVersions() {
+        return entries.values().stream()
+                .flatMap(entry -> entry.blocks().keySet().stream())
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    @Override
+    public Set<Integer> getTimeSeriesDataVersions(String timeSeriesName) {
+        Objects.requireNonNull(timeSeriesName);
+        SeriesEntry entry = entries.get(timeSeriesName);
+        return entry != null ? Collections.unmodifiableSet(entry.blocks().keySet()) : Collections.emptySet();
+    }
+
+    @Override
+    public Optional<DoubleTimeSeries> getDoubleTimeSeries(String timeSeriesName, int version) {
+        return getBlock(timeSeriesName, version, TimeSeriesDataType.DOUBLE)
+                .map(block -> new StoredDoubleTimeSeries(entries.get(timeSeriesName).metadata(), castChunks(readChunks(block))));
+    }
+
+    @Override
+    public List<DoubleTimeSeries> getDoubleTimeSeries(Set<String> timeSeriesNames, int version) {
+        Objects.requireNonNull(timeSeriesNames);
+        return timeSeriesNames.stream()
+                .map(timeSeriesName -> getDoubleTimeSeries(timeSeriesName, version))
+                .flatMap(Optional::stream)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<DoubleTimeSeries> getDoubleTimeSeries(int version) {
+        Set<String> timeSeriesNames = entries.values().stream()
+                .filter(entry -> entry.metadata().getDataType() == TimeSeriesDataType.DOUBLE)
+                .map(entry -> entry.metadata().getName())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        return getDoubleTimeSeries(timeSeriesNames, version);
+    }
+
+    @Override
+    public Optional<StringTimeSeries> getStringTimeSeries(String timeSeriesName, int version) {
+        return getBlock(timeSeriesName, version, TimeSeriesDataType.STRING)
+                .map(block -> new StringTimeSeries(entries.get(timeSeriesName).metadata(), castChunks(readChunks(block))));
+    }
+
+    @Override
+    public List<StringTimeSeries> getStringTimeSeries(Set<String> timeSeriesNames, int version) {
+        Objects.requireNonNull(timeSeriesNames);
+        return timeSeriesNames.stream()
+                .map(timeSeriesName -> getStringTimeSeries(timeSeriesName, version))
+                .flatMap(Optional::stream)
+                .collect(Collectors.toList());
+    }
+
+    private static UnsupportedOperationException createNotImplementedException() {
+        return new UnsupportedOperationException("Not implemented");
+    }
+
+    @Override
+    public void addListener(TimeSeriesStoreListener listener) {
+        throw createNotImplementedException();
+    }
+
+    @Override
+    public void removeListener(TimeSeriesStoreListener listener) {
+        throw createNotImplementedException();
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
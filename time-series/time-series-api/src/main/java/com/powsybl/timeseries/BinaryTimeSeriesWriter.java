@@ -0,0 +1,160 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.timeseries;
+
+import com.powsybl.commons.json.JsonUtil;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Writer of time series to a file using the binary columnar format read by {@link BinaryTimeSeriesStore}.
+ *
+ * <p>Each version of each time series is written as a block of its data chunks, so that compressed chunks are kept
+ * compressed in the file. The index of the blocks is written when the writer is closed.</p>
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class BinaryTimeSeriesWriter implements Closeable {
+
+    private final DataOutputStream os;
+
+    private final boolean xorEncoding;
+
+    private final Map<String, SeriesEntry> entries = new LinkedHashMap<>();
+
+    private long position;
+
+    private boolean closed = false;
+
+    private static final class BlockEntry {
+
+        private final long position;
+
+        private final int length;
+
+        private final int chunkCount;
+
+        private BlockEntry(long position, int length, int chunkCount) {
+            this.position = position;
+            this.length = length;
+            this.chunkCount = chunkCount;
+        }
+    }
+
+    private static final class SeriesEntry {
+
+        private final TimeSeriesMetadata metadata;
+
+        private final SortedMap<Integer, BlockEntry> blocks = new TreeMap<>();
+
+        private SeriesEntry(TimeSeriesMetadata metadata) {
+            this.metadata = metadata;
+        }
+    }
+
+    public BinaryTimeSeriesWriter(Path file) {
+        this(file, false);
+    }
+
+    /**
+     * @param xorEncoding if true, double values are XOR encoded, which is more compact for smooth or repeated values
+     */
+    public BinaryTimeSeriesWriter(Path file, boolean xorEncoding) {
+        Objects.requireNonNull(file);
+        this.xorEncoding = xorEncoding;
+        try {
+            os = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+            os.writeInt(BinaryTimeSeriesFormat.MAGIC);
+            os.writeInt(BinaryTimeSeriesFormat.VERSION);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        position = BinaryTimeSeriesFormat.HEADER_SIZE;
+    }
+
+    private static List<? extends DataChunk<?, ?>> getChunks(TimeSeries<?, ?> timeSeries) {
+        if (timeSeries instanceof AbstractTimeSeries<?, ?, ?> abstractTimeSeries) {
+            return abstractTimeSeries.getChunks();
+        } else if (timeSeries instanceof DoubleTimeSeries doubleTimeSeries) {
+            // calculated time series are materialized
+            return List.of(new UncompressedDoubleDataChunk(0, doubleTimeSeries.toArray()).tryToCompress());
+        }
+        throw new TimeSeriesException("Unsupported time series type " + timeSeries.getClass().getName());
+    }
+
+    public void write(int version, TimeSeries<?, ?> timeSeries) {
+        TimeSeriesVersions.check(version);
+        Objects.requireNonNull(timeSeries);
+        if (closed) {
+            throw new TimeSeriesException("Writer is closed");
+        }
+        TimeSeriesMetadata metadata = timeSeries.getMetadata();
+        SeriesEntry entry = entries.computeIfAbsent(metadata.getName(), k -> new SeriesEntry(metadata));
+        if (!entry.metadata.equals(metadata)) {
+            throw new TimeSeriesException("Metadata of time series '" + metadata.getName() + "' is different from already written one");
+        }
+        if (entry.blocks.containsKey(version)) {
+            throw new TimeSeriesException("Version " + version + " of time series '" + metadata.getName() + "' already written");
+        }
+
+        List<? extends DataChunk<?, ?>> chunks = getChunks(timeSeries);
+        try {
+            ByteArrayOutputStream block = new ByteArrayOutputStream();
+            DataOutputStream blockOs = new DataOutputStream(block);
+            for (DataChunk<?, ?> chunk : chunks) {
+                BinaryTimeSeriesFormat.writeChunk(blockOs, chunk, xorEncoding);
+            }
+            blockOs.flush();
+            block.writeTo(os);
+            entry.blocks.put(version, new BlockEntry(position, block.size(), chunks.size()));
+            position += block.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void write(int version, TimeSeries<?, ?>... timeSeries) {
+        for (TimeSeries<?, ?> ts : timeSeries) {
+            write(version, ts);
+        }
+    }
+
+    private void writeIndex() throws IOException {
+        long indexPosition = position;
+        os.writeInt(entries.size());
+        for (SeriesEntry entry : entries.values()) {
+            BinaryTimeSeriesFormat.writeString(os, JsonUtil.toJson(entry.metadata::writeJson));
+            os.writeInt(entry.blocks.size());
+            for (Map.Entry<Integer, BlockEntry> e : entry.blocks.entrySet()) {
+                os.writeInt(e.getKey());
+                os.writeLong(e.getValue().position);
+                os.writeInt(e.getValue().length);
+                os.writeInt(e.getValue().chunkCount);
+            }
+        }
+        os.writeLong(indexPosition);
+        os.writeInt(BinaryTimeSeriesFormat.MAGIC);
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            writeIndex();
+            os.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
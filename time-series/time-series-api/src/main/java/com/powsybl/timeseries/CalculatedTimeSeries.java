@@ -45,6 +45,9 @@ public class CalculatedTimeSeries implements DoubleTimeSeries {
         }
     };
 
+    // Number of points whose input values are densified at once
+    private static final int WINDOW_SIZE = 64 * CompiledNodeCalcEvaluator.BLOCK_SIZE;
+
     private final String name;
 
     private final NodeCalc nodeCalc;
@@ -163,11 +166,9 @@ public class CalculatedTimeSeries implements DoubleTimeSeries {
     //To remove if we ever get it from somewhere else
     @FunctionalInterface private interface DoubleIntConsumer { public void accept(double a, int b); }
 
-    private void forEachMaterializedValueIndex(DoubleIntConsumer consumer) {
-        if (metadata.getIndex() == InfiniteTimeSeriesIndex.INSTANCE) {
-            throw new TimeSeriesException("Impossible to fill buffer because calculated time series has not been synchronized on a finite time index");
-        }
-        Iterator<DoublePoint> it = iterator();
+    private void forEachMaterializedValueIndex(List<DoubleTimeSeries> timeSeriesList, CompiledNodeCalcEvaluator evaluator,
+                                               DoubleIntConsumer consumer) {
+        Iterator<DoublePoint> it = iterator(timeSeriesList, evaluator);
         DoublePoint prevPoint = null;
         while (it.hasNext()) {
             DoublePoint point = it.next();
@@ -185,16 +186,56 @@ public class CalculatedTimeSeries implements DoubleTimeSeries {
         }
     }
 
+    /**
+     * Compute the value of the time series at each point of the index. Unless the formula depends on time, values
+     * only depend on the values of the input time series at the same point, so the formula is evaluated window by
+     * window: the values of the inputs are only densified for the points of the current window, from their chunks.
+     */
+    private void forEachValueIndex(DoubleIntConsumer consumer) {
+        if (metadata.getIndex() == InfiniteTimeSeriesIndex.INSTANCE) {
+            throw new TimeSeriesException("Impossible to fill buffer because calculated time series has not been synchronized on a finite time index");
+        }
+        List<DoubleTimeSeries> timeSeriesList = loadData();
+        CompiledNodeCalcEvaluator evaluator = CompiledNodeCalcEvaluator.compile(resolve(timeSeriesList));
+        if (evaluator.isTimeDependent()) {
+            forEachMaterializedValueIndex(timeSeriesList, evaluator, consumer);
+            return;
+        }
+        int pointCount = metadata.getIndex().getPointCount();
+        if (timeSeriesList.isEmpty()) {
+            double value = evaluator.evaluate(null);
+            for (int i = 0; i < pointCount; i++) {
+                consumer.accept(value, i);
+            }
+            return;
+        }
+        int windowSize = Math.min(WINDOW_SIZE, pointCount);
+        List<List<DoubleDataChunk>> chunks = timeSeriesList.stream().map(DoubleDataChunks::getChunks).toList();
+        double[][] timeSeriesValues = new double[timeSeriesList.size()][windowSize];
+        double[] values = new double[windowSize];
+        for (int start = 0; start < pointCount; start += windowSize) {
+            int length = Math.min(windowSize, pointCount - start);
+            for (int i = 0; i < timeSeriesValues.length; i++) {
+                DoubleDataChunks.fill(chunks.get(i), start, timeSeriesValues[i], length);
+            }
+            // values of the window are read from position 0, the index is not used as the formula does not depend on time
+            evaluator.evaluate(timeSeriesValues, null, 0, length, values, 0);
+            for (int i = 0; i < length; i++) {
+                consumer.accept(values[i], start + i);
+            }
+        }
+    }
+
     @Override
     public void fillBuffer(DoubleBuffer buffer, int timeSeriesOffset) {
         Objects.requireNonNull(buffer);
-        forEachMaterializedValueIndex((v, i) -> buffer.put(i + timeSeriesOffset, v));
+        forEachValueIndex((v, i) -> buffer.put(i + timeSeriesOffset, v));
     }
 
     @Override
     public void fillBuffer(BigDoubleBuffer buffer, long timeSeriesOffset) {
         Objects.requireNonNull(buffer);
-        forEachMaterializedValueIndex((v, i) -> buffer.put(i + timeSeriesOffset, v));
+        forEachValueIndex((v, i) -> buffer.put(i + timeSeriesOffset, v));
     }
 
     @Override
@@ -216,35 +257,38 @@ public class CalculatedTimeSeries implements DoubleTimeSeries {
         return index;
     }
 
-    private static DoublePoint evaluateMultiPoint(NodeCalc resolvedNodeCalc, DoubleMultiPoint multiPoint) {
-        double value = NodeCalcEvaluator.eval(resolvedNodeCalc, multiPoint);
+    private static DoublePoint evaluateMultiPoint(CompiledNodeCalcEvaluator evaluator, DoubleMultiPoint multiPoint) {
+        double value = evaluator.evaluate(multiPoint);
         return new DoublePoint(multiPoint.getIndex(), multiPoint.getTime(), value);
     }
 
-    private static DoublePoint evaluate(NodeCalc resolvedNodeCalc) {
-        double value = NodeCalcEvaluator.eval(resolvedNodeCalc, null);
+    private static DoublePoint evaluate(CompiledNodeCalcEvaluator evaluator) {
+        double value = evaluator.evaluate(null);
         return new DoublePoint(0, InfiniteTimeSeriesIndex.START_TIME, value);
     }
 
     @Override
     public Stream<DoublePoint> stream() {
         List<DoubleTimeSeries> timeSeriesList = loadData();
-        NodeCalc resolvedNodeCalc = resolve(timeSeriesList);
+        CompiledNodeCalcEvaluator evaluator = CompiledNodeCalcEvaluator.compile(resolve(timeSeriesList));
         if (timeSeriesList.isEmpty()) {
-            return Stream.of(evaluate(resolvedNodeCalc));
+            return Stream.of(evaluate(evaluator));
         } else {
-            return DoubleTimeSeries.stream(timeSeriesList).map(multiPoint -> evaluateMultiPoint(resolvedNodeCalc, multiPoint));
+            return DoubleTimeSeries.stream(timeSeriesList).map(multiPoint -> evaluateMultiPoint(evaluator, multiPoint));
         }
     }
 
     @Override
     public Iterator<DoublePoint> iterator() {
         List<DoubleTimeSeries> timeSeriesList = loadData();
-        NodeCalc resolvedNodeCalc = resolve(timeSeriesList);
+        return iterator(timeSeriesList, CompiledNodeCalcEvaluator.compile(resolve(timeSeriesList)));
+    }
+
+    private static Iterator<DoublePoint> iterator(List<DoubleTimeSeries> timeSeriesList, CompiledNodeCalcEvaluator evaluator) {
         if (timeSeriesList.isEmpty()) {
-            return Iterators.singletonIterator(evaluate(resolvedNodeCalc));
+            return Iterators.singletonIterator(evaluate(evaluator));
         } else {
-            return Iterators.transform(DoubleTimeSeries.iterator(timeSeriesList), multiPoint -> evaluateMultiPoint(resolvedNodeCalc, multiPoint));
+            return Iterators.transform(DoubleTimeSeries.iterator(timeSeriesList), multiPoint -> evaluateMultiPoint(evaluator, multiPoint));
         }
     }
 
@@ -0,0 +1,191 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.timeseries;
+
+import com.powsybl.timeseries.ast.CompiledNodeCalcEvaluator;
+import com.powsybl.timeseries.ast.NodeCalc;
+import com.powsybl.timeseries.ast.NodeCalcResolver;
+import com.powsybl.timeseries.ast.NodeCalcSimplifier;
+import com.powsybl.timeseries.ast.TimeSeriesNames;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Evaluation of many calculated time series at once.
+ *
+ * <p>Evaluating calculated time series one by one loads their input time series once per calculated time series, even
+ * if they are shared. This evaluator loads the union of the input time series once per version, then evaluates all
+ * the formulas chunk by chunk: the values of the inputs are only densified for the points of the current chunk, and
+ * each chunk of the results is compressed as soon as it has been computed. Chunks are independent, so they can be
+ * evaluated in parallel.</p>
+ *
+ * <p>Formulas depending on time are evaluated as a {@link CalculatedTimeSeries} on the already loaded inputs, and
+ * formulas not depending on any time series are returned as a {@link CalculatedTimeSeries} with an infinite index.</p>
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class CalculatedTimeSeriesBatchEvaluator {
+
+    public static final int DEFAULT_CHUNK_SIZE = 10000;
+
+    private final Map<String, NodeCalc> nodes;
+
+    private final Map<String, Set<String>> inputNamesByName = new HashMap<>();
+
+    private final Set<String> inputNames = new TreeSet<>();
+
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+    private boolean parallel = false;
+
+    public CalculatedTimeSeriesBatchEvaluator(Map<String, NodeCalc> nodes) {
+        this.nodes = new LinkedHashMap<>(Objects.requireNonNull(nodes));
+        this.nodes.forEach((name, nodeCalc) -> {
+            Set<String> names = TimeSeriesNames.list(Objects.requireNonNull(nodeCalc));
+            inputNamesByName.put(name, names);
+            inputNames.addAll(names);
+        });
+    }
+
+    public CalculatedTimeSeriesBatchEvaluator setChunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Invalid chunk size: " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    public CalculatedTimeSeriesBatchEvaluator setParallel(boolean parallel) {
+        this.parallel = parallel;
+        return this;
+    }
+
+    /**
+     * Names of the time series referenced by at least one formula.
+     */
+    public Set<String> getInputTimeSeriesNames() {
+        return Collections.unmodifiableSet(inputNames);
+    }
+
+    private record Formula(String name, int[] inputNums, CompiledNodeCalcEvaluator evaluator) {
+    }
+
+    /**
+     * Evaluate all the formulas for one version of the input time series of a store, in the order of the formulas.
+     */
+    public List<DoubleTimeSeries> evaluate(ReadOnlyTimeSeriesStore store, int version) {
+        Objects.requireNonNull(store);
+
+        // the union of the inputs is loaded at once
+        List<DoubleTimeSeries> inputs = inputNames.isEmpty() ? Collections.emptyList() : store.getDoubleTimeSeries(inputNames, version);
+        Map<String, Integer> inputNums = new HashMap<>();
+        for (int i = 0; i < inputs.size(); i++) {
+            inputNums.put(inputs.get(i).getMetadata().getName(), i);
+        }
+        if (inputNums.size() < inputNames.size()) {
+            Set<String> missingNames = new TreeSet<>(inputNames);
+            missingNames.removeAll(inputNums.keySet());
+            throw new TimeSeriesException("Time series " + missingNames + " not found for version " + version);
+        }
+        TimeSeriesNameResolver resolver = new LoadedTimeSeriesNameResolver(inputs, version);
+
+        Map<String, DoubleTimeSeries> results = new HashMap<>();
+        Map<TimeSeriesIndex, List<Formula>> formulasByIndex = new LinkedHashMap<>();
+        nodes.forEach((name, nodeCalc) -> {
+            Set<String> names = inputNamesByName.get(name);
+            if (names.isEmpty()) {
+                results.put(name, new CalculatedTimeSeries(name, nodeCalc));
+                return;
+            }
+            TimeSeriesIndex index = CalculatedTimeSeries.computeIndex(nodeCalc, resolver);
+            CompiledNodeCalcEvaluator evaluator = CompiledNodeCalcEvaluator.compile(NodeCalcResolver.resolve(NodeCalcSimplifier.simplify(nodeCalc), inputNums));
+            if (evaluator.isTimeDependent()) {
+                // same semantic as a calculated time series, without loading the inputs again
+                double[] values = new CalculatedTimeSeries(name, nodeCalc, resolver).toArray();
+                results.put(name, new StoredDoubleTimeSeries(new TimeSeriesMetadata(name, TimeSeriesDataType.DOUBLE, index),
+                                                             new UncompressedDoubleDataChunk(0, values).tryToCompress()));
+                return;
+            }
+            int[] nums = names.stream().mapToInt(inputNums::get).toArray();
+            formulasByIndex.computeIfAbsent(index, k -> new ArrayList<>()).add(new Formula(name, nums, evaluator));
+        });
+
+        formulasByIndex.forEach((index, formulas) -> evaluate(index, formulas, inputs, results));
+
+        return nodes.keySet().stream().map(results::get).toList();
+    }
+
+    /**
+     * Evaluate formulas sharing the same index, chunk by chunk.
+     */
+    private void evaluate(TimeSeriesIndex index, List<Formula> formulas, List<DoubleTimeSeries> inputs, Map<String, DoubleTimeSeries> results) {
+        int pointCount = index.getPointCount();
+        int chunkCount = (pointCount + chunkSize - 1) / chunkSize;
+        int[] usedNums = formulas.stream().flatMapToInt(formula -> Arrays.stream(formula.inputNums())).distinct().toArray();
+        List<List<DoubleDataChunk>> inputChunks = inputs.stream().map(DoubleDataChunks::getChunks).toList();
+
+        DoubleDataChunk[][] resultChunks = new DoubleDataChunk[formulas.size()][chunkCount];
+        IntStream chunkNums = IntStream.range(0, chunkCount);
+        if (parallel) {
+            chunkNums = chunkNums.parallel();
+        }
+        chunkNums.forEach(chunkNum -> {
+            int start = chunkNum * chunkSize;
+            int length = Math.min(chunkSize, pointCount - start);
+            // inputs are densified on the chunk only, so values are read from position 0
+            double[][] inputValues = new double[inputs.size()][];
+            for (int num : usedNums) {
+                inputValues[num] = new double[length];
+                DoubleDataChunks.fill(inputChunks.get(num), start, inputValues[num], length);
+            }
+            for (int i = 0; i < formulas.size(); i++) {
+                double[] values = new double[length];
+                formulas.get(i).evaluator().evaluate(inputValues, null, 0, length, values, 0);
+                resultChunks[i][chunkNum] = new UncompressedDoubleDataChunk(start, values).tryToCompress();
+            }
+        });
+
+        for (int i = 0; i < formulas.size(); i++) {
+            String name = formulas.get(i).name();
+            results.put(name, new StoredDoubleTimeSeries(new TimeSeriesMetadata(name, TimeSeriesDataType.DOUBLE, index),
+                                                         Arrays.asList(resultChunks[i])));
+        }
+    }
+
+    /**
+     * Resolve names on the time series already loaded for one version.
+     */
+    private static final class LoadedTimeSeriesNameResolver implements TimeSeriesNameResolver {
+
+        private final Map<String, DoubleTimeSeries> timeSeriesByName;
+
+        private final int version;
+
+        private LoadedTimeSeriesNameResolver(List<DoubleTimeSeries> timeSeriesList, int version) {
+            this.timeSeriesByName = timeSeriesList.stream().collect(Collectors.toMap(ts -> ts.getMetadata().getName(), ts -> ts));
+            this.version = version;
+        }
+
+        @Override
+        public List<TimeSeriesMetadata> getTimeSeriesMetadata(Set<String> timeSeriesNames) {
+            return timeSeriesNames.stream().map(timeSeriesByName::get).filter(Objects::nonNull).map(TimeSeries::getMetadata).toList();
+        }
+
+        @Override
+        public Set<Integer> getTimeSeriesDataVersions(String timeSeriesName) {
+            return timeSeriesByName.containsKey(timeSeriesName) ? Set.of(version) : Collections.emptySet();
+        }
+
+        @Override
+        public List<DoubleTimeSeries> getDoubleTimeSeries(Set<String> timeSeriesNames) {
+            return timeSeriesNames.stream().map(timeSeriesByName::get).filter(Objects::nonNull).toList();
+        }
+    }
+}
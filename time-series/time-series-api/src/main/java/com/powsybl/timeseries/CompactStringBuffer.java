@@ -11,6 +11,7 @@ import com.google.common.math.IntMath;
 
 import java.nio.ByteBuffer;
 import java.nio.IntBuffer;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.IntFunction;
 
@@ -50,6 +51,15 @@ public class CompactStringBuffer {
         }
     }
 
+    List<String> getDictionary() {
+        return dict.toList();
+    }
+
+    void setDictionary(List<String> values) {
+        dict.clear();
+        values.forEach(dict::add);
+    }
+
     public int capacity() {
         return buffer.capacity();
     }
@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.timeseries;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Access to the values of double time series by ranges of points, without densifying the whole time series.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class DoubleDataChunks {
+
+    private DoubleDataChunks() {
+    }
+
+    /**
+     * Get the chunks of a time series. Time series not stored as chunks, such as calculated ones, are densified.
+     */
+    static List<DoubleDataChunk> getChunks(DoubleTimeSeries timeSeries) {
+        if (timeSeries instanceof StoredDoubleTimeSeries storedTimeSeries) {
+            return storedTimeSeries.getChunks();
+        }
+        return List.of(new UncompressedDoubleDataChunk(0, timeSeries.toArray()));
+    }
+
+    /**
+     * Fill the first {@code length} elements of {@code values} with the values of the points
+     * {@code [start, start + length[}. Points not covered by any chunk are set to {@code NaN}.
+     */
+    static void fill(List<DoubleDataChunk> chunks, int start, double[] values, int length) {
+        Arrays.fill(values, 0, length, Double.NaN);
+        int end = start + length;
+        for (DoubleDataChunk chunk : chunks) {
+            int chunkStart = chunk.getOffset();
+            int chunkEnd = chunkStart + chunk.getLength();
+            if (chunkEnd <= start || chunkStart >= end) {
+                continue;
+            }
+            if (chunk instanceof UncompressedDoubleDataChunk uncompressedChunk) {
+                int from = Math.max(start, chunkStart);
+                int to = Math.min(end, chunkEnd);
+                System.arraycopy(uncompressedChunk.getValues(), from - chunkStart, values, from - start, to - from);
+            } else if (chunk instanceof CompressedDoubleDataChunk compressedChunk) {
+                double[] stepValues = compressedChunk.getStepValues();
+                int[] stepLengths = compressedChunk.getStepLengths();
+                int stepStart = chunkStart;
+                for (int i = 0; i < stepValues.length && stepStart < end; i++) {
+                    int stepEnd = stepStart + stepLengths[i];
+                    if (stepEnd > start) {
+                        Arrays.fill(values, Math.max(start, stepStart) - start, Math.min(end, stepEnd) - start, stepValues[i]);
+                    }
+                    stepStart = stepEnd;
+                }
+            } else {
+                throw new TimeSeriesException("Unsupported data chunk type " + chunk.getClass().getName());
+            }
+        }
+    }
+}
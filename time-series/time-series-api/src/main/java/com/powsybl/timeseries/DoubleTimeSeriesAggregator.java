@@ -0,0 +1,253 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.timeseries;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Aggregation and resampling of double time series to a regular index, working on data chunks.
+ *
+ * <p>Values are processed by runs of equal values: a run of an uncompressed chunk is a single value while a run of a
+ * {@link CompressedDoubleDataChunk} is a step, so that a step is aggregated in a time proportional to the number of
+ * target points it covers instead of its length.</p>
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class DoubleTimeSeriesAggregator {
+
+    public enum AggregationType {
+        SUM,
+        MEAN,
+        MIN,
+        MAX,
+        COUNT
+    }
+
+    private DoubleTimeSeriesAggregator() {
+    }
+
+    @FunctionalInterface
+    private interface RunConsumer {
+        void accept(int firstPoint, int length, double value);
+    }
+
+    private static void forEachRun(DoubleDataChunk chunk, RunConsumer consumer) {
+        if (chunk instanceof CompressedDoubleDataChunk compressedChunk) {
+            double[] stepValues = compressedChunk.getStepValues();
+            int[] stepLengths = compressedChunk.getStepLengths();
+            int point = compressedChunk.getOffset();
+            for (int i = 0; i < stepValues.length; i++) {
+                consumer.accept(point, stepLengths[i], stepValues[i]);
+                point += stepLengths[i];
+            }
+        } else if (chunk instanceof UncompressedDoubleDataChunk uncompressedChunk) {
+            double[] values = uncompressedChunk.getValues();
+            int offset = uncompressedChunk.getOffset();
+            for (int i = 0; i < values.length; i++) {
+                consumer.accept(offset + i, 1, values[i]);
+            }
+        } else {
+            throw new TimeSeriesException("Unsupported data chunk type " + chunk.getClass().getName());
+        }
+    }
+
+    private static List<DoubleDataChunk> getChunks(DoubleTimeSeries timeSeries) {
+        if (timeSeries instanceof StoredDoubleTimeSeries storedTimeSeries) {
+            return storedTimeSeries.getChunks();
+        }
+        return List.of(new UncompressedDoubleDataChunk(0, timeSeries.toArray()));
+    }
+
+    /**
+     * Index of the first point of {@code [from, to[} at or after {@code time}, {@code to} if there is none.
+     */
+    private static int firstPointAtOrAfter(TimeSeriesIndex index, long time, int from, int to) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (index.getTimeAt(middle) < time) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static final class Accumulator {
+
+        private final double[] sums;
+        private final long[] counts;
+        private final double[] mins;
+        private final double[] maxs;
+
+        private Accumulator(int pointCount) {
+            sums = new double[pointCount];
+            counts = new long[pointCount];
+            mins = new double[pointCount];
+            maxs = new double[pointCount];
+            Arrays.fill(mins, Double.POSITIVE_INFINITY);
+            Arrays.fill(maxs, Double.NEGATIVE_INFINITY);
+        }
+
+        private void add(int point, double value, int length) {
+            sums[point] += value * length;
+            counts[point] += length;
+            mins[point] = Math.min(mins[point], value);
+            maxs[point] = Math.max(maxs[point], value);
+        }
+
+        private double[] getValues(AggregationType type) {
+            double[] values = new double[sums.length];
+            for (int i = 0; i < values.length; i++) {
+                if (counts[i] == 0 && type != AggregationType.COUNT) {
+                    values[i] = Double.NaN;
+                } else {
+                    values[i] = switch (type) {
+                        case SUM -> sums[i];
+                        case MEAN -> sums[i] / counts[i];
+                        case MIN -> mins[i];
+                        case MAX -> maxs[i];
+                        case COUNT -> counts[i];
+                    };
+                }
+            }
+            return values;
+        }
+    }
+
+    /**
+     * Aggregate chunks to a regular index: the target point {@code i} aggregates the values of the points whose time is
+     * in {@code [t(i), t(i) + spacing[}. {@code NaN} values are ignored, and the aggregation of an empty target point is
+     * {@code NaN}, except for {@link AggregationType#COUNT}.
+     */
+    public static double[] aggregate(List<DoubleDataChunk> chunks, TimeSeriesIndex index, RegularTimeSeriesIndex targetIndex,
+                                     AggregationType type) {
+        Objects.requireNonNull(chunks);
+        Objects.requireNonNull(index);
+        Objects.requireNonNull(targetIndex);
+        Objects.requireNonNull(type);
+        return aggregate(chunks, index, targetIndex.getStartTime(), targetIndex.getSpacing(), targetIndex.getPointCount(), type);
+    }
+
+    private static double[] aggregate(List<DoubleDataChunk> chunks, TimeSeriesIndex index, long startTime, long spacing,
+                                      int targetPointCount, AggregationType type) {
+        long endTime = startTime + targetPointCount * spacing;
+        Accumulator accumulator = new Accumulator(targetPointCount);
+        for (DoubleDataChunk chunk : chunks) {
+            forEachRun(chunk, (firstPoint, length, value) -> {
+                if (Double.isNaN(value)) {
+                    return;
+                }
+                int end = firstPoint + length;
+                int point = firstPointAtOrAfter(index, startTime, firstPoint, end);
+                while (point < end) {
+                    long time = index.getTimeAt(point);
+                    if (time >= endTime) {
+                        break;
+                    }
+                    int targetPoint = (int) ((time - startTime) / spacing);
+                    // all the points of the run in the same target point are aggregated at once
+                    int next = firstPointAtOrAfter(index, startTime + (targetPoint + 1) * spacing, point, end);
+                    accumulator.add(targetPoint, value, next - point);
+                    point = next;
+                }
+            });
+        }
+        return accumulator.getValues(type);
+    }
+
+    public static DoubleTimeSeries aggregate(DoubleTimeSeries timeSeries, RegularTimeSeriesIndex targetIndex, AggregationType type) {
+        Objects.requireNonNull(timeSeries);
+        TimeSeriesMetadata metadata = timeSeries.getMetadata();
+        double[] values = aggregate(getChunks(timeSeries), metadata.getIndex(), targetIndex, type);
+        return new StoredDoubleTimeSeries(new TimeSeriesMetadata(metadata.getName(), TimeSeriesDataType.DOUBLE, metadata.getTags(), targetIndex),
+                                          new UncompressedDoubleDataChunk(0, values).tryToCompress());
+    }
+
+    /**
+     * Aggregate a time series by periods (a day, a week...) starting at the time of its first point. The last period is
+     * the one containing the last point. When all the points are in the first period, the index of the aggregated time
+     * series has a single point, its spacing being zero.
+     */
+    public static DoubleTimeSeries aggregate(DoubleTimeSeries timeSeries, Duration period, AggregationType type) {
+        Objects.requireNonNull(timeSeries);
+        Objects.requireNonNull(period);
+        TimeSeriesIndex index = timeSeries.getMetadata().getIndex();
+        long spacing = period.toMillis();
+        if (spacing <= 0) {
+            throw new IllegalArgumentException("Invalid period: " + period);
+        }
+        long startTime = index.getTimeAt(0);
+        long lastTime = index.getTimeAt(index.getPointCount() - 1);
+        long targetPointCount = (lastTime - startTime) / spacing + 1;
+        if (targetPointCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Period " + period + " is too short for the time series interval");
+        }
+        // a regular index can not have a spacing longer than its interval, a single point index has a zero spacing
+        RegularTimeSeriesIndex targetIndex = targetPointCount == 1
+                ? new RegularTimeSeriesIndex(startTime, startTime, 0)
+                : new RegularTimeSeriesIndex(startTime, startTime + (targetPointCount - 1) * spacing, spacing);
+        TimeSeriesMetadata metadata = timeSeries.getMetadata();
+        double[] values = aggregate(getChunks(timeSeries), index, startTime, spacing, (int) targetPointCount, type);
+        return new StoredDoubleTimeSeries(new TimeSeriesMetadata(metadata.getName(), TimeSeriesDataType.DOUBLE, metadata.getTags(), targetIndex),
+                                          new UncompressedDoubleDataChunk(0, values).tryToCompress());
+    }
+
+    /**
+     * Resample chunks to a regular index, each target point taking the value of the last point at or before its time
+     * (the value of a point holds until the next one), or {@code NaN} before the first point.
+     */
+    public static double[] resample(List<DoubleDataChunk> chunks, TimeSeriesIndex index, RegularTimeSeriesIndex targetIndex) {
+        Objects.requireNonNull(chunks);
+        Objects.requireNonNull(index);
+        Objects.requireNonNull(targetIndex);
+        long startTime = targetIndex.getStartTime();
+        long spacing = targetIndex.getSpacing();
+        int targetPointCount = targetIndex.getPointCount();
+        int pointCount = index.getPointCount();
+        double[] values = new double[targetPointCount];
+        Arrays.fill(values, Double.NaN);
+        for (DoubleDataChunk chunk : chunks) {
+            forEachRun(chunk, (firstPoint, length, value) -> {
+                // the run holds from the time of its first point to the time of the next point
+                int from = firstTargetPointAtOrAfter(index.getTimeAt(firstPoint), startTime, spacing, targetPointCount);
+                int end = firstPoint + length;
+                int to = end < pointCount ? firstTargetPointAtOrAfter(index.getTimeAt(end), startTime, spacing, targetPointCount)
+                                          : targetPointCount;
+                if (from < to) {
+                    Arrays.fill(values, from, to, value);
+                }
+            });
+        }
+        return values;
+    }
+
+    private static int firstTargetPointAtOrAfter(long time, long startTime, long spacing, int targetPointCount) {
+        if (time <= startTime) {
+            return 0;
+        }
+        // a single point target index has a zero spacing, its only point is before the time
+        if (targetPointCount == 1 || spacing == 0) {
+            return 1;
+        }
+        return (int) Math.min(targetPointCount, -Math.floorDiv(startTime - time, spacing));
+    }
+
+    public static DoubleTimeSeries resample(DoubleTimeSeries timeSeries, RegularTimeSeriesIndex targetIndex) {
+        Objects.requireNonNull(timeSeries);
+        TimeSeriesMetadata metadata = timeSeries.getMetadata();
+        double[] values = resample(getChunks(timeSeries), metadata.getIndex(), targetIndex);
+        return new StoredDoubleTimeSeries(new TimeSeriesMetadata(metadata.getName(), TimeSeriesDataType.DOUBLE, metadata.getTags(), targetIndex),
+                                          new UncompressedDoubleDataChunk(0, values).tryToCompress());
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.timeseries;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntFunction;
+
+/**
+ * Byte buffer allocator mapping each allocated buffer to a file of a directory. Files are named after the allocation
+ * order, so that buffers allocated in the same order with the same sizes can be mapped again to reopen the data.
+ * Buffers are unmapped when the allocator is closed, they must not be accessed anymore afterwards.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+class MappedByteBufferAllocator implements IntFunction<ByteBuffer> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MappedByteBufferAllocator.class);
+
+    private final Path directory;
+
+    private final boolean reopen;
+
+    private final List<MappedByteBuffer> buffers = new ArrayList<>();
+
+    private boolean closed = false;
+
+    MappedByteBufferAllocator(Path directory, boolean reopen) {
+        this.directory = Objects.requireNonNull(directory);
+        this.reopen = reopen;
+    }
+
+    Path getDirectory() {
+        return directory;
+    }
+
+    @Override
+    public synchronized ByteBuffer apply(int size) {
+        if (closed) {
+            throw new TimeSeriesException("Buffer allocator of " + directory + " is closed");
+        }
+        Path file = directory.resolve(String.format("buffer-%05d.bin", buffers.size()));
+        try (FileChannel channel = reopen ? FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                                          : FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                                                             StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (reopen && channel.size() != size) {
+                throw new TimeSeriesException("Size of " + file + " (" + channel.size() + ") is different from expected one (" + size + ")");
+            }
+            // the mapping stays valid after the channel is closed
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffers.add(buffer);
+            return buffer;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    synchronized void force() {
+        buffers.forEach(MappedByteBuffer::force);
+    }
+
+    synchronized boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Force and unmap all the buffers. If buffers cannot be unmapped explicitly, they are unmapped once garbage
+     * collected.
+     */
+    synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        force();
+        for (MappedByteBuffer buffer : buffers) {
+            unmap(buffer);
+        }
+        buffers.clear();
+    }
+
+    private static void unmap(MappedByteBuffer buffer) {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            invokeCleaner.invoke(theUnsafe.get(null), buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOGGER.debug("Cannot unmap buffer, it will be unmapped once garbage collected", e);
+        }
+    }
+}
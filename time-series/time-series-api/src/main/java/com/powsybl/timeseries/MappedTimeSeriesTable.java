@@ -0,0 +1,49 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.timeseries;
+
+import java.io.Closeable;
+import java.util.Objects;
+
+/**
+ * Time series table stored in memory-mapped files, created with
+ * {@link TimeSeriesTable#createMapped(int, int, TimeSeriesIndex, java.nio.file.Path)} or reopened with
+ * {@link TimeSeriesTable#openMapped(java.nio.file.Path)}. Closing the table flushes it and unmaps its files, the table
+ * cannot be used anymore afterwards.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class MappedTimeSeriesTable extends TimeSeriesTable implements Closeable {
+
+    private final MappedByteBufferAllocator byteBufferAllocator;
+
+    MappedTimeSeriesTable(int fromVersion, int toVersion, TimeSeriesIndex tableIndex, MappedByteBufferAllocator byteBufferAllocator) {
+        super(fromVersion, toVersion, tableIndex, byteBufferAllocator);
+        this.byteBufferAllocator = Objects.requireNonNull(byteBufferAllocator);
+    }
+
+    @Override
+    public MappedTimeSeriesTable setParallel(boolean parallel) {
+        super.setParallel(parallel);
+        return this;
+    }
+
+    @Override
+    public void close() {
+        if (byteBufferAllocator.isClosed()) {
+            return;
+        }
+        try {
+            flush();
+        } finally {
+            // buffers of the table are released before being unmapped, so that they cannot be accessed anymore
+            release();
+            byteBufferAllocator.close();
+        }
+    }
+}
@@ -0,0 +1,332 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.timeseries;
+
+import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Read only time series store caching the data chunks of the time series of another store, with a memory budget.
+ *
+ * <p>The chunks of each time series version are cached, their size being estimated with
+ * {@link DataChunk#getEstimatedSize()}, and the least recently used ones are evicted when the budget is exceeded. As
+ * chunks are immutable, cached chunks are shared while each call returns a new time series instance, so that the store
+ * can be used concurrently. Metadata, names and versions are not cached.</p>
+ *
+ * <p>The cache listens to the changes of the underlying store: the time series of a version updated in the store are
+ * evicted, and the whole cache is cleared when the store does not tell which time series have been updated. Time series
+ * loaded while the cache is invalidated are not cached, as they could have been read before the update. The cache has
+ * to be closed to stop listening to the store.</p>
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class ReadOnlyTimeSeriesStoreLruCache implements ReadOnlyTimeSeriesStore, AutoCloseable {
+
+    private record Key(String timeSeriesName, TimeSeriesDataType dataType, int version) {
+    }
+
+    private record Entry(TimeSeriesMetadata metadata, List<DataChunk<?, ?>> chunks, long estimatedSize) {
+    }
+
+    private final ReadOnlyTimeSeriesStore store;
+
+    private final long maxEstimatedSize;
+
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long estimatedSize = 0;
+
+    private long hitCount = 0;
+
+    private long missCount = 0;
+
+    private long evictionCount = 0;
+
+    // incremented by each invalidation, so that time series loaded before an invalidation are not cached
+    private long generation = 0;
+
+    private final TimeSeriesStoreListener storeListener = new TimeSeriesStoreListener() {
+
+        @Override
+        public void timeSeriesUpdated() {
+            invalidateAll();
+        }
+
+        @Override
+        public void timeSeriesDataUpdated(Set<String> timeSeriesNames, int version) {
+            invalidate(timeSeriesNames, version);
+        }
+    };
+
+    /**
+     * @param store the store to cache
+     * @param maxEstimatedSize the memory budget of the cache, in bytes
+     */
+    public ReadOnlyTimeSeriesStoreLruCache(ReadOnlyTimeSeriesStore store, long maxEstimatedSize) {
+        this.store = Objects.requireNonNull(store);
+        if (maxEstimatedSize < 0) {
+            throw new IllegalArgumentException("Invalid max estimated size: " + maxEstimatedSize);
+        }
+        this.maxEstimatedSize = maxEstimatedSize;
+        try {
+            store.addListener(storeListener);
+        } catch (UnsupportedOperationException e) {
+            // stores without listeners do not notify changes
+        }
+    }
+
+    public long getMaxEstimatedSize() {
+        return maxEstimatedSize;
+    }
+
+    public synchronized long getEstimatedSize() {
+        return estimatedSize;
+    }
+
+    public synchronized int getCachedTimeSeriesCount() {
+        return entries.size();
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Evict all the cached time series of a version.
+     */
+    public synchronized void invalidate(int version) {
+        Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Key, Entry> e = it.next();
+            if (e.getKey().version() == version) {
+                estimatedSize -= e.getValue().estimatedSize();
+                it.remove();
+            }
+        }
+        generation++;
+    }
+
+    /**
+     * Evict cached time series of a version.
+     */
+    public synchronized void invalidate(Set<String> timeSeriesNames, int version) {
+        Objects.requireNonNull(timeSeriesNames);
+        for (String timeSeriesName : timeSeriesNames) {
+            for (TimeSeriesDataType dataType : TimeSeriesDataType.values()) {
+                Entry entry = entries.remove(new Key(timeSeriesName, dataType, version));
+                if (entry != null) {
+                    estimatedSize -= entry.estimatedSize();
+                }
+            }
+        }
+        generation++;
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+        estimatedSize = 0;
+        generation++;
+    }
+
+    private synchronized long getGeneration() {
+        return generation;
+    }
+
+    private synchronized Entry getEntry(Key key) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            hitCount++;
+        } else {
+            missCount++;
+        }
+        return entry;
+    }
+
+    private synchronized void putEntry(Key key, Entry entry, long loadGeneration) {
+        // the cache has been invalidated while the entry was loaded, the entry could be outdated
+        if (loadGeneration != generation || entry.estimatedSize() > maxEstimatedSize) {
+            return;
+        }
+        Entry previous = entries.put(key, entry);
+        if (previous != null) {
+            estimatedSize -= previous.estimatedSize();
+        }
+        estimatedSize += entry.estimatedSize();
+        Iterator<Entry> it = entries.values().iterator();
+        while (estimatedSize > maxEstimatedSize) {
+            estimatedSize -= it.next().estimatedSize();
+            it.remove();
+            evictionCount++;
+        }
+    }
+
+    private void cache(TimeSeries<?, ?> timeSeries, int version, long loadGeneration) {
+        // only time series stored as chunks can be cached, calculated ones are returned as they are
+        if (timeSeries instanceof AbstractTimeSeries<?, ?, ?> abstractTimeSeries) {
+            List<DataChunk<?, ?>> chunks = new ArrayList<>(abstractTimeSeries.getChunks());
+            long size = 0;
+            for (DataChunk<?, ?> chunk : chunks) {
+                size += chunk.getEstimatedSize();
+            }
+            TimeSeriesMetadata metadata = timeSeries.getMetadata();
+            putEntry(new Key(metadata.getName(), metadata.getDataType(), version), new Entry(metadata, chunks, size), loadGeneration);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <C> List<C> copyChunks(Entry entry) {
+        return new ArrayList<>((List<C>) (List<?>) entry.chunks());
+    }
+
+    private static DoubleTimeSeries createDoubleTimeSeries(Entry entry) {
+        return new StoredDoubleTimeSeries(entry.metadata(), copyChunks(entry));
+    }
+
+    private static StringTimeSeries createStringTimeSeries(Entry entry) {
+        return new StringTimeSeries(entry.metadata(), copyChunks(entry));
+    }
+
+    private <T extends TimeSeries<?, ?>> Optional<T> getTimeSeries(String timeSeriesName, TimeSeriesDataType dataType, int version,
+                                                                   Function<Entry, T> factory,
+                                                                   BiFunction<String, Integer, Optional<T>> loader) {
+        Objects.requireNonNull(timeSeriesName);
+        long loadGeneration = getGeneration();
+        Entry entry = getEntry(new Key(timeSeriesName, dataType, version));
+        if (entry != null) {
+            return Optional.of(factory.apply(entry));
+        }
+        Optional<T> timeSeries = loader.apply(timeSeriesName, version);
+        timeSeries.ifPresent(ts -> cache(ts, version, loadGeneration));
+        return timeSeries;
+    }
+
+    private <T extends TimeSeries<?, ?>> List<T> getTimeSeries(Set<String> timeSeriesNames, TimeSeriesDataType dataType, int version,
+                                                               Function<Entry, T> factory,
+                                                               BiFunction<Set<String>, Integer, List<T>> loader) {
+        Objects.requireNonNull(timeSeriesNames);
+        Map<String, T> timeSeriesByName = new HashMap<>(timeSeriesNames.size());
+        Set<String> missingTimeSeriesNames = new LinkedHashSet<>();
+        long loadGeneration = getGeneration();
+        for (String timeSeriesName : timeSeriesNames) {
+            Entry entry = getEntry(new Key(timeSeriesName, dataType, version));
+            if (entry != null) {
+                timeSeriesByName.put(timeSeriesName, factory.apply(entry));
+            } else {
+                missingTimeSeriesNames.add(timeSeriesName);
+            }
+        }
+        // missing time series are loaded all together from the underlying store
+        if (!missingTimeSeriesNames.isEmpty()) {
+            for (T timeSeries : loader.apply(missingTimeSeriesNames, version)) {
+                cache(timeSeries, version, loadGeneration);
+                timeSeriesByName.put(timeSeries.getMetadata().getName(), timeSeries);
+            }
+        }
+        List<T> timeSeriesList = new ArrayList<>(timeSeriesByName.size());
+        for (String timeSeriesName : timeSeriesNames) {
+            T timeSeries = timeSeriesByName.get(timeSeriesName);
+            if (timeSeries != null) {
+                timeSeriesList.add(timeSeries);
+            }
+        }
+        return timeSeriesList;
+    }
+
+    @Override
+    public Set<String> getTimeSeriesNames(TimeSeriesFilter filter) {
+        return store.getTimeSeriesNames(filter);
+    }
+
+    @Override
+    public boolean timeSeriesExists(String timeSeriesName) {
+        return store.timeSeriesExists(timeSeriesName);
+    }
+
+    @Override
+    public Optional<TimeSeriesMetadata> getTimeSeriesMetadata(String timeSeriesName) {
+        return store.getTimeSeriesMetadata(timeSeriesName);
+    }
+
+    @Override
+    public List<TimeSeriesMetadata> getTimeSeriesMetadata(Set<String> timeSeriesNames) {
+        return store.getTimeSeriesMetadata(timeSeriesNames);
+    }
+
+    @Override
+    public Set<Integer> getTimeSeriesDataVersions() {
+        return store.getTimeSeriesDataVersions();
+    }
+
+    @Override
+    public Set<Integer> getTimeSeriesDataVersions(String timeSeriesName) {
+        return store.getTimeSeriesDataVersions(timeSeriesName);
+    }
+
+    @Override
+    public Optional<DoubleTimeSeries> getDoubleTimeSeries(String timeSeriesName, int version) {
+        return getTimeSeries(timeSeriesName, TimeSeriesDataType.DOUBLE, version, ReadOnlyTimeSeriesStoreLruCache::createDoubleTimeSeries, store::getDoubleTimeSeries);
+    }
+
+    @Override
+    public List<DoubleTimeSeries> getDoubleTimeSeries(Set<String> timeSeriesNames, int version) {
+        return getTimeSeries(timeSeriesNames, TimeSeriesDataType.DOUBLE, version, ReadOnlyTimeSeriesStoreLruCache::createDoubleTimeSeries, store::getDoubleTimeSeries);
+    }
+
+    @Override
+    public List<DoubleTimeSeries> getDoubleTimeSeries(int version) {
+        // names of the double time series are resolved by the underlying store, their data is then read from the cache
+        Set<String> timeSeriesNames = store.getTimeSeriesMetadata(store.getTimeSeriesNames(new TimeSeriesFilter())).stream()
+                .filter(metadata -> metadata.getDataType() == TimeSeriesDataType.DOUBLE)
+                .map(TimeSeriesMetadata::getName)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        return getDoubleTimeSeries(timeSeriesNames, version);
+    }
+
+    @Override
+    public Optional<StringTimeSeries> getStringTimeSeries(String timeSeriesName, int version) {
+        return getTimeSeries(timeSeriesName, TimeSeriesDataType.STRING, version, ReadOnlyTimeSeriesStoreLruCache::createStringTimeSeries, store::getStringTimeSeries);
+    }
+
+    @Override
+    public List<StringTimeSeries> getStringTimeSeries(Set<String> timeSeriesNames, int version) {
+        return getTimeSeries(timeSeriesNames, TimeSeriesDataType.STRING, version, ReadOnlyTimeSeriesStoreLruCache::createStringTimeSeries, store::getStringTimeSeries);
+    }
+
+    @Override
+    public void addListener(TimeSeriesStoreListener listener) {
+        store.addListener(listener);
+    }
+
+    @Override
+    public void removeListener(TimeSeriesStoreListener listener) {
+        store.removeListener(listener);
+    }
+
+    /**
+     * Stop listening to the changes of the underlying store and clear the cache.
+     */
+    @Override
+    public void close() {
+        try {
+            store.removeListener(storeListener);
+        } catch (UnsupportedOperationException e) {
+            // stores without listeners do not notify changes
+        }
+        invalidateAll();
+    }
+}
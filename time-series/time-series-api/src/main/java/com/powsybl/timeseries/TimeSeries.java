@@ -14,12 +14,9 @@ import com.google.common.base.Stopwatch;
 import com.google.common.primitives.Doubles;
 import com.powsybl.commons.json.JsonUtil;
 import com.powsybl.commons.report.ReportNode;
-import com.powsybl.commons.report.TypedValue;
 import com.powsybl.timeseries.ast.NodeCalc;
 import com.univocity.parsers.common.ParsingContext;
 import com.univocity.parsers.common.ResultIterator;
-import com.univocity.parsers.csv.CsvParser;
-import com.univocity.parsers.csv.CsvParserSettings;
 import gnu.trove.list.array.TDoubleArrayList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,7 +25,6 @@ import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.time.ZonedDateTime;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -227,34 +223,7 @@ public interface TimeSeries<P extends AbstractPoint, T extends TimeSeries<P, T>>
         }
 
         int getVersion(String[] tokens, ReportNode reportNode) {
-            // Initialisation at the default unversioned value
-            int version = DEFAULT_VERSION_NUMBER_FOR_UNVERSIONED_TIMESERIES;
-
-            // Change the value if it is versioned
-            if (timeSeriesCsvConfig.versioned()) {
-                version = Integer.parseInt(tokens[1]);
-
-                // If the version is equals to the default version, either log a warning or throw an exception
-                if (version == DEFAULT_VERSION_NUMBER_FOR_UNVERSIONED_TIMESERIES) {
-                    String line = String.join(";", tokens);
-                    if (timeSeriesCsvConfig.withStrictVersioningImport()) {
-                        throw new TimeSeriesException(String.format("The version number for a versioned TimeSeries cannot be equals to the default version number (%s) at line \"%s\"",
-                            DEFAULT_VERSION_NUMBER_FOR_UNVERSIONED_TIMESERIES,
-                            line));
-                    } else {
-                        reportNode.newReportNode()
-                            .withMessageTemplate("invalidVersionNumber", "The version number for a versioned TimeSeries should not be equals to the default version number (${versionNumber}) at line \"${line}\"")
-                            .withSeverity(TypedValue.WARN_SEVERITY)
-                            .withUntypedValue("versionNumber", DEFAULT_VERSION_NUMBER_FOR_UNVERSIONED_TIMESERIES)
-                            .withUntypedValue("line", line)
-                            .add();
-                        LOGGER.warn("The version number for a versioned TimeSeries should not be equals to the default version number ({}) at line \"{}}\"",
-                            DEFAULT_VERSION_NUMBER_FOR_UNVERSIONED_TIMESERIES,
-                            line);
-                    }
-                }
-            }
-            return version;
+            return TimeSeriesCsvUtil.parseCsvVersion(tokens, timeSeriesCsvConfig, reportNode);
         }
 
         int timesSize() {
@@ -300,18 +269,7 @@ public interface TimeSeries<P extends AbstractPoint, T extends TimeSeries<P, T>>
         }
 
         void parseTokenTime(String[] tokens) {
-            TimeFormat timeFormat = timeSeriesCsvConfig.timeFormat();
-            switch (timeFormat) {
-                case DATE_TIME -> times.add(ZonedDateTime.parse(tokens[0]).toInstant().toEpochMilli());
-                case FRACTIONS_OF_SECOND -> {
-                    double time = Double.parseDouble(tokens[0]) * 1000;
-                    times.add((long) time);
-                }
-                case MILLIS -> {
-                    double millis = Double.parseDouble(tokens[0]);
-                    times.add((long) millis);
-                }
-            }
+            times.add(TimeSeriesCsvUtil.parseCsvTime(tokens[0], timeSeriesCsvConfig.timeFormat()));
         }
 
         void reInit() {
@@ -422,17 +380,8 @@ public interface TimeSeries<P extends AbstractPoint, T extends TimeSeries<P, T>>
         String[] tokens = iterator.next();
 
         checkCsvHeader(timeSeriesCsvConfig, tokens);
+        TimeSeriesCsvUtil.checkCsvHeaderDuplicates(tokens);
 
-        List<String> duplicates = new ArrayList<>();
-        Set<String> namesWithoutDuplicates = new HashSet<>();
-        for (String token : tokens) {
-            if (!namesWithoutDuplicates.add(token)) {
-                duplicates.add(token);
-            }
-        }
-        if (!duplicates.isEmpty()) {
-            throw new TimeSeriesException("Bad CSV header, there are duplicates in time series names " + duplicates);
-        }
         List<String> names = Arrays.asList(tokens).subList(timeSeriesCsvConfig.versioned() ? 2 : 1, tokens.length);
         return new CsvParsingContext(names, timeSeriesCsvConfig);
     }
@@ -458,13 +407,7 @@ public interface TimeSeries<P extends AbstractPoint, T extends TimeSeries<P, T>>
 
         Map<Integer, List<TimeSeries>> timeSeriesPerVersion = new HashMap<>();
 
-        CsvParserSettings settings = new CsvParserSettings();
-        settings.getFormat().setDelimiter(timeSeriesCsvConfig.separator());
-        settings.getFormat().setQuoteEscape('"');
-        settings.getFormat().setLineSeparator(System.lineSeparator());
-        settings.setMaxColumns(timeSeriesCsvConfig.getMaxColumns());
-        CsvParser csvParser = new CsvParser(settings);
-        ResultIterator<String[], ParsingContext> iterator = csvParser.iterate(reader).iterator();
+        ResultIterator<String[], ParsingContext> iterator = TimeSeriesCsvUtil.iterateCsv(reader, timeSeriesCsvConfig);
         CsvParsingContext context = readCsvHeader(iterator, timeSeriesCsvConfig);
         readCsvValues(iterator, context, timeSeriesPerVersion, reportNode);
 
@@ -0,0 +1,401 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.timeseries;
+
+import com.google.common.primitives.Doubles;
+import com.powsybl.commons.report.ReportNode;
+import com.univocity.parsers.common.ParsingContext;
+import com.univocity.parsers.common.ResultIterator;
+import gnu.trove.list.array.TLongArrayList;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * Streaming parser of time series CSV files, with the same format as {@link TimeSeries#parseCsv(Path)}.
+ *
+ * <p>Instead of keeping all the values of the file in memory, rows are read by blocks and each block of each column is
+ * converted to a data chunk, compressed when possible, and given to a {@link ChunkHandler}. Columns of a block can be
+ * decoded in parallel; chunks are always given to the handler from the calling thread, in column order.</p>
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class TimeSeriesCsvStreamParser {
+
+    public static final int DEFAULT_BLOCK_SIZE = 100;
+
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private static final int MAX_FAST_PATH_DIGITS = 18;
+
+    private static final long MAX_FAST_PATH_MANTISSA = 1L << 53;
+
+    /**
+     * Receives the data chunks of the time series of a CSV file.
+     */
+    public interface ChunkHandler {
+
+        void onDoubleChunk(int version, String timeSeriesName, DoubleDataChunk chunk);
+
+        void onStringChunk(int version, String timeSeriesName, StringDataChunk chunk);
+
+        /**
+         * Called once all the chunks of a version have been given, with the index of the time series of the version.
+         */
+        void onVersionEnd(int version, TimeSeriesIndex index);
+    }
+
+    private final TimeSeriesCsvConfig timeSeriesCsvConfig;
+
+    private final ReportNode reportNode;
+
+    private int blockSize = DEFAULT_BLOCK_SIZE;
+
+    private boolean parallel = false;
+
+    public TimeSeriesCsvStreamParser() {
+        this(new TimeSeriesCsvConfig());
+    }
+
+    public TimeSeriesCsvStreamParser(TimeSeriesCsvConfig timeSeriesCsvConfig) {
+        this(timeSeriesCsvConfig, ReportNode.NO_OP);
+    }
+
+    public TimeSeriesCsvStreamParser(TimeSeriesCsvConfig timeSeriesCsvConfig, ReportNode reportNode) {
+        this.timeSeriesCsvConfig = Objects.requireNonNull(timeSeriesCsvConfig);
+        this.reportNode = Objects.requireNonNull(reportNode);
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Set the number of rows read before the columns are decoded, which is also the size of the data chunks.
+     */
+    public TimeSeriesCsvStreamParser setBlockSize(int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Invalid block size: " + blockSize);
+        }
+        this.blockSize = blockSize;
+        return this;
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    public TimeSeriesCsvStreamParser setParallel(boolean parallel) {
+        this.parallel = parallel;
+        return this;
+    }
+
+    /**
+     * Fast double parsing: decimal numbers with at most 18 significant digits, whose mantissa is exactly representable
+     * and whose exponent is a power of ten exactly representable, are computed with a single floating point operation
+     * which is correctly rounded. Other numbers are parsed by {@link Double#parseDouble(String)}.
+     */
+    static double parseDouble(String token) {
+        int length = token.length();
+        if (length == 0) {
+            return Double.NaN;
+        }
+        int i = 0;
+        boolean negative = false;
+        char c = token.charAt(0);
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean anyDigit = false;
+        boolean fraction = false;
+        for (; i < length; i++) {
+            c = token.charAt(i);
+            if (c == '.' && !fraction) {
+                fraction = true;
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                break;
+            }
+            anyDigit = true;
+            if (digits > 0 || c != '0') {
+                if (digits == MAX_FAST_PATH_DIGITS) {
+                    return Double.parseDouble(token);
+                }
+                mantissa = mantissa * 10 + (c - '0');
+                digits++;
+            }
+            if (fraction) {
+                exponent--;
+            }
+        }
+        if (!anyDigit) {
+            return Double.parseDouble(token);
+        }
+        if (i < length && (c == 'e' || c == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < length && (token.charAt(i) == '-' || token.charAt(i) == '+')) {
+                negativeExponent = token.charAt(i) == '-';
+                i++;
+            }
+            int exponentStart = i;
+            int explicitExponent = 0;
+            for (; i < length && i - exponentStart < 4; i++) {
+                c = token.charAt(i);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                explicitExponent = explicitExponent * 10 + (c - '0');
+            }
+            if (i == exponentStart) {
+                return Double.parseDouble(token);
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        if (i != length || mantissa > MAX_FAST_PATH_MANTISSA || exponent < -22 || exponent > 22) {
+            return Double.parseDouble(token);
+        }
+        double value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+        return negative ? -value : value;
+    }
+
+    private static String getToken(String[] tokens, int i) {
+        return tokens[i] != null ? tokens[i].trim() : "";
+    }
+
+    private final class Context {
+
+        private final ChunkHandler handler;
+
+        private final String[] names;
+
+        private final int fixedColumns;
+
+        private final TimeSeriesDataType[] dataTypes;
+
+        private final String[][] block;
+
+        private int blockRowCount = 0;
+
+        private int blockOffset = 0;
+
+        private final TLongArrayList times = new TLongArrayList();
+
+        private TimeSeriesIndex refIndex;
+
+        private int version;
+
+        private Context(String[] header, ChunkHandler handler) {
+            this.handler = handler;
+            fixedColumns = timeSeriesCsvConfig.versioned() ? 2 : 1;
+            names = Arrays.copyOfRange(header, fixedColumns, header.length);
+            dataTypes = new TimeSeriesDataType[names.length];
+            block = new String[blockSize][];
+        }
+
+        private void addRow(String[] tokens, int line) {
+            if (tokens.length != names.length + fixedColumns) {
+                throw new TimeSeriesException("Columns of line " + line + " are inconsistent with header");
+            }
+            if (dataTypes[0] == null && names.length > 0) {
+                // data types are guessed from the first row, as done by TimeSeries.parseCsv
+                for (int i = 0; i < names.length; i++) {
+                    dataTypes[i] = Doubles.tryParse(getToken(tokens, i + fixedColumns)) != null ? TimeSeriesDataType.DOUBLE : TimeSeriesDataType.STRING;
+                }
+            }
+            times.add(TimeSeriesCsvUtil.parseCsvTime(tokens[0], timeSeriesCsvConfig.timeFormat()));
+            block[blockRowCount++] = tokens;
+            if (blockRowCount == blockSize) {
+                flushBlock();
+            }
+        }
+
+        private DataChunk<?, ?> createChunk(int i) {
+            int column = i + fixedColumns;
+            if (dataTypes[i] == TimeSeriesDataType.DOUBLE) {
+                double[] values = new double[blockRowCount];
+                for (int row = 0; row < blockRowCount; row++) {
+                    values[row] = parseDouble(getToken(block[row], column));
+                }
+                return new UncompressedDoubleDataChunk(blockOffset, values).tryToCompress();
+            } else {
+                String[] values = new String[blockRowCount];
+                for (int row = 0; row < blockRowCount; row++) {
+                    values[row] = TimeSeries.checkString(getToken(block[row], column));
+                }
+                return new UncompressedStringDataChunk(blockOffset, values).tryToCompress();
+            }
+        }
+
+        private void flushBlock() {
+            if (blockRowCount == 0) {
+                return;
+            }
+            IntStream columns = IntStream.range(0, names.length);
+            DataChunk<?, ?>[] chunks = (parallel ? columns.parallel() : columns)
+                    .mapToObj(this::createChunk)
+                    .toArray(DataChunk<?, ?>[]::new);
+            for (int i = 0; i < names.length; i++) {
+                if (names[i] == null) {
+                    continue;
+                }
+                if (chunks[i] instanceof DoubleDataChunk doubleChunk) {
+                    handler.onDoubleChunk(version, names[i], doubleChunk);
+                } else {
+                    handler.onStringChunk(version, names[i], (StringDataChunk) chunks[i]);
+                }
+            }
+            blockOffset += blockRowCount;
+            Arrays.fill(block, 0, blockRowCount, null);
+            blockRowCount = 0;
+        }
+
+        private TimeSeriesIndex createIndex() {
+            if (times.size() < 2) {
+                throw new TimeSeriesException("At least 2 rows are expected");
+            }
+            long spacing = times.get(1) - times.get(0);
+            for (int i = 2; i < times.size(); i++) {
+                if (times.get(i) - times.get(i - 1) != spacing) {
+                    return new IrregularTimeSeriesIndex(times.toArray());
+                }
+            }
+            return new RegularTimeSeriesIndex(times.get(0), times.get(times.size() - 1), spacing);
+        }
+
+        private void endVersion() {
+            flushBlock();
+            TimeSeriesIndex index = createIndex();
+            // check all data version have the same index
+            if (refIndex != null && !index.equals(refIndex)) {
+                throw new TimeSeriesException("All version of the data must have the same index: " + refIndex + " != " + index);
+            }
+            refIndex = index;
+            handler.onVersionEnd(version, index);
+            times.clear();
+            blockOffset = 0;
+        }
+    }
+
+    public void parse(BufferedReader reader, ChunkHandler handler) {
+        Objects.requireNonNull(reader);
+        Objects.requireNonNull(handler);
+        ResultIterator<String[], ParsingContext> iterator = TimeSeriesCsvUtil.iterateCsv(reader, timeSeriesCsvConfig);
+        if (!iterator.hasNext()) {
+            throw new TimeSeriesException("CSV header is missing");
+        }
+        String[] header = iterator.next();
+        TimeSeries.checkCsvHeader(timeSeriesCsvConfig, header);
+        TimeSeriesCsvUtil.checkCsvHeaderDuplicates(header);
+        Context context = new Context(header, handler);
+        if (Arrays.stream(context.names).anyMatch(Objects::isNull)) {
+            TimeSeries.LOGGER.warn("Timeseries without name");
+        }
+
+        boolean first = true;
+        int line = 1; // header line
+        while (iterator.hasNext()) {
+            String[] tokens = iterator.next();
+            line++;
+            int version = TimeSeriesCsvUtil.parseCsvVersion(tokens, timeSeriesCsvConfig, reportNode);
+            if (first) {
+                context.version = version;
+                first = false;
+            } else if (version != context.version) {
+                context.endVersion();
+                context.version = version;
+            }
+            context.addRow(tokens, line);
+        }
+        context.endVersion();
+    }
+
+    public void parse(Path file, ChunkHandler handler) {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            parse(reader, handler);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Handler building the time series of each version from their chunks.
+     */
+    private static final class TimeSeriesCollector implements ChunkHandler {
+
+        private final Map<Integer, List<TimeSeries>> timeSeriesPerVersion = new HashMap<>();
+
+        private final Map<String, List<DoubleDataChunk>> doubleChunks = new LinkedHashMap<>();
+
+        private final Map<String, List<StringDataChunk>> stringChunks = new LinkedHashMap<>();
+
+        private final List<String> names = new ArrayList<>();
+
+        @Override
+        public void onDoubleChunk(int version, String timeSeriesName, DoubleDataChunk chunk) {
+            doubleChunks.computeIfAbsent(timeSeriesName, k -> {
+                names.add(k);
+                return new ArrayList<>();
+            }).add(chunk);
+        }
+
+        @Override
+        public void onStringChunk(int version, String timeSeriesName, StringDataChunk chunk) {
+            stringChunks.computeIfAbsent(timeSeriesName, k -> {
+                names.add(k);
+                return new ArrayList<>();
+            }).add(chunk);
+        }
+
+        @Override
+        public void onVersionEnd(int version, TimeSeriesIndex index) {
+            List<TimeSeries> timeSeriesList = new ArrayList<>(names.size());
+            for (String name : names) {
+                List<DoubleDataChunk> chunks = doubleChunks.get(name);
+                if (chunks != null) {
+                    timeSeriesList.add(new StoredDoubleTimeSeries(new TimeSeriesMetadata(name, TimeSeriesDataType.DOUBLE, index), chunks));
+                } else {
+                    timeSeriesList.add(new StringTimeSeries(new TimeSeriesMetadata(name, TimeSeriesDataType.STRING, index), stringChunks.get(name)));
+                }
+            }
+            timeSeriesPerVersion.put(version, timeSeriesList);
+            doubleChunks.clear();
+            stringChunks.clear();
+            names.clear();
+        }
+    }
+
+    /**
+     * Parse all the time series of a CSV file, as {@link TimeSeries#parseCsv(Path)} but with chunks of the block size.
+     */
+    public Map<Integer, List<TimeSeries>> parse(BufferedReader reader) {
+        TimeSeriesCollector collector = new TimeSeriesCollector();
+        parse(reader, collector);
+        return collector.timeSeriesPerVersion;
+    }
+
+    public Map<Integer, List<TimeSeries>> parse(Path file) {
+        TimeSeriesCollector collector = new TimeSeriesCollector();
+        parse(file, collector);
+        return collector.timeSeriesPerVersion;
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.timeseries;
+
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.commons.report.TypedValue;
+import com.powsybl.timeseries.TimeSeries.TimeFormat;
+import com.univocity.parsers.common.ParsingContext;
+import com.univocity.parsers.common.ResultIterator;
+import com.univocity.parsers.csv.CsvParser;
+import com.univocity.parsers.csv.CsvParserSettings;
+
+import java.io.BufferedReader;
+import java.time.ZonedDateTime;
+import java.util.*;
+
+import static com.powsybl.timeseries.TimeSeries.DEFAULT_VERSION_NUMBER_FOR_UNVERSIONED_TIMESERIES;
+
+/**
+ * CSV parsing methods shared by {@link TimeSeries#parseCsv(BufferedReader, TimeSeriesCsvConfig)} and
+ * {@link TimeSeriesCsvStreamParser}.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class TimeSeriesCsvUtil {
+
+    private TimeSeriesCsvUtil() {
+    }
+
+    static ResultIterator<String[], ParsingContext> iterateCsv(BufferedReader reader, TimeSeriesCsvConfig timeSeriesCsvConfig) {
+        CsvParserSettings settings = new CsvParserSettings();
+        settings.getFormat().setDelimiter(timeSeriesCsvConfig.separator());
+        settings.getFormat().setQuoteEscape('"');
+        settings.getFormat().setLineSeparator(System.lineSeparator());
+        settings.setMaxColumns(timeSeriesCsvConfig.getMaxColumns());
+        return new CsvParser(settings).iterate(reader).iterator();
+    }
+
+    static void checkCsvHeaderDuplicates(String[] tokens) {
+        List<String> duplicates = new ArrayList<>();
+        Set<String> namesWithoutDuplicates = new HashSet<>();
+        for (String token : tokens) {
+            if (!namesWithoutDuplicates.add(token)) {
+                duplicates.add(token);
+            }
+        }
+        if (!duplicates.isEmpty()) {
+            throw new TimeSeriesException("Bad CSV header, there are duplicates in time series names " + duplicates);
+        }
+    }
+
+    static int parseCsvVersion(String[] tokens, TimeSeriesCsvConfig timeSeriesCsvConfig, ReportNode reportNode) {
+        // Initialisation at the default unversioned value
+        int version = DEFAULT_VERSION_NUMBER_FOR_UNVERSIONED_TIMESERIES;
+
+        // Change the value if it is versioned
+        if (timeSeriesCsvConfig.versioned()) {
+            version = Integer.parseInt(tokens[1]);
+
+            // If the version is equals to the default version, either log a warning or throw an exception
+            if (version == DEFAULT_VERSION_NUMBER_FOR_UNVERSIONED_TIMESERIES) {
+                String line = String.join(";", tokens);
+                if (timeSeriesCsvConfig.withStrictVersioningImport()) {
+                    throw new TimeSeriesException(String.format("The version number for a versioned TimeSeries cannot be equals to the default version number (%s) at line \"%s\"",
+                        DEFAULT_VERSION_NUMBER_FOR_UNVERSIONED_TIMESERIES,
+                        line));
+                } else {
+                    reportNode.newReportNode()
+                        .withMessageTemplate("invalidVersionNumber", "The version number for a versioned TimeSeries should not be equals to the default version number (${versionNumber}) at line \"${line}\"")
+                        .withSeverity(TypedValue.WARN_SEVERITY)
+                        .withUntypedValue("versionNumber", DEFAULT_VERSION_NUMBER_FOR_UNVERSIONED_TIMESERIES)
+                        .withUntypedValue("line", line)
+                        .add();
+                    TimeSeries.LOGGER.warn("The version number for a versioned TimeSeries should not be equals to the default version number ({}) at line \"{}}\"",
+                        DEFAULT_VERSION_NUMBER_FOR_UNVERSIONED_TIMESERIES,
+                        line);
+                }
+            }
+        }
+        return version;
+    }
+
+    static long parseCsvTime(String token, TimeFormat timeFormat) {
+        return switch (timeFormat) {
+            case DATE_TIME -> ZonedDateTime.parse(token).toInstant().toEpochMilli();
+            case FRACTIONS_OF_SECOND -> (long) (Double.parseDouble(token) * 1000);
+            case MILLIS -> (long) Double.parseDouble(token);
+        };
+    }
+}
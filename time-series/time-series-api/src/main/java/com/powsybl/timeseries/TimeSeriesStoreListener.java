@@ -7,10 +7,20 @@
  */
 package com.powsybl.timeseries;
 
+import java.util.Set;
+
 /**
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
 public interface TimeSeriesStoreListener {
 
     void timeSeriesUpdated();
+
+    /**
+     * Called when the data of some time series of a version have been updated. Stores that know which time series
+     * have been updated may call this method instead of {@link #timeSeriesUpdated()}.
+     */
+    default void timeSeriesDataUpdated(Set<String> timeSeriesNames, int version) {
+        timeSeriesUpdated();
+    }
 }
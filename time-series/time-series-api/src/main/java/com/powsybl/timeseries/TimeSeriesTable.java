@@ -7,8 +7,11 @@
  */
 package com.powsybl.timeseries;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.google.common.base.Stopwatch;
-
+import com.powsybl.commons.json.JsonUtil;
 import gnu.trove.list.array.TIntArrayList;
 import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
@@ -46,6 +49,12 @@ import java.util.zip.GZIPOutputStream;
  *     <li>Versions have to contiguous</li>
  *     <li>Once first batch of time series has been loaded, new time series cannot be added but data of existing one can be updated</li>
  *     <li>Concurrent load (i.e multi-thread) of data is supported (using same time series list)</li>
+ *     <li>Double time series loading and statistics computation can be parallelized using {@link #setParallel(boolean)},
+ *     time series given to the table have then to support concurrent reading</li>
+ *     <li>A table created with {@link #createMapped(int, int, TimeSeriesIndex, Path)} stores its data in memory-mapped
+ *     files, so it can be bigger than memory. Once {@link #flush()} has been called, it can be reopened with
+ *     {@link #openMapped(Path)}. Values of a double time series are only initialized when it is loaded, values of time
+ *     series never loaded are NaN</li>
  *     <li>Concurrency between data loading and other operations (CSV writing, statistics computation) is NOT supported</li>
  * </ul>
  *
@@ -55,6 +64,10 @@ public class TimeSeriesTable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TimeSeriesTable.class);
 
+    private static final String TABLE_FILE_NAME = "table.json";
+
+    private static final int PPMCC_TASK_SIZE = 64;
+
     public static class Correlation {
 
         private final String timeSeriesName1;
@@ -139,6 +152,10 @@ public class TimeSeriesTable {
 
     private BigStringBuffer stringBuffer;
 
+    // regions (one per double time series and version) of the double buffer already filled with NaN, other regions
+    // are never written and read as NaN
+    private final BitSet initializedDoubleRegions = new BitSet();
+
     private final Lock initLock = new ReentrantLock();
 
     // statistics
@@ -148,6 +165,10 @@ public class TimeSeriesTable {
 
     private final Lock statsLock = new ReentrantLock();
 
+    private boolean parallel = false;
+
+    public static final int DEFAULT_LOAD_BATCH_SIZE = 1000;
+
     public TimeSeriesTable(int fromVersion, int toVersion, TimeSeriesIndex tableIndex) {
         this(fromVersion, toVersion, tableIndex, ByteBuffer::allocateDirect);
     }
@@ -172,27 +193,66 @@ public class TimeSeriesTable {
         return new TimeSeriesTable(fromVersion, toVersion, tableIndex, ByteBuffer::allocate);
     }
 
-    private void initTable(List<DoubleTimeSeries> doubleTimeSeries, List<StringTimeSeries> stringTimeSeries) {
+    /**
+     * Create a table storing its data in memory-mapped files of {@code directory}. The table has to be closed to
+     * unmap the files.
+     */
+    public static MappedTimeSeriesTable createMapped(int fromVersion, int toVersion, TimeSeriesIndex tableIndex, Path directory) {
+        return new MappedTimeSeriesTable(fromVersion, toVersion, tableIndex, new MappedByteBufferAllocator(directory, false));
+    }
+
+    /**
+     * Reopen a table created with {@link #createMapped(int, int, TimeSeriesIndex, Path)} and then flushed. Data is
+     * not read but mapped again, statistics are computed again on demand. The table has to be closed to unmap the files.
+     */
+    public static MappedTimeSeriesTable openMapped(Path directory) {
+        Objects.requireNonNull(directory);
+        Path tableFile = directory.resolve(TABLE_FILE_NAME);
+        if (!Files.exists(tableFile)) {
+            throw new TimeSeriesException("Time series table file " + tableFile + " not found");
+        }
+        return JsonUtil.parseJson(tableFile, parser -> parseTableJson(parser, directory));
+    }
+
+    /**
+     * Enable or disable the parallel loading of double time series and the parallel computation of statistics.
+     * Double time series are written to disjoint regions of the buffer, so they can be loaded concurrently.
+     */
+    public TimeSeriesTable setParallel(boolean parallel) {
+        this.parallel = parallel;
+        return this;
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    private void initTable(List<TimeSeriesMetadata> doubleTimeSeriesMetadata, List<TimeSeriesMetadata> stringTimeSeriesMetadata) {
+        initTable(doubleTimeSeriesMetadata, stringTimeSeriesMetadata, new BitSet());
+    }
+
+    private void initTable(List<TimeSeriesMetadata> doubleTimeSeriesMetadata, List<TimeSeriesMetadata> stringTimeSeriesMetadata,
+                           BitSet initializedDoubleRegions) {
         initLock.lock();
         try {
             if (timeSeriesMetadata != null) {
                 return; // already initialized
             }
 
-            timeSeriesMetadata = new ArrayList<>(doubleTimeSeries.size() + stringTimeSeries.size());
+            timeSeriesMetadata = new ArrayList<>(doubleTimeSeriesMetadata.size() + stringTimeSeriesMetadata.size());
 
-            for (DoubleTimeSeries timeSeries : doubleTimeSeries.stream()
-                                                               .sorted(Comparator.comparing(ts -> ts.getMetadata().getName()))
-                                                               .toList()) {
-                timeSeriesMetadata.add(timeSeries.getMetadata());
-                int i = doubleTimeSeriesNames.add(timeSeries.getMetadata().getName());
+            for (TimeSeriesMetadata metadata : doubleTimeSeriesMetadata.stream()
+                                                                       .sorted(Comparator.comparing(TimeSeriesMetadata::getName))
+                                                                       .toList()) {
+                timeSeriesMetadata.add(metadata);
+                int i = doubleTimeSeriesNames.add(metadata.getName());
                 timeSeriesIndexDoubleOrString.add(i);
             }
-            for (StringTimeSeries timeSeries : stringTimeSeries.stream()
-                                                               .sorted(Comparator.comparing(ts -> ts.getMetadata().getName()))
-                                                               .toList()) {
-                timeSeriesMetadata.add(timeSeries.getMetadata());
-                int i = stringTimeSeriesNames.add(timeSeries.getMetadata().getName());
+            for (TimeSeriesMetadata metadata : stringTimeSeriesMetadata.stream()
+                                                                       .sorted(Comparator.comparing(TimeSeriesMetadata::getName))
+                                                                       .toList()) {
+                timeSeriesMetadata.add(metadata);
+                int i = stringTimeSeriesNames.add(metadata.getName());
                 timeSeriesIndexDoubleOrString.add(i);
             }
 
@@ -204,7 +264,11 @@ public class TimeSeriesTable {
 
             // allocate double buffer
             long doubleBufferSize = (long) versionCount * doubleTimeSeriesNames.size() * tableIndex.getPointCount();
-            doubleBuffer = createDoubleBuffer(byteBufferAllocator, doubleBufferSize, Double.NaN);
+            // values are not initialized here, so that the pages of a file-backed table are only written when used
+            doubleBuffer = new BigDoubleBuffer(byteBufferAllocator, doubleBufferSize);
+            synchronized (this.initializedDoubleRegions) {
+                this.initializedDoubleRegions.or(initializedDoubleRegions);
+            }
 
             // allocate string buffer
             long stringBufferSize = (long) versionCount * stringTimeSeriesNames.size() * tableIndex.getPointCount();
@@ -229,6 +293,9 @@ public class TimeSeriesTable {
             timeSeriesIndexDoubleOrString.clear();
             doubleBuffer = null;
             stringBuffer = null;
+            synchronized (this.initializedDoubleRegions) {
+                this.initializedDoubleRegions.clear();
+            }
             means = null;
             stdDevs = null;
             throw e;
@@ -241,20 +308,32 @@ public class TimeSeriesTable {
         return tableIndex;
     }
 
-    private static BigDoubleBuffer createDoubleBuffer(IntFunction<ByteBuffer> byteBufferAllocator, long size) {
-        return new BigDoubleBuffer(byteBufferAllocator, size);
+    private long getTimeSeriesOffset(int version, int timeSeriesNum) {
+        return (long) timeSeriesNum * tableIndex.getPointCount() * (toVersion - fromVersion + 1) + (long) (version - fromVersion) * tableIndex.getPointCount();
+    }
+
+    private int getDoubleRegionIndex(int version, int timeSeriesNum) {
+        return timeSeriesNum * (toVersion - fromVersion + 1) + version - fromVersion;
     }
 
-    private static BigDoubleBuffer createDoubleBuffer(IntFunction<ByteBuffer> byteBufferAllocator, long size, double initialValue) {
-        BigDoubleBuffer doubleBuffer = createDoubleBuffer(byteBufferAllocator, size);
-        for (long i = 0; i < size; i++) {
-            doubleBuffer.put(i, initialValue);
+    private boolean isDoubleRegionInitialized(int version, int timeSeriesNum) {
+        synchronized (initializedDoubleRegions) {
+            return initializedDoubleRegions.get(getDoubleRegionIndex(version, timeSeriesNum));
         }
-        return doubleBuffer;
     }
 
-    private long getTimeSeriesOffset(int version, int timeSeriesNum) {
-        return (long) timeSeriesNum * tableIndex.getPointCount() * (toVersion - fromVersion + 1) + (long) (version - fromVersion) * tableIndex.getPointCount();
+    private void initializeDoubleRegion(int version, int timeSeriesNum) {
+        synchronized (initializedDoubleRegions) {
+            int regionIndex = getDoubleRegionIndex(version, timeSeriesNum);
+            if (!initializedDoubleRegions.get(regionIndex)) {
+                // points not covered by the time series chunks have to be NaN
+                long timeSeriesOffset = getTimeSeriesOffset(version, timeSeriesNum);
+                for (int point = 0; point < tableIndex.getPointCount(); point++) {
+                    doubleBuffer.put(timeSeriesOffset + point, Double.NaN);
+                }
+                initializedDoubleRegions.set(regionIndex);
+            }
+        }
     }
 
     private int getStatisticsIndex(int version, int timeSeriesNum) {
@@ -285,6 +364,7 @@ public class TimeSeriesTable {
         int timeSeriesNum = doubleTimeSeriesNames.getIndex(timeSeries.getMetadata().getName());
 
         // copy data
+        initializeDoubleRegion(version, timeSeriesNum);
         long timeSeriesOffset = getTimeSeriesOffset(version, timeSeriesNum);
         timeSeries.fillBuffer(doubleBuffer, timeSeriesOffset);
 
@@ -329,19 +409,82 @@ public class TimeSeriesTable {
             }
         }
 
-        initTable(doubleTimeSeries, stringTimeSeries);
+        initTable(doubleTimeSeries.stream().map(TimeSeries::getMetadata).toList(),
+                  stringTimeSeries.stream().map(TimeSeries::getMetadata).toList());
+
+        loadDoubles(version, doubleTimeSeries);
+        loadStrings(version, stringTimeSeries);
+
+        LOGGER.info("{} time series (version={}) loaded in {} ms", timeSeriesList.size(), version,
+                stopWatch.elapsed(TimeUnit.MILLISECONDS));
+    }
 
-        for (DoubleTimeSeries timeSeries : doubleTimeSeries) {
+    private void loadDoubles(int version, List<DoubleTimeSeries> doubleTimeSeries) {
+        (parallel ? doubleTimeSeries.parallelStream() : doubleTimeSeries.stream()).forEach(timeSeries -> {
             timeSeries.synchronize(tableIndex);
             loadDouble(version, timeSeries);
-        }
+        });
+    }
+
+    private void loadStrings(int version, List<StringTimeSeries> stringTimeSeries) {
+        // string buffers share a dictionary, string time series are always loaded sequentially
         for (StringTimeSeries timeSeries : stringTimeSeries) {
             timeSeries.synchronize(tableIndex);
             loadString(version, timeSeries);
         }
+    }
 
-        LOGGER.info("{} time series (version={}) loaded in {} ms", timeSeriesList.size(), version,
-                stopWatch.elapsed(TimeUnit.MILLISECONDS));
+    public void load(int version, ReadOnlyTimeSeriesStore store, Set<String> timeSeriesNames) {
+        load(version, store, timeSeriesNames, DEFAULT_LOAD_BATCH_SIZE);
+    }
+
+    /**
+     * Load time series of a store by batches of {@code batchSize} time series, so that only one batch of time series
+     * (and of their data chunks) is in memory at a time.
+     */
+    public void load(int version, ReadOnlyTimeSeriesStore store, Set<String> timeSeriesNames, int batchSize) {
+        checkVersionIsInRange(version);
+        Objects.requireNonNull(store);
+        Objects.requireNonNull(timeSeriesNames);
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Invalid batch size: " + batchSize);
+        }
+
+        if (timeSeriesNames.isEmpty()) {
+            throw new TimeSeriesException("Empty time series list");
+        }
+
+        Stopwatch stopWatch = Stopwatch.createStarted();
+
+        List<String> doubleTimeSeriesNamesToLoad = new ArrayList<>();
+        List<String> stringTimeSeriesNamesToLoad = new ArrayList<>();
+        List<TimeSeriesMetadata> doubleTimeSeriesMetadata = new ArrayList<>();
+        List<TimeSeriesMetadata> stringTimeSeriesMetadata = new ArrayList<>();
+        for (TimeSeriesMetadata metadata : store.getTimeSeriesMetadata(timeSeriesNames)) {
+            if (metadata.getDataType() == TimeSeriesDataType.DOUBLE) {
+                doubleTimeSeriesMetadata.add(metadata);
+                doubleTimeSeriesNamesToLoad.add(metadata.getName());
+            } else if (metadata.getDataType() == TimeSeriesDataType.STRING) {
+                stringTimeSeriesMetadata.add(metadata);
+                stringTimeSeriesNamesToLoad.add(metadata.getName());
+            } else {
+                throw new IllegalStateException("Unsupported time series type " + metadata.getDataType());
+            }
+        }
+
+        initTable(doubleTimeSeriesMetadata, stringTimeSeriesMetadata);
+
+        for (int i = 0; i < doubleTimeSeriesNamesToLoad.size(); i += batchSize) {
+            Set<String> batch = new LinkedHashSet<>(doubleTimeSeriesNamesToLoad.subList(i, Math.min(i + batchSize, doubleTimeSeriesNamesToLoad.size())));
+            loadDoubles(version, store.getDoubleTimeSeries(batch, version));
+        }
+        for (int i = 0; i < stringTimeSeriesNamesToLoad.size(); i += batchSize) {
+            Set<String> batch = new LinkedHashSet<>(stringTimeSeriesNamesToLoad.subList(i, Math.min(i + batchSize, stringTimeSeriesNamesToLoad.size())));
+            loadStrings(version, store.getStringTimeSeries(batch, version));
+        }
+
+        LOGGER.info("{} time series (version={}) loaded from store in {} ms", doubleTimeSeriesNamesToLoad.size() + stringTimeSeriesNamesToLoad.size(),
+                version, stopWatch.elapsed(TimeUnit.MILLISECONDS));
     }
 
     public List<String> getTimeSeriesNames() {
@@ -352,6 +495,9 @@ public class TimeSeriesTable {
         checkVersionIsInRange(version);
         int doubleTimeSeriesNum = checkTimeSeriesNum(timeSeriesNum);
         checkPoint(point);
+        if (!isDoubleRegionInitialized(version, doubleTimeSeriesNum)) {
+            return Double.NaN;
+        }
         long timeSeriesOffset = getTimeSeriesOffset(version, doubleTimeSeriesNum);
         return doubleBuffer.get(timeSeriesOffset + point);
     }
@@ -389,12 +535,11 @@ public class TimeSeriesTable {
         if (!Double.isNaN(means[statisticsIndex]) && !Double.isNaN(stdDevs[statisticsIndex])) {
             return;
         }
-        long timeSeriesOffset = getTimeSeriesOffset(version, timeSeriesNum);
+        double[] values = readDoubleValues(version, timeSeriesNum, new double[tableIndex.getPointCount()]);
 
         double sum = 0;
         int nbPoints = 0;
-        for (int point = 0; point < tableIndex.getPointCount(); point++) {
-            double value = doubleBuffer.get(timeSeriesOffset + point);
+        for (double value : values) {
             if (!Double.isNaN(value)) {
                 sum += value;
                 nbPoints++;
@@ -404,8 +549,7 @@ public class TimeSeriesTable {
         means[statisticsIndex] = mean;
 
         double stdDev = 0;
-        for (int point = 0; point < tableIndex.getPointCount(); point++) {
-            double value = doubleBuffer.get(timeSeriesOffset + point);
+        for (double value : values) {
             if (!Double.isNaN(value)) {
                 stdDev += (value - mean) * (value - mean);
             }
@@ -414,10 +558,23 @@ public class TimeSeriesTable {
         stdDevs[statisticsIndex] = stdDev;
     }
 
-    private void updateStatistics(int version) {
-        for (int timeSeriesNum = 0; timeSeriesNum < doubleTimeSeriesNames.size(); timeSeriesNum++) {
-            updateStatistics(version, timeSeriesNum);
+    private double[] readDoubleValues(int version, int timeSeriesNum, double[] values) {
+        if (isDoubleRegionInitialized(version, timeSeriesNum)) {
+            doubleBuffer.get(getTimeSeriesOffset(version, timeSeriesNum), values, 0, tableIndex.getPointCount());
+        } else {
+            Arrays.fill(values, 0, tableIndex.getPointCount(), Double.NaN);
         }
+        return values;
+    }
+
+    private IntStream doubleTimeSeriesNums() {
+        IntStream timeSeriesNums = IntStream.range(0, doubleTimeSeriesNames.size());
+        return parallel ? timeSeriesNums.parallel() : timeSeriesNums;
+    }
+
+    private void updateStatistics(int version) {
+        // each time series has its own statistics slots, they can be updated concurrently
+        doubleTimeSeriesNums().forEach(timeSeriesNum -> updateStatistics(version, timeSeriesNum));
     }
 
     private double getStatistics(int version, int timeSeriesNum, double[] stats) {
@@ -469,31 +626,41 @@ public class TimeSeriesTable {
     private void computeVariableTimeSeriesPpmcc(double[] r, int timeSeriesNum1, int statisticsIndex1, double stdDev1,
                                                 int version) {
         double mean1 = means[statisticsIndex1];
-
-        for (int timeSeriesNum2 = 0; timeSeriesNum2 < doubleTimeSeriesNames.size(); timeSeriesNum2++) {
-            if (timeSeriesNum2 == timeSeriesNum1) {
-                r[timeSeriesNum2] = 1;
-            } else {
-                int statisticsIndex2 = getStatisticsIndex(version, timeSeriesNum2);
-                double stdDev2 = stdDevs[statisticsIndex2];
-
-                r[timeSeriesNum2] = 0;
-
-                if (stdDev2 != 0) {
-                    double mean2 = means[statisticsIndex2];
-
-                    long timeSeriesOffset1 = getTimeSeriesOffset(version, timeSeriesNum1);
-                    long timeSeriesOffset2 = getTimeSeriesOffset(version, timeSeriesNum2);
-
-                    for (int point = 0; point < tableIndex.getPointCount(); point++) {
-                        double value1 = doubleBuffer.get(timeSeriesOffset1 + point);
-                        double value2 = doubleBuffer.get(timeSeriesOffset2 + point);
-                        r[timeSeriesNum2] += (value1 - mean1) / stdDev1 * (value2 - mean2) / stdDev2;
-                    }
-                    r[timeSeriesNum2] /= tableIndex.getPointCount() - 1;
-                }
+        int pointCount = tableIndex.getPointCount();
+
+        // standard score of time series 1 is computed once and shared by all the correlation computations
+        double[] scores1 = readDoubleValues(version, timeSeriesNum1, new double[pointCount]);
+        for (int point = 0; point < pointCount; point++) {
+            scores1[point] = (scores1[point] - mean1) / stdDev1;
+        }
+
+        // time series 2 are split in tasks, each task reads the values of its time series in its own buffer
+        int timeSeriesCount = doubleTimeSeriesNames.size();
+        int taskCount = (timeSeriesCount + PPMCC_TASK_SIZE - 1) / PPMCC_TASK_SIZE;
+        IntStream tasks = IntStream.range(0, taskCount);
+        (parallel ? tasks.parallel() : tasks).forEach(task -> {
+            double[] values2 = new double[pointCount];
+            int end = Math.min(timeSeriesCount, (task + 1) * PPMCC_TASK_SIZE);
+            for (int timeSeriesNum2 = task * PPMCC_TASK_SIZE; timeSeriesNum2 < end; timeSeriesNum2++) {
+                r[timeSeriesNum2] = timeSeriesNum2 == timeSeriesNum1 ? 1 : computePpmcc(scores1, timeSeriesNum2, version, values2);
             }
+        });
+    }
+
+    private double computePpmcc(double[] scores1, int timeSeriesNum2, int version, double[] values2) {
+        int statisticsIndex2 = getStatisticsIndex(version, timeSeriesNum2);
+        double stdDev2 = stdDevs[statisticsIndex2];
+        if (stdDev2 == 0) {
+            return 0;
+        }
+        double mean2 = means[statisticsIndex2];
+        int pointCount = tableIndex.getPointCount();
+        double[] values = readDoubleValues(version, timeSeriesNum2, values2);
+        double sum = 0;
+        for (int point = 0; point < pointCount; point++) {
+            sum += scores1[point] * (values[point] - mean2) / stdDev2;
         }
+        return sum / (pointCount - 1);
     }
 
     public double[] computePpmcc(String timeSeriesName, int version) {
@@ -525,6 +692,162 @@ public class TimeSeriesTable {
         return r;
     }
 
+    /**
+     * Write data of a file-backed table to its files, with the description of the table needed to reopen it.
+     */
+    public void flush() {
+        if (!(byteBufferAllocator instanceof MappedByteBufferAllocator mappedByteBufferAllocator)) {
+            throw new TimeSeriesException("Time series table is not backed by files");
+        }
+        initLock.lock();
+        try {
+            if (mappedByteBufferAllocator.isClosed()) {
+                throw new TimeSeriesException("Time series table is closed");
+            }
+            mappedByteBufferAllocator.force();
+            JsonUtil.writeJson(mappedByteBufferAllocator.getDirectory().resolve(TABLE_FILE_NAME), this::writeTableJson);
+        } finally {
+            initLock.unlock();
+        }
+    }
+
+    /**
+     * Release the buffers of the table, which cannot be used anymore.
+     */
+    void release() {
+        initLock.lock();
+        statsLock.lock();
+        try {
+            doubleBuffer = null;
+            stringBuffer = null;
+        } finally {
+            statsLock.unlock();
+            initLock.unlock();
+        }
+    }
+
+    private void writeTableJson(JsonGenerator generator) {
+        try {
+            generator.writeStartObject();
+            generator.writeNumberField("fromVersion", fromVersion);
+            generator.writeNumberField("toVersion", toVersion);
+            generator.writeFieldName(tableIndex.getType());
+            tableIndex.writeJson(generator);
+            if (timeSeriesMetadata != null) {
+                generator.writeFieldName("metadata");
+                generator.writeStartArray();
+                for (TimeSeriesMetadata metadata : timeSeriesMetadata) {
+                    metadata.writeJson(generator);
+                }
+                generator.writeEndArray();
+                generator.writeFieldName("stringDictionaries");
+                generator.writeStartArray();
+                for (List<String> dictionary : stringBuffer.getDictionaries()) {
+                    generator.writeStartArray();
+                    for (String value : dictionary) {
+                        generator.writeString(value);
+                    }
+                    generator.writeEndArray();
+                }
+                generator.writeEndArray();
+                generator.writeFieldName("initializedDoubleRegions");
+                long[] words;
+                synchronized (initializedDoubleRegions) {
+                    words = initializedDoubleRegions.toLongArray();
+                }
+                generator.writeArray(words, 0, words.length);
+            }
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<String> parseStringArray(JsonParser parser) throws IOException {
+        List<String> values = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.VALUE_STRING) {
+                throw new IllegalStateException("Unexpected token " + token);
+            }
+            values.add(parser.getValueAsString());
+        }
+        return values;
+    }
+
+    private static long[] parseLongArray(JsonParser parser) throws IOException {
+        List<Long> values = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.VALUE_NUMBER_INT) {
+                throw new IllegalStateException("Unexpected token " + token);
+            }
+            values.add(parser.getLongValue());
+        }
+        return values.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static MappedTimeSeriesTable parseTableJson(JsonParser parser, Path directory) {
+        try {
+            int fromVersion = -1;
+            int toVersion = -1;
+            TimeSeriesIndex tableIndex = null;
+            List<TimeSeriesMetadata> metadataList = null;
+            List<List<String>> stringDictionaries = new ArrayList<>();
+            BitSet initializedDoubleRegions = new BitSet();
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.FIELD_NAME) {
+                    String fieldName = parser.currentName();
+                    switch (fieldName) {
+                        case "fromVersion" -> fromVersion = parser.nextIntValue(-1);
+                        case "toVersion" -> toVersion = parser.nextIntValue(-1);
+                        case RegularTimeSeriesIndex.TYPE -> tableIndex = RegularTimeSeriesIndex.parseJson(parser);
+                        case IrregularTimeSeriesIndex.TYPE -> tableIndex = IrregularTimeSeriesIndex.parseJson(parser);
+                        case InfiniteTimeSeriesIndex.TYPE -> tableIndex = InfiniteTimeSeriesIndex.parseJson(parser);
+                        case "metadata" -> {
+                            metadataList = new ArrayList<>();
+                            parser.nextToken(); // START_ARRAY
+                            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                                metadataList.add(TimeSeriesMetadata.parseJson(parser));
+                            }
+                        }
+                        case "stringDictionaries" -> {
+                            parser.nextToken(); // START_ARRAY
+                            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                                stringDictionaries.add(parseStringArray(parser));
+                            }
+                        }
+                        case "initializedDoubleRegions" -> {
+                            parser.nextToken(); // START_ARRAY
+                            initializedDoubleRegions = BitSet.valueOf(parseLongArray(parser));
+                        }
+                        default -> throw new IllegalStateException("Unexpected field name " + fieldName);
+                    }
+                }
+            }
+            if (tableIndex == null) {
+                throw new IllegalStateException("Incomplete time series table json");
+            }
+
+            MappedTimeSeriesTable table = new MappedTimeSeriesTable(fromVersion, toVersion, tableIndex, new MappedByteBufferAllocator(directory, true));
+            if (metadataList != null) {
+                initMappedTable(table, metadataList, stringDictionaries, initializedDoubleRegions);
+            }
+            return table;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void initMappedTable(TimeSeriesTable table, List<TimeSeriesMetadata> metadataList,
+                                        List<List<String>> stringDictionaries, BitSet initializedDoubleRegions) {
+        table.initTable(metadataList.stream().filter(metadata -> metadata.getDataType() == TimeSeriesDataType.DOUBLE).toList(),
+                        metadataList.stream().filter(metadata -> metadata.getDataType() == TimeSeriesDataType.STRING).toList(),
+                        initializedDoubleRegions);
+        table.stringBuffer.setDictionaries(stringDictionaries);
+    }
+
     private static BufferedWriter createWriter(Path file) throws IOException {
         if (file.getFileName().toString().endsWith(".gz")) {
             return new BufferedWriter(new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(file)), StandardCharsets.UTF_8));
@@ -598,8 +921,9 @@ public class TimeSeriesTable {
             int timeSeriesNum = timeSeriesIndexDoubleOrString.get(i);
             long timeSeriesOffset = getTimeSeriesOffset(version, timeSeriesNum);
             if (metadata.getDataType() == TimeSeriesDataType.DOUBLE) {
+                boolean initialized = isDoubleRegionInitialized(version, timeSeriesNum);
                 for (int cachedPoint = 0; cachedPoint < cachedPoints; cachedPoint++) {
-                    cache.doubleCache[cachedPoint * doubleTimeSeriesNames.size() + timeSeriesNum] = doubleBuffer.get(timeSeriesOffset + point + cachedPoint);
+                    cache.doubleCache[cachedPoint * doubleTimeSeriesNames.size() + timeSeriesNum] = initialized ? doubleBuffer.get(timeSeriesOffset + point + cachedPoint) : Double.NaN;
                 }
             } else if (metadata.getDataType() == TimeSeriesDataType.STRING) {
                 for (int cachedPoint = 0; cachedPoint < cachedPoints; cachedPoint++) {
@@ -0,0 +1,457 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.timeseries.ast;
+
+import com.powsybl.timeseries.DoubleMultiPoint;
+import com.powsybl.timeseries.TimeSeriesIndex;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Evaluator of a resolved {@link NodeCalc} tree compiled into a flat list of instructions.
+ *
+ * <p>Each node of the tree is evaluated by one instruction writing its result in a slot. Nodes shared in the tree
+ * (for instance the ones created by {@link NodeCalcCacheCreator}) are compiled once, so their value is computed
+ * once per point. Instructions may be run point by point, without boxing nor allocation, or on blocks of points,
+ * each instruction then looping over a {@code double[]} block.</p>
+ *
+ * <p>Point by point evaluation reuses an internal array and is not thread safe.</p>
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class CompiledNodeCalcEvaluator {
+
+    public static final int BLOCK_SIZE = 256;
+
+    private static final int CONSTANT = 0;
+    private static final int TIME_SERIES = 1;
+    private static final int TIME = 2;
+    private static final int ABS = 3;
+    private static final int NEGATIVE = 4;
+    private static final int MIN_CONSTANT = 5;
+    private static final int MAX_CONSTANT = 6;
+    private static final int PLUS = 7;
+    private static final int MINUS = 8;
+    private static final int MULTIPLY = 9;
+    private static final int DIVIDE = 10;
+    private static final int LESS_THAN = 11;
+    private static final int LESS_THAN_OR_EQUALS_TO = 12;
+    private static final int GREATER_THAN = 13;
+    private static final int GREATER_THAN_OR_EQUALS_TO = 14;
+    private static final int EQUALS = 15;
+    private static final int NOT_EQUALS = 16;
+    private static final int MIN = 17;
+    private static final int MAX = 18;
+
+    private static final String MULTI_POINT_IS_NULL = "Multi point is null";
+
+    private final int[] opCodes;
+    private final int[] left;
+    private final int[] right;
+    private final double[] constants;
+    private final int resultSlot;
+    private final boolean timeDependent;
+    private final double[] values;
+
+    private CompiledNodeCalcEvaluator(Compiler compiler, int resultSlot) {
+        int size = compiler.size;
+        this.opCodes = Arrays.copyOf(compiler.opCodes, size);
+        this.left = Arrays.copyOf(compiler.left, size);
+        this.right = Arrays.copyOf(compiler.right, size);
+        this.constants = Arrays.copyOf(compiler.constants, size);
+        this.resultSlot = resultSlot;
+        this.timeDependent = compiler.timeDependent;
+        this.values = new double[size];
+    }
+
+    /**
+     * Compile a node calc tree whose time series references have been resolved to time series numbers.
+     */
+    public static CompiledNodeCalcEvaluator compile(NodeCalc resolvedNodeCalc) {
+        Objects.requireNonNull(resolvedNodeCalc);
+        Compiler compiler = new Compiler();
+        int resultSlot = resolvedNodeCalc.accept(compiler, null, 0);
+        return new CompiledNodeCalcEvaluator(compiler, resultSlot);
+    }
+
+    /**
+     * Number of instructions, after the merge of shared nodes.
+     */
+    public int getInstructionCount() {
+        return opCodes.length;
+    }
+
+    /**
+     * {@code true} if the value depends on the time of the points and not only on the values of the time series.
+     */
+    public boolean isTimeDependent() {
+        return timeDependent;
+    }
+
+    /**
+     * Evaluate the tree for one multi point, which may be {@code null} if the tree only contains constants.
+     */
+    public double evaluate(DoubleMultiPoint multiPoint) {
+        for (int i = 0; i < opCodes.length; i++) {
+            values[i] = switch (opCodes[i]) {
+                case CONSTANT -> constants[i];
+                case TIME_SERIES -> Objects.requireNonNull(multiPoint, MULTI_POINT_IS_NULL).getValue(left[i]);
+                case TIME -> Objects.requireNonNull(multiPoint, MULTI_POINT_IS_NULL).getTime();
+                default -> apply(opCodes[i], values[left[i]], right[i] >= 0 ? values[right[i]] : constants[i]);
+            };
+        }
+        return values[resultSlot];
+    }
+
+    private static double apply(int opCode, double a, double b) {
+        return switch (opCode) {
+            case ABS -> Math.abs(a);
+            case NEGATIVE -> -a;
+            case MIN_CONSTANT, MIN -> Math.min(a, b);
+            case MAX_CONSTANT, MAX -> Math.max(a, b);
+            case PLUS -> a + b;
+            case MINUS -> a - b;
+            case MULTIPLY -> a * b;
+            case DIVIDE -> a / b;
+            case LESS_THAN -> a < b ? 1d : 0d;
+            case LESS_THAN_OR_EQUALS_TO -> a <= b ? 1d : 0d;
+            case GREATER_THAN -> a > b ? 1d : 0d;
+            case GREATER_THAN_OR_EQUALS_TO -> a >= b ? 1d : 0d;
+            case EQUALS -> a == b ? 1d : 0d;
+            case NOT_EQUALS -> a != b ? 1d : 0d;
+            default -> throw new IllegalStateException("Unknown op code " + opCode);
+        };
+    }
+
+    /**
+     * Evaluate the tree for the points {@code [start, start + length)}, block by block.
+     *
+     * @param timeSeriesValues the values of the time series, indexed by time series number then by point
+     * @param index the index of the time series, only used if the tree is time dependent
+     * @param start the first point to evaluate
+     * @param length the number of points to evaluate
+     * @param result the array receiving the values
+     * @param resultOffset the position in {@code result} of the value of the first point
+     */
+    public void evaluate(double[][] timeSeriesValues, TimeSeriesIndex index, int start, int length, double[] result, int resultOffset) {
+        Objects.requireNonNull(timeSeriesValues);
+        Objects.requireNonNull(result);
+        if (timeDependent) {
+            Objects.requireNonNull(index);
+        }
+        double[][] blocks = new double[opCodes.length][];
+        for (int i = 0; i < opCodes.length; i++) {
+            if (opCodes[i] == CONSTANT) {
+                blocks[i] = new double[BLOCK_SIZE];
+                Arrays.fill(blocks[i], constants[i]);
+            } else if (opCodes[i] != TIME_SERIES) {
+                blocks[i] = new double[BLOCK_SIZE];
+            }
+        }
+        for (int blockStart = start; blockStart < start + length; blockStart += BLOCK_SIZE) {
+            int blockLength = Math.min(BLOCK_SIZE, start + length - blockStart);
+            for (int i = 0; i < opCodes.length; i++) {
+                evaluateBlock(i, blocks, timeSeriesValues, index, blockStart, blockLength);
+            }
+            System.arraycopy(blocks[resultSlot], offset(resultSlot, blockStart), result, resultOffset + blockStart - start, blockLength);
+        }
+    }
+
+    private int offset(int slot, int blockStart) {
+        // Time series values are read in place
+        return opCodes[slot] == TIME_SERIES ? blockStart : 0;
+    }
+
+    private void evaluateBlock(int i, double[][] blocks, double[][] timeSeriesValues, TimeSeriesIndex index, int blockStart, int n) {
+        int opCode = opCodes[i];
+        if (opCode == CONSTANT) {
+            return;
+        }
+        if (opCode == TIME_SERIES) {
+            blocks[i] = timeSeriesValues[left[i]];
+            return;
+        }
+        double[] r = blocks[i];
+        if (opCode == TIME) {
+            for (int k = 0; k < n; k++) {
+                r[k] = index.getTimeAt(blockStart + k);
+            }
+            return;
+        }
+        double[] a = blocks[left[i]];
+        int ao = offset(left[i], blockStart);
+        if (right[i] < 0) {
+            evaluateUnaryBlock(opCode, a, ao, constants[i], r, n);
+        } else {
+            evaluateBinaryBlock(opCode, a, ao, blocks[right[i]], offset(right[i], blockStart), r, n);
+        }
+    }
+
+    private static void evaluateUnaryBlock(int opCode, double[] a, int ao, double c, double[] r, int n) {
+        switch (opCode) {
+            case ABS -> {
+                for (int k = 0; k < n; k++) {
+                    r[k] = Math.abs(a[ao + k]);
+                }
+            }
+            case NEGATIVE -> {
+                for (int k = 0; k < n; k++) {
+                    r[k] = -a[ao + k];
+                }
+            }
+            case MIN_CONSTANT -> {
+                for (int k = 0; k < n; k++) {
+                    r[k] = Math.min(a[ao + k], c);
+                }
+            }
+            case MAX_CONSTANT -> {
+                for (int k = 0; k < n; k++) {
+                    r[k] = Math.max(a[ao + k], c);
+                }
+            }
+            default -> throw new IllegalStateException("Unknown unary op code " + opCode);
+        }
+    }
+
+    private static void evaluateBinaryBlock(int opCode, double[] a, int ao, double[] b, int bo, double[] r, int n) {
+        switch (opCode) {
+            case PLUS -> {
+                for (int k = 0; k < n; k++) {
+                    r[k] = a[ao + k] + b[bo + k];
+                }
+            }
+            case MINUS -> {
+                for (int k = 0; k < n; k++) {
+                    r[k] = a[ao + k] - b[bo + k];
+                }
+            }
+            case MULTIPLY -> {
+                for (int k = 0; k < n; k++) {
+                    r[k] = a[ao + k] * b[bo + k];
+                }
+            }
+            case DIVIDE -> {
+                for (int k = 0; k < n; k++) {
+                    r[k] = a[ao + k] / b[bo + k];
+                }
+            }
+            case MIN -> {
+                for (int k = 0; k < n; k++) {
+                    r[k] = Math.min(a[ao + k], b[bo + k]);
+                }
+            }
+            case MAX -> {
+                for (int k = 0; k < n; k++) {
+                    r[k] = Math.max(a[ao + k], b[bo + k]);
+                }
+            }
+            default -> {
+                // Comparisons
+                for (int k = 0; k < n; k++) {
+                    r[k] = apply(opCode, a[ao + k], b[bo + k]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Emit one instruction per distinct node instance, in post-order, so that operands are always evaluated first.
+     */
+    private static final class Compiler implements NodeCalcVisitor<Integer, Void> {
+
+        private int[] opCodes = new int[16];
+        private int[] left = new int[16];
+        private int[] right = new int[16];
+        private double[] constants = new double[16];
+        private int size = 0;
+        private boolean timeDependent = false;
+
+        private final Map<NodeCalc, Integer> slots = new IdentityHashMap<>();
+
+        private int emit(NodeCalc nodeCalc, int opCode, int leftSlot, int rightSlot, double constant) {
+            Integer slot = slots.get(nodeCalc);
+            if (slot != null) {
+                return slot;
+            }
+            if (size == opCodes.length) {
+                int newLength = size * 2;
+                opCodes = Arrays.copyOf(opCodes, newLength);
+                left = Arrays.copyOf(left, newLength);
+                right = Arrays.copyOf(right, newLength);
+                constants = Arrays.copyOf(constants, newLength);
+            }
+            opCodes[size] = opCode;
+            left[size] = leftSlot;
+            right[size] = rightSlot;
+            constants[size] = constant;
+            slots.put(nodeCalc, size);
+            return size++;
+        }
+
+        private int constant(NodeCalc nodeCalc, double value) {
+            return emit(nodeCalc, CONSTANT, -1, -1, value);
+        }
+
+        private int slot(NodeCalc nodeCalc, Integer childSlot) {
+            return childSlot != null ? childSlot : slots.get(nodeCalc);
+        }
+
+        private boolean compiled(NodeCalc nodeCalc) {
+            return slots.containsKey(nodeCalc);
+        }
+
+        @Override
+        public Integer visit(IntegerNodeCalc nodeCalc, Void arg) {
+            return constant(nodeCalc, nodeCalc.toDouble());
+        }
+
+        @Override
+        public Integer visit(FloatNodeCalc nodeCalc, Void arg) {
+            return constant(nodeCalc, nodeCalc.toDouble());
+        }
+
+        @Override
+        public Integer visit(DoubleNodeCalc nodeCalc, Void arg) {
+            return constant(nodeCalc, nodeCalc.getValue());
+        }
+
+        @Override
+        public Integer visit(BigDecimalNodeCalc nodeCalc, Void arg) {
+            return constant(nodeCalc, nodeCalc.toDouble());
+        }
+
+        @Override
+        public Integer visit(BinaryOperation nodeCalc, Void arg, Integer leftSlot, Integer rightSlot) {
+            if (compiled(nodeCalc)) {
+                return slots.get(nodeCalc);
+            }
+            int opCode = switch (nodeCalc.getOperator()) {
+                case PLUS -> PLUS;
+                case MINUS -> MINUS;
+                case MULTIPLY -> MULTIPLY;
+                case DIVIDE -> DIVIDE;
+                case LESS_THAN -> LESS_THAN;
+                case LESS_THAN_OR_EQUALS_TO -> LESS_THAN_OR_EQUALS_TO;
+                case GREATER_THAN -> GREATER_THAN;
+                case GREATER_THAN_OR_EQUALS_TO -> GREATER_THAN_OR_EQUALS_TO;
+                case EQUALS -> EQUALS;
+                case NOT_EQUALS -> NOT_EQUALS;
+            };
+            return emit(nodeCalc, opCode, slot(nodeCalc.getLeft(), leftSlot), slot(nodeCalc.getRight(), rightSlot), Double.NaN);
+        }
+
+        @Override
+        public Integer visit(BinaryMinCalc nodeCalc, Void arg, Integer leftSlot, Integer rightSlot) {
+            if (compiled(nodeCalc)) {
+                return slots.get(nodeCalc);
+            }
+            return emit(nodeCalc, MIN, slot(nodeCalc.getLeft(), leftSlot), slot(nodeCalc.getRight(), rightSlot), Double.NaN);
+        }
+
+        @Override
+        public Integer visit(BinaryMaxCalc nodeCalc, Void arg, Integer leftSlot, Integer rightSlot) {
+            if (compiled(nodeCalc)) {
+                return slots.get(nodeCalc);
+            }
+            return emit(nodeCalc, MAX, slot(nodeCalc.getLeft(), leftSlot), slot(nodeCalc.getRight(), rightSlot), Double.NaN);
+        }
+
+        @Override
+        public Pair<NodeCalc, NodeCalc> iterate(AbstractBinaryNodeCalc nodeCalc, Void arg) {
+            return compiled(nodeCalc) ? Pair.of(null, null) : Pair.of(nodeCalc.getLeft(), nodeCalc.getRight());
+        }
+
+        @Override
+        public Integer visit(UnaryOperation nodeCalc, Void arg, Integer childSlot) {
+            if (compiled(nodeCalc)) {
+                return slots.get(nodeCalc);
+            }
+            int slot = slot(nodeCalc.getChild(), childSlot);
+            return switch (nodeCalc.getOperator()) {
+                case ABS -> emit(nodeCalc, ABS, slot, -1, Double.NaN);
+                case NEGATIVE -> emit(nodeCalc, NEGATIVE, slot, -1, Double.NaN);
+                case POSITIVE -> {
+                    slots.put(nodeCalc, slot);
+                    yield slot;
+                }
+            };
+        }
+
+        @Override
+        public NodeCalc iterate(UnaryOperation nodeCalc, Void arg) {
+            return compiled(nodeCalc) ? null : nodeCalc.getChild();
+        }
+
+        @Override
+        public Integer visit(MinNodeCalc nodeCalc, Void arg, Integer childSlot) {
+            if (compiled(nodeCalc)) {
+                return slots.get(nodeCalc);
+            }
+            return emit(nodeCalc, MIN_CONSTANT, slot(nodeCalc.getChild(), childSlot), -1, nodeCalc.getMin());
+        }
+
+        @Override
+        public NodeCalc iterate(MinNodeCalc nodeCalc, Void arg) {
+            return compiled(nodeCalc) ? null : nodeCalc.getChild();
+        }
+
+        @Override
+        public Integer visit(MaxNodeCalc nodeCalc, Void arg, Integer childSlot) {
+            if (compiled(nodeCalc)) {
+                return slots.get(nodeCalc);
+            }
+            return emit(nodeCalc, MAX_CONSTANT, slot(nodeCalc.getChild(), childSlot), -1, nodeCalc.getMax());
+        }
+
+        @Override
+        public NodeCalc iterate(MaxNodeCalc nodeCalc, Void arg) {
+            return compiled(nodeCalc) ? null : nodeCalc.getChild();
+        }
+
+        @Override
+        public Integer visit(CachedNodeCalc nodeCalc, Void arg, Integer childSlot) {
+            if (compiled(nodeCalc)) {
+                return slots.get(nodeCalc);
+            }
+            // A cached node has the value of its child
+            int slot = slot(nodeCalc.getChild(), childSlot);
+            slots.put(nodeCalc, slot);
+            return slot;
+        }
+
+        @Override
+        public NodeCalc iterate(CachedNodeCalc nodeCalc, Void arg) {
+            return compiled(nodeCalc) ? null : nodeCalc.getChild();
+        }
+
+        @Override
+        public Integer visit(TimeNodeCalc nodeCalc, Void arg, Integer childSlot) {
+            timeDependent = true;
+            return emit(nodeCalc, TIME, -1, -1, Double.NaN);
+        }
+
+        @Override
+        public NodeCalc iterate(TimeNodeCalc nodeCalc, Void arg) {
+            return null;
+        }
+
+        @Override
+        public Integer visit(TimeSeriesNumNodeCalc nodeCalc, Void arg) {
+            return emit(nodeCalc, TIME_SERIES, nodeCalc.getTimeSeriesNum(), -1, Double.NaN);
+        }
+
+        @Override
+        public Integer visit(TimeSeriesNameNodeCalc nodeCalc, Void arg) {
+            throw new IllegalStateException("NodeCalc should have been resolved before");
+        }
+    }
+}
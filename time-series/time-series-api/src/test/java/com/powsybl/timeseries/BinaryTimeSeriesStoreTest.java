@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.timeseries;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class BinaryTimeSeriesStoreTest {
+
+    private static final RegularTimeSeriesIndex INDEX = new RegularTimeSeriesIndex(0, 7 * 1000L, 1000);
+
+    private static DoubleTimeSeries createDoubleTimeSeries(double offset) {
+        TimeSeriesMetadata metadata = new TimeSeriesMetadata("d", TimeSeriesDataType.DOUBLE, Map.of("k", "v"), INDEX);
+        return new StoredDoubleTimeSeries(metadata,
+                new UncompressedDoubleDataChunk(0, new double[] {offset, offset + 0.5, -0d, Double.NaN}),
+                new CompressedDoubleDataChunk(4, 4, new double[] {offset + 1.1, Double.POSITIVE_INFINITY}, new int[] {3, 1}));
+    }
+
+    private static StringTimeSeries createStringTimeSeries() {
+        TimeSeriesMetadata metadata = new TimeSeriesMetadata("s", TimeSeriesDataType.STRING, INDEX);
+        return new StringTimeSeries(metadata,
+                new UncompressedStringDataChunk(0, new String[] {"a", null, "é"}),
+                new CompressedStringDataChunk(3, 5, new String[] {"b", ""}, new int[] {2, 3}));
+    }
+
+    private static void checkRoundTrip(Path file, boolean xorEncoding) {
+        DoubleTimeSeries d1 = createDoubleTimeSeries(1);
+        DoubleTimeSeries d2 = createDoubleTimeSeries(2);
+        StringTimeSeries s = createStringTimeSeries();
+        DoubleTimeSeries other = TimeSeries.createDouble("other", INDEX, 1d, 1d, 1d, 2d, 2d, 3d, 3d, 3d);
+        try (BinaryTimeSeriesWriter writer = new BinaryTimeSeriesWriter(file, xorEncoding)) {
+            writer.write(1, d1, s, other);
+            writer.write(2, d2);
+        }
+
+        try (BinaryTimeSeriesStore store = BinaryTimeSeriesStore.open(file)) {
+            assertEquals(Set.of("d", "s", "other"), store.getTimeSeriesNames(null));
+            assertTrue(store.timeSeriesExists("d"));
+            assertFalse(store.timeSeriesExists("foo"));
+            assertEquals(Optional.of(d1.getMetadata()), store.getTimeSeriesMetadata("d"));
+            assertEquals(List.of(s.getMetadata()), store.getTimeSeriesMetadata(Set.of("s", "foo")));
+            assertEquals(Set.of(1, 2), store.getTimeSeriesDataVersions());
+            assertEquals(Set.of(1, 2), store.getTimeSeriesDataVersions("d"));
+            assertEquals(Set.of(1), store.getTimeSeriesDataVersions("s"));
+            assertTrue(store.getTimeSeriesDataVersions("foo").isEmpty());
+
+            assertEquals(Optional.of(d1), store.getDoubleTimeSeries("d", 1));
+            assertEquals(Optional.of(d2), store.getDoubleTimeSeries("d", 2));
+            assertTrue(store.getDoubleTimeSeries("d", 3).isEmpty());
+            assertTrue(store.getDoubleTimeSeries("foo", 1).isEmpty());
+            assertEquals(Optional.of(s), store.getStringTimeSeries("s", 1));
+            assertTrue(store.getStringTimeSeries(Set.of("s"), 2).isEmpty());
+            assertEquals(2, store.getDoubleTimeSeries(1).size());
+            assertEquals(List.of(d2), store.getDoubleTimeSeries(2));
+            assertArrayEquals(other.toArray(), store.getDoubleTimeSeries(Set.of("other"), 1).get(0).toArray(), 0d);
+
+            TimeSeriesException e = assertThrows(TimeSeriesException.class, () -> store.getStringTimeSeries("d", 1));
+            assertEquals("Time series 'd' is not a STRING time series", e.getMessage());
+            assertThrows(UnsupportedOperationException.class, () -> store.addListener(null));
+        }
+    }
+
+    @Test
+    void testRoundTrip(@TempDir Path tmpDir) {
+        checkRoundTrip(tmpDir.resolve("raw.bin"), false);
+    }
+
+    @Test
+    void testXorEncoding(@TempDir Path tmpDir) throws IOException {
+        checkRoundTrip(tmpDir.resolve("xor.bin"), true);
+
+        // smooth values are more compact XOR encoded
+        double[] values = new double[10000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i % 100;
+        }
+        DoubleTimeSeries ts = TimeSeries.createDouble("ts", new RegularTimeSeriesIndex(0, values.length - 1L, 1), values);
+        Path raw = tmpDir.resolve("raw.bin");
+        Path xor = tmpDir.resolve("xor2.bin");
+        try (BinaryTimeSeriesWriter writer = new BinaryTimeSeriesWriter(raw)) {
+            writer.write(1, ts);
+        }
+        try (BinaryTimeSeriesWriter writer = new BinaryTimeSeriesWriter(xor, true)) {
+            writer.write(1, ts);
+        }
+        assertTrue(Files.size(xor) < Files.size(raw) / 2);
+        try (BinaryTimeSeriesStore store = BinaryTimeSeriesStore.open(xor)) {
+            assertArrayEquals(values, store.getDoubleTimeSeries("ts", 1).orElseThrow().toArray(), 0d);
+        }
+    }
+
+    @Test
+    void testMappedBlock(@TempDir Path tmpDir) {
+        double[] values = new double[BinaryTimeSeriesStore.MAPPING_THRESHOLD / Double.BYTES + 10];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.sin(i);
+        }
+        DoubleTimeSeries ts = TimeSeries.createDouble("ts", new RegularTimeSeriesIndex(0, values.length - 1L, 1), values);
+        Path file = tmpDir.resolve("big.bin");
+        try (BinaryTimeSeriesWriter writer = new BinaryTimeSeriesWriter(file)) {
+            writer.write(1, ts);
+        }
+        try (BinaryTimeSeriesStore store = BinaryTimeSeriesStore.open(file)) {
+            assertArrayEquals(values, store.getDoubleTimeSeries("ts", 1).orElseThrow().toArray(), 0d);
+        }
+    }
+
+    @Test
+    void testErrors(@TempDir Path tmpDir) throws IOException {
+        Path file = tmpDir.resolve("ts.bin");
+        try (BinaryTimeSeriesWriter writer = new BinaryTimeSeriesWriter(file)) {
+            DoubleTimeSeries ts = createDoubleTimeSeries(1);
+            writer.write(1, ts);
+            TimeSeriesException e = assertThrows(TimeSeriesException.class, () -> writer.write(1, ts));
+            assertEquals("Version 1 of time series 'd' already written", e.getMessage());
+            DoubleTimeSeries other = TimeSeries.createDouble("d", INDEX, 1d, 1d, 1d, 2d, 2d, 3d, 3d, 3d);
+            e = assertThrows(TimeSeriesException.class, () -> writer.write(2, other));
+            assertEquals("Metadata of time series 'd' is different from already written one", e.getMessage());
+        }
+
+        Path invalidFile = tmpDir.resolve("invalid.bin");
+        Files.write(invalidFile, new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20});
+        TimeSeriesException e = assertThrows(TimeSeriesException.class, () -> BinaryTimeSeriesStore.open(invalidFile));
+        assertEquals("Invalid binary time series file " + invalidFile, e.getMessage());
+    }
+}
@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.timeseries;
+
+import com.powsybl.timeseries.ast.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class CalculatedTimeSeriesBatchEvaluatorTest {
+
+    private static final RegularTimeSeriesIndex INDEX = new RegularTimeSeriesIndex(0, 999 * 1000L, 1000);
+
+    private static final class CountingStore extends ReadOnlyTimeSeriesStoreCache {
+
+        private final AtomicInteger loadCount = new AtomicInteger();
+
+        private CountingStore(List<DoubleTimeSeries> timeSeriesList) {
+            super(timeSeriesList);
+        }
+
+        @Override
+        public List<DoubleTimeSeries> getDoubleTimeSeries(Set<String> timeSeriesNames, int version) {
+            loadCount.addAndGet(timeSeriesNames.size());
+            return super.getDoubleTimeSeries(timeSeriesNames, version);
+        }
+    }
+
+    private static CountingStore createStore() {
+        Random random = new Random(5);
+        double[] a = new double[INDEX.getPointCount()];
+        double[] b = new double[INDEX.getPointCount()];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = random.nextDouble() * 100;
+            b[i] = i / 50;
+        }
+        // ts2 is stored in several chunks, some of them compressed
+        List<DoubleDataChunk> chunks = new ArrayList<>();
+        for (int offset = 0; offset < b.length; offset += 300) {
+            chunks.add(new UncompressedDoubleDataChunk(offset, Arrays.copyOfRange(b, offset, Math.min(b.length, offset + 300))).tryToCompress());
+        }
+        return new CountingStore(List.of(TimeSeries.createDouble("ts1", INDEX, a),
+                                         new StoredDoubleTimeSeries(new TimeSeriesMetadata("ts2", TimeSeriesDataType.DOUBLE, INDEX), chunks),
+                                         TimeSeries.createDouble("ts3", new RegularTimeSeriesIndex(0, 2000, 1000), 1d, 2d, 3d)));
+    }
+
+    private static Map<String, NodeCalc> createFormulas() {
+        NodeCalc ts1 = new TimeSeriesNameNodeCalc("ts1");
+        NodeCalc ts2 = new TimeSeriesNameNodeCalc("ts2");
+        Map<String, NodeCalc> formulas = new LinkedHashMap<>();
+        formulas.put("sum", BinaryOperation.plus(ts1, ts2));
+        formulas.put("max", new BinaryMaxCalc(BinaryOperation.multiply(ts2, new IntegerNodeCalc(2)), ts1));
+        formulas.put("abs", UnaryOperation.abs(BinaryOperation.minus(ts2, new DoubleNodeCalc(10))));
+        formulas.put("time", BinaryOperation.plus(new TimeNodeCalc(ts2), ts1));
+        formulas.put("small", BinaryOperation.multiply(new TimeSeriesNameNodeCalc("ts3"), new IntegerNodeCalc(3)));
+        formulas.put("constant", new IntegerNodeCalc(4));
+        return formulas;
+    }
+
+    @Test
+    void testSameAsCalculatedTimeSeries() {
+        CountingStore store = createStore();
+        Map<String, NodeCalc> formulas = createFormulas();
+        List<DoubleTimeSeries> expected = formulas.entrySet().stream()
+                .<DoubleTimeSeries>map(e -> new CalculatedTimeSeries(e.getKey(), e.getValue(), new FromStoreTimeSeriesNameResolver(store, 1)))
+                .toList();
+        for (int chunkSize : new int[] {1, 7, 256, 300, 1000, 5000}) {
+            for (boolean parallel : new boolean[] {false, true}) {
+                CalculatedTimeSeriesBatchEvaluator evaluator = new CalculatedTimeSeriesBatchEvaluator(formulas)
+                        .setChunkSize(chunkSize)
+                        .setParallel(parallel);
+                assertEquals(Set.of("ts1", "ts2", "ts3"), evaluator.getInputTimeSeriesNames());
+                List<DoubleTimeSeries> results = evaluator.evaluate(store, 1);
+                assertEquals(formulas.keySet(), results.stream().map(ts -> ts.getMetadata().getName()).collect(LinkedHashSet::new, Set::add, Set::addAll));
+                for (int i = 0; i < expected.size() - 1; i++) {
+                    assertEquals(expected.get(i).getMetadata().getIndex(), results.get(i).getMetadata().getIndex());
+                    assertArrayEquals(expected.get(i).toArray(), results.get(i).toArray(), 0d, results.get(i).getMetadata().getName());
+                }
+                // a constant is not synchronized on any index
+                assertInstanceOf(CalculatedTimeSeries.class, results.get(5));
+                assertSame(InfiniteTimeSeriesIndex.INSTANCE, results.get(5).getMetadata().getIndex());
+            }
+        }
+    }
+
+    @Test
+    void testInputsLoadedOnce() {
+        CountingStore store = createStore();
+        List<DoubleTimeSeries> results = new CalculatedTimeSeriesBatchEvaluator(createFormulas()).setChunkSize(100).evaluate(store, 1);
+        assertEquals(3, store.loadCount.get());
+        // results are compressed chunk by chunk
+        List<DoubleDataChunk> chunks = ((StoredDoubleTimeSeries) results.get(2)).getChunks();
+        assertEquals(10, chunks.size());
+        assertTrue(chunks.get(0).isCompressed());
+    }
+
+    @Test
+    void testErrors() {
+        CountingStore store = createStore();
+        Map<String, NodeCalc> formulas = Map.of("foo", BinaryOperation.plus(new TimeSeriesNameNodeCalc("ts1"), new TimeSeriesNameNodeCalc("bar")));
+        CalculatedTimeSeriesBatchEvaluator evaluator = new CalculatedTimeSeriesBatchEvaluator(formulas);
+        TimeSeriesException e = assertThrows(TimeSeriesException.class, () -> evaluator.evaluate(store, 1));
+        assertEquals("Time series [bar] not found for version 1", e.getMessage());
+
+        Map<String, NodeCalc> formulas2 = Map.of("foo", BinaryOperation.plus(new TimeSeriesNameNodeCalc("ts1"), new TimeSeriesNameNodeCalc("ts3")));
+        CalculatedTimeSeriesBatchEvaluator evaluator2 = new CalculatedTimeSeriesBatchEvaluator(formulas2);
+        e = assertThrows(TimeSeriesException.class, () -> evaluator2.evaluate(store, 1));
+        assertEquals("A calculated time series must depend on synchronized time series", e.getMessage());
+
+        IllegalArgumentException e2 = assertThrows(IllegalArgumentException.class, () -> evaluator.setChunkSize(0));
+        assertEquals("Invalid chunk size: 0", e2.getMessage());
+    }
+}
@@ -0,0 +1,187 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.timeseries;
+
+import com.powsybl.timeseries.ast.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class CompiledNodeCalcEvaluatorTest {
+
+    private static final int POINT_COUNT = 1000;
+
+    private static DoubleMultiPoint multiPoint(double[][] values, int index) {
+        return new DoubleMultiPoint() {
+            @Override
+            public int getIndex() {
+                return index;
+            }
+
+            @Override
+            public long getTime() {
+                return index * 1000L;
+            }
+
+            @Override
+            public double getValue(int timeSeriesNum) {
+                return values[timeSeriesNum][index];
+            }
+        };
+    }
+
+    private static double[][] randomValues() {
+        Random random = new Random(42);
+        double[][] values = new double[2][POINT_COUNT];
+        for (int i = 0; i < POINT_COUNT; i++) {
+            values[0][i] = random.nextInt(10) - 5;
+            values[1][i] = random.nextDouble() * 10 - 5;
+        }
+        return values;
+    }
+
+    private static void checkSameValues(NodeCalc nodeCalc) {
+        double[][] values = randomValues();
+        CompiledNodeCalcEvaluator evaluator = CompiledNodeCalcEvaluator.compile(nodeCalc);
+        double[] result = new double[POINT_COUNT + 3];
+        RegularTimeSeriesIndex index = new RegularTimeSeriesIndex(0, (POINT_COUNT - 1) * 1000L, 1000);
+        evaluator.evaluate(values, index, 0, POINT_COUNT, result, 3);
+        for (int i = 0; i < POINT_COUNT; i++) {
+            DoubleMultiPoint multiPoint = multiPoint(values, i);
+            double expected = NodeCalcEvaluator.eval(nodeCalc, multiPoint);
+            assertEquals(expected, evaluator.evaluate(multiPoint), 0d);
+            assertEquals(expected, result[i + 3], 0d);
+        }
+    }
+
+    @Test
+    void operatorsTest() {
+        NodeCalc ts0 = new TimeSeriesNumNodeCalc(0);
+        NodeCalc ts1 = new TimeSeriesNumNodeCalc(1);
+        for (NodeCalc nodeCalc : List.of(BinaryOperation.plus(ts0, ts1),
+                                         BinaryOperation.minus(ts0, new IntegerNodeCalc(2)),
+                                         BinaryOperation.multiply(new FloatNodeCalc(1.5f), ts1),
+                                         BinaryOperation.div(ts1, ts0),
+                                         BinaryOperation.lessThan(ts0, ts1),
+                                         BinaryOperation.lessThanOrEqualsTo(ts0, new DoubleNodeCalc(0)),
+                                         BinaryOperation.greaterThan(ts0, ts1),
+                                         BinaryOperation.greaterThanOrEqualsTo(ts0, new DoubleNodeCalc(0)),
+                                         BinaryOperation.equals(ts0, new IntegerNodeCalc(1)),
+                                         BinaryOperation.notEquals(ts0, new IntegerNodeCalc(1)),
+                                         UnaryOperation.abs(ts1),
+                                         UnaryOperation.negative(ts1),
+                                         UnaryOperation.positive(ts1),
+                                         new MinNodeCalc(ts1, 1),
+                                         new MaxNodeCalc(ts1, -1),
+                                         new BinaryMinCalc(ts0, ts1),
+                                         new BinaryMaxCalc(ts0, ts1),
+                                         ts0,
+                                         new DoubleNodeCalc(3.5))) {
+            checkSameValues(nodeCalc);
+        }
+    }
+
+    @Test
+    void timeTest() {
+        NodeCalc nodeCalc = BinaryOperation.plus(new TimeNodeCalc(new TimeSeriesNumNodeCalc(0)), new TimeSeriesNumNodeCalc(1));
+        assertTrue(CompiledNodeCalcEvaluator.compile(nodeCalc).isTimeDependent());
+        checkSameValues(nodeCalc);
+        assertFalse(CompiledNodeCalcEvaluator.compile(new TimeSeriesNumNodeCalc(0)).isTimeDependent());
+    }
+
+    @Test
+    void sharedNodesTest() {
+        NodeCalc shared = BinaryOperation.multiply(new TimeSeriesNumNodeCalc(0), new TimeSeriesNumNodeCalc(1));
+        NodeCalc nodeCalc = BinaryOperation.plus(shared, UnaryOperation.abs(shared));
+        CompiledNodeCalcEvaluator evaluator = CompiledNodeCalcEvaluator.compile(nodeCalc);
+        // ts0, ts1, multiply, abs, plus
+        assertEquals(5, evaluator.getInstructionCount());
+        checkSameValues(nodeCalc);
+
+        NodeCalc minus = BinaryOperation.minus(new TimeSeriesNumNodeCalc(0), new TimeSeriesNumNodeCalc(1));
+        BinaryOperation cached = BinaryOperation.plus(minus, new MaxNodeCalc(minus, 0));
+        NodeCalcCacheCreator.cacheDuplicated(cached);
+        assertInstanceOf(CachedNodeCalc.class, cached.getLeft());
+        // ts0, ts1, minus, max, plus
+        assertEquals(5, CompiledNodeCalcEvaluator.compile(cached).getInstructionCount());
+        checkSameValues(cached);
+    }
+
+    @Test
+    void deepTreeTest() {
+        NodeCalc nodeCalc = new TimeSeriesNumNodeCalc(0);
+        for (int i = 0; i < 5000; i++) {
+            nodeCalc = BinaryOperation.plus(nodeCalc, i % 2 == 0 ? new TimeSeriesNumNodeCalc(1) : new IntegerNodeCalc(i));
+        }
+        CompiledNodeCalcEvaluator evaluator = CompiledNodeCalcEvaluator.compile(nodeCalc);
+        double[][] values = randomValues();
+        double[] result = new double[POINT_COUNT];
+        evaluator.evaluate(values, null, 0, POINT_COUNT, result, 0);
+        for (int i = 0; i < POINT_COUNT; i += 100) {
+            assertEquals(evaluator.evaluate(multiPoint(values, i)), result[i], 0d);
+        }
+    }
+
+    @Test
+    void unresolvedTest() {
+        NodeCalc nodeCalc = new TimeSeriesNameNodeCalc("foo");
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> CompiledNodeCalcEvaluator.compile(nodeCalc));
+        assertEquals("NodeCalc should have been resolved before", e.getMessage());
+    }
+
+    @Test
+    void calculatedTimeSeriesTest() {
+        RegularTimeSeriesIndex index = new RegularTimeSeriesIndex(0, 3 * 1000L, 1000);
+        DoubleTimeSeries a = TimeSeries.createDouble("a", index, 1d, 2d, 2d, 4d);
+        DoubleTimeSeries b = TimeSeries.createDouble("b", index, 5d, 5d, 7d, 7d);
+        TimeSeriesNameResolver resolver = new FromStoreTimeSeriesNameResolver(new ReadOnlyTimeSeriesStoreCache(a, b), 1);
+        CalculatedTimeSeries calculated = new CalculatedTimeSeries("c", BinaryOperation.multiply(new TimeSeriesNameNodeCalc("a"), new TimeSeriesNameNodeCalc("b")), resolver);
+        assertArrayEquals(new double[] {5d, 10d, 14d, 28d}, calculated.toArray(), 0d);
+        assertArrayEquals(new double[] {5d, 10d, 14d, 28d}, calculated.stream().mapToDouble(DoublePoint::getValue).toArray(), 0d);
+    }
+
+    @Test
+    void calculatedTimeSeriesByWindowTest() {
+        // Several windows, with compressed, uncompressed and missing chunks
+        int pointCount = 40000;
+        RegularTimeSeriesIndex index = new RegularTimeSeriesIndex(0, (pointCount - 1) * 1000L, 1000);
+        double[] aValues = new double[pointCount];
+        double[] bValues = new double[pointCount];
+        for (int i = 0; i < pointCount; i++) {
+            aValues[i] = i < 20000 ? i : i < 25000 ? Double.NaN : i / 1000;
+            bValues[i] = i % 7;
+        }
+        DoubleTimeSeries a = new StoredDoubleTimeSeries(new TimeSeriesMetadata("a", TimeSeriesDataType.DOUBLE, index),
+            new UncompressedDoubleDataChunk(0, Arrays.copyOfRange(aValues, 0, 20000)),
+            new UncompressedDoubleDataChunk(25000, Arrays.copyOfRange(aValues, 25000, pointCount)).tryToCompress());
+        DoubleTimeSeries b = new StoredDoubleTimeSeries(new TimeSeriesMetadata("b", TimeSeriesDataType.DOUBLE, index),
+            new UncompressedDoubleDataChunk(0, bValues));
+        assertInstanceOf(CompressedDoubleDataChunk.class, ((StoredDoubleTimeSeries) a).getChunks().get(1));
+        TimeSeriesNameResolver resolver = new FromStoreTimeSeriesNameResolver(new ReadOnlyTimeSeriesStoreCache(a, b), 1);
+
+        CalculatedTimeSeries calculated = new CalculatedTimeSeries("c", BinaryOperation.plus(new TimeSeriesNameNodeCalc("a"), new TimeSeriesNameNodeCalc("b")), resolver);
+        double[] values = calculated.toArray();
+        for (int i = 0; i < pointCount; i++) {
+            assertEquals(aValues[i] + bValues[i], values[i], 0d);
+        }
+
+        // Formulas depending on time are evaluated point by point
+        CalculatedTimeSeries timeDependent = new CalculatedTimeSeries("t", BinaryOperation.plus(new TimeNodeCalc(new TimeSeriesNameNodeCalc("b")), new TimeSeriesNameNodeCalc("b")), resolver);
+        values = timeDependent.toArray();
+        for (int i = 0; i < pointCount; i++) {
+            assertEquals(i * 1000d + bValues[i], values[i], 0d);
+        }
+    }
+}
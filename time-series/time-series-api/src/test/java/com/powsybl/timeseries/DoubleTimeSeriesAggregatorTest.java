@@ -0,0 +1,168 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.timeseries;
+
+import com.powsybl.timeseries.DoubleTimeSeriesAggregator.AggregationType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class DoubleTimeSeriesAggregatorTest {
+
+    private static final long HOUR = 3600 * 1000L;
+
+    private static double[] naiveAggregate(DoubleTimeSeries timeSeries, RegularTimeSeriesIndex targetIndex, AggregationType type) {
+        double[] values = timeSeries.toArray();
+        TimeSeriesIndex index = timeSeries.getMetadata().getIndex();
+        double[] result = new double[targetIndex.getPointCount()];
+        for (int i = 0; i < result.length; i++) {
+            double sum = 0;
+            int count = 0;
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int j = 0; j < values.length; j++) {
+                long time = index.getTimeAt(j);
+                if (time >= targetIndex.getTimeAt(i) && time < targetIndex.getTimeAt(i) + targetIndex.getSpacing() && !Double.isNaN(values[j])) {
+                    sum += values[j];
+                    count++;
+                    min = Math.min(min, values[j]);
+                    max = Math.max(max, values[j]);
+                }
+            }
+            result[i] = switch (type) {
+                case SUM -> count > 0 ? sum : Double.NaN;
+                case MEAN -> count > 0 ? sum / count : Double.NaN;
+                case MIN -> count > 0 ? min : Double.NaN;
+                case MAX -> count > 0 ? max : Double.NaN;
+                case COUNT -> count;
+            };
+        }
+        return result;
+    }
+
+    private static DoubleTimeSeries createHourlyTimeSeries(int days) {
+        // steps of random length, so that the time series is partly compressed
+        Random random = new Random(11);
+        double[] values = new double[days * 24];
+        int i = 0;
+        while (i < values.length) {
+            int length = Math.min(values.length - i, random.nextBoolean() ? 1 : random.nextInt(40) + 1);
+            double value = random.nextInt(10) == 0 ? Double.NaN : random.nextInt(100);
+            for (int j = 0; j < length; j++) {
+                values[i++] = value;
+            }
+        }
+        RegularTimeSeriesIndex index = new RegularTimeSeriesIndex(0, (values.length - 1) * HOUR, HOUR);
+        return new StoredDoubleTimeSeries(new TimeSeriesMetadata("ts", TimeSeriesDataType.DOUBLE, Map.of("unit", "MW"), index),
+                                          new UncompressedDoubleDataChunk(0, values).tryToCompress());
+    }
+
+    @Test
+    void testAggregate() {
+        DoubleTimeSeries ts = createHourlyTimeSeries(30);
+        assertTrue(((StoredDoubleTimeSeries) ts).getChunks().get(0).isCompressed());
+        RegularTimeSeriesIndex daily = new RegularTimeSeriesIndex(0, 29 * 24 * HOUR, 24 * HOUR);
+        // a target index not aligned with the source one and not covering it
+        RegularTimeSeriesIndex shifted = new RegularTimeSeriesIndex(5 * HOUR + 1, 5 * HOUR + 1 + 20 * 7 * HOUR, 7 * HOUR);
+        for (AggregationType type : AggregationType.values()) {
+            for (RegularTimeSeriesIndex targetIndex : new RegularTimeSeriesIndex[] {daily, shifted}) {
+                DoubleTimeSeries aggregated = DoubleTimeSeriesAggregator.aggregate(ts, targetIndex, type);
+                assertEquals(targetIndex, aggregated.getMetadata().getIndex());
+                assertEquals("MW", aggregated.getMetadata().getTags().get("unit"));
+                assertArrayEquals(naiveAggregate(ts, targetIndex, type), aggregated.toArray(), 1e-9, type.name());
+            }
+        }
+
+        // same result on an uncompressed calculated time series
+        DoubleTimeSeries uncompressed = TimeSeries.createDouble("ts", ts.getMetadata().getIndex(), ts.toArray());
+        assertArrayEquals(DoubleTimeSeriesAggregator.aggregate(ts, daily, AggregationType.MEAN).toArray(),
+                          DoubleTimeSeriesAggregator.aggregate(uncompressed, daily, AggregationType.MEAN).toArray(), 1e-9);
+
+        DoubleTimeSeries weekly = DoubleTimeSeriesAggregator.aggregate(ts, Duration.ofDays(7), AggregationType.MAX);
+        assertEquals(new RegularTimeSeriesIndex(0, 28 * 24 * HOUR, 7 * 24 * HOUR), weekly.getMetadata().getIndex());
+        assertEquals(5, weekly.toArray().length);
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> DoubleTimeSeriesAggregator.aggregate(ts, Duration.ZERO, AggregationType.MAX));
+        assertEquals("Invalid period: PT0S", e.getMessage());
+    }
+
+    @Test
+    void testAggregateByPeriod() {
+        // all the points in the first period
+        DoubleTimeSeries ts = createHourlyTimeSeries(1);
+        RegularTimeSeriesIndex daily = new RegularTimeSeriesIndex(0, 24 * HOUR, 24 * HOUR);
+        for (Duration period : new Duration[] {Duration.ofDays(1), Duration.ofDays(7)}) {
+            DoubleTimeSeries aggregated = DoubleTimeSeriesAggregator.aggregate(ts, period, AggregationType.SUM);
+            assertEquals(new RegularTimeSeriesIndex(0, 0, 0), aggregated.getMetadata().getIndex());
+            assertArrayEquals(new double[] {naiveAggregate(ts, daily, AggregationType.SUM)[0]}, aggregated.toArray(), 1e-9);
+        }
+        DoubleTimeSeries onePoint = new StoredDoubleTimeSeries(new TimeSeriesMetadata("ts", TimeSeriesDataType.DOUBLE, new IrregularTimeSeriesIndex(new long[] {5})),
+                                                               new UncompressedDoubleDataChunk(0, new double[] {3}));
+        DoubleTimeSeries aggregated = DoubleTimeSeriesAggregator.aggregate(onePoint, Duration.ofHours(1), AggregationType.COUNT);
+        assertEquals(new RegularTimeSeriesIndex(5, 5, 0), aggregated.getMetadata().getIndex());
+        assertArrayEquals(new double[] {1}, aggregated.toArray(), 0d);
+
+        // last point exactly at the start of a period
+        double[] values = new double[49];
+        Arrays.setAll(values, i -> i);
+        DoubleTimeSeries boundary = TimeSeries.createDouble("ts", new RegularTimeSeriesIndex(0, 48 * HOUR, HOUR), values);
+        DoubleTimeSeries sum = DoubleTimeSeriesAggregator.aggregate(boundary, Duration.ofDays(1), AggregationType.SUM);
+        assertEquals(new RegularTimeSeriesIndex(0, 48 * HOUR, 24 * HOUR), sum.getMetadata().getIndex());
+        assertArrayEquals(new double[] {276, 852, 48}, sum.toArray(), 0d);
+        assertArrayEquals(new double[] {24, 24, 1}, DoubleTimeSeriesAggregator.aggregate(boundary, Duration.ofDays(1), AggregationType.COUNT).toArray(), 0d);
+    }
+
+    @Test
+    void testAggregateIrregular() {
+        IrregularTimeSeriesIndex index = new IrregularTimeSeriesIndex(new long[] {0, 10, 11, 25, 26, 27, 50});
+        DoubleTimeSeries ts = new StoredDoubleTimeSeries(new TimeSeriesMetadata("ts", TimeSeriesDataType.DOUBLE, index),
+                                                         new CompressedDoubleDataChunk(0, 7, new double[] {1, 2, 3}, new int[] {2, 4, 1}));
+        RegularTimeSeriesIndex targetIndex = new RegularTimeSeriesIndex(0, 40, 20);
+        assertArrayEquals(new double[] {4, 6, 3}, DoubleTimeSeriesAggregator.aggregate(ts, targetIndex, AggregationType.SUM).toArray(), 0d);
+        assertArrayEquals(new double[] {3, 3, 1}, DoubleTimeSeriesAggregator.aggregate(ts, targetIndex, AggregationType.COUNT).toArray(), 0d);
+        assertArrayEquals(naiveAggregate(ts, targetIndex, AggregationType.MEAN),
+                          DoubleTimeSeriesAggregator.aggregate(ts, targetIndex, AggregationType.MEAN).toArray(), 0d);
+    }
+
+    @Test
+    void testResample() {
+        IrregularTimeSeriesIndex index = new IrregularTimeSeriesIndex(new long[] {10, 20, 45, 50});
+        DoubleTimeSeries ts = new StoredDoubleTimeSeries(new TimeSeriesMetadata("ts", TimeSeriesDataType.DOUBLE, index),
+                                                         new UncompressedDoubleDataChunk(0, new double[] {1, 2}),
+                                                         new CompressedDoubleDataChunk(2, 2, new double[] {3}, new int[] {2}));
+        RegularTimeSeriesIndex targetIndex = new RegularTimeSeriesIndex(0, 60, 10);
+        DoubleTimeSeries resampled = DoubleTimeSeriesAggregator.resample(ts, targetIndex);
+        assertEquals(targetIndex, resampled.getMetadata().getIndex());
+        assertArrayEquals(new double[] {Double.NaN, 1, 2, 2, 2, 3, 3}, resampled.toArray(), 0d);
+
+        // upsampling then downsampling a regular time series gives it back
+        DoubleTimeSeries hourly = createHourlyTimeSeries(2);
+        RegularTimeSeriesIndex quarterly = new RegularTimeSeriesIndex(0, 47 * HOUR + 45 * 60 * 1000L, 15 * 60 * 1000L);
+        DoubleTimeSeries upsampled = DoubleTimeSeriesAggregator.resample(hourly, quarterly);
+        assertArrayEquals(hourly.toArray(), DoubleTimeSeriesAggregator.resample(upsampled, (RegularTimeSeriesIndex) hourly.getMetadata().getIndex()).toArray(), 0d);
+    }
+
+    @Test
+    void testResampleToSinglePoint() {
+        IrregularTimeSeriesIndex index = new IrregularTimeSeriesIndex(new long[] {10, 20, 45, 50});
+        DoubleTimeSeries ts = new StoredDoubleTimeSeries(new TimeSeriesMetadata("ts", TimeSeriesDataType.DOUBLE, index),
+                                                         new UncompressedDoubleDataChunk(0, new double[] {1, 2}),
+                                                         new CompressedDoubleDataChunk(2, 2, new double[] {3}, new int[] {2}));
+        // a single point index has a zero spacing
+        assertArrayEquals(new double[] {1}, DoubleTimeSeriesAggregator.resample(ts, new RegularTimeSeriesIndex(15, 15, 0)).toArray(), 0d);
+        assertArrayEquals(new double[] {Double.NaN}, DoubleTimeSeriesAggregator.resample(ts, new RegularTimeSeriesIndex(5, 5, 0)).toArray(), 0d);
+        assertArrayEquals(new double[] {3}, DoubleTimeSeriesAggregator.resample(ts, new RegularTimeSeriesIndex(60, 60, 0)).toArray(), 0d);
+    }
+}
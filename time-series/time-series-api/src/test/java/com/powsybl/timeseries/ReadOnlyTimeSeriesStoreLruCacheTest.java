@@ -0,0 +1,237 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.timeseries;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class ReadOnlyTimeSeriesStoreLruCacheTest {
+
+    private static final RegularTimeSeriesIndex INDEX = new RegularTimeSeriesIndex(0, 3 * 1000L, 1000);
+
+    // 4 uncompressed doubles
+    private static final long TIME_SERIES_SIZE = new UncompressedDoubleDataChunk(0, new double[4]).getEstimatedSize();
+
+    private static final class CountingStore extends ReadOnlyTimeSeriesStoreCache {
+
+        private final AtomicInteger loadCount = new AtomicInteger();
+
+        private CountingStore(List<DoubleTimeSeries> timeSeriesList) {
+            super(timeSeriesList);
+        }
+
+        @Override
+        public Optional<DoubleTimeSeries> getDoubleTimeSeries(String timeSeriesName, int version) {
+            loadCount.incrementAndGet();
+            return super.getDoubleTimeSeries(timeSeriesName, version);
+        }
+
+        @Override
+        public List<DoubleTimeSeries> getDoubleTimeSeries(Set<String> timeSeriesNames, int version) {
+            loadCount.addAndGet(timeSeriesNames.size());
+            return timeSeriesNames.stream()
+                    .map(timeSeriesName -> super.getDoubleTimeSeries(timeSeriesName, version))
+                    .flatMap(Optional::stream)
+                    .toList();
+        }
+    }
+
+    private static final class ListenableStore extends ReadOnlyTimeSeriesStoreCache {
+
+        private final List<TimeSeriesStoreListener> listeners = new ArrayList<>();
+
+        private Runnable onLoad = () -> { };
+
+        private ListenableStore(List<DoubleTimeSeries> timeSeriesList) {
+            super(timeSeriesList);
+        }
+
+        @Override
+        public void addListener(TimeSeriesStoreListener listener) {
+            listeners.add(listener);
+        }
+
+        @Override
+        public void removeListener(TimeSeriesStoreListener listener) {
+            listeners.remove(listener);
+        }
+
+        @Override
+        public Optional<DoubleTimeSeries> getDoubleTimeSeries(String timeSeriesName, int version) {
+            Optional<DoubleTimeSeries> timeSeries = super.getDoubleTimeSeries(timeSeriesName, version);
+            onLoad.run();
+            return timeSeries;
+        }
+    }
+
+    private static CountingStore createStore() {
+        List<DoubleTimeSeries> timeSeriesList = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            timeSeriesList.add(TimeSeries.createDouble("ts" + i, INDEX, i, i + 0.1, i + 0.2, i + 0.3));
+        }
+        return new CountingStore(timeSeriesList);
+    }
+
+    @Test
+    void testHitsAndMisses() {
+        CountingStore store = createStore();
+        ReadOnlyTimeSeriesStoreLruCache cache = new ReadOnlyTimeSeriesStoreLruCache(store, 10 * TIME_SERIES_SIZE);
+        assertEquals(Set.of("ts0", "ts1", "ts2", "ts3"), cache.getTimeSeriesNames(null));
+        assertTrue(cache.timeSeriesExists("ts0"));
+
+        DoubleTimeSeries ts0 = cache.getDoubleTimeSeries("ts0", 1).orElseThrow();
+        DoubleTimeSeries ts0Bis = cache.getDoubleTimeSeries("ts0", 1).orElseThrow();
+        assertEquals(ts0, ts0Bis);
+        assertNotSame(ts0, ts0Bis);
+        assertEquals(1, store.loadCount.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(TIME_SERIES_SIZE, cache.getEstimatedSize());
+
+        // only missing time series are loaded, in the requested order
+        List<DoubleTimeSeries> timeSeriesList = cache.getDoubleTimeSeries(new LinkedHashSet<>(List.of("ts2", "ts0", "ts1", "foo")), 1);
+        assertEquals(List.of("ts2", "ts0", "ts1"), timeSeriesList.stream().map(ts -> ts.getMetadata().getName()).toList());
+        assertEquals(4, store.loadCount.get());
+        assertEquals(2, cache.getHitCount());
+        assertEquals(3, cache.getCachedTimeSeriesCount());
+
+        // another version is cached separately
+        cache.getDoubleTimeSeries("ts0", 2);
+        assertEquals(4, cache.getCachedTimeSeriesCount());
+        cache.invalidate(1);
+        assertEquals(1, cache.getCachedTimeSeriesCount());
+        assertEquals(TIME_SERIES_SIZE, cache.getEstimatedSize());
+        cache.invalidateAll();
+        assertEquals(0, cache.getCachedTimeSeriesCount());
+        assertEquals(0, cache.getEstimatedSize());
+
+        // string time series are not cached with double ones
+        assertTrue(cache.getStringTimeSeries("ts0", 1).isEmpty());
+    }
+
+    @Test
+    void testEviction() {
+        CountingStore store = createStore();
+        ReadOnlyTimeSeriesStoreLruCache cache = new ReadOnlyTimeSeriesStoreLruCache(store, 2 * TIME_SERIES_SIZE);
+        cache.getDoubleTimeSeries("ts0", 1);
+        cache.getDoubleTimeSeries("ts1", 1);
+        cache.getDoubleTimeSeries("ts0", 1); // ts0 is now the most recently used
+        cache.getDoubleTimeSeries("ts2", 1);
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(2 * TIME_SERIES_SIZE, cache.getEstimatedSize());
+        int loadCount = store.loadCount.get();
+        cache.getDoubleTimeSeries("ts0", 1);
+        assertEquals(loadCount, store.loadCount.get());
+        cache.getDoubleTimeSeries("ts1", 1);
+        assertEquals(loadCount + 1, store.loadCount.get());
+
+        // time series bigger than the budget are not cached
+        ReadOnlyTimeSeriesStoreLruCache smallCache = new ReadOnlyTimeSeriesStoreLruCache(store, TIME_SERIES_SIZE - 1);
+        assertTrue(smallCache.getDoubleTimeSeries("ts0", 1).isPresent());
+        assertEquals(0, smallCache.getCachedTimeSeriesCount());
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> new ReadOnlyTimeSeriesStoreLruCache(store, -1));
+        assertEquals("Invalid max estimated size: -1", e.getMessage());
+    }
+
+    @Test
+    void testStoreChanges() {
+        ListenableStore store = new ListenableStore(List.of(TimeSeries.createDouble("ts0", INDEX, 0d, 0.1, 0.2, 0.3),
+                                                            TimeSeries.createDouble("ts1", INDEX, 1d, 1.1, 1.2, 1.3)));
+        ReadOnlyTimeSeriesStoreLruCache cache = new ReadOnlyTimeSeriesStoreLruCache(store, 4 * TIME_SERIES_SIZE);
+        assertEquals(1, store.listeners.size());
+        TimeSeriesStoreListener listener = store.listeners.get(0);
+        cache.getDoubleTimeSeries(Set.of("ts0", "ts1"), 1);
+        cache.getDoubleTimeSeries(Set.of("ts0", "ts1"), 2);
+        assertEquals(4, cache.getCachedTimeSeriesCount());
+
+        // only the updated time series of the updated version are evicted
+        listener.timeSeriesDataUpdated(Set.of("ts0"), 1);
+        assertEquals(3, cache.getCachedTimeSeriesCount());
+        assertEquals(3 * TIME_SERIES_SIZE, cache.getEstimatedSize());
+        long missCount = cache.getMissCount();
+        cache.getDoubleTimeSeries("ts0", 2);
+        cache.getDoubleTimeSeries("ts1", 1);
+        assertEquals(missCount, cache.getMissCount());
+        cache.getDoubleTimeSeries("ts0", 1);
+        assertEquals(missCount + 1, cache.getMissCount());
+
+        // updates without details clear the cache
+        listener.timeSeriesUpdated();
+        assertEquals(0, cache.getCachedTimeSeriesCount());
+        assertEquals(0, cache.getEstimatedSize());
+
+        // a time series loaded while the store is updated is not cached
+        store.onLoad = () -> listener.timeSeriesDataUpdated(Set.of("ts0"), 1);
+        assertTrue(cache.getDoubleTimeSeries("ts0", 1).isPresent());
+        assertEquals(0, cache.getCachedTimeSeriesCount());
+        store.onLoad = () -> { };
+        cache.getDoubleTimeSeries("ts0", 1);
+        assertEquals(1, cache.getCachedTimeSeriesCount());
+
+        // closing the cache stops listening to the store
+        cache.close();
+        assertTrue(store.listeners.isEmpty());
+        assertEquals(0, cache.getCachedTimeSeriesCount());
+    }
+
+    @Test
+    void testAllTimeSeriesOfVersion() {
+        CountingStore store = createStore();
+        try (ReadOnlyTimeSeriesStoreLruCache cache = new ReadOnlyTimeSeriesStoreLruCache(store, 10 * TIME_SERIES_SIZE)) {
+            cache.getDoubleTimeSeries("ts0", 1);
+            int loadCount = store.loadCount.get();
+
+            // all the time series of the version are read through the cache
+            List<DoubleTimeSeries> timeSeriesList = cache.getDoubleTimeSeries(1);
+            assertEquals(Set.of("ts0", "ts1", "ts2", "ts3"), timeSeriesList.stream().map(ts -> ts.getMetadata().getName()).collect(Collectors.toSet()));
+            assertEquals(loadCount + 3, store.loadCount.get());
+            assertEquals(4, cache.getCachedTimeSeriesCount());
+            cache.getDoubleTimeSeries(1);
+            assertEquals(loadCount + 3, store.loadCount.get());
+        }
+    }
+
+    @Test
+    void testConcurrentAccess() throws Exception {
+        CountingStore store = createStore();
+        ReadOnlyTimeSeriesStoreLruCache cache = new ReadOnlyTimeSeriesStoreLruCache(store, 3 * TIME_SERIES_SIZE);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                int offset = i;
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        String name = "ts" + (offset + j) % 4;
+                        DoubleTimeSeries ts = cache.getDoubleTimeSeries(name, 1).orElseThrow();
+                        assertEquals(name, ts.getMetadata().getName());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(4000, cache.getHitCount() + cache.getMissCount());
+        assertTrue(cache.getEstimatedSize() <= 3 * TIME_SERIES_SIZE);
+    }
+}
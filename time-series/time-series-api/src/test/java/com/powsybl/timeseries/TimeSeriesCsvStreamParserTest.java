@@ -0,0 +1,157 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.timeseries;
+
+import com.powsybl.timeseries.TimeSeries.TimeFormat;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class TimeSeriesCsvStreamParserTest {
+
+    private static String createCsv(int rowCount, int versionCount) {
+        StringBuilder csv = new StringBuilder("Time;Version;ts1;ts2;ts3").append(System.lineSeparator());
+        Random random = new Random(7);
+        for (int version = 1; version <= versionCount; version++) {
+            for (int row = 0; row < rowCount; row++) {
+                csv.append(row * 1000L).append(';').append(version).append(';')
+                        .append(row % 10 == 3 ? "" : Double.toString(random.nextDouble() * 100 - 50)).append(';')
+                        .append(row / 4).append(';')
+                        .append(row % 7 == 0 ? "" : "s" + row / 3)
+                        .append(System.lineSeparator());
+            }
+        }
+        return csv.toString();
+    }
+
+    private static Map<Integer, List<TimeSeries>> parse(TimeSeriesCsvStreamParser parser, String csv) {
+        return parser.parse(new BufferedReader(new StringReader(csv)));
+    }
+
+    private static void assertSameTimeSeries(Map<Integer, List<TimeSeries>> expected, Map<Integer, List<TimeSeries>> actual) {
+        assertEquals(expected.keySet(), actual.keySet());
+        for (Map.Entry<Integer, List<TimeSeries>> e : expected.entrySet()) {
+            List<TimeSeries> expectedList = e.getValue();
+            List<TimeSeries> actualList = actual.get(e.getKey());
+            assertEquals(expectedList.size(), actualList.size());
+            for (int i = 0; i < expectedList.size(); i++) {
+                assertEquals(expectedList.get(i).getMetadata(), actualList.get(i).getMetadata());
+                if (expectedList.get(i) instanceof DoubleTimeSeries expectedTs) {
+                    assertArrayEquals(expectedTs.toArray(), ((DoubleTimeSeries) actualList.get(i)).toArray(), 0d);
+                } else {
+                    assertArrayEquals(((StringTimeSeries) expectedList.get(i)).toArray(), ((StringTimeSeries) actualList.get(i)).toArray());
+                }
+            }
+        }
+    }
+
+    @Test
+    void testSameAsParseCsv() {
+        String csv = createCsv(250, 3);
+        TimeSeriesCsvConfig config = new TimeSeriesCsvConfig(';', true, TimeFormat.MILLIS);
+        Map<Integer, List<TimeSeries>> expected = TimeSeries.parseCsv(csv, config);
+        for (int blockSize : new int[] {1, 7, 100, 250, 1000}) {
+            assertSameTimeSeries(expected, parse(new TimeSeriesCsvStreamParser(config).setBlockSize(blockSize), csv));
+            assertSameTimeSeries(expected, parse(new TimeSeriesCsvStreamParser(config).setBlockSize(blockSize).setParallel(true), csv));
+        }
+    }
+
+    @Test
+    void testChunks() {
+        String csv = createCsv(250, 2);
+        List<String> events = new ArrayList<>();
+        new TimeSeriesCsvStreamParser(new TimeSeriesCsvConfig(';', true, TimeFormat.MILLIS))
+                .setBlockSize(100)
+                .parse(new BufferedReader(new StringReader(csv)), new TimeSeriesCsvStreamParser.ChunkHandler() {
+                    @Override
+                    public void onDoubleChunk(int version, String timeSeriesName, DoubleDataChunk chunk) {
+                        events.add(version + " " + timeSeriesName + " " + chunk.getOffset() + " " + chunk.getLength() + " " + chunk.isCompressed());
+                    }
+
+                    @Override
+                    public void onStringChunk(int version, String timeSeriesName, StringDataChunk chunk) {
+                        events.add(version + " " + timeSeriesName + " " + chunk.getOffset() + " " + chunk.getLength() + " " + chunk.isCompressed());
+                    }
+
+                    @Override
+                    public void onVersionEnd(int version, TimeSeriesIndex index) {
+                        events.add(version + " " + index);
+                    }
+                });
+        assertEquals(2 * (3 * 3 + 1), events.size());
+        assertEquals("1 ts1 0 100 false", events.get(0));
+        // repeated values are compressed
+        assertEquals("1 ts2 0 100 true", events.get(1));
+        assertEquals("1 ts3 200 50 true", events.get(8));
+        assertEquals("1 " + new RegularTimeSeriesIndex(0, 249000, 1000), events.get(9));
+        assertEquals("2 ts1 0 100 false", events.get(10));
+    }
+
+    @Test
+    void testUnversioned() {
+        String csv = String.join(System.lineSeparator(),
+                "Time;;ts2",
+                "1970-01-01T01:00:00.000+01:00;1.0;",
+                "1970-01-01T02:00:00.000+01:00;;a",
+                "1970-01-01T04:00:00.000+01:00;3.0;b") + System.lineSeparator();
+        TimeSeriesCsvConfig config = new TimeSeriesCsvConfig(';', false, TimeFormat.DATE_TIME);
+        Map<Integer, List<TimeSeries>> timeSeriesPerVersion = parse(new TimeSeriesCsvStreamParser(config).setBlockSize(2), csv);
+        assertSameTimeSeries(TimeSeries.parseCsv(csv, config), timeSeriesPerVersion);
+        // time series without name are ignored
+        assertEquals(List.of("ts2"), timeSeriesPerVersion.get(-1).stream().map(ts -> ts.getMetadata().getName()).toList());
+        assertInstanceOf(IrregularTimeSeriesIndex.class, timeSeriesPerVersion.get(-1).get(0).getMetadata().getIndex());
+    }
+
+    @Test
+    void testErrors() {
+        TimeSeriesCsvStreamParser parser = new TimeSeriesCsvStreamParser(new TimeSeriesCsvConfig(';', false, TimeFormat.DATE_TIME));
+        TimeSeriesException e = assertThrows(TimeSeriesException.class, () -> parse(parser, ""));
+        assertEquals("CSV header is missing", e.getMessage());
+        e = assertThrows(TimeSeriesException.class, () -> parse(parser, "Time;a;a" + System.lineSeparator()));
+        assertEquals("Bad CSV header, there are duplicates in time series names [a]", e.getMessage());
+        String csv = String.join(System.lineSeparator(), "Time;a", "1970-01-01T01:00:00.000+01:00;1.0;2.0") + System.lineSeparator();
+        e = assertThrows(TimeSeriesException.class, () -> parse(parser, csv));
+        assertEquals("Columns of line 2 are inconsistent with header", e.getMessage());
+        // line numbers are the ones of the file, whatever the blocks
+        String csv3 = String.join(System.lineSeparator(), "Time;a", "1970-01-01T01:00:00.000+01:00;1.0",
+            "1970-01-01T02:00:00.000+01:00;2.0", "1970-01-01T03:00:00.000+01:00;3.0", "1970-01-01T04:00:00.000+01:00") + System.lineSeparator();
+        e = assertThrows(TimeSeriesException.class, () -> parse(new TimeSeriesCsvStreamParser(new TimeSeriesCsvConfig(';', false, TimeFormat.DATE_TIME)).setBlockSize(2), csv3));
+        assertEquals("Columns of line 5 are inconsistent with header", e.getMessage());
+        String csv2 = String.join(System.lineSeparator(), "Time;a", "1970-01-01T01:00:00.000+01:00;1.0") + System.lineSeparator();
+        e = assertThrows(TimeSeriesException.class, () -> parse(parser, csv2));
+        assertEquals("At least 2 rows are expected", e.getMessage());
+        IllegalArgumentException e2 = assertThrows(IllegalArgumentException.class, () -> parser.setBlockSize(0));
+        assertEquals("Invalid block size: 0", e2.getMessage());
+    }
+
+    @Test
+    void testParseDouble() {
+        for (String token : List.of("0", "-0", "1", "+1.5", "-12.25", "0.001", "1.", ".5", "3.141592653589793", "1e10", "1.5E-7",
+                                    "123456789012345678", "1234567890123456789", "9007199254740993", "1e22", "1e23", "1e-400",
+                                    "1.7976931348623157E308", "4.9E-324", "NaN", "-Infinity", "1.0d", "0.1", "0.3")) {
+            assertEquals(Double.doubleToRawLongBits(Double.parseDouble(token)),
+                         Double.doubleToRawLongBits(TimeSeriesCsvStreamParser.parseDouble(token)), token);
+        }
+        assertTrue(Double.isNaN(TimeSeriesCsvStreamParser.parseDouble("")));
+        Random random = new Random(3);
+        for (int i = 0; i < 100000; i++) {
+            String token = Double.toString(random.nextDouble() * Math.pow(10, random.nextInt(20) - 10));
+            assertEquals(Double.parseDouble(token), TimeSeriesCsvStreamParser.parseDouble(token), 0d, token);
+        }
+        for (String token : List.of("-", ".", "1e", "1.2.3", "abc")) {
+            assertThrows(NumberFormatException.class, () -> TimeSeriesCsvStreamParser.parseDouble(token));
+        }
+    }
+}
@@ -10,12 +10,16 @@ package com.powsybl.timeseries;
 import com.google.common.collect.ImmutableList;
 import com.powsybl.timeseries.TimeSeries.TimeFormat;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.BufferedReader;
 import java.io.StringReader;
+import java.nio.file.Path;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -211,6 +215,123 @@ class TimeSeriesTableTest {
         }
     }
 
+    private static List<DoubleTimeSeries> createRandomDoubleTimeSeries(TimeSeriesIndex index, int timeSeriesCount) {
+        Random random = new Random(42);
+        List<DoubleTimeSeries> timeSeriesList = new ArrayList<>(timeSeriesCount);
+        for (int i = 0; i < timeSeriesCount; i++) {
+            double[] values = new double[index.getPointCount()];
+            for (int j = 0; j < values.length; j++) {
+                values[j] = i % 10 == 0 ? 1 : random.nextDouble();
+            }
+            timeSeriesList.add(TimeSeries.createDouble(String.format("ts%03d", i), index, values));
+        }
+        return timeSeriesList;
+    }
+
+    @Test
+    void testParallel() {
+        TimeSeriesIndex index = new RegularTimeSeriesIndex(0, 999, 1);
+        List<DoubleTimeSeries> timeSeriesList = createRandomDoubleTimeSeries(index, 100);
+
+        TimeSeriesTable table = TimeSeriesTable.createMem(1, 2, index);
+        table.load(1, timeSeriesList);
+        table.load(2, timeSeriesList);
+        TimeSeriesTable parallelTable = TimeSeriesTable.createMem(1, 2, index).setParallel(true);
+        assertTrue(parallelTable.isParallel());
+        parallelTable.load(1, timeSeriesList);
+        parallelTable.load(2, timeSeriesList);
+
+        for (int timeSeriesNum = 0; timeSeriesNum < timeSeriesList.size(); timeSeriesNum++) {
+            for (int point = 0; point < index.getPointCount(); point += 99) {
+                assertEquals(table.getDoubleValue(2, timeSeriesNum, point), parallelTable.getDoubleValue(2, timeSeriesNum, point), 0);
+            }
+        }
+        assertArrayEquals(table.computePpmcc("ts001", 1), parallelTable.computePpmcc("ts001", 1), 0);
+        assertArrayEquals(table.computePpmcc("ts000", 2), parallelTable.computePpmcc("ts000", 2), 0);
+        for (int timeSeriesNum = 0; timeSeriesNum < timeSeriesList.size(); timeSeriesNum++) {
+            assertEquals(table.getMean(1, timeSeriesNum), parallelTable.getMean(1, timeSeriesNum), 0);
+            assertEquals(table.getStdDev(1, timeSeriesNum), parallelTable.getStdDev(1, timeSeriesNum), 0);
+        }
+        List<TimeSeriesTable.Correlation> correlations = parallelTable.findMostCorrelatedTimeSeries("ts000", 1, 3);
+        assertEquals(3, correlations.size());
+        assertEquals(1, correlations.get(0).getCoefficient(), 0);
+    }
+
+    @Test
+    void testLoadFromStore() {
+        TimeSeriesIndex index = new RegularTimeSeriesIndex(0, 99, 1);
+        List<DoubleTimeSeries> timeSeriesList = createRandomDoubleTimeSeries(index, 25);
+        ReadOnlyTimeSeriesStore store = new ReadOnlyTimeSeriesStoreCache(timeSeriesList);
+
+        TimeSeriesTable table = TimeSeriesTable.createMem(1, 1, index);
+        table.load(1, new ArrayList<>(timeSeriesList));
+        TimeSeriesTable storeTable = TimeSeriesTable.createMem(1, 1, index);
+        storeTable.load(1, store, store.getTimeSeriesNames(null), 7);
+
+        assertEquals(table.getTimeSeriesNames(), storeTable.getTimeSeriesNames());
+        assertEquals(table.toCsvString(), storeTable.toCsvString());
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> storeTable.load(1, store, Set.of("ts000"), 0));
+        assertEquals("Invalid batch size: 0", e.getMessage());
+    }
+
+    @Test
+    void testMapped(@TempDir Path tmpDir) {
+        TimeSeriesIndex index = new RegularTimeSeriesIndex(0, 3, 1);
+        TimeSeriesMetadata metadata1 = new TimeSeriesMetadata("ts1", TimeSeriesDataType.DOUBLE, index);
+        TimeSeriesMetadata metadata2 = new TimeSeriesMetadata("ts2", TimeSeriesDataType.STRING, index);
+        DoubleTimeSeries ts1 = new StoredDoubleTimeSeries(metadata1, new UncompressedDoubleDataChunk(1, new double[] {1, 2, 3}));
+        StringTimeSeries ts2 = new StringTimeSeries(metadata2, new UncompressedStringDataChunk(0, new String[] {"a", "b", "a", "c"}));
+
+        String csv;
+        double mean;
+        try (MappedTimeSeriesTable table = TimeSeriesTable.createMapped(1, 2, index, tmpDir)) {
+            table.load(1, List.of(ts1, ts2));
+            csv = table.toCsvString();
+            mean = table.getMean(1, 0);
+            // version 2 of ts1 has never been loaded
+            assertTrue(Double.isNaN(table.getDoubleValue(2, 0, 1)));
+        }
+
+        try (MappedTimeSeriesTable reopenedTable = TimeSeriesTable.openMapped(tmpDir)) {
+            assertEquals(List.of("ts1", "ts2"), reopenedTable.getTimeSeriesNames());
+            assertEquals(index, reopenedTable.getTableIndex());
+            assertTrue(Double.isNaN(reopenedTable.getDoubleValue(1, 0, 0)));
+            assertEquals(3, reopenedTable.getDoubleValue(1, 0, 3), 0);
+            assertTrue(Double.isNaN(reopenedTable.getDoubleValue(2, 0, 1)));
+            assertEquals("c", reopenedTable.getStringValue(1, 1, 3));
+            assertNull(reopenedTable.getStringValue(2, 1, 0));
+            assertEquals(mean, reopenedTable.getMean(1, 0), 0);
+            assertEquals(csv, reopenedTable.toCsvString());
+
+            // data of a reopened table can be updated
+            reopenedTable.load(2, List.of(ts1));
+        }
+        try (MappedTimeSeriesTable reopenedTable = TimeSeriesTable.openMapped(tmpDir)) {
+            assertEquals(2, reopenedTable.getDoubleValue(2, 0, 2), 0);
+            assertTrue(Double.isNaN(reopenedTable.getDoubleValue(2, 0, 0)));
+        }
+    }
+
+    @Test
+    void testMappedErrors(@TempDir Path tmpDir) {
+        TimeSeriesIndex index = new RegularTimeSeriesIndex(0, 3, 1);
+        TimeSeriesException e = assertThrows(TimeSeriesException.class, () -> TimeSeriesTable.createMem(1, 1, index).flush());
+        assertEquals("Time series table is not backed by files", e.getMessage());
+        e = assertThrows(TimeSeriesException.class, () -> TimeSeriesTable.openMapped(tmpDir));
+        assertTrue(e.getMessage().contains("not found"));
+
+        // table without time series
+        MappedTimeSeriesTable table = TimeSeriesTable.createMapped(1, 1, index, tmpDir);
+        table.close();
+        table.close(); // closing twice has no effect
+        e = assertThrows(TimeSeriesException.class, table::flush);
+        assertEquals("Time series table is closed", e.getMessage());
+        try (MappedTimeSeriesTable emptyTable = TimeSeriesTable.openMapped(tmpDir)) {
+            assertEquals("Time;Version" + System.lineSeparator(), emptyTable.toCsvString(new TimeSeriesCsvConfig(ZoneId.of("UTC"))));
+        }
+    }
+
     @Test
     void testVersionError() {
         TimeSeriesIndex index = new RegularTimeSeriesIndex(0, 3, 1);
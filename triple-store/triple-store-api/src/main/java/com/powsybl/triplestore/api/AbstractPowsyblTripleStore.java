@@ -18,6 +18,7 @@ import java.io.PrintStream;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -41,6 +42,19 @@ public abstract class AbstractPowsyblTripleStore implements TripleStore {
         return options;
     }
 
+    @Override
+    public long getModificationCount() {
+        return modificationCount.get();
+    }
+
+    /**
+     * Count a modification of the statements. Must be called once the modification is done,
+     * so that query results obtained during the modification are not taken as up to date.
+     */
+    protected void modified() {
+        modificationCount.incrementAndGet();
+    }
+
     protected static String createRdfId() {
         return "_" + UUID.randomUUID();
     }
@@ -139,6 +153,8 @@ public abstract class AbstractPowsyblTripleStore implements TripleStore {
 
     private String cachedQueryPrefixes;
 
+    private final AtomicLong modificationCount = new AtomicLong();
+
     private static final String NAMESPACE_FOR_CONTEXTS = "contexts:";
     private static final Logger LOG = LoggerFactory.getLogger(AbstractPowsyblTripleStore.class);
 
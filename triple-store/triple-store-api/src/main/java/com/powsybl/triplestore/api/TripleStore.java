@@ -166,4 +166,23 @@ public interface TripleStore {
      */
     String getImplementationName();
 
+    /**
+     * Release the resources held by the triple store, such as files on disk.
+     * The triple store can not be used anymore after being disposed.
+     */
+    default void dispose() {
+        // nothing to release by default, statements are only kept on the heap
+    }
+
+    /**
+     * Get the number of modifications of the statements of the triple store.
+     * The count changes each time statements are read, added, updated or cleared,
+     * so that query results can be kept until the contents of the triple store change.
+     *
+     * @return the modification count, or -1 if the triple store does not count its modifications
+     */
+    default long getModificationCount() {
+        return -1;
+    }
+
 }
@@ -102,12 +102,13 @@ public final class TripleStoreFactory {
 
     /**
      * List all Triplestore implementations available.
+     * Implementations that must be explicitly requested by their name, such as on-disk Triplestores, are not listed.
      *
      * @return a list with the names of all available Triplestore implementations
      */
     public static List<String> allImplementations() {
-        return LOADER.getServices().stream().map(TripleStoreFactoryService::getImplementationName)
-                .collect(Collectors.toList());
+        return LOADER.getServices().stream().filter(TripleStoreFactoryService::isListedInAllImplementations)
+                .map(TripleStoreFactoryService::getImplementationName).collect(Collectors.toList());
     }
 
     /**
@@ -116,7 +117,8 @@ public final class TripleStoreFactory {
      * @return a list with the names of all available Triplestore implementations supporting nested graph clauses in SPARQL queries
      */
     public static List<String> implementationsWorkingWithNestedGraphClauses() {
-        return LOADER.getServices().stream().filter(TripleStoreFactoryService::isWorkingWithNestedGraphClauses)
+        return LOADER.getServices().stream().filter(TripleStoreFactoryService::isListedInAllImplementations)
+                .filter(TripleStoreFactoryService::isWorkingWithNestedGraphClauses)
                 .map(TripleStoreFactoryService::getImplementationName).collect(Collectors.toList());
     }
 
@@ -126,7 +128,8 @@ public final class TripleStoreFactory {
      * @return a list with the names of all available Triplestore implementations that have problems with nested graph clauses in SPARQL queries
      */
     public static List<String> implementationsBadNestedGraphClauses() {
-        return LOADER.getServices().stream().filter(ts -> !ts.isWorkingWithNestedGraphClauses())
+        return LOADER.getServices().stream().filter(TripleStoreFactoryService::isListedInAllImplementations)
+                .filter(ts -> !ts.isWorkingWithNestedGraphClauses())
                 .map(TripleStoreFactoryService::getImplementationName).collect(Collectors.toList());
     }
 
@@ -54,4 +54,14 @@ public interface TripleStoreFactoryService {
      */
     boolean isWorkingWithNestedGraphClauses();
 
+    /**
+     * Check if Triplestores from this factory are listed with all the available implementations.
+     * Implementations that are not listed can only be created by giving explicitly their name.
+     *
+     * @return true if this factory is listed by {@link TripleStoreFactory#allImplementations()}
+     */
+    default boolean isListedInAllImplementations() {
+        return true;
+    }
+
 }
@@ -0,0 +1,55 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.triplestore.impl.rdf4j;
+
+import com.google.auto.service.AutoService;
+import com.powsybl.triplestore.api.TripleStore;
+import com.powsybl.triplestore.api.TripleStoreFactoryService;
+import com.powsybl.triplestore.api.TripleStoreOptions;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+@AutoService(TripleStoreFactoryService.class)
+public class TripleStoreFactoryServiceRDF4JNative implements TripleStoreFactoryService {
+
+    @Override
+    public TripleStore create() {
+        return new TripleStoreRDF4JNative();
+    }
+
+    @Override
+    public TripleStore create(TripleStoreOptions options) {
+        return new TripleStoreRDF4JNative(options);
+    }
+
+    @Override
+    public TripleStore copy(TripleStore source) {
+        TripleStore ts = new TripleStoreRDF4JNative(source.getOptions());
+        ts.add(source);
+        return ts;
+    }
+
+    @Override
+    public String getImplementationName() {
+        return TripleStoreRDF4JNative.NAME;
+    }
+
+    @Override
+    public boolean isWorkingWithNestedGraphClauses() {
+        return true;
+    }
+
+    /**
+     * The on-disk triple store is only created when requested by its name, not when testing all implementations.
+     */
+    @Override
+    public boolean isListedInAllImplementations() {
+        return false;
+    }
+}
@@ -16,17 +16,22 @@ import org.eclipse.rdf4j.model.util.URIUtil;
 import org.eclipse.rdf4j.model.vocabulary.RDF;
 import org.eclipse.rdf4j.query.*;
 import org.eclipse.rdf4j.query.explanation.Explanation;
+import org.eclipse.rdf4j.query.parser.ParsedTupleQuery;
+import org.eclipse.rdf4j.query.parser.QueryParserUtil;
 import org.eclipse.rdf4j.repository.Repository;
 import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.eclipse.rdf4j.repository.RepositoryException;
 import org.eclipse.rdf4j.repository.RepositoryResult;
 import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.repository.sail.SailRepositoryConnection;
+import org.eclipse.rdf4j.repository.sail.SailTupleQuery;
 import org.eclipse.rdf4j.rio.RDFFormat;
 import org.eclipse.rdf4j.rio.RDFWriter;
 import org.eclipse.rdf4j.rio.Rio;
 import org.eclipse.rdf4j.rio.helpers.BasicParserSettings;
 import org.eclipse.rdf4j.rio.helpers.BasicWriterSettings;
 import org.eclipse.rdf4j.rio.helpers.XMLParserSettings;
+import org.eclipse.rdf4j.sail.Sail;
 import org.eclipse.rdf4j.sail.memory.MemoryStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -50,8 +55,12 @@ public class TripleStoreRDF4J extends AbstractPowsyblTripleStore {
     }
 
     public TripleStoreRDF4J(TripleStoreOptions options) {
+        this(options, new MemoryStore());
+    }
+
+    protected TripleStoreRDF4J(TripleStoreOptions options, Sail sail) {
         super(options);
-        repo = new SailRepository(new MemoryStore());
+        repo = new SailRepository(Objects.requireNonNull(sail));
         repo.init();
     }
 
@@ -87,6 +96,8 @@ public class TripleStoreRDF4J extends AbstractPowsyblTripleStore {
             addNamespaceForBase(conn, baseName);
         } catch (IOException x) {
             throw new TripleStoreException(String.format("Reading %s %s", baseName, contextName), x);
+        } finally {
+            modified();
         }
     }
 
@@ -160,6 +171,8 @@ public class TripleStoreRDF4J extends AbstractPowsyblTripleStore {
         try (RepositoryConnection conn = repo.getConnection()) {
             Resource context = context(conn, contextName);
             conn.clear(context);
+        } finally {
+            modified();
         }
     }
 
@@ -167,9 +180,9 @@ public class TripleStoreRDF4J extends AbstractPowsyblTripleStore {
     public PropertyBags query(String query) {
         String query1 = adjustedQuery(query);
         PropertyBags results = new PropertyBags();
-        try (RepositoryConnection conn = repo.getConnection()) {
+        try (SailRepositoryConnection conn = repo.getConnection()) {
             // Default language is SPARQL
-            TupleQuery q = conn.prepareTupleQuery(query1);
+            TupleQuery q = prepareTupleQuery(conn, query1);
 
             // Print the optimization plan for the query
             // Explaining queries take some time, so we change the execution timeout
@@ -205,6 +218,21 @@ public class TripleStoreRDF4J extends AbstractPowsyblTripleStore {
         return results;
     }
 
+    private TupleQuery prepareTupleQuery(SailRepositoryConnection conn, String query) {
+        // The same queries are run many times during a conversion,
+        // parse them only once. The evaluation works on a copy of the parsed expression,
+        // so a parsed query can be shared by successive evaluations
+        ParsedTupleQuery parsedQuery = parsedQueries.computeIfAbsent(query,
+            q -> QueryParserUtil.parseTupleQuery(QueryLanguage.SPARQL, q, null));
+        return new ParsedSailTupleQuery(parsedQuery, conn);
+    }
+
+    private static final class ParsedSailTupleQuery extends SailTupleQuery {
+        private ParsedSailTupleQuery(ParsedTupleQuery parsedQuery, SailRepositoryConnection conn) {
+            super(parsedQuery, conn);
+        }
+    }
+
     @Override
     public void add(TripleStore source) {
         Objects.requireNonNull(source);
@@ -227,6 +255,8 @@ public class TripleStoreRDF4J extends AbstractPowsyblTripleStore {
                         }
                     }
                 }
+            } finally {
+                modified();
             }
         } else {
             throw new TripleStoreException(String.format("Add to %s from source %s is not supported",
@@ -247,6 +277,8 @@ public class TripleStoreRDF4J extends AbstractPowsyblTripleStore {
             conn.prepareUpdate(QueryLanguage.SPARQL, adjustedQuery(query)).execute();
         } catch (MalformedQueryException | UpdateExecutionException | RepositoryException e) {
             throw new TripleStoreException(String.format("Query [%s]", query), e);
+        } finally {
+            modified();
         }
     }
 
@@ -255,6 +287,8 @@ public class TripleStoreRDF4J extends AbstractPowsyblTripleStore {
         try (RepositoryConnection conn = repo.getConnection()) {
             conn.setIsolationLevel(IsolationLevels.NONE);
             objects.forEach(object -> createStatements(conn, objNs, objType, object, context(conn, contextName)));
+        } finally {
+            modified();
         }
     }
 
@@ -263,6 +297,8 @@ public class TripleStoreRDF4J extends AbstractPowsyblTripleStore {
         try (RepositoryConnection conn = repo.getConnection()) {
             conn.setIsolationLevel(IsolationLevels.NONE);
             return createStatements(conn, objNs, objType, object, context(conn, contextName));
+        } finally {
+            modified();
         }
     }
 
@@ -424,9 +460,20 @@ public class TripleStoreRDF4J extends AbstractPowsyblTripleStore {
         return namespaces;
     }
 
-    private final Repository repo;
+    private final SailRepository repo;
     private boolean writeBySubject = true;
 
+    // Queries are not parameterized natively, so parameter values are part of the query text,
+    // we keep only the most recently used ones
+    private final Map<String, ParsedTupleQuery> parsedQueries = Collections.synchronizedMap(new LinkedHashMap<String, ParsedTupleQuery>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ParsedTupleQuery> eldest) {
+            return size() > MAX_PARSED_QUERIES;
+        }
+    });
+
+    private static final int MAX_PARSED_QUERIES = 256;
+
     private static final boolean EXPLAIN_QUERIES = false;
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TripleStoreRDF4J.class);
@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.triplestore.impl.rdf4j;
+
+import com.powsybl.commons.io.FileUtil;
+import com.powsybl.triplestore.api.TripleStoreOptions;
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.sail.nativerdf.NativeStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * RDF4J triple store keeping statements on disk, in a temporary directory, instead of on the heap.
+ * <p>
+ * It allows loading very large CGMES models in a small JVM, at the price of slower queries.
+ * Files are removed when {@link #dispose()} is called, when the triple store is garbage collected
+ * or, at the latest, when the JVM exits.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class TripleStoreRDF4JNative extends TripleStoreRDF4J {
+
+    static final String NAME = "rdf4j-native";
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    // Data directories not removed yet, removed by a shutdown hook if the JVM exits before
+    private static final Set<Cleanup> PENDING_CLEANUPS = ConcurrentHashMap.newKeySet();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> List.copyOf(PENDING_CLEANUPS).forEach(Cleanup::run),
+            "triple-store-rdf4j-native-cleanup"));
+    }
+
+    private final Path dataDir;
+
+    private final Cleaner.Cleanable cleanable;
+
+    public TripleStoreRDF4JNative() {
+        this(new TripleStoreOptions());
+    }
+
+    public TripleStoreRDF4JNative(TripleStoreOptions options) {
+        this(options, TripleStoreRDF4JNativeConfig.load());
+    }
+
+    public TripleStoreRDF4JNative(TripleStoreOptions options, TripleStoreRDF4JNativeConfig config) {
+        this(options, config, createDataDir(config));
+    }
+
+    private TripleStoreRDF4JNative(TripleStoreOptions options, TripleStoreRDF4JNativeConfig config, Path dataDir) {
+        super(options, createNativeStore(config, dataDir));
+        this.dataDir = dataDir;
+        Cleanup cleanup = new Cleanup(getRepository(), dataDir);
+        PENDING_CLEANUPS.add(cleanup);
+        cleanable = CLEANER.register(this, cleanup);
+    }
+
+    private static Path createDataDir(TripleStoreRDF4JNativeConfig config) {
+        Objects.requireNonNull(config);
+        try {
+            Files.createDirectories(config.getDataDir());
+            return Files.createTempDirectory(config.getDataDir(), "powsybl-triple-store-");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static NativeStore createNativeStore(TripleStoreRDF4JNativeConfig config, Path dataDir) {
+        LOGGER.debug("Creating native triple store in {} with {}", dataDir, config);
+        NativeStore store = new NativeStore(dataDir.toFile(), config.getTripleIndexes());
+        store.setValueCacheSize(config.getValueCacheSize());
+        store.setValueIDCacheSize(config.getValueIdCacheSize());
+        store.setNamespaceCacheSize(config.getNamespaceCacheSize());
+        store.setNamespaceIDCacheSize(config.getNamespaceIdCacheSize());
+        store.setForceSync(config.isForceSync());
+        return store;
+    }
+
+    @Override
+    public String getImplementationName() {
+        return NAME;
+    }
+
+    public Path getDataDir() {
+        return dataDir;
+    }
+
+    /**
+     * Shut down the underlying repository and remove its files. The triple store can not be used anymore.
+     */
+    @Override
+    public void dispose() {
+        cleanable.clean();
+    }
+
+    /**
+     * Must not hold a reference to the triple store, otherwise it would never become phantom reachable.
+     */
+    private record Cleanup(Repository repository, Path dataDir) implements Runnable {
+
+        @Override
+        public void run() {
+            if (!PENDING_CLEANUPS.remove(this)) {
+                return;
+            }
+            try {
+                repository.shutDown();
+                FileUtil.removeDir(dataDir);
+            } catch (IOException | RuntimeException e) {
+                LOGGER.warn("Failed to remove triple store data directory {}", dataDir, e);
+            }
+        }
+    }
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TripleStoreRDF4JNative.class);
+}
@@ -0,0 +1,151 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.triplestore.impl.rdf4j;
+
+import com.powsybl.commons.config.ModuleConfig;
+import com.powsybl.commons.config.PlatformConfig;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Configuration of the on-disk RDF4J triple store, read from the {@code triple-store-rdf4j-native} module.
+ * <p>
+ * Cache sizes are given in number of entries and bound the heap used by the store,
+ * the statements themselves are kept in files of the data directory.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class TripleStoreRDF4JNativeConfig {
+
+    private static final String CONFIG_MODULE_NAME = "triple-store-rdf4j-native";
+
+    static final String DEFAULT_TRIPLE_INDEXES = "spoc,posc,cspo";
+    static final int DEFAULT_VALUE_CACHE_SIZE = 2048;
+    static final int DEFAULT_VALUE_ID_CACHE_SIZE = 1024;
+    static final int DEFAULT_NAMESPACE_CACHE_SIZE = 64;
+    static final int DEFAULT_NAMESPACE_ID_CACHE_SIZE = 32;
+
+    private Path dataDir = Paths.get(System.getProperty("java.io.tmpdir"));
+    private String tripleIndexes = DEFAULT_TRIPLE_INDEXES;
+    private int valueCacheSize = DEFAULT_VALUE_CACHE_SIZE;
+    private int valueIdCacheSize = DEFAULT_VALUE_ID_CACHE_SIZE;
+    private int namespaceCacheSize = DEFAULT_NAMESPACE_CACHE_SIZE;
+    private int namespaceIdCacheSize = DEFAULT_NAMESPACE_ID_CACHE_SIZE;
+    private boolean forceSync = false;
+
+    public static TripleStoreRDF4JNativeConfig load() {
+        return load(PlatformConfig.defaultConfig());
+    }
+
+    public static TripleStoreRDF4JNativeConfig load(PlatformConfig platformConfig) {
+        Objects.requireNonNull(platformConfig);
+        TripleStoreRDF4JNativeConfig config = new TripleStoreRDF4JNativeConfig();
+        Optional<ModuleConfig> moduleConfig = platformConfig.getOptionalModuleConfig(CONFIG_MODULE_NAME);
+        moduleConfig.ifPresent(c -> {
+            c.getOptionalPathProperty("data-dir").ifPresent(config::setDataDir);
+            c.getOptionalStringProperty("triple-indexes").ifPresent(config::setTripleIndexes);
+            c.getOptionalIntProperty("value-cache-size").ifPresent(config::setValueCacheSize);
+            c.getOptionalIntProperty("value-id-cache-size").ifPresent(config::setValueIdCacheSize);
+            c.getOptionalIntProperty("namespace-cache-size").ifPresent(config::setNamespaceCacheSize);
+            c.getOptionalIntProperty("namespace-id-cache-size").ifPresent(config::setNamespaceIdCacheSize);
+            c.getOptionalBooleanProperty("force-sync").ifPresent(config::setForceSync);
+        });
+        return config;
+    }
+
+    /**
+     * Directory where the files of each triple store are created, in a dedicated temporary sub-directory.
+     */
+    public Path getDataDir() {
+        return dataDir;
+    }
+
+    public TripleStoreRDF4JNativeConfig setDataDir(Path dataDir) {
+        this.dataDir = Objects.requireNonNull(dataDir);
+        return this;
+    }
+
+    public String getTripleIndexes() {
+        return tripleIndexes;
+    }
+
+    public TripleStoreRDF4JNativeConfig setTripleIndexes(String tripleIndexes) {
+        this.tripleIndexes = Objects.requireNonNull(tripleIndexes);
+        return this;
+    }
+
+    public int getValueCacheSize() {
+        return valueCacheSize;
+    }
+
+    public TripleStoreRDF4JNativeConfig setValueCacheSize(int valueCacheSize) {
+        this.valueCacheSize = checkCacheSize(valueCacheSize);
+        return this;
+    }
+
+    public int getValueIdCacheSize() {
+        return valueIdCacheSize;
+    }
+
+    public TripleStoreRDF4JNativeConfig setValueIdCacheSize(int valueIdCacheSize) {
+        this.valueIdCacheSize = checkCacheSize(valueIdCacheSize);
+        return this;
+    }
+
+    public int getNamespaceCacheSize() {
+        return namespaceCacheSize;
+    }
+
+    public TripleStoreRDF4JNativeConfig setNamespaceCacheSize(int namespaceCacheSize) {
+        this.namespaceCacheSize = checkCacheSize(namespaceCacheSize);
+        return this;
+    }
+
+    public int getNamespaceIdCacheSize() {
+        return namespaceIdCacheSize;
+    }
+
+    public TripleStoreRDF4JNativeConfig setNamespaceIdCacheSize(int namespaceIdCacheSize) {
+        this.namespaceIdCacheSize = checkCacheSize(namespaceIdCacheSize);
+        return this;
+    }
+
+    /**
+     * If true, files are synced to disk after each update. Not needed for the temporary stores used at import.
+     */
+    public boolean isForceSync() {
+        return forceSync;
+    }
+
+    public TripleStoreRDF4JNativeConfig setForceSync(boolean forceSync) {
+        this.forceSync = forceSync;
+        return this;
+    }
+
+    private static int checkCacheSize(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Invalid cache size: " + size);
+        }
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [dataDir=" + dataDir +
+                ", tripleIndexes=" + tripleIndexes +
+                ", valueCacheSize=" + valueCacheSize +
+                ", valueIdCacheSize=" + valueIdCacheSize +
+                ", namespaceCacheSize=" + namespaceCacheSize +
+                ", namespaceIdCacheSize=" + namespaceIdCacheSize +
+                ", forceSync=" + forceSync +
+                "]";
+    }
+}
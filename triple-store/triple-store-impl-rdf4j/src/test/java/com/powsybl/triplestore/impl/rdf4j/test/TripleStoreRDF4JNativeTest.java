@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.triplestore.impl.rdf4j.test;
+
+import com.powsybl.commons.config.InMemoryModuleConfigRepository;
+import com.powsybl.commons.config.MapModuleConfig;
+import com.powsybl.commons.config.PlatformConfig;
+import com.powsybl.triplestore.api.PropertyBags;
+import com.powsybl.triplestore.api.TripleStore;
+import com.powsybl.triplestore.api.TripleStoreFactory;
+import com.powsybl.triplestore.api.TripleStoreOptions;
+import com.powsybl.triplestore.impl.rdf4j.TripleStoreRDF4JNative;
+import com.powsybl.triplestore.impl.rdf4j.TripleStoreRDF4JNativeConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class TripleStoreRDF4JNativeTest {
+
+    private static final String TTL = """
+        @prefix foaf: <http://xmlns.com/foaf/0.1/> .
+        <http://example.org/a> foaf:name "Alice" .
+        <http://example.org/b> foaf:name "Bob" .
+        """;
+
+    @TempDir
+    Path tmpDir;
+
+    @Test
+    void testConfig() {
+        InMemoryModuleConfigRepository repository = new InMemoryModuleConfigRepository(FileSystems.getDefault());
+        MapModuleConfig moduleConfig = repository.createModuleConfig("triple-store-rdf4j-native");
+        moduleConfig.setPathProperty("data-dir", tmpDir);
+        moduleConfig.setStringProperty("triple-indexes", "spoc");
+        moduleConfig.setStringProperty("value-cache-size", "100");
+        moduleConfig.setStringProperty("value-id-cache-size", "50");
+        moduleConfig.setStringProperty("force-sync", "true");
+        TripleStoreRDF4JNativeConfig config = TripleStoreRDF4JNativeConfig.load(new PlatformConfig(repository, tmpDir));
+        assertEquals(tmpDir, config.getDataDir());
+        assertEquals("spoc", config.getTripleIndexes());
+        assertEquals(100, config.getValueCacheSize());
+        assertEquals(50, config.getValueIdCacheSize());
+        assertEquals(64, config.getNamespaceCacheSize());
+        assertTrue(config.isForceSync());
+        assertThrows(IllegalArgumentException.class, () -> config.setValueCacheSize(0));
+    }
+
+    @Test
+    void testReadQueryDispose() {
+        TripleStoreRDF4JNativeConfig config = new TripleStoreRDF4JNativeConfig()
+            .setDataDir(tmpDir)
+            .setValueCacheSize(16);
+        TripleStoreRDF4JNative ts = new TripleStoreRDF4JNative(new TripleStoreOptions(), config);
+        assertEquals("rdf4j-native", ts.getImplementationName());
+        assertTrue(Files.isDirectory(ts.getDataDir()));
+        assertEquals(tmpDir, ts.getDataDir().getParent());
+
+        ts.read(new ByteArrayInputStream(TTL.getBytes(StandardCharsets.UTF_8)), "http://example.org/", "names.ttl");
+        PropertyBags names = ts.query("SELECT ?name WHERE { ?p <http://xmlns.com/foaf/0.1/name> ?name } ORDER BY ?name");
+        assertEquals(2, names.size());
+        assertEquals("Alice", names.get(0).get("name"));
+        assertEquals("Bob", names.get(1).get("name"));
+
+        // Copies are created with the same implementation
+        TripleStore copy = TripleStoreFactory.copy(ts);
+        assertEquals("rdf4j-native", copy.getImplementationName());
+        assertEquals(2, copy.query("SELECT ?name WHERE { ?p <http://xmlns.com/foaf/0.1/name> ?name }").size());
+        copy.dispose();
+
+        ts.dispose();
+        assertFalse(Files.exists(ts.getDataDir()));
+        // Disposing again does nothing
+        ts.dispose();
+    }
+
+    @Test
+    void testNotListedInAllImplementations() {
+        assertTrue(TripleStoreFactory.allImplementations().contains(TripleStoreFactory.DEFAULT_IMPLEMENTATION));
+        assertFalse(TripleStoreFactory.allImplementations().contains("rdf4j-native"));
+        assertFalse(TripleStoreFactory.implementationsWorkingWithNestedGraphClauses().contains("rdf4j-native"));
+    }
+}